@@ -0,0 +1,196 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.cloudera.dim.schemaregistry;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.hash.Hashing;
+import com.hortonworks.registries.common.QueryParam;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataStorable;
+import com.hortonworks.registries.schemaregistry.SchemaVersionStorable;
+import com.hortonworks.registries.storage.DbProperties;
+import com.hortonworks.registries.storage.impl.jdbc.JdbcStorageManager;
+import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.connection.HikariCPConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory.MySqlExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import org.flywaydb.core.Flyway;
+import org.h2.Driver;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Looks up schema versions by fingerprint on a database created by the MySQL migrations.
+ */
+public class LookupIndexTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupIndexTest.class);
+
+    private static final String CONNECTION_URL = "jdbc:h2:mem:lookup_index_test;MODE=MYSQL;DATABASE_TO_UPPER=FALSE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final int SCHEMAS = 1000;
+    private static final int SMALL_TABLE_SIZE = 1_000;
+    private static final int LARGE_TABLE_SIZE = 100_000;
+    private static final int LOOKUPS = 200;
+
+    private Flyway flyway;
+    private HikariCPConnectionBuilder connectionBuilder;
+    private JdbcStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        DbProperties dbProperties = new DbProperties();
+        dbProperties.setDataSourceClassName(JdbcDataSource.class.getName());
+        dbProperties.setDataSourceUrl(CONNECTION_URL);
+        dbProperties.setDataSourceUser("sa");
+        dbProperties.setDataSourcePassword("");
+        flyway = TestSchemaRegistryServer.getFlyway(dbProperties, TestSchemaRegistryServer.preprocessMigrations().getAbsolutePath());
+        flyway.migrate();
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDriverClassName(Driver.class.getName());
+        hikariConfig.setJdbcUrl(CONNECTION_URL);
+        hikariConfig.setUsername("sa");
+        hikariConfig.setPassword("");
+        connectionBuilder = new HikariCPConnectionBuilder(hikariConfig);
+        storageManager = new JdbcStorageManager(new MySqlExecutor(new ExecutionConfig(-1), connectionBuilder));
+        storageManager.registerStorables(Arrays.asList(SchemaMetadataStorable.class, SchemaVersionStorable.class));
+
+        insertSchemas();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storageManager.cleanup();
+        flyway.clean();
+    }
+
+    @Test
+    public void testLookupByFingerprintUsesIndex() throws Exception {
+        insertVersions(0, SMALL_TABLE_SIZE);
+
+        try (Connection connection = connectionBuilder.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN SELECT * FROM " + SchemaVersionStorable.NAME_SPACE +
+                     " WHERE fingerprint = ? AND name = ?")) {
+            statement.setString(1, fingerprint(1));
+            statement.setString(2, schemaName(1));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Assertions.assertTrue(resultSet.next());
+                String plan = resultSet.getString(1);
+                Assertions.assertTrue(plan.toLowerCase().contains("schema_vinfo_fingerprint"), plan);
+            }
+        }
+    }
+
+    @Test
+    public void testLookupLatencyStaysFlatWithTableSize() throws Exception {
+        insertVersions(0, SMALL_TABLE_SIZE);
+        long smallTableMicros = averageLookupMicros(SMALL_TABLE_SIZE);
+
+        insertVersions(SMALL_TABLE_SIZE, LARGE_TABLE_SIZE);
+        long largeTableMicros = averageLookupMicros(LARGE_TABLE_SIZE);
+
+        LOG.info("Average lookup by fingerprint took {}us with {} versions and {}us with {} versions",
+                smallTableMicros, SMALL_TABLE_SIZE, largeTableMicros, LARGE_TABLE_SIZE);
+        // a full scan of the large table is about 100 times slower, the margin only absorbs the noise of the measurement
+        Assertions.assertTrue(largeTableMicros <= Math.max(10 * smallTableMicros, 5_000L),
+                "Lookup took " + largeTableMicros + "us with " + LARGE_TABLE_SIZE + " versions, "
+                        + smallTableMicros + "us with " + SMALL_TABLE_SIZE + " versions");
+    }
+
+    private long averageLookupMicros(int tableSize) {
+        // warm up
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookup(i * 31 % tableSize);
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < LOOKUPS; i++) {
+            int id = i * 97 % tableSize;
+            Collection<SchemaVersionStorable> versions = lookup(id);
+            Assertions.assertEquals(1, versions.size());
+            Assertions.assertEquals(Long.valueOf(id), versions.iterator().next().getId());
+        }
+        return stopwatch.elapsed(MICROSECONDS) / LOOKUPS;
+    }
+
+    private Collection<SchemaVersionStorable> lookup(int id) {
+        return storageManager.find(SchemaVersionStorable.NAME_SPACE, Arrays.asList(
+                new QueryParam(SchemaVersionStorable.FINGERPRINT, fingerprint(id)),
+                new QueryParam(SchemaVersionStorable.NAME, schemaName(id))));
+    }
+
+    private void insertSchemas() throws SQLException {
+        try (Connection connection = connectionBuilder.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO " + SchemaMetadataStorable.NAME_SPACE +
+                     " (id, type, schemaGroup, name, compatibility, validationLevel, evolve, timestamp) " +
+                     "VALUES (?, 'avro', 'Kafka', ?, 'BACKWARD', 'ALL', TRUE, ?)")) {
+            connection.setAutoCommit(false);
+            for (int id = 0; id < SCHEMAS; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, schemaName(id));
+                statement.setLong(3, System.currentTimeMillis());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertVersions(int from, int to) throws SQLException {
+        try (Connection connection = connectionBuilder.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO " + SchemaVersionStorable.NAME_SPACE +
+                     " (id, schemaText, fingerprint, version, schemaMetadataId, timestamp, name) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int id = from; id < to; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "\"string\"");
+                statement.setString(3, fingerprint(id));
+                statement.setInt(4, id / SCHEMAS + 1);
+                statement.setLong(5, id % SCHEMAS);
+                statement.setLong(6, System.currentTimeMillis());
+                statement.setString(7, schemaName(id));
+                statement.addBatch();
+                if (id % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static String schemaName(int id) {
+        return "schema-" + id % SCHEMAS;
+    }
+
+    private static String fingerprint(int id) {
+        return Hashing.sha256().hashInt(id).toString();
+    }
+}
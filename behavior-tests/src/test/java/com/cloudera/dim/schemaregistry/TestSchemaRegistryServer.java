@@ -281,7 +281,7 @@ public class TestSchemaRegistryServer extends AbstractTestServer {
     }
 
     /** The DDL files under bootstrap need to be sanitized before we can pass them to H2. */
-    private File preprocessMigrations() throws IOException {
+    static File preprocessMigrations() throws IOException {
         File tmpDir = Files.createTempDirectory("srtest").toFile();
 
         File bootstrapDir = getPathToBootstrap(DB_TYPE);
@@ -322,7 +322,7 @@ public class TestSchemaRegistryServer extends AbstractTestServer {
 
     /** Usually bootstrap dir should be under the root, but let's try to play safer and look at a few other places too. */
     @Nonnull
-    private File getPathToBootstrap(String dbType) throws FileNotFoundException {
+    private static File getPathToBootstrap(String dbType) throws FileNotFoundException {
         // we want to find the path to /bootstrap/sql/mysql
 
         File[] files = {
@@ -349,7 +349,7 @@ public class TestSchemaRegistryServer extends AbstractTestServer {
     }
 
     /** Use Flyway to create the data structure in H2. */
-    private Flyway getFlyway(DbProperties conf, String location) {
+    static Flyway getFlyway(DbProperties conf, String location) {
         Flyway flyway = new Flyway();
 
         flyway.setEncoding("UTF-8");
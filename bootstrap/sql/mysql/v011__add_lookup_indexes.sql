@@ -0,0 +1,21 @@
+-- Copyright 2018-2022 Cloudera, Inc.;
+-- ;
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.;
+-- You may obtain a copy of the License at;
+-- ;
+--    http://www.apache.org/licenses/LICENSE-2.0;
+-- ;
+-- Unless required by applicable law or agreed to in writing, software;
+-- distributed under the License is distributed on an "AS IS" BASIS,;
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.;
+-- See the License for the specific language governing permissions and;
+-- limitations under the License.;
+-- ;
+
+
+-- fingerprints are hex encoded hashes (at most 128 characters), a VARCHAR column can be indexed as a whole
+ALTER TABLE schema_version_info MODIFY fingerprint VARCHAR(255) NOT NULL;
+CREATE INDEX schema_vinfo_fingerprint ON schema_version_info(fingerprint, name);
+CREATE INDEX schema_field_info_name ON schema_field_info(name, fieldNamespace, type);
+CREATE INDEX schema_field_info_ns_type ON schema_field_info(fieldNamespace, type);
@@ -0,0 +1,26 @@
+-- Copyright 2018-2021 Cloudera, Inc.;
+-- ;
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.;
+-- You may obtain a copy of the License at;
+-- ;
+--    http://www.apache.org/licenses/LICENSE-2.0;
+-- ;
+-- Unless required by applicable law or agreed to in writing, software;
+-- distributed under the License is distributed on an "AS IS" BASIS,;
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.;
+-- See the License for the specific language governing permissions and;
+-- limitations under the License.;
+-- ;
+
+
+CREATE TABLE IF NOT EXISTS registry_change_log (
+  "id"              BIGINT          NOT NULL,
+  "type"            INT             NOT NULL,
+  "schemaName"      VARCHAR(255),
+  "schemaVersionId" BIGINT,
+  "timestamp"       BIGINT          NOT NULL,
+  PRIMARY KEY ("id")
+);
+
+CREATE INDEX registry_change_log_timestamp ON "registry_change_log"("timestamp");
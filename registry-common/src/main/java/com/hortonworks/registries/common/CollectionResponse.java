@@ -23,7 +23,7 @@ import java.util.Collection;
  * A wrapper entity for passing collection (more than one resource) back to the client.
  * This response is used only for succeed requests.
  * <p>
- * This can be expanded to handle paged result.
+ * Paged results also carry the cursor which is passed to fetch the next page.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class CollectionResponse {
@@ -32,6 +32,11 @@ public class CollectionResponse {
      */
     private Collection<?> entities;
 
+    /**
+     * Cursor of the next page, null if the response is not paged or it is the last page.
+     */
+    private String nextCursor;
+
     private CollectionResponse() { }
 
     public void setEntities(Collection<?> entities) {
@@ -42,12 +47,21 @@ public class CollectionResponse {
         return entities;
     }
 
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     public static Builder newResponse() {
         return new Builder();
     }
 
     public static class Builder {
         private Collection<?> entities;
+        private String nextCursor;
 
         private Builder() {
         }
@@ -57,9 +71,15 @@ public class CollectionResponse {
             return this;
         }
 
+        public CollectionResponse.Builder nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
         public CollectionResponse build() {
             CollectionResponse response = new CollectionResponse();
             response.setEntities(entities);
+            response.setNextCursor(nextCursor);
             return response;
         }
     }
@@ -47,6 +47,15 @@ public final class WSUtils {
                 .build();
     }
 
+    /**
+     * Responds with a page of entities and the cursor of the next page, which is omitted if it is null.
+     */
+    public static Response respondEntities(Collection<?> entities, String nextCursor, Response.Status status) {
+        return Response.status(status)
+                .entity(CollectionResponse.newResponse().entities(entities).nextCursor(nextCursor).build())
+                .build();
+    }
+
     public static Response respondEntity(Object entity, Response.Status status) {
         return Response.status(status)
                 .entity(entity)
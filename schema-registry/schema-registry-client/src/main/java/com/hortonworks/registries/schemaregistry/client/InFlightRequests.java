@@ -0,0 +1,96 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Requests to the registry which are currently running, by the key of what they fetch or register. A request which
+ * is made while another one for the same key is running is not sent again, it gets the outcome of the running one.
+ * <p>
+ * The outcomes are not kept after the requests complete, they are kept by the caches of the client.
+ */
+final class InFlightRequests<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the given request on the calling thread, or waits for the running request of the given key.
+     */
+    V execute(K key, Supplier<V> request) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        CompletableFuture<V> running = requests.putIfAbsent(key, result);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            V value = request.get();
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            requests.remove(key, result);
+        }
+    }
+
+    /**
+     * Starts the given request, or returns the outcome of the running request of the given key.
+     */
+    CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> request) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        CompletableFuture<V> running = requests.putIfAbsent(key, result);
+        if (running == null) {
+            running = result;
+            try {
+                request.get().whenComplete((value, error) -> {
+                    requests.remove(key, result);
+                    if (error == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                requests.remove(key, result);
+                result.completeExceptionally(e);
+            }
+        }
+        // each caller gets its own future, so that completing or cancelling it does not affect the other callers
+        return running.thenApply(Function.identity());
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
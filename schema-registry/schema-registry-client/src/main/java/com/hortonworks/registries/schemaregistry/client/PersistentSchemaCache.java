@@ -0,0 +1,279 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the schema versions and the schema metadata fetched by the client in a file of the given directory, so that
+ * they are available again after the client is restarted. The schema versions are kept with the entity tag of the
+ * response they were read from, so that they can be revalidated with a conditional request. At most the given number
+ * of the recently used entries of each kind are kept.
+ * <p>
+ * Each added or removed entry is appended to the file as one line of json, the file is read when the cache is
+ * created and the later lines of an entry replace the earlier ones. Lines which can not be read, e.g. one which was
+ * not written completely, are skipped. The file is rewritten with the current entries when it is opened and mostly
+ * consists of replaced entries.
+ */
+final class PersistentSchemaCache {
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentSchemaCache.class);
+
+    static final String FILE_NAME = "schema-cache.json";
+    private static final int MIN_LINES_TO_COMPACT = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path file;
+    private final Cache<Long, SchemaVersionInfo> schemaVersionsById;
+    private final Cache<SchemaVersionKey, SchemaVersionInfo> schemaVersionsByKey;
+    private final Cache<Long, String> entityTagsById;
+    private final Cache<Long, SchemaMetadataInfo> schemaMetadataById;
+    private final Cache<String, SchemaMetadataInfo> schemaMetadataByName;
+
+    PersistentSchemaCache(File dir, long schemaVersionCacheSize, long schemaMetadataCacheSize) {
+        schemaVersionsById = CacheBuilder.newBuilder().maximumSize(schemaVersionCacheSize).build();
+        schemaVersionsByKey = CacheBuilder.newBuilder().maximumSize(schemaVersionCacheSize).build();
+        entityTagsById = CacheBuilder.newBuilder().maximumSize(schemaVersionCacheSize).build();
+        schemaMetadataById = CacheBuilder.newBuilder().maximumSize(schemaMetadataCacheSize).build();
+        schemaMetadataByName = CacheBuilder.newBuilder().maximumSize(schemaMetadataCacheSize).build();
+
+        if (!dir.exists() && !dir.mkdirs()) {
+            LOG.error("Could not create given schema cache dir: [{}]", dir.getAbsolutePath());
+        }
+        file = new File(dir, FILE_NAME).toPath();
+
+        int lines = load();
+        if (lines > MIN_LINES_TO_COMPACT && lines > 2 * (schemaVersionsById.size() + schemaMetadataById.size())) {
+            compact();
+        }
+    }
+
+    SchemaVersionInfo getSchemaVersionInfo(Long schemaVersionId) {
+        return schemaVersionsById.getIfPresent(schemaVersionId);
+    }
+
+    SchemaVersionInfo getSchemaVersionInfo(SchemaVersionKey schemaVersionKey) {
+        return schemaVersionsByKey.getIfPresent(schemaVersionKey);
+    }
+
+    /**
+     * @return entity tag of the response the schema version was read from, or {@code null} if it is not known
+     */
+    String getEntityTag(Long schemaVersionId) {
+        return entityTagsById.getIfPresent(schemaVersionId);
+    }
+
+    SchemaMetadataInfo getSchemaMetadataInfo(Long schemaMetadataId) {
+        return schemaMetadataById.getIfPresent(schemaMetadataId);
+    }
+
+    SchemaMetadataInfo getSchemaMetadataInfo(String schemaName) {
+        return schemaMetadataByName.getIfPresent(schemaName);
+    }
+
+    void putSchemaVersionInfo(SchemaVersionInfo schemaVersionInfo) {
+        putSchemaVersionInfo(schemaVersionInfo, null);
+    }
+
+    /**
+     * Keeps the schema version with the entity tag of the response it was read from. The tag of an unchanged version
+     * is only replaced by another tag, not removed.
+     */
+    void putSchemaVersionInfo(SchemaVersionInfo schemaVersionInfo, String entityTag) {
+        Long schemaVersionId = schemaVersionInfo.getId();
+        boolean unchanged = schemaVersionInfo.equals(schemaVersionsById.getIfPresent(schemaVersionId));
+        if (!unchanged || (entityTag != null && !entityTag.equals(entityTagsById.getIfPresent(schemaVersionId)))) {
+            Entry entry = new Entry(schemaVersionInfo, entityTag, null, false);
+            apply(entry);
+            append(entry);
+        }
+    }
+
+    void putSchemaMetadataInfo(SchemaMetadataInfo schemaMetadataInfo) {
+        if (!schemaMetadataInfo.equals(schemaMetadataById.getIfPresent(schemaMetadataInfo.getId()))) {
+            apply(new Entry(null, null, schemaMetadataInfo, false));
+            append(new Entry(null, null, schemaMetadataInfo, false));
+        }
+    }
+
+    void removeSchemaVersionInfo(Long schemaVersionId) {
+        removeSchemaVersionInfo(schemaVersionsById.getIfPresent(schemaVersionId));
+    }
+
+    void removeSchemaVersionInfo(SchemaVersionKey schemaVersionKey) {
+        removeSchemaVersionInfo(schemaVersionsByKey.getIfPresent(schemaVersionKey));
+    }
+
+    private void removeSchemaVersionInfo(SchemaVersionInfo schemaVersionInfo) {
+        if (schemaVersionInfo != null) {
+            apply(new Entry(schemaVersionInfo, null, null, true));
+            append(new Entry(schemaVersionInfo, null, null, true));
+        }
+    }
+
+    void removeSchemaMetadataInfo(String schemaName) {
+        SchemaMetadataInfo schemaMetadataInfo = schemaMetadataByName.getIfPresent(schemaName);
+        if (schemaMetadataInfo != null) {
+            apply(new Entry(null, null, schemaMetadataInfo, true));
+            append(new Entry(null, null, schemaMetadataInfo, true));
+        }
+    }
+
+    private void apply(Entry entry) {
+        SchemaVersionInfo schemaVersionInfo = entry.getSchemaVersion();
+        if (schemaVersionInfo != null) {
+            SchemaVersionKey schemaVersionKey = new SchemaVersionKey(schemaVersionInfo.getName(), schemaVersionInfo.getVersion());
+            if (entry.isRemoved()) {
+                schemaVersionsById.invalidate(schemaVersionInfo.getId());
+                schemaVersionsByKey.invalidate(schemaVersionKey);
+                entityTagsById.invalidate(schemaVersionInfo.getId());
+            } else {
+                // a changed version which was read without a tag drops the tag of its previous state
+                if (entry.getEntityTag() != null) {
+                    entityTagsById.put(schemaVersionInfo.getId(), entry.getEntityTag());
+                } else if (!schemaVersionInfo.equals(schemaVersionsById.getIfPresent(schemaVersionInfo.getId()))) {
+                    entityTagsById.invalidate(schemaVersionInfo.getId());
+                }
+                schemaVersionsById.put(schemaVersionInfo.getId(), schemaVersionInfo);
+                schemaVersionsByKey.put(schemaVersionKey, schemaVersionInfo);
+            }
+        }
+        SchemaMetadataInfo schemaMetadataInfo = entry.getSchemaMetadata();
+        if (schemaMetadataInfo != null) {
+            String schemaName = schemaMetadataInfo.getSchemaMetadata().getName();
+            if (entry.isRemoved()) {
+                schemaMetadataById.invalidate(schemaMetadataInfo.getId());
+                schemaMetadataByName.invalidate(schemaName);
+            } else {
+                schemaMetadataById.put(schemaMetadataInfo.getId(), schemaMetadataInfo);
+                schemaMetadataByName.put(schemaName, schemaMetadataInfo);
+            }
+        }
+    }
+
+    private int load() {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                try {
+                    apply(objectMapper.readValue(line, Entry.class));
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Skipping line [{}] of schema cache file [{}] which can not be read", lines, file, e);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Could not read schema cache file [{}]", file, e);
+        }
+        LOG.info("Loaded {} schema versions and {} schema metadata from [{}]",
+                schemaVersionsById.size(), schemaMetadataById.size(), file);
+        return lines;
+    }
+
+    private void compact() {
+        Path compacted = file.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            List<String> lines = new ArrayList<>();
+            for (SchemaMetadataInfo schemaMetadataInfo : schemaMetadataById.asMap().values()) {
+                lines.add(objectMapper.writeValueAsString(new Entry(null, null, schemaMetadataInfo, false)));
+            }
+            for (SchemaVersionInfo schemaVersionInfo : schemaVersionsById.asMap().values()) {
+                String entityTag = entityTagsById.getIfPresent(schemaVersionInfo.getId());
+                lines.add(objectMapper.writeValueAsString(new Entry(schemaVersionInfo, entityTag, null, false)));
+            }
+            Files.write(compacted, lines, StandardCharsets.UTF_8);
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Could not rewrite schema cache file [{}]", file, e);
+        }
+    }
+
+    private synchronized void append(Entry entry) {
+        try {
+            // the whole line is written at once, so that the lines of the clients which share the file are not mixed
+            byte[] line = (objectMapper.writeValueAsString(entry) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+            Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Could not write to schema cache file [{}]", file, e);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class Entry {
+        private final SchemaVersionInfo schemaVersion;
+        private final String entityTag;
+        private final SchemaMetadataInfo schemaMetadata;
+        private final boolean removed;
+
+        @JsonCreator
+        Entry(@JsonProperty("schemaVersion") SchemaVersionInfo schemaVersion,
+              @JsonProperty("entityTag") String entityTag,
+              @JsonProperty("schemaMetadata") SchemaMetadataInfo schemaMetadata,
+              @JsonProperty("removed") boolean removed) {
+            this.schemaVersion = schemaVersion;
+            this.entityTag = entityTag;
+            this.schemaMetadata = schemaMetadata;
+            this.removed = removed;
+        }
+
+        @JsonProperty
+        public SchemaVersionInfo getSchemaVersion() {
+            return schemaVersion;
+        }
+
+        @JsonProperty
+        public String getEntityTag() {
+            return entityTag;
+        }
+
+        @JsonProperty
+        public SchemaMetadataInfo getSchemaMetadata() {
+            return schemaMetadata;
+        }
+
+        @JsonProperty
+        public boolean isRemoved() {
+            return removed;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 import com.hortonworks.registries.schemaregistry.exceptions.RegistryException;
@@ -57,7 +58,10 @@ public class SchemaMetadataCache {
                             otherKey = Key.of(schemaMetadataInfo.getId());
                             schemaNameToIdMap.put(key.getName(), schemaMetadataInfo.getId());
                         } else if (key.getId() != null) {
-                            schemaMetadataInfo = schemaMetadataFetcher.fetch(key.getId());
+                            schemaMetadataInfo = loadByKnownName(key.getId());
+                            if (schemaMetadataInfo == null) {
+                                schemaMetadataInfo = schemaMetadataFetcher.fetch(key.getId());
+                            }
                             otherKey = Key.of(schemaMetadataInfo.getSchemaMetadata().getName());
                             schemaNameToIdMap.put(schemaMetadataInfo.getSchemaMetadata().getName(), schemaMetadataInfo.getId());
                         } else {
@@ -69,6 +73,27 @@ public class SchemaMetadataCache {
                 });
     }
 
+    /**
+     * Loads the schema metadata with the given id through its name, if the name is already known, so that the
+     * concurrent lookups of a schema by its name and by its id wait for the same request.
+     */
+    private SchemaMetadataInfo loadByKnownName(Long id) {
+        String name = schemaNameToIdMap.inverse().get(id);
+        if (name == null) {
+            return null;
+        }
+        SchemaMetadataInfo schemaMetadataInfo;
+        try {
+            schemaMetadataInfo = loadingCache.get(Key.of(name));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            // the schema is fetched by its id, which reports the error if it still fails
+            LOG.debug("Could not load schema metadata with id [{}] by its name [{}]", id, name, e);
+            return null;
+        }
+        // the schema may have been deleted and registered again with another id
+        return id.equals(schemaMetadataInfo.getId()) ? schemaMetadataInfo : null;
+    }
+
     public SchemaMetadataInfo get(Key key) {
         SchemaMetadataInfo schemaMetadataInfo;
         try {
@@ -123,6 +148,16 @@ public class SchemaMetadataCache {
         loadingCache.put(key, schemaMetadataInfo);
     }
 
+    /**
+     * Adds a schema metadata which was not loaded through this cache, under its name and under its id.
+     */
+    public void put(SchemaMetadataInfo schemaMetadataInfo) {
+        String name = schemaMetadataInfo.getSchemaMetadata().getName();
+        schemaNameToIdMap.put(name, schemaMetadataInfo.getId());
+        loadingCache.put(Key.of(name), schemaMetadataInfo);
+        loadingCache.put(Key.of(schemaMetadataInfo.getId()), schemaMetadataInfo);
+    }
+
     public SchemaMetadataInfo getIfPresent(Key key) {
         return loadingCache.getIfPresent(key);
     }
@@ -14,11 +14,14 @@
  **/
 package com.hortonworks.registries.schemaregistry.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hortonworks.registries.auth.KerberosLogin;
 import com.hortonworks.registries.auth.Login;
 import com.hortonworks.registries.auth.NOOPLogin;
@@ -63,6 +66,8 @@ import com.hortonworks.registries.schemaregistry.serde.push.PushDeserializer;
 import com.hortonworks.registries.schemaregistry.state.SchemaLifecycleException;
 import com.hortonworks.registries.schemaregistry.state.SchemaVersionLifecycleStateMachineInfo;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.Invocation;
+import com.hortonworks.registries.shaded.javax.ws.rs.client.InvocationCallback;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.EntityTag;
 import com.hortonworks.registries.shaded.javax.ws.rs.core.HttpHeaders;
 import com.hortonworks.registries.shaded.org.glassfish.jersey.client.spi.ConnectorProvider;
 import org.apache.commons.io.IOUtils;
@@ -85,8 +90,16 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.security.auth.login.LoginException;
 import com.hortonworks.registries.shaded.javax.ws.rs.BadRequestException;
+import com.hortonworks.registries.shaded.javax.ws.rs.ForbiddenException;
+import com.hortonworks.registries.shaded.javax.ws.rs.InternalServerErrorException;
+import com.hortonworks.registries.shaded.javax.ws.rs.NotAcceptableException;
+import com.hortonworks.registries.shaded.javax.ws.rs.NotAllowedException;
+import com.hortonworks.registries.shaded.javax.ws.rs.NotAuthorizedException;
 import com.hortonworks.registries.shaded.javax.ws.rs.NotFoundException;
+import com.hortonworks.registries.shaded.javax.ws.rs.NotSupportedException;
 import com.hortonworks.registries.shaded.javax.ws.rs.ProcessingException;
+import com.hortonworks.registries.shaded.javax.ws.rs.ServiceUnavailableException;
+import com.hortonworks.registries.shaded.javax.ws.rs.WebApplicationException;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.Client;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.ClientBuilder;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.Entity;
@@ -112,13 +125,22 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -145,6 +167,7 @@ import static com.hortonworks.registries.schemaregistry.client.SchemaRegistryCli
  * - {@link Configuration#SCHEMA_VERSION_CACHE_EXPIRY_INTERVAL_SECS}.
  * - {@link Configuration#SCHEMA_TEXT_CACHE_SIZE}.
  * - {@link Configuration#SCHEMA_TEXT_CACHE_EXPIRY_INTERVAL_SECS}.
+ * - {@link Configuration#PERSISTENT_CACHE_PATH}.
  *
  * and many other properties like {@link ClientProperties}
  * </pre>
@@ -181,6 +204,9 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
     private static final String SSL_KEY_STORE_PATH = "keyStorePath";
 
     private static final SchemaRegistryVersion CLIENT_VERSION = SchemaRegistryServiceInfo.get().version();
+    private static final int SCHEMA_VERSION_BATCH_SIZE = 1000;
+    // bounds the threads of the Jersey client which send the asynchronous requests with a blocking connector
+    private static final int DEFAULT_ASYNC_THREADPOOL_SIZE = 16;
 
     private Login login;
     private final Client client;
@@ -192,6 +218,16 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
     private final SchemaVersionInfoCache schemaVersionInfoCache;
     private final SchemaMetadataCache schemaMetadataCache;
     private final Cache<SchemaDigestEntry, SchemaIdVersion> schemaTextCache;
+    private final Cache<String, TaggedEntity> taggedEntityCache;
+    private final PersistentSchemaCache persistentCache;
+    private volatile ScheduledExecutorService asyncExecutor;
+    private volatile ExecutorService blockingLookupExecutor;
+    // concurrent misses of the same key are sent to the registry once
+    private final InFlightRequests<String, Long> schemaMetadataRegistrations = new InFlightRequests<>();
+    private final InFlightRequests<SchemaMetadataCache.Key, SchemaMetadataInfo> schemaMetadataRequests = new InFlightRequests<>();
+    private final InFlightRequests<SchemaVersionInfoCache.Key, SchemaVersionInfo> schemaVersionRequests = new InFlightRequests<>();
+    // ids of the persisted schema versions which are being revalidated in the background
+    private final Set<Long> persistedVersionRevalidations = ConcurrentHashMap.newKeySet();
 
     private static final String SSL_CONFIGURATION_KEY = "schema.registry.client.ssl";
     private static final String SSL_PROTOCOL_KEY = "schema.registry.client.ssl.protocol";
@@ -246,11 +282,15 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
 
         classLoaderCache = new ClassLoaderCache(this);
 
+        persistentCache = createPersistentCache();
+
         schemaVersionInfoCache = createSchemaVersionInfoCache();
 
         schemaMetadataCache = createSchemaMetadataCache();
 
         schemaTextCache = createSchemaTextCache();
+
+        taggedEntityCache = createTaggedEntityCache();
     }
 
     @SuppressWarnings("unchecked")
@@ -315,6 +355,15 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
                 .build();
     }
 
+    private Cache<String, TaggedEntity> createTaggedEntityCache() {
+        // the entries outlive the ones of the schema version cache, so that expired versions are revalidated
+        long cacheSize = ((Number) configuration.getValue(Configuration.SCHEMA_VERSION_CACHE_SIZE.name())).longValue();
+
+        return CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
     private SchemaMetadataCache createSchemaMetadataCache() {
         SchemaMetadataCache.SchemaMetadataFetcher schemaMetadataFetcher = createSchemaMetadataFetcher();
         long cacheSize = ((Number) configuration.getValue(Configuration.SCHEMA_METADATA_CACHE_SIZE.name())).longValue();
@@ -323,17 +372,29 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         return new SchemaMetadataCache(cacheSize, expiryInSecs, schemaMetadataFetcher);
     }
 
+    private PersistentSchemaCache createPersistentCache() {
+        String persistentCachePath = configuration.getValue(Configuration.PERSISTENT_CACHE_PATH.name());
+        if (persistentCachePath == null) {
+            return null;
+        }
+        long schemaVersionCacheSize = ((Number) configuration.getValue(Configuration.SCHEMA_VERSION_CACHE_SIZE.name())).longValue();
+        long schemaMetadataCacheSize = ((Number) configuration.getValue(Configuration.SCHEMA_METADATA_CACHE_SIZE.name())).longValue();
+        return new PersistentSchemaCache(new File(persistentCachePath), schemaVersionCacheSize, schemaMetadataCacheSize);
+    }
+
     private SchemaVersionInfoCache createSchemaVersionInfoCache() {
         return new SchemaVersionInfoCache(
                 new SchemaVersionRetriever() {
                     @Override
                     public SchemaVersionInfo retrieveSchemaVersion(SchemaVersionKey key) throws SchemaNotFoundException {
-                        return doGetSchemaVersionInfo(key);
+                        return persistSchemaVersionInfo(doGetSchemaVersionInfo(key));
                     }
 
                     @Override
                     public SchemaVersionInfo retrieveSchemaVersion(SchemaIdVersion key) throws SchemaNotFoundException {
-                        return doGetSchemaVersionInfo(key);
+                        SchemaVersionInfo persisted = key.getSchemaVersionId() != null
+                                ? getPersistedSchemaVersionInfo(key.getSchemaVersionId()) : null;
+                        return persisted != null ? persisted : persistSchemaVersionInfo(doGetSchemaVersionInfo(key));
                     }
                 },
                 ((Number) configuration.getValue(Configuration.SCHEMA_VERSION_CACHE_SIZE.name())).intValue(),
@@ -511,32 +572,101 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
             @Override
             public SchemaMetadataInfo fetch(String name) throws SchemaNotFoundException {
                 try {
-                    return runRetryableBlock((SchemaRegistryTargets targets) -> {
+                    return persistSchemaMetadataInfo(runRetryableBlock((SchemaRegistryTargets targets) -> {
                         return getEntity(targets.schemasTarget.path(name), SchemaMetadataInfo.class);
-                    });
+                    }));
                 } catch (NotFoundException e) {
                     throw new SchemaNotFoundException(e, name);
+                } catch (RegistryRetryableException e) {
+                    return getPersistedOrThrow(cache -> cache.getSchemaMetadataInfo(name), e);
                 }
             }
 
             @Override
             public SchemaMetadataInfo fetch(Long id) throws SchemaNotFoundException {
                 try {
-                    return runRetryableBlock((SchemaRegistryTargets targets) -> {
+                    return persistSchemaMetadataInfo(runRetryableBlock((SchemaRegistryTargets targets) -> {
                         return getEntity(targets.schemasByIdTarget.path(id.toString()), SchemaMetadataInfo.class);
-                    });
+                    }));
                 } catch (NotFoundException e) {
                     throw new SchemaNotFoundException(e, String.valueOf(id));
+                } catch (RegistryRetryableException e) {
+                    return getPersistedOrThrow(cache -> cache.getSchemaMetadataInfo(id), e);
                 }
             }
         };
     }
 
+    private SchemaVersionInfo persistSchemaVersionInfo(SchemaVersionInfo schemaVersionInfo) {
+        if (persistentCache != null && schemaVersionInfo != null) {
+            persistentCache.putSchemaVersionInfo(schemaVersionInfo);
+        }
+        return schemaVersionInfo;
+    }
+
+    /**
+     * Returns the persisted schema version of the given id without waiting for the registry, as the schema text of a
+     * version never changes. Only its state can change, so the version is revalidated in the background with the
+     * entity tag it was persisted with.
+     */
+    private SchemaVersionInfo getPersistedSchemaVersionInfo(Long schemaVersionId) {
+        SchemaVersionInfo persisted = persistentCache != null ? persistentCache.getSchemaVersionInfo(schemaVersionId) : null;
+        if (persisted != null && persistedVersionRevalidations.add(schemaVersionId)) {
+            try {
+                blockingLookupExecutor().execute(() -> revalidatePersistedSchemaVersionInfo(persisted));
+            } catch (RejectedExecutionException e) {
+                persistedVersionRevalidations.remove(schemaVersionId);
+                LOG.debug("Persisted schema version [{}] is not revalidated as the client is closed", schemaVersionId);
+            }
+        }
+        return persisted;
+    }
+
+    private void revalidatePersistedSchemaVersionInfo(SchemaVersionInfo persisted) {
+        Long schemaVersionId = persisted.getId();
+        try {
+            SchemaVersionInfo fetched = doGetSchemaIdVersionInfo(schemaVersionId);
+            if (!fetched.equals(persisted)) {
+                LOG.info("Persisted schema version [{}] was modified in the registry", schemaVersionId);
+                schemaVersionInfoCache.putSchema(fetched);
+            }
+        } catch (NotFoundException e) {
+            LOG.info("Persisted schema version [{}] does not exist in the registry anymore", schemaVersionId);
+            schemaVersionInfoCache.invalidateSchema(SchemaVersionInfoCache.Key.of(new SchemaIdVersion(schemaVersionId)));
+            persistentCache.removeSchemaVersionInfo(schemaVersionId);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not revalidate persisted schema version [{}]", schemaVersionId, e);
+        } finally {
+            persistedVersionRevalidations.remove(schemaVersionId);
+        }
+    }
+
+    private SchemaMetadataInfo persistSchemaMetadataInfo(SchemaMetadataInfo schemaMetadataInfo) {
+        if (persistentCache != null && schemaMetadataInfo != null) {
+            persistentCache.putSchemaMetadataInfo(schemaMetadataInfo);
+        }
+        return schemaMetadataInfo;
+    }
+
+    /**
+     * Returns the persisted entry when the registry can not be reached, so that the entries which were fetched before
+     * a restart of the client are still available.
+     */
+    private <T> T getPersistedOrThrow(Function<PersistentSchemaCache, T> lookup, RegistryRetryableException e) {
+        T persisted = persistentCache != null ? lookup.apply(persistentCache) : null;
+        if (persisted == null) {
+            throw e;
+        }
+        LOG.warn("Schema registry could not be reached, using the persisted entry [{}]", persisted, e);
+        return persisted;
+    }
+
     protected ClientConfig createClientConfig(Map<String, ?> conf) {
         ClientConfig config = new ClientConfig();
         config.property(ClientProperties.CONNECT_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT);
         config.property(ClientProperties.READ_TIMEOUT, DEFAULT_READ_TIMEOUT);
         config.property(ClientProperties.FOLLOW_REDIRECTS, true);
+        config.property(ClientProperties.ASYNC_THREADPOOL_SIZE, DEFAULT_ASYNC_THREADPOOL_SIZE);
         String connectorProvider = (String) conf.get(CONNECTOR_PROVIDER.name());
         if (connectorProvider != null) {
             try {
@@ -574,9 +704,10 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         SchemaMetadataInfo schemaMetadataInfo = schemaMetadataCache.getIfPresent(SchemaMetadataCache.Key.of(schemaMetadata
                 .getName()));
         if (schemaMetadataInfo == null) {
-            return runRetryableBlock((SchemaRegistryTargets targets) -> {
-                return doRegisterSchemaMetadata(schemaMetadata, targets.schemasTarget);
-            });
+            return schemaMetadataRegistrations.execute(schemaMetadata.getName(), () ->
+                    runRetryableBlock((SchemaRegistryTargets targets) -> {
+                        return doRegisterSchemaMetadata(schemaMetadata, targets.schemasTarget);
+                    }));
         }
 
         return schemaMetadataInfo.getId();
@@ -588,7 +719,7 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
             return postEntity(targets.schemasTarget.path(schemaName), schemaMetadata, SchemaMetadataInfo.class);
         });
         if (schemaMetadataInfo != null) {
-            schemaMetadataCache.put(SchemaMetadataCache.Key.of(schemaName), schemaMetadataInfo);
+            schemaMetadataCache.put(SchemaMetadataCache.Key.of(schemaName), persistSchemaMetadataInfo(schemaMetadataInfo));
         }
         return schemaMetadataInfo;
     }
@@ -624,10 +755,16 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
     public void deleteSchema(String schemaName) throws SchemaNotFoundException {
         Collection<SchemaVersionInfo> schemaVersionInfos = getAllVersions(schemaName);
         schemaMetadataCache.invalidateSchemaMetadata(SchemaMetadataCache.Key.of(schemaName));
+        if (persistentCache != null) {
+            persistentCache.removeSchemaMetadataInfo(schemaName);
+        }
         if (schemaVersionInfos != null) {
             for (SchemaVersionInfo schemaVersionInfo: schemaVersionInfos) {
                 SchemaIdVersion schemaIdVersion = new SchemaIdVersion(schemaVersionInfo.getId());
                 schemaVersionInfoCache.invalidateSchema(SchemaVersionInfoCache.Key.of(schemaIdVersion));
+                if (persistentCache != null) {
+                    persistentCache.removeSchemaVersionInfo(schemaVersionInfo.getId());
+                }
             }
         }
 
@@ -781,6 +918,9 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
     public void deleteSchemaVersion(SchemaVersionKey schemaVersionKey) throws SchemaNotFoundException, SchemaLifecycleException {
         invalidateTextCache(schemaVersionKey);
         schemaVersionInfoCache.invalidateSchema(new SchemaVersionInfoCache.Key(schemaVersionKey));
+        if (persistentCache != null) {
+            persistentCache.removeSchemaVersionInfo(schemaVersionKey);
+        }
 
         Response response = runRetryableBlock((SchemaRegistryTargets targets) -> {
             WebTarget target = targets.schemasTarget.path(String.format("%s/versions/%s", schemaVersionKey
@@ -912,6 +1052,69 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         return getLatestSchemaVersionInfo(SchemaBranch.MASTER_BRANCH, schemaName);
     }
 
+    @Override
+    public Collection<SchemaVersionInfo> getSchemaVersionInfos(Collection<Long> schemaVersionIds) {
+        List<SchemaVersionInfo> schemaVersionInfos = new ArrayList<>(schemaVersionIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long schemaVersionId : new LinkedHashSet<>(schemaVersionIds)) {
+            SchemaVersionInfo schemaVersionInfo = getCachedSchemaVersionInfo(schemaVersionId);
+            if (schemaVersionInfo == null) {
+                schemaVersionInfo = getPersistedSchemaVersionInfo(schemaVersionId);
+                if (schemaVersionInfo != null) {
+                    schemaVersionInfoCache.putSchema(schemaVersionInfo);
+                }
+            }
+            if (schemaVersionInfo != null) {
+                schemaVersionInfos.add(schemaVersionInfo);
+            } else {
+                missingIds.add(schemaVersionId);
+            }
+        }
+
+        // the versions which are not cached are fetched with one request per batch instead of one request per version
+        for (List<Long> batch : Lists.partition(missingIds, SCHEMA_VERSION_BATCH_SIZE)) {
+            Collection<SchemaVersionInfo> fetched = doGetSchemaVersionInfos(batch);
+            for (SchemaVersionInfo schemaVersionInfo : fetched) {
+                schemaVersionInfoCache.putSchema(persistSchemaVersionInfo(schemaVersionInfo));
+            }
+            schemaVersionInfos.addAll(fetched);
+        }
+        return schemaVersionInfos;
+    }
+
+    private SchemaVersionInfo getCachedSchemaVersionInfo(Long schemaVersionId) {
+        return getCachedSchemaVersionInfo(SchemaVersionInfoCache.Key.of(new SchemaIdVersion(schemaVersionId)));
+    }
+
+    private SchemaVersionInfo getCachedSchemaVersionInfo(SchemaVersionInfoCache.Key key) {
+        try {
+            return schemaVersionInfoCache.getSchemaIfPresent(key);
+        } catch (SchemaNotFoundException e) {
+            // only the versions which were found are cached
+            return null;
+        }
+    }
+
+    private Collection<SchemaVersionInfo> doGetSchemaVersionInfos(List<Long> schemaVersionIds) {
+        LOG.info("Getting {} schema versions from target registry by their ids", schemaVersionIds.size());
+        try {
+            return runRetryableBlock((SchemaRegistryTargets targets) ->
+                    postEntities(targets.schemaVersionsByIdTarget.path("batch"), schemaVersionIds, SchemaVersionInfo.class));
+        } catch (NotAllowedException e) {
+            // registries which do not support the batch lookup yet
+            LOG.debug("Batch lookup of schema versions is not supported by the target registry, getting them one by one");
+            List<SchemaVersionInfo> schemaVersionInfos = new ArrayList<>(schemaVersionIds.size());
+            for (Long schemaVersionId : schemaVersionIds) {
+                try {
+                    schemaVersionInfos.add(doGetSchemaIdVersionInfo(schemaVersionId));
+                } catch (NotFoundException ex) {
+                    LOG.debug("Schema version with id [{}] does not exist", schemaVersionId);
+                }
+            }
+            return schemaVersionInfos;
+        }
+    }
+
     @Override
     public SchemaVersionInfo getSchemaVersionInfo(SchemaVersionKey schemaVersionKey) throws SchemaNotFoundException {
         try {
@@ -939,16 +1142,32 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
     }
 
     private SchemaVersionInfo doGetSchemaIdVersionInfo(Long versionId) {
-        return runRetryableBlock((SchemaRegistryTargets targets) ->
-                getEntity(targets.schemaVersionsByIdTarget.path(versionId.toString()), SchemaVersionInfo.class));
+        try {
+            return runRetryableBlock((SchemaRegistryTargets targets) -> {
+                WebTarget webTarget = targets.schemaVersionsByIdTarget.path(versionId.toString());
+                addPersistedEntityTag(webTarget, versionId);
+                SchemaVersionInfo schemaVersionInfo = getTaggedEntity(webTarget, SchemaVersionInfo.class);
+                if (persistentCache != null) {
+                    TaggedEntity taggedEntity = taggedEntityCache.getIfPresent(webTarget.getUri().toString());
+                    persistentCache.putSchemaVersionInfo(schemaVersionInfo, taggedEntity != null ? taggedEntity.entityTag.toString() : null);
+                }
+                return schemaVersionInfo;
+            });
+        } catch (RegistryRetryableException e) {
+            return getPersistedOrThrow(cache -> cache.getSchemaVersionInfo(versionId), e);
+        }
     }
 
     private SchemaVersionInfo doGetSchemaVersionInfo(SchemaVersionKey schemaVersionKey) {
         LOG.info("Getting schema version from target registry for [{}]", schemaVersionKey);
         String schemaName = schemaVersionKey.getSchemaName();
-        return runRetryableBlock((SchemaRegistryTargets targets) ->
-                getEntity(targets.schemasTarget.path(String.format("%s/versions/%d", schemaName, schemaVersionKey.getVersion())),
-                        SchemaVersionInfo.class));
+        try {
+            return runRetryableBlock((SchemaRegistryTargets targets) ->
+                    getTaggedEntity(targets.schemasTarget.path(String.format("%s/versions/%d", schemaName, schemaVersionKey.getVersion())),
+                            SchemaVersionInfo.class));
+        } catch (RegistryRetryableException e) {
+            return getPersistedOrThrow(cache -> cache.getSchemaVersionInfo(schemaVersionKey), e);
+        }
     }
 
     @Override
@@ -1169,6 +1388,9 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
 
         // invalidate this entry from cache.
         schemaVersionInfoCache.invalidateSchema(SchemaVersionInfoCache.Key.of(new SchemaIdVersion(schemaVersionId)));
+        if (persistentCache != null) {
+            persistentCache.removeSchemaVersionInfo(schemaVersionId);
+        }
 
         return result;
     }
@@ -1404,6 +1626,12 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
             }
         }
         client.close();
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+        }
+        if (blockingLookupExecutor != null) {
+            blockingLookupExecutor.shutdownNow();
+        }
     }
 
     public SchemaRegistryVersion clientVersion() {
@@ -1482,6 +1710,21 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         return entities;
     }
 
+    private <T> List<T> postEntities(WebTarget target, Object json, Class<T> clazz) {
+        String response = null;
+        try {
+            response = login.doAction(new PrivilegedAction<String>() {
+                @Override
+                public String run() {
+                    return addHeaderIfOAuthLogin(target.request(MediaType.APPLICATION_JSON_TYPE)).post(Entity.json(json), String.class);
+                }
+            });
+        } catch (LoginException | ProcessingException e) {
+            throw new RegistryRetryableException(e);
+        }
+        return parseResponseAsEntities(response, clazz);
+    }
+
     private <T> T postEntity(WebTarget target, Object json, Class<T> responseType) {
         String response = null;
         try {
@@ -1522,6 +1765,109 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         return readEntity(response, clazz);
     }
 
+    /**
+     * Gets the entity of the given target with the entity tag of the previous response of the target, if there is one.
+     * The server does not send the entity again if it has not been modified since then.
+     */
+    private <T> T getTaggedEntity(WebTarget target, Class<T> clazz) {
+        String uri = target.getUri().toString();
+        TaggedEntity taggedEntity = taggedEntityCache.getIfPresent(uri);
+        String response = null;
+        try {
+            response = login.doAction(new PrivilegedAction<String>() {
+                @Override
+                public String run() {
+                    Invocation.Builder request = addHeaderIfOAuthLogin(target.request(MediaType.APPLICATION_JSON_TYPE));
+                    if (taggedEntity != null) {
+                        request.header(HttpHeaders.IF_NONE_MATCH, taggedEntity.entityTag.toString());
+                    }
+                    return readTaggedEntity(uri, taggedEntity, request.get());
+                }
+            });
+        } catch (LoginException | ProcessingException e) {
+            throw new RegistryRetryableException(e);
+        }
+
+        return readEntity(response, clazz);
+    }
+
+    /**
+     * Lets the first request of a persisted schema version after a restart of the client send the entity tag the
+     * version was persisted with, so that the registry does not send the version again if it has not been modified.
+     */
+    private void addPersistedEntityTag(WebTarget target, Long schemaVersionId) {
+        String uri = target.getUri().toString();
+        if (persistentCache == null || taggedEntityCache.getIfPresent(uri) != null) {
+            return;
+        }
+        SchemaVersionInfo persisted = persistentCache.getSchemaVersionInfo(schemaVersionId);
+        String entityTag = persistentCache.getEntityTag(schemaVersionId);
+        if (persisted != null && entityTag != null) {
+            try {
+                taggedEntityCache.put(uri, new TaggedEntity(EntityTag.valueOf(entityTag), new ObjectMapper().writeValueAsString(persisted)));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                LOG.debug("Persisted schema version [{}] is requested without its entity tag", schemaVersionId, e);
+            }
+        }
+    }
+
+    private String readTaggedEntity(String uri, TaggedEntity taggedEntity, Response response) {
+        if (taggedEntity != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            response.close();
+            return taggedEntity.entity;
+        }
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            taggedEntityCache.invalidate(uri);
+            throw toWebApplicationException(response);
+        }
+
+        String entity = response.readEntity(String.class);
+        EntityTag entityTag = response.getEntityTag();
+        if (entityTag != null) {
+            taggedEntityCache.put(uri, new TaggedEntity(entityTag, entity));
+        }
+        return entity;
+    }
+
+    /**
+     * Maps an error response to the exception which the client throws for it when it reads the entity of a response,
+     * e.g. with {@code get(String.class)}, so that callers handle the errors of both kinds of requests alike.
+     */
+    private static WebApplicationException toWebApplicationException(Response response) {
+        switch (response.getStatus()) {
+            case 400:
+                return new BadRequestException(response);
+            case 401:
+                return new NotAuthorizedException(response);
+            case 403:
+                return new ForbiddenException(response);
+            case 404:
+                return new NotFoundException(response);
+            case 405:
+                return new NotAllowedException(response);
+            case 406:
+                return new NotAcceptableException(response);
+            case 415:
+                return new NotSupportedException(response);
+            case 500:
+                return new InternalServerErrorException(response);
+            case 503:
+                return new ServiceUnavailableException(response);
+            default:
+                return new WebApplicationException(response);
+        }
+    }
+
+    private static final class TaggedEntity {
+        private final EntityTag entityTag;
+        private final String entity;
+
+        private TaggedEntity(EntityTag entityTag, String entity) {
+            this.entityTag = entityTag;
+            this.entity = entity;
+        }
+    }
+
     /**
      *   If schema registry client is configured with URL ensemble eg: url1,url2,url3 and ExponentialBackoffPolicy is
      *   configured as a retry mechanism, then retry is done in following manner
@@ -1562,6 +1908,249 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
         });
     }
 
+    @Override
+    public CompletableFuture<SchemaMetadataInfo> getSchemaMetadataInfoAsync(String schemaName) {
+        return getSchemaMetadataInfoAsync(SchemaMetadataCache.Key.of(schemaName),
+                (SchemaRegistryTargets targets) -> targets.schemasTarget.path(schemaName));
+    }
+
+    private CompletableFuture<SchemaMetadataInfo> getSchemaMetadataInfoAsync(Long schemaMetadataId) {
+        return getSchemaMetadataInfoAsync(SchemaMetadataCache.Key.of(schemaMetadataId),
+                (SchemaRegistryTargets targets) -> targets.schemasByIdTarget.path(schemaMetadataId.toString()));
+    }
+
+    private CompletableFuture<SchemaMetadataInfo> getSchemaMetadataInfoAsync(SchemaMetadataCache.Key key,
+                                                                             Function<SchemaRegistryTargets, WebTarget> target) {
+        SchemaMetadataInfo schemaMetadataInfo = schemaMetadataCache.getIfPresent(key);
+        if (schemaMetadataInfo != null) {
+            return CompletableFuture.completedFuture(schemaMetadataInfo);
+        }
+
+        return schemaMetadataRequests.executeAsync(key, () ->
+                getEntityAsync(target, SchemaMetadataInfo.class)
+                        .handle((fetched, error) -> {
+                            if (error == null) {
+                                schemaMetadataCache.put(persistSchemaMetadataInfo(fetched));
+                                return fetched;
+                            }
+                            // a schema which does not exist is reported with null, like getSchemaMetadataInfo does
+                            if (unwrap(error) instanceof NotFoundException) {
+                                return null;
+                            }
+                            throw new CompletionException(unwrap(error));
+                        }));
+    }
+
+    @Override
+    public CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoAsync(SchemaIdVersion schemaIdVersion) {
+        if (schemaIdVersion.getSchemaVersionId() == null) {
+            return getSchemaVersionInfoByMetadataIdAsync(schemaIdVersion);
+        }
+        SchemaVersionInfoCache.Key key = SchemaVersionInfoCache.Key.of(schemaIdVersion);
+        if (getCachedSchemaVersionInfo(key) == null) {
+            SchemaVersionInfo persisted = getPersistedSchemaVersionInfo(schemaIdVersion.getSchemaVersionId());
+            if (persisted != null) {
+                schemaVersionInfoCache.putSchema(persisted);
+                return CompletableFuture.completedFuture(persisted);
+            }
+        }
+        String versionId = schemaIdVersion.getSchemaVersionId().toString();
+        return getSchemaVersionInfoAsync(key, (SchemaRegistryTargets targets) -> targets.schemaVersionsByIdTarget.path(versionId));
+    }
+
+    /**
+     * Looks up the name of the schema by its metadata id first, then the version by the name and version number.
+     */
+    private CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoByMetadataIdAsync(SchemaIdVersion schemaIdVersion) {
+        Long schemaMetadataId = schemaIdVersion.getSchemaMetadataId();
+        if (schemaMetadataId == null) {
+            CompletableFuture<SchemaVersionInfo> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalArgumentException("Given argument not valid: " + schemaIdVersion));
+            return result;
+        }
+        SchemaVersionInfo schemaVersionInfo = getCachedSchemaVersionInfo(SchemaVersionInfoCache.Key.of(schemaIdVersion));
+        if (schemaVersionInfo != null) {
+            return CompletableFuture.completedFuture(schemaVersionInfo);
+        }
+
+        return getSchemaMetadataInfoAsync(schemaMetadataId).thenCompose(schemaMetadataInfo -> {
+            if (schemaMetadataInfo == null) {
+                throw new CompletionException(new SchemaNotFoundException("Schema with id [" + schemaMetadataId + "] does not exist",
+                        schemaIdVersion.toString()));
+            }
+            String schemaName = schemaMetadataInfo.getSchemaMetadata().getName();
+            return getSchemaVersionInfoAsync(new SchemaVersionKey(schemaName, schemaIdVersion.getVersion()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoAsync(SchemaVersionKey schemaVersionKey) {
+        String path = String.format("%s/versions/%d", schemaVersionKey.getSchemaName(), schemaVersionKey.getVersion());
+        return getSchemaVersionInfoAsync(SchemaVersionInfoCache.Key.of(schemaVersionKey),
+                (SchemaRegistryTargets targets) -> targets.schemasTarget.path(path));
+    }
+
+    @Override
+    public CompletableFuture<SchemaVersionInfo> getLatestSchemaVersionInfoAsync(String schemaName) {
+        return getEntityAsync((SchemaRegistryTargets targets) -> targets.schemasTarget.path(encode(schemaName) + "/versions/latest")
+                        .queryParam("branch", SchemaBranch.MASTER_BRANCH),
+                SchemaVersionInfo.class)
+                .handle((fetched, error) -> {
+                    if (error == null) {
+                        return fetched;
+                    }
+                    throw new CompletionException(toSchemaNotFoundException(unwrap(error), schemaName));
+                });
+    }
+
+    private CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoAsync(SchemaVersionInfoCache.Key key,
+                                                                           Function<SchemaRegistryTargets, WebTarget> target) {
+        SchemaVersionInfo schemaVersionInfo = getCachedSchemaVersionInfo(key);
+        if (schemaVersionInfo != null) {
+            return CompletableFuture.completedFuture(schemaVersionInfo);
+        }
+
+        return schemaVersionRequests.executeAsync(key, () ->
+                getEntityAsync(target, SchemaVersionInfo.class)
+                        .handle((fetched, error) -> {
+                            if (error == null) {
+                                schemaVersionInfoCache.putSchema(persistSchemaVersionInfo(fetched));
+                                return fetched;
+                            }
+                            throw new CompletionException(toSchemaNotFoundException(unwrap(error), key.toString()));
+                        }));
+    }
+
+    private static Throwable toSchemaNotFoundException(Throwable error, String key) {
+        return error instanceof NotFoundException ? new SchemaNotFoundException(key, error) : error;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Gets the entity of the target asynchronously. Failed requests are retried with the other urls and with the
+     * backoff policy of the client like {@link #runRetryableBlock(RegistryRetryableBlock)} does, but no thread waits
+     * for the responses or for the next attempt.
+     */
+    private <T> CompletableFuture<T> getEntityAsync(Function<SchemaRegistryTargets, WebTarget> target, Class<T> clazz) {
+        if (login instanceof KerberosLogin) {
+            // the kerberos subject is only available to the thread which runs the login action, so the request can
+            // not be sent by the threads of the Jersey client. The blocking lookups get threads of their own, so that
+            // they do not hold up the retries scheduled by the async executor.
+            return CompletableFuture.supplyAsync(() ->
+                    runRetryableBlock((SchemaRegistryTargets targets) -> getEntity(target.apply(targets), clazz)),
+                    blockingLookupExecutor());
+        }
+        return retryExecutor.executeAsync(() -> getEntityAsync(target, clazz, null, null), asyncExecutor());
+    }
+
+    private <T> CompletableFuture<T> getEntityAsync(Function<SchemaRegistryTargets, WebTarget> target,
+                                                    Class<T> clazz,
+                                                    WebTarget initialWebTarget,
+                                                    RegistryRetryableException retryableException) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        SchemaRegistryTargets targets = currentSchemaRegistryTargets();
+        if (initialWebTarget != null && initialWebTarget.equals(targets.rootTarget)) {
+            result.completeExceptionally(retryableException);
+            return result;
+        }
+        WebTarget firstWebTarget = initialWebTarget != null ? initialWebTarget : targets.rootTarget;
+
+        LOG.debug("Using '{}' to make asynchronous request", targets.rootTarget);
+        getAsync(target.apply(targets)).whenComplete((response, error) -> {
+            if (error instanceof RegistryRetryableException) {
+                urlSelector.urlWithError(targets.rootTarget.getUri().toString(), (RegistryRetryableException) error);
+                getEntityAsync(target, clazz, firstWebTarget, (RegistryRetryableException) error).whenComplete((entity, e) -> {
+                    if (e == null) {
+                        result.complete(entity);
+                    } else {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } else if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                try {
+                    result.complete(readEntity(response, clazz));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<String> getAsync(WebTarget target) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        InvocationCallback<String> callback = new InvocationCallback<String>() {
+            @Override
+            public void completed(String response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                // error responses are reported like the synchronous requests report them, other failures can be retried
+                if (throwable instanceof WebApplicationException) {
+                    result.completeExceptionally(throwable);
+                } else if (throwable.getCause() instanceof WebApplicationException) {
+                    result.completeExceptionally(throwable.getCause());
+                } else if (throwable instanceof ProcessingException) {
+                    result.completeExceptionally(new RegistryRetryableException(throwable));
+                } else {
+                    result.completeExceptionally(throwable);
+                }
+            }
+        };
+        try {
+            login.doAction(new PrivilegedAction<Future<String>>() {
+                @Override
+                public Future<String> run() {
+                    return addHeaderIfOAuthLogin(target.request(MediaType.APPLICATION_JSON_TYPE)).async().get(callback);
+                }
+            });
+        } catch (LoginException | ProcessingException e) {
+            result.completeExceptionally(new RegistryRetryableException(e));
+        }
+        return result;
+    }
+
+    private ScheduledExecutorService asyncExecutor() {
+        ScheduledExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    int threads = ((Number) configuration.getValue(Configuration.ASYNC_THREADS.name())).intValue();
+                    asyncExecutor = Executors.newScheduledThreadPool(threads, new ThreadFactoryBuilder()
+                            .setDaemon(true)
+                            .setNameFormat("schema-registry-client-async-%d")
+                            .build());
+                }
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    private ExecutorService blockingLookupExecutor() {
+        ExecutorService executor = blockingLookupExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (blockingLookupExecutor == null) {
+                    int threads = ((Number) configuration.getValue(Configuration.ASYNC_BLOCKING_LOOKUP_THREADS.name())).intValue();
+                    blockingLookupExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                            .setDaemon(true)
+                            .setNameFormat("schema-registry-client-lookup-%d")
+                            .build());
+                }
+                executor = blockingLookupExecutor;
+            }
+        }
+        return executor;
+    }
+
     public static final class Configuration {
         // we may want to remove schema.registry prefix from configuration properties as these are all properties
         // given by client.
@@ -1696,6 +2285,53 @@ public class SchemaRegistryClient implements ISchemaRegistryClient {
                                      ConfigEntry.IntegerConverter.get(),
                                      ConfigEntry.PositiveNumberValidator.get());
 
+        public static final int DEFAULT_ASYNC_THREADS = 2;
+
+        /**
+         * Number of threads which schedule the retries of the asynchronous lookups. Default value is {@link #DEFAULT_ASYNC_THREADS}.
+         * The requests themselves are sent by the threads of the Jersey client, or without blocking a thread when a
+         * non blocking connector is configured with {@link #CONNECTOR_PROVIDER}.
+         */
+        public static final ConfigEntry<Number> ASYNC_THREADS =
+                ConfigEntry.optional("schema.registry.client.async.threads",
+                                     Integer.class,
+                                     "Number of threads which schedule the retries of the asynchronous lookups.",
+                                     DEFAULT_ASYNC_THREADS,
+                                     ConfigEntry.IntegerConverter.get(),
+                                     ConfigEntry.PositiveNumberValidator.get());
+
+        public static final int DEFAULT_ASYNC_BLOCKING_LOOKUP_THREADS = 4;
+
+        /**
+         * Number of threads which run the asynchronous lookups when the client logs in with Kerberos, as these block
+         * a thread until the response is read, and the revalidation of the persisted schema versions.
+         * Default value is {@link #DEFAULT_ASYNC_BLOCKING_LOOKUP_THREADS}.
+         */
+        public static final ConfigEntry<Number> ASYNC_BLOCKING_LOOKUP_THREADS =
+                ConfigEntry.optional("schema.registry.client.async.blocking.lookup.threads",
+                                     Integer.class,
+                                     "Number of threads which run the asynchronous lookups when the client logs in with Kerberos.",
+                                     DEFAULT_ASYNC_BLOCKING_LOOKUP_THREADS,
+                                     ConfigEntry.IntegerConverter.get(),
+                                     ConfigEntry.PositiveNumberValidator.get());
+
+        /**
+         * Local directory in which the fetched schema versions and schema metadata are kept, so that they are still
+         * available after the client is restarted. For ex: /tmp/schema-registry/cache
+         * The schema versions looked up by their id are answered from the kept entries straight away and revalidated in
+         * the background with a conditional request, as only their state can change. The other lookups are still sent
+         * to the registry and fall back to the kept entries only when it can not be reached.
+         * At most as many entries are kept as the in-memory schema version and schema metadata caches can hold.
+         * There is no persistent cache if it is not set.
+         */
+        public static final ConfigEntry<String> PERSISTENT_CACHE_PATH =
+                ConfigEntry.optional("schema.registry.client.persistent.cache.path",
+                                     String.class,
+                                     "Local directory in which fetched schema versions and schema metadata are kept across restarts of the client.",
+                                     null,
+                                     ConfigEntry.StringConverter.get(),
+                                     ConfigEntry.NonEmptyStringValidator.get());
+
         /**
          *
          */
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local http server which answers the requests of the client with the responses set by a test, and counts the requests
+ * it gets. Requests are given by their method and their path below the schema registry api, e.g. "GET /schemas/trucks".
+ * Requests without a response are answered with 404.
+ */
+final class FakeSchemaRegistryServer implements AutoCloseable {
+
+    private static final String API_PATH = "/api/v1/schemaregistry";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> notModifiedResponses = new ConcurrentHashMap<>();
+    private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+    private final HttpServer server;
+    private volatile long responseDelayMs;
+    private volatile boolean stopped;
+
+    FakeSchemaRegistryServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * @return url of the server, as it is configured in the client
+     */
+    String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+    }
+
+    /**
+     * Answers the given request with the given status and entity, entities which are not strings are sent as json.
+     */
+    FakeSchemaRegistryServer respond(String request, int status, Object entity) throws IOException {
+        return respond(request, status, entity, null);
+    }
+
+    /**
+     * Same as {@link #respond(String, int, Object)} with the given entity tag. Requests which send the tag in their
+     * If-None-Match header are answered with 304.
+     */
+    FakeSchemaRegistryServer respond(String request, int status, Object entity, String entityTag) throws IOException {
+        String body = entity instanceof String ? (String) entity : objectMapper.writeValueAsString(entity);
+        responses.put(request, new Response(status, body, entityTag == null ? null : "\"" + entityTag + "\""));
+        return this;
+    }
+
+    /**
+     * Keeps every request running for the given time before it is answered, e.g. to send concurrent requests.
+     */
+    void setResponseDelay(long responseDelayMs) {
+        this.responseDelayMs = responseDelayMs;
+    }
+
+    int requests(String request) {
+        return count(requests, request);
+    }
+
+    int requests() {
+        return requests.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    int notModifiedResponses(String request) {
+        return count(notModifiedResponses, request);
+    }
+
+    @Override
+    public void close() {
+        if (!stopped) {
+            stopped = true;
+            server.stop(0);
+            serverThreads.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath().substring(API_PATH.length()).replaceAll("/+$", "");
+        String request = exchange.getRequestMethod() + " " + path;
+        requests.computeIfAbsent(request, r -> new AtomicInteger()).incrementAndGet();
+        if (responseDelayMs > 0) {
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Response response = responses.getOrDefault(request, new Response(404, "{}", null));
+        if (response.entityTag != null && response.entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.computeIfAbsent(request, r -> new AtomicInteger()).incrementAndGet();
+            exchange.getResponseHeaders().add("ETag", response.entityTag);
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (response.entityTag != null) {
+            exchange.getResponseHeaders().add("ETag", response.entityTag);
+        }
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int count(Map<String, AtomicInteger> counts, String request) {
+        AtomicInteger count = counts.get(request);
+        return count == null ? 0 : count.get();
+    }
+
+    private static final class Response {
+        private final int status;
+        private final String body;
+        private final String entityTag;
+
+        private Response(int status, String body, String entityTag) {
+            this.status = status;
+            this.body = body;
+            this.entityTag = entityTag;
+        }
+    }
+}
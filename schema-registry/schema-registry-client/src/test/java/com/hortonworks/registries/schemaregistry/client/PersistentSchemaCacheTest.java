@@ -0,0 +1,220 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import com.hortonworks.registries.schemaregistry.exceptions.RegistryRetryableException;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class PersistentSchemaCacheTest {
+
+    private static final String SCHEMA_NAME = "trucks";
+    private static final long CACHE_SIZE = 10L;
+
+    private File cacheDir;
+    private FakeSchemaRegistryServer server;
+    private String url;
+    private SchemaMetadataInfo schemaMetadataInfo;
+    private SchemaVersionInfo schemaVersionInfo;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        cacheDir = Files.createTempDirectory("schema-cache").toFile();
+        schemaMetadataInfo = new SchemaMetadataInfo(
+                new SchemaMetadata.Builder(SCHEMA_NAME).schemaGroup("group").type("avro").build(), 1L, 1L);
+        schemaVersionInfo = new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 1);
+        server = new FakeSchemaRegistryServer()
+                .respond("GET /schemas/" + SCHEMA_NAME, 200, schemaMetadataInfo)
+                .respond("GET /schemas/versionsById/10", 200, schemaVersionInfo, "10-1")
+                .respond("GET /schemas/" + SCHEMA_NAME + "/versions/1", 200, schemaVersionInfo);
+        url = server.getUrl();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        server.close();
+        FileUtils.deleteDirectory(cacheDir);
+    }
+
+    @Test
+    public void testEntriesAreKeptAcrossRestarts() throws IOException {
+        PersistentSchemaCache cache = new PersistentSchemaCache(cacheDir, CACHE_SIZE, CACHE_SIZE);
+        SchemaVersionInfo removed = new SchemaVersionInfo(11L, SCHEMA_NAME, 2, 1L, "{\"type\":\"int\"}", 2L, "second", (byte) 1);
+        cache.putSchemaMetadataInfo(schemaMetadataInfo);
+        cache.putSchemaVersionInfo(schemaVersionInfo, "\"10-1\"");
+        cache.putSchemaVersionInfo(removed);
+        cache.removeSchemaVersionInfo(new SchemaVersionKey(SCHEMA_NAME, 2));
+        // a line which was not written completely when the client stopped
+        Files.write(new File(cacheDir, PersistentSchemaCache.FILE_NAME).toPath(),
+                "{\"schemaVersion\":{\"id\":12".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        PersistentSchemaCache reopened = new PersistentSchemaCache(cacheDir, CACHE_SIZE, CACHE_SIZE);
+
+        Assertions.assertEquals(schemaVersionInfo, reopened.getSchemaVersionInfo(10L));
+        Assertions.assertEquals(schemaVersionInfo, reopened.getSchemaVersionInfo(new SchemaVersionKey(SCHEMA_NAME, 1)));
+        Assertions.assertEquals("\"10-1\"", reopened.getEntityTag(10L));
+        Assertions.assertEquals(schemaMetadataInfo, reopened.getSchemaMetadataInfo(SCHEMA_NAME));
+        Assertions.assertEquals(schemaMetadataInfo, reopened.getSchemaMetadataInfo(1L));
+        Assertions.assertNull(reopened.getSchemaVersionInfo(11L));
+        Assertions.assertNull(reopened.getSchemaVersionInfo(12L));
+    }
+
+    @Test
+    public void testEntriesAreBounded() {
+        PersistentSchemaCache cache = new PersistentSchemaCache(cacheDir, 1L, 1L);
+        SchemaVersionInfo latest = new SchemaVersionInfo(11L, SCHEMA_NAME, 2, 1L, "{\"type\":\"int\"}", 2L, "second", (byte) 1);
+        cache.putSchemaVersionInfo(schemaVersionInfo);
+        cache.putSchemaVersionInfo(latest);
+
+        Assertions.assertNull(cache.getSchemaVersionInfo(10L));
+        Assertions.assertEquals(latest, cache.getSchemaVersionInfo(11L));
+
+        // the file still has both versions, only the later one is kept when it is read
+        PersistentSchemaCache reopened = new PersistentSchemaCache(cacheDir, 1L, 1L);
+        Assertions.assertNull(reopened.getSchemaVersionInfo(10L));
+        Assertions.assertEquals(latest, reopened.getSchemaVersionInfo(11L));
+    }
+
+    @Test
+    public void testEntityTagOfUnchangedVersionIsKept() {
+        PersistentSchemaCache cache = new PersistentSchemaCache(cacheDir, CACHE_SIZE, CACHE_SIZE);
+        SchemaVersionInfo disabled = new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 2);
+        cache.putSchemaVersionInfo(schemaVersionInfo, "\"10-1\"");
+
+        // e.g. a version of a batch lookup, which is read without a tag
+        cache.putSchemaVersionInfo(schemaVersionInfo);
+        Assertions.assertEquals("\"10-1\"", cache.getEntityTag(10L));
+
+        cache.putSchemaVersionInfo(disabled);
+        Assertions.assertNull(cache.getEntityTag(10L));
+    }
+
+    @Test
+    public void testRestartedClientAnswersKnownIdsWithoutWaitingForRegistry() throws Exception {
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+        }
+        server.setResponseDelay(1000L);
+
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            long start = System.nanoTime();
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfoAsync(new SchemaIdVersion(10L)).get());
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000L);
+
+            // the persisted version is revalidated once with the persisted tag and is not sent again
+            waitFor(() -> server.notModifiedResponses("GET /schemas/versionsById/10") == 1);
+        }
+        Assertions.assertEquals(2, server.requests("GET /schemas/versionsById/10"));
+    }
+
+    @Test
+    public void testRestartedClientRevalidatesPersistedEntries() throws Exception {
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfoAsync(new SchemaIdVersion(10L)).get());
+        }
+        SchemaVersionInfo disabled = new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 2);
+        server.respond("GET /schemas/versionsById/10", 200, disabled, "10-2");
+
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfoAsync(new SchemaIdVersion(10L)).get());
+
+            // the changed state is picked up by the revalidation in the background
+            waitFor(() -> disabled.equals(getSchemaVersionInfo(client, 10L)));
+        }
+        Assertions.assertEquals(0, server.notModifiedResponses("GET /schemas/versionsById/10"));
+        PersistentSchemaCache reopened = new PersistentSchemaCache(cacheDir, CACHE_SIZE, CACHE_SIZE);
+        Assertions.assertEquals(disabled, reopened.getSchemaVersionInfo(10L));
+        Assertions.assertEquals("\"10-2\"", reopened.getEntityTag(10L));
+    }
+
+    @Test
+    public void testRevalidationRemovesDeletedVersions() throws Exception {
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+        }
+        server.respond("GET /schemas/versionsById/10", 404, "{}");
+
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+            waitFor(() -> new PersistentSchemaCache(cacheDir, CACHE_SIZE, CACHE_SIZE).getSchemaVersionInfo(10L) == null);
+        }
+    }
+
+    @Test
+    public void testRestartedClientUsesPersistedEntriesWhenRegistryIsStopped() throws Exception {
+        SchemaVersionKey schemaVersionKey = new SchemaVersionKey(SCHEMA_NAME, 1);
+
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(schemaVersionKey));
+            Assertions.assertEquals(schemaMetadataInfo, client.getSchemaMetadataInfo(SCHEMA_NAME));
+        }
+        Assertions.assertEquals(3, server.requests());
+        server.close();
+
+        try (SchemaRegistryClient client = new SchemaRegistryClient(conf())) {
+            // what a deserializer looks up for a message written with a known schema version id
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+            Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(schemaVersionKey));
+            Assertions.assertEquals(schemaMetadataInfo, client.getSchemaMetadataInfo(SCHEMA_NAME));
+            RuntimeException unknownVersion = Assertions.assertThrows(RuntimeException.class,
+                    () -> client.getSchemaVersionInfo(new SchemaVersionKey(SCHEMA_NAME, 2)));
+            Assertions.assertTrue(unknownVersion.getCause() instanceof RegistryRetryableException);
+        }
+    }
+
+    private static SchemaVersionInfo getSchemaVersionInfo(SchemaRegistryClient client, Long schemaVersionId) {
+        try {
+            return client.getSchemaVersionInfo(new SchemaIdVersion(schemaVersionId));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Condition was not met in time");
+            Thread.sleep(10L);
+        }
+    }
+
+    private Map<String, Object> conf() {
+        Map<String, Object> conf = new HashMap<>();
+        conf.put(SchemaRegistryClient.Configuration.SCHEMA_REGISTRY_URL.name(), url);
+        conf.put(SchemaRegistryClient.Configuration.PERSISTENT_CACHE_PATH.name(), cacheDir.getAbsolutePath());
+        return conf;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends concurrent lookups of the same key to a local server which answers slowly, and counts the requests it gets.
+ */
+public class SchemaRegistryClientConcurrencyTest {
+
+    private static final int THREADS = 20;
+    private static final String SCHEMA_NAME = "trucks";
+
+    private FakeSchemaRegistryServer server;
+    private SchemaRegistryClient client;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        SchemaMetadataInfo schemaMetadataInfo = new SchemaMetadataInfo(schemaMetadata(), 1L, 1L);
+        SchemaVersionInfo schemaVersionInfo =
+                new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 1);
+
+        server = new FakeSchemaRegistryServer()
+                .respond("POST /schemas", 201, "1")
+                .respond("GET /schemas/" + SCHEMA_NAME, 200, schemaMetadataInfo)
+                .respond("GET /schemasById/1", 200, schemaMetadataInfo)
+                .respond("GET /schemas/" + SCHEMA_NAME + "/versions/latest", 200, schemaVersionInfo)
+                .respond("GET /schemas/" + SCHEMA_NAME + "/versions/1", 200, schemaVersionInfo);
+        // keeps the requests running while the other lookups are made
+        server.setResponseDelay(200);
+
+        client = new SchemaRegistryClient(
+                Collections.singletonMap(SchemaRegistryClient.Configuration.SCHEMA_REGISTRY_URL.name(), server.getUrl()));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void testConcurrentSchemaMetadataLookups() throws Exception {
+        List<SchemaMetadataInfo> results = runConcurrently(() -> client.getSchemaMetadataInfo(SCHEMA_NAME));
+        SchemaMetadataInfo byId = client.getSchemaMetadataInfo(1L);
+
+        Assertions.assertEquals(1, server.requests("GET /schemas/" + SCHEMA_NAME));
+        // the id of the schema is known from the lookup by its name
+        Assertions.assertEquals(0, server.requests("GET /schemasById/1"));
+        Assertions.assertEquals(results.get(0), byId);
+    }
+
+    @Test
+    public void testConcurrentSchemaMetadataRegistrations() throws Exception {
+        List<Long> results = runConcurrently(() -> client.registerSchemaMetadata(schemaMetadata()));
+
+        Assertions.assertEquals(1, server.requests("POST /schemas"));
+        Assertions.assertEquals(Collections.nCopies(THREADS, 1L), results);
+    }
+
+    @Test
+    public void testConcurrentLatestSchemaVersionLookupsAreNotShared() throws Exception {
+        runConcurrently(() -> client.getLatestSchemaVersionInfo(SCHEMA_NAME));
+
+        // a lookup which starts after a version was added must not get the outcome of a running one
+        Assertions.assertEquals(THREADS, server.requests("GET /schemas/" + SCHEMA_NAME + "/versions/latest"));
+    }
+
+    @Test
+    public void testConcurrentAsyncSchemaVersionLookups() throws Exception {
+        SchemaVersionKey schemaVersionKey = new SchemaVersionKey(SCHEMA_NAME, 1);
+        runConcurrently(() -> client.getSchemaVersionInfoAsync(schemaVersionKey).get());
+
+        Assertions.assertEquals(1, server.requests("GET /schemas/" + SCHEMA_NAME + "/versions/1"));
+        Assertions.assertEquals(Long.valueOf(10L), client.getSchemaVersionInfo(schemaVersionKey).getId());
+        Assertions.assertEquals(1, server.requests("GET /schemas/" + SCHEMA_NAME + "/versions/1"));
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return lookup.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SchemaMetadata schemaMetadata() {
+        return new SchemaMetadata.Builder(SCHEMA_NAME).schemaGroup("group").type("avro").build();
+    }
+}
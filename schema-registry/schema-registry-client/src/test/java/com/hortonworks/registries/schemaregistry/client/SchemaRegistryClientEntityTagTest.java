@@ -0,0 +1,100 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import com.hortonworks.registries.shaded.javax.ws.rs.ForbiddenException;
+import com.hortonworks.registries.shaded.javax.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks that the client revalidates the schema versions it fetched before with their entity tags.
+ */
+public class SchemaRegistryClientEntityTagTest {
+
+    private static final String SCHEMA_NAME = "trucks";
+    private static final String VERSION_REQUEST = "GET /schemas/" + SCHEMA_NAME + "/versions/1";
+
+    private final SchemaVersionInfo schemaVersionInfo =
+            new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 1);
+    private FakeSchemaRegistryServer server;
+    private SchemaRegistryClient client;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new FakeSchemaRegistryServer();
+        Map<String, Object> conf = new HashMap<>();
+        conf.put(SchemaRegistryClient.Configuration.SCHEMA_REGISTRY_URL.name(), server.getUrl());
+        conf.put(SchemaRegistryClient.Configuration.SCHEMA_VERSION_CACHE_EXPIRY_INTERVAL_SECS.name(), 1);
+        client = new SchemaRegistryClient(conf);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void testExpiredVersionIsRevalidated() throws Exception {
+        server.respond(VERSION_REQUEST, 200, schemaVersionInfo, "10-1");
+        SchemaVersionKey schemaVersionKey = new SchemaVersionKey(SCHEMA_NAME, 1);
+
+        Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(schemaVersionKey));
+        // lets the version expire from the version cache of the client
+        Thread.sleep(1500);
+        Assertions.assertEquals(schemaVersionInfo, client.getSchemaVersionInfo(schemaVersionKey));
+
+        Assertions.assertEquals(2, server.requests(VERSION_REQUEST));
+        Assertions.assertEquals(1, server.notModifiedResponses(VERSION_REQUEST));
+    }
+
+    @Test
+    public void testChangedVersionIsFetchedAgain() throws Exception {
+        server.respond(VERSION_REQUEST, 200, schemaVersionInfo, "10-1");
+        SchemaVersionKey schemaVersionKey = new SchemaVersionKey(SCHEMA_NAME, 1);
+        client.getSchemaVersionInfo(schemaVersionKey);
+
+        SchemaVersionInfo archived = new SchemaVersionInfo(10L, SCHEMA_NAME, 1, 1L, "{\"type\":\"string\"}", 1L, "first", (byte) 3);
+        server.respond(VERSION_REQUEST, 200, archived, "10-3");
+        Thread.sleep(1500);
+
+        Assertions.assertEquals(archived.getStateId(), client.getSchemaVersionInfo(schemaVersionKey).getStateId());
+        Assertions.assertEquals(0, server.notModifiedResponses(VERSION_REQUEST));
+    }
+
+    @Test
+    public void testErrorResponsesAreMappedByStatus() throws Exception {
+        server.respond("GET /schemas/versionsById/10", 403, "{}")
+              .respond(VERSION_REQUEST, 503, "{}");
+
+        RuntimeException forbidden = Assertions.assertThrows(RuntimeException.class,
+                () -> client.getSchemaVersionInfo(new SchemaIdVersion(10L)));
+        Assertions.assertTrue(forbidden.getCause() instanceof ForbiddenException);
+        RuntimeException unavailable = Assertions.assertThrows(RuntimeException.class,
+                () -> client.getSchemaVersionInfo(new SchemaVersionKey(SCHEMA_NAME, 1)));
+        Assertions.assertTrue(unavailable.getCause() instanceof ServiceUnavailableException);
+    }
+}
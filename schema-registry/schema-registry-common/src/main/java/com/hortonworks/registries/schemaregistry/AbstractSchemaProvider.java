@@ -15,6 +15,7 @@
  */
 package com.hortonworks.registries.schemaregistry;
 
+import com.hortonworks.registries.schemaregistry.cache.SchemaTextCache;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 
@@ -25,11 +26,15 @@ import java.util.Map;
  */
 public abstract class AbstractSchemaProvider implements SchemaProvider {
 
+    /** Maximum number of schema texts kept by a provider which is not given a shared cache. */
+    public static final int DEFAULT_SCHEMA_TEXT_CACHE_SIZE = 1000;
+
     protected Map<String, Object> config;
     private String defaultSerializerClassName;
     private String defaultDeserializerClassName;
     private SchemaVersionRetriever schemaVersionRetriever;
     private String hashFunction = "MD5";  // default value
+    private SchemaTextCache schemaTextCache = new SchemaTextCache(DEFAULT_SCHEMA_TEXT_CACHE_SIZE);
 
     @Override
     public void init(Map<String, Object> config) {
@@ -38,6 +43,10 @@ public abstract class AbstractSchemaProvider implements SchemaProvider {
         defaultSerializerClassName = (String) config.get("defaultSerializerClass");
         defaultDeserializerClassName = (String) config.get("defaultDeserializerClass");
         hashFunction = (String) config.getOrDefault(SchemaProvider.HASH_FUNCTION_CONFIG, "MD5");
+        SchemaTextCache sharedSchemaTextCache = (SchemaTextCache) config.get(SchemaProvider.SCHEMA_TEXT_CACHE_CONFIG);
+        if (sharedSchemaTextCache != null) {
+            schemaTextCache = sharedSchemaTextCache;
+        }
     }
 
     @Override
@@ -63,4 +72,11 @@ public abstract class AbstractSchemaProvider implements SchemaProvider {
         return hashFunction;
     }
 
+    /**
+     * @return cache of the parsed schemas and resolved texts, shared with the schema registry when it gives one
+     */
+    public SchemaTextCache getSchemaTextCache() {
+        return schemaTextCache;
+    }
+
 }
@@ -28,7 +28,9 @@ import com.hortonworks.registries.schemaregistry.state.SchemaVersionLifecycleSta
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -305,6 +307,26 @@ public interface ISchemaRegistryService {
      */
     SchemaVersionInfo getSchemaVersionInfo(SchemaIdVersion schemaIdVersion) throws SchemaNotFoundException;
 
+    /**
+     * Looks up several schema versions by their ids. The default implementation looks them up one by one with
+     * {@link #getSchemaVersionInfo(SchemaIdVersion)}, implementations may fetch them all at once.
+     *
+     * @param schemaVersionIds ids of the schema versions
+     *
+     * @return the schema versions with the given ids, the ids of versions which do not exist are left out
+     */
+    default Collection<SchemaVersionInfo> getSchemaVersionInfos(Collection<Long> schemaVersionIds) {
+        List<SchemaVersionInfo> schemaVersionInfos = new ArrayList<>(schemaVersionIds.size());
+        for (Long schemaVersionId : new LinkedHashSet<>(schemaVersionIds)) {
+            try {
+                schemaVersionInfos.add(getSchemaVersionInfo(new SchemaIdVersion(schemaVersionId)));
+            } catch (SchemaNotFoundException e) {
+                // versions which do not exist are not part of the result
+            }
+        }
+        return schemaVersionInfos;
+    }
+
     /**
      * @param schemaName name identifying a schema
      *
@@ -28,6 +28,8 @@ public interface SchemaProvider {
     String SCHEMA_VERSION_RETRIEVER_CONFIG = "schemaVersionRetriever";
     /** Which hashing algorithm should be used for generating the schema fingerprint. */
     String HASH_FUNCTION_CONFIG = "hashFunction";
+    /** {@link com.hortonworks.registries.schemaregistry.cache.SchemaTextCache} shared with the schema registry. */
+    String SCHEMA_TEXT_CACHE_CONFIG = "schemaTextCache";
 
     /**
      * Initializes with the given {@code config}.
@@ -85,6 +87,19 @@ public interface SchemaProvider {
      */
     byte[] getFingerprint(String schemaText) throws InvalidSchemaException, SchemaNotFoundException;
 
+    /**
+     * Returns whether the given {@code schemaText} may refer to other schemas. The fingerprint of a schema which does
+     * not refer to other schemas only depends on its text, so it can be kept by the registry instead of being computed
+     * again for the same text.
+     *
+     * @param schemaText schema text
+     *
+     * @return false only if the given {@code schemaText} does not refer to any other schema
+     */
+    default boolean dependsOnOtherSchemas(String schemaText) {
+        return true;
+    }
+
     /**
      * Returns all the fields in the given {@code schemaText} by traversing the whole schema including nested/complex types.
      *
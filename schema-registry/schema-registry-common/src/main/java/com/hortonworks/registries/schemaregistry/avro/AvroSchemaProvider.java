@@ -62,15 +62,15 @@ public class AvroSchemaProvider extends AbstractSchemaProvider {
                                                   SchemaCompatibility existingSchemaCompatibility) {
         return AvroSchemaValidator
                 .of(existingSchemaCompatibility)
-                .validate(new Schema.Parser().parse(toSchemaText),
-                          new Schema.Parser().parse(existingSchemaText));
+                .validate(parse(toSchemaText),
+                          parse(existingSchemaText));
     }
 
     @Override
     public byte[] getFingerprint(String schemaText) throws InvalidSchemaException, SchemaNotFoundException {
         try {
             // generates fingerprint of canonical form of the given schema.
-            Schema schema = new Schema.Parser().parse(getResultantSchema(schemaText));
+            Schema schema = parse(getResultantSchema(schemaText));
             return MessageDigest.getInstance(getHashFunction()).digest(normalize(schema).getBytes());
         } catch (IOException e) {
             throw new InvalidSchemaException("Given schema is invalid", e);
@@ -79,16 +79,25 @@ public class AvroSchemaProvider extends AbstractSchemaProvider {
         }
     }
 
+    @Override
+    public boolean dependsOnOtherSchemas(String schemaText) {
+        return schemaText.contains(AvroSchemaResolver.INCLUDE_SCHEMAS);
+    }
+
     @Override
     public String getResultantSchema(String schemaText) throws InvalidSchemaException, SchemaNotFoundException {
-        AvroSchemaResolver avroSchemaResolver = new AvroSchemaResolver(getSchemaVersionRetriever());
+        AvroSchemaResolver avroSchemaResolver = new AvroSchemaResolver(getSchemaVersionRetriever(), getSchemaTextCache());
         return avroSchemaResolver.resolveSchema(schemaText);
     }
 
     @Override
     public List<SchemaFieldInfo> generateFields(String schemaText) throws InvalidSchemaException, SchemaNotFoundException {
         AvroFieldsGenerator avroFieldsGenerator = new AvroFieldsGenerator();
-        return avroFieldsGenerator.generateFields(new Schema.Parser().parse(getResultantSchema(schemaText)));
+        return avroFieldsGenerator.generateFields(parse(getResultantSchema(schemaText)));
+    }
+
+    private Schema parse(String schemaText) {
+        return AvroSchemaResolver.parse(getSchemaTextCache(), schemaText);
     }
 
     public String normalize(Schema schema) throws IOException {
@@ -22,6 +22,7 @@ import com.hortonworks.registries.schemaregistry.SchemaResolver;
 import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
 import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
 import com.hortonworks.registries.schemaregistry.SchemaVersionRetriever;
+import com.hortonworks.registries.schemaregistry.cache.SchemaTextCache;
 import com.hortonworks.registries.schemaregistry.errors.CyclicSchemaDependencyException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
@@ -103,10 +104,30 @@ public class AvroSchemaResolver implements SchemaResolver {
         PARSING, PARSED
     }
 
+    static final String INCLUDE_SCHEMAS = "includeSchemas";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final SchemaVersionRetriever schemaVersionRetriever;
+    private final SchemaTextCache schemaTextCache;
 
     public AvroSchemaResolver(SchemaVersionRetriever schemaVersionRetriever) {
+        this(schemaVersionRetriever, new SchemaTextCache(0));
+    }
+
+    /**
+     * @param schemaTextCache cache of the parsed schemas and resolved texts, shared with the schema provider
+     */
+    public AvroSchemaResolver(SchemaVersionRetriever schemaVersionRetriever, SchemaTextCache schemaTextCache) {
         this.schemaVersionRetriever = schemaVersionRetriever;
+        this.schemaTextCache = schemaTextCache;
+    }
+
+    /**
+     * @return schema parsed from the given text without any other named types, it should not be modified
+     * @throws org.apache.avro.SchemaParseException if the text is not a valid schema
+     */
+    static Schema parse(SchemaTextCache schemaTextCache, String schemaText) {
+        return schemaTextCache.get(schemaText).parse(Schema.class, text -> new Schema.Parser().parse(text));
     }
 
     @Override
@@ -138,15 +159,35 @@ public class AvroSchemaResolver implements SchemaResolver {
 
     private String getResultantSchema(String schemaText, Map<String, SchemaParsingState> schemaParsingStates)
             throws InvalidSchemaException, SchemaNotFoundException {
-        Map<String, Schema> complexTypes = traverseIncludedSchemaTypes(schemaText, schemaParsingStates);
+        SchemaTextCache.SchemaText cachedSchemaText = schemaTextCache.get(schemaText);
+        String resultantSchema = cachedSchemaText.getResolvedText();
+        if (resultantSchema != null) {
+            return resultantSchema;
+        }
+
+        List<SchemaVersionKey> includedSchemaVersions = getIncludedSchemaVersions(schemaText);
+        Map<String, Schema> complexTypes = traverseIncludedSchemaTypes(includedSchemaVersions, schemaParsingStates);
 
-        Schema.Parser parser = new Schema.Parser();
-        parser.addTypes(complexTypes);
-        Schema schema = parser.parse(schemaText);
+        Schema schema;
+        if (complexTypes.isEmpty()) {
+            schema = parse(schemaTextCache, schemaText);
+        } else {
+            Schema.Parser parser = new Schema.Parser();
+            parser.addTypes(complexTypes);
+            schema = parser.parse(schemaText);
+        }
         Set<String> visitingTypes = new HashSet<>();
         Schema updatedSchema = handleUnionFieldsWithNull(schema, visitingTypes);
 
-        return (schema == updatedSchema && complexTypes.isEmpty()) ? schemaText : updatedSchema.toString();
+        if (complexTypes.isEmpty()) {
+            resultantSchema = schema == updatedSchema ? schemaText : updatedSchema.toString();
+            // the text does not depend on other schemas, so it always resolves to the same text
+            if (includedSchemaVersions.isEmpty()) {
+                cachedSchemaText.setResolvedText(resultantSchema);
+            }
+            return resultantSchema;
+        }
+        return updatedSchema.toString();
     }
 
     public Schema handleUnionFieldsWithNull(Schema schema, Set<String> visitingTypes) {
@@ -207,11 +248,9 @@ public class AvroSchemaResolver implements SchemaResolver {
         return updatedRootSchema;
     }
 
-    private Map<String, Schema> traverseIncludedSchemaTypes(String schemaText,
+    private Map<String, Schema> traverseIncludedSchemaTypes(List<SchemaVersionKey> includedSchemaVersions,
                                                             Map<String, SchemaParsingState> schemaParsingStates)
             throws InvalidSchemaException, SchemaNotFoundException {
-        List<SchemaVersionKey> includedSchemaVersions = getIncludedSchemaVersions(schemaText);
-
         if (includedSchemaVersions == null || includedSchemaVersions.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -245,8 +284,7 @@ public class AvroSchemaResolver implements SchemaResolver {
 
         // this schema is not yet parsed till now
         if (schemaParsingState == null) {
-            Schema.Parser parser = new Schema.Parser();
-            Schema schema = parser.parse(getResultantSchema(schemaVersionKey, schemaParsingStates));
+            Schema schema = parse(schemaTextCache, getResultantSchema(schemaVersionKey, schemaParsingStates));
             Map<String, Schema> complexTypes = new HashMap<>();
             collectComplexTypes(schema, complexTypes);
             schemaParsingStates.put(schemaName, SchemaParsingState.PARSED);
@@ -288,11 +326,11 @@ public class AvroSchemaResolver implements SchemaResolver {
     private List<SchemaVersionKey> getIncludedSchemaVersions(String schemaText) throws InvalidSchemaException {
         JsonNode jsonNode = null;
         try {
-            jsonNode = new ObjectMapper().readTree(schemaText);
+            jsonNode = OBJECT_MAPPER.readTree(schemaText);
         } catch (IOException e) {
             throw new InvalidSchemaException(e);
         }
-        JsonNode includeSchemaNodes = jsonNode.get("includeSchemas");
+        JsonNode includeSchemaNodes = jsonNode.get(INCLUDE_SCHEMAS);
         List<SchemaVersionKey> includedSchemaVersions = new ArrayList<>();
         if (includeSchemaNodes != null) {
             if (!includeSchemaNodes.isArray()) {
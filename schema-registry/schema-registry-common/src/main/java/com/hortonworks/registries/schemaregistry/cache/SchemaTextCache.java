@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.hortonworks.registries.schemaregistry.CompatibilityResult;
+import com.hortonworks.registries.schemaregistry.SchemaCompatibility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of what is derived from a raw schema text: the parsed schemas, the resolved text, the fingerprints
+ * and the results of the compatibility checks against other texts. The same text is parsed and fingerprinted several
+ * times while a schema version is registered, and every stored version is parsed again by each compatibility check.
+ * <p>
+ * The entries are keyed by the text itself, not by the fingerprint of the schema provider which is computed from a
+ * normalized form of the schema that leaves out e.g. the docs. Only what does not depend on other schemas may be
+ * kept in an entry, as the included schemas can get new versions.
+ */
+public class SchemaTextCache {
+
+    private final Cache<String, SchemaText> schemaTexts;
+
+    /**
+     * @param maximumSize maximum number of schema texts kept, nothing is cached if it is 0
+     */
+    public SchemaTextCache(long maximumSize) {
+        schemaTexts = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * @return cached entry of the given schema text, or a new one which is only kept if the cache is enabled
+     */
+    public SchemaText get(String schemaText) {
+        try {
+            return schemaTexts.get(schemaText, () -> new SchemaText(schemaText));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long size() {
+        return schemaTexts.size();
+    }
+
+    /**
+     * Values derived from one schema text. Parsed schemas are shared by all the callers, they should not be modified.
+     */
+    public static final class SchemaText {
+        private final String text;
+        private final ConcurrentMap<Class<?>, Object> parsedSchemas = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+        private final ConcurrentMap<CompatibilityKey, CompatibilityResult> compatibilityResults = new ConcurrentHashMap<>();
+        private volatile HashCode digest;
+        private volatile String resolvedText;
+
+        private SchemaText(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return SHA-256 digest of the text
+         */
+        public HashCode getDigest() {
+            if (digest == null) {
+                digest = Hashing.sha256().hashString(text, StandardCharsets.UTF_8);
+            }
+            return digest;
+        }
+
+        /**
+         * Parses the text once for each type of parsed schema. Parse errors are thrown to the caller and not cached.
+         */
+        public <S> S parse(Class<S> schemaClass, Function<String, S> parser) {
+            return schemaClass.cast(parsedSchemas.computeIfAbsent(schemaClass, key -> parser.apply(text)));
+        }
+
+        /**
+         * @return resolved text or {@code null} if it is not cached
+         */
+        public String getResolvedText() {
+            return resolvedText;
+        }
+
+        /**
+         * Caches the resolved text of a schema text which does not include any other schemas.
+         */
+        public void setResolvedText(String resolvedText) {
+            this.resolvedText = resolvedText;
+        }
+
+        /**
+         * @return fingerprint computed by the schema provider of the given type or {@code null} if it is not cached
+         */
+        public String getFingerprint(String type) {
+            return fingerprints.get(type);
+        }
+
+        /**
+         * Caches the fingerprint of a schema text which does not refer to any other schemas.
+         */
+        public void putFingerprint(String type, String fingerprint) {
+            fingerprints.put(type, fingerprint);
+        }
+
+        /**
+         * @return cached result of the check of this text against the existing one, or the result of the given check
+         * which is cached then. The result only depends on the type, the compatibility and the two texts.
+         */
+        public CompatibilityResult checkCompatibility(String type, SchemaCompatibility compatibility, SchemaText existingSchema,
+                                                      Supplier<CompatibilityResult> check) {
+            CompatibilityKey key = new CompatibilityKey(type, compatibility, existingSchema.getDigest());
+            CompatibilityResult result = compatibilityResults.get(key);
+            if (result == null) {
+                result = check.get();
+                compatibilityResults.put(key, result);
+            }
+            return result;
+        }
+    }
+
+    private static final class CompatibilityKey {
+        private final String type;
+        private final SchemaCompatibility compatibility;
+        private final HashCode existingSchemaDigest;
+
+        private CompatibilityKey(String type, SchemaCompatibility compatibility, HashCode existingSchemaDigest) {
+            this.type = type;
+            this.compatibility = compatibility;
+            this.existingSchemaDigest = existingSchemaDigest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CompatibilityKey key = (CompatibilityKey) o;
+            return Objects.equals(type, key.type) && compatibility == key.compatibility
+                    && existingSchemaDigest.equals(key.existingSchemaDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, compatibility, existingSchemaDigest);
+        }
+    }
+}
@@ -135,6 +135,17 @@ public class SchemaVersionInfoCache implements AbstractCache {
         return loadingCache.getIfPresent(key);
     }
 
+    /**
+     * Adds a version which was not loaded through this cache, e.g. one which was fetched together with other versions,
+     * under its id and under its name and version.
+     */
+    public void putSchema(SchemaVersionInfo schemaVersionInfo) {
+        LOG.debug("Put entry {} to cache", schemaVersionInfo);
+        updateCacheInvalidationEntries(schemaVersionInfo);
+        loadingCache.put(Key.of(new SchemaIdVersion(schemaVersionInfo.getId())), schemaVersionInfo);
+        loadingCache.put(Key.of(new SchemaVersionKey(schemaVersionInfo.getName(), schemaVersionInfo.getVersion())), schemaVersionInfo);
+    }
+
     public void invalidateSchema(SchemaVersionInfoCache.Key key) {
         LOG.debug("Invalidating cache entry for key [{}]", key);
         loadingCache.invalidate(key);
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.client;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs a lookup on the calling thread and wraps its outcome in a completed future, for the default asynchronous
+ * methods of {@link ISchemaRegistryClient}.
+ */
+final class CompletedFutures {
+
+    @FunctionalInterface
+    interface Lookup<T> {
+        T get() throws Exception;
+    }
+
+    private CompletedFutures() {
+    }
+
+    static <T> CompletableFuture<T> of(Lookup<T> lookup) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(lookup.get());
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
@@ -19,6 +19,8 @@ import com.hortonworks.registries.schemaregistry.AggregatedSchemaMetadataInfo;
 import com.hortonworks.registries.schemaregistry.ISchemaRegistryService;
 import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
 import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
 import com.hortonworks.registries.schemaregistry.SerDesInfo;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
@@ -29,6 +31,7 @@ import com.hortonworks.registries.schemaregistry.serde.SerDesException;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines different methods to interact with remote schema registry.
@@ -250,4 +253,52 @@ public interface ISchemaRegistryClient extends ISchemaRegistryService, AutoClose
         return Collections.emptyList();
     }
 
+    /**
+     * Asynchronous variant of {@link #getSchemaMetadataInfo(String)}. The default implementation looks it up on the
+     * calling thread and returns a completed future.
+     *
+     * @param schemaName name identifying a schema
+     *
+     * @return future of the schema metadata, it is completed with null if the schema does not exist
+     */
+    default CompletableFuture<SchemaMetadataInfo> getSchemaMetadataInfoAsync(String schemaName) {
+        return CompletedFutures.of(() -> getSchemaMetadataInfo(schemaName));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSchemaVersionInfo(SchemaIdVersion)}. The default implementation looks it up
+     * on the calling thread and returns a completed future.
+     *
+     * @param schemaIdVersion key identifying a schema and a version
+     *
+     * @return future of the schema version, it fails with {@link SchemaNotFoundException} if the version does not exist
+     */
+    default CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoAsync(SchemaIdVersion schemaIdVersion) {
+        return CompletedFutures.of(() -> getSchemaVersionInfo(schemaIdVersion));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSchemaVersionInfo(SchemaVersionKey)}. The default implementation looks it up
+     * on the calling thread and returns a completed future.
+     *
+     * @param schemaVersionKey key identifying a schema and a version
+     *
+     * @return future of the schema version, it fails with {@link SchemaNotFoundException} if the version does not exist
+     */
+    default CompletableFuture<SchemaVersionInfo> getSchemaVersionInfoAsync(SchemaVersionKey schemaVersionKey) {
+        return CompletedFutures.of(() -> getSchemaVersionInfo(schemaVersionKey));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getLatestSchemaVersionInfo(String)}. The default implementation looks it up on
+     * the calling thread and returns a completed future.
+     *
+     * @param schemaName name identifying a schema
+     *
+     * @return future of the latest version, it fails with {@link SchemaNotFoundException} if the schema does not exist
+     */
+    default CompletableFuture<SchemaVersionInfo> getLatestSchemaVersionInfoAsync(String schemaName) {
+        return CompletedFutures.of(() -> getLatestSchemaVersionInfo(schemaName));
+    }
+
 }
\ No newline at end of file
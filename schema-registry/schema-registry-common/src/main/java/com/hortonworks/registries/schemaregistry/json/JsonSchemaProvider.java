@@ -65,6 +65,11 @@ public class JsonSchemaProvider extends AbstractSchemaProvider {
         }
     }
 
+    @Override
+    public boolean dependsOnOtherSchemas(String schemaText) {
+        return schemaText.contains("$ref");
+    }
+
     @Override
     public List<SchemaFieldInfo> generateFields(String schemaText) throws InvalidSchemaException {
         try {
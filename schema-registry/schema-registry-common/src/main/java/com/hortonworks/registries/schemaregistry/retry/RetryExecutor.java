@@ -23,6 +23,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  *   RetryExecutor encapsulates the necessary context to attempt retry on an instance of
@@ -73,6 +79,59 @@ public class RetryExecutor {
         throw exception;
     }
 
+    /**
+     * Asynchronous variant of {@link #execute(RetryableBlock)}. No thread is blocked between the attempts, the next
+     * attempt is scheduled with the given scheduler once the sleep time of the backoff policy has passed.
+     *
+     * @param attempt starts an attempt and returns its result
+     * @param scheduler runs the attempts after the first one
+     * @return result of the first successful attempt, or the exception of the last attempt
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> attempt, ScheduledExecutorService scheduler) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executeAsync(attempt, scheduler, result, 1, System.currentTimeMillis());
+        return result;
+    }
+
+    private <T> void executeAsync(Supplier<CompletableFuture<T>> attempt,
+                                  ScheduledExecutorService scheduler,
+                                  CompletableFuture<T> result,
+                                  int attemptNumber,
+                                  long startTime) {
+        LOG.debug("Executing the retryable block asynchronously with attempt number : {} and elapsed time : {} ms",
+                attemptNumber, (System.currentTimeMillis() - startTime));
+        CompletableFuture<T> attemptResult;
+        try {
+            attemptResult = attempt.get();
+        } catch (RuntimeException e) {
+            attemptResult = new CompletableFuture<>();
+            attemptResult.completeExceptionally(e);
+        }
+
+        attemptResult.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable exception = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            long timeElapsed = System.currentTimeMillis() - startTime;
+            long sleepTime = exceptionClass.isInstance(exception)
+                    ? backoffPolicy.sleepTimeBeforeNextAttempt(attemptNumber, timeElapsed) : -1;
+            if (sleepTime < 0) {
+                LOG.debug("Giving up on executing the retryable block after attempt number : {} and elapsed time : {} ms",
+                        attemptNumber, timeElapsed);
+                result.completeExceptionally(exception);
+                return;
+            }
+            try {
+                scheduler.schedule(() -> executeAsync(attempt, scheduler, result, attemptNumber + 1, startTime),
+                        sleepTime, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(exception);
+            }
+        });
+    }
+
     public static class Builder {
 
         private BackoffPolicy policy = new NOOPBackoffPolicy();
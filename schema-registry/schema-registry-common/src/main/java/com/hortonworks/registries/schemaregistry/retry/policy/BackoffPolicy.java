@@ -41,19 +41,31 @@ public abstract class BackoffPolicy {
     public abstract void init(Map<String, Object> properties);
 
     public boolean mayBeSleep(int attemptNumber, long timeElapsed) {
-        if (attemptNumber >= maxAttempts) {
+        long sleepTime = sleepTimeBeforeNextAttempt(attemptNumber, timeElapsed);
+        if (sleepTime < 0) {
             return false;
         }
 
+        sleep(sleepTime);
+
+        return true;
+    }
+
+    /**
+     * @return time to wait before the attempt after the given one, or -1 if no more attempts should be made
+     */
+    public long sleepTimeBeforeNextAttempt(int attemptNumber, long timeElapsed) {
+        if (attemptNumber >= maxAttempts) {
+            return -1;
+        }
+
         long sleepTime = sleepTime(attemptNumber, timeElapsed);
 
         if (sleepTime + timeElapsed > this.timeoutMs) {
-            return false;
+            return -1;
         }
 
-        sleep(sleepTime);
-
-        return true;
+        return sleepTime;
     }
 
     abstract long sleepTime(int iteration, long timeElapsed);
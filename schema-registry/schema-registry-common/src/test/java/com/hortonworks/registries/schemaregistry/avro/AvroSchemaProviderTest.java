@@ -14,12 +14,25 @@
  **/
 package com.hortonworks.registries.schemaregistry.avro;
 
+import com.hortonworks.registries.schemaregistry.SchemaCompatibility;
+import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
 import com.hortonworks.registries.schemaregistry.SchemaProvider;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import com.hortonworks.registries.schemaregistry.SchemaVersionRetriever;
+import com.hortonworks.registries.schemaregistry.cache.SchemaTextCache;
+import org.apache.avro.Schema;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AvroSchemaProviderTest {
 
@@ -42,6 +55,78 @@ public class AvroSchemaProviderTest {
         assertEquals("e1e17a3aef8c728c131204bbf49046b2", withNullDefaultsFingerprintHex);
     }
 
+    @Test
+    public void testCachedSchemaGivesSameFingerprint() throws Exception {
+        AvroSchemaProvider avroSchemaProvider = new AvroSchemaProvider();
+        avroSchemaProvider.init(Collections.singletonMap(SchemaProvider.HASH_FUNCTION_CONFIG, "MD5"));
+
+        avroSchemaProvider.generateFields(schemaWithNullDefaults);
+        avroSchemaProvider.checkCompatibility(schemaWithNullDefaults, schemaWithNullDefaults, SchemaCompatibility.BACKWARD);
+        String withNullDefaultsFingerprintHex = bytesToHex(avroSchemaProvider.getFingerprint(schemaWithNullDefaults));
+
+        assertEquals("e1e17a3aef8c728c131204bbf49046b2", withNullDefaultsFingerprintHex);
+    }
+
+    @Test
+    public void testSchemaIsParsedOnce() {
+        SchemaTextCache schemaTextCache = new SchemaTextCache(10);
+        SchemaTextCache disabledSchemaTextCache = new SchemaTextCache(0);
+
+        Schema schema = AvroSchemaResolver.parse(schemaTextCache, schemaWithNullDefaults);
+
+        assertSame(schema, AvroSchemaResolver.parse(schemaTextCache, schemaWithNullDefaults));
+        assertEquals(schema, AvroSchemaResolver.parse(disabledSchemaTextCache, schemaWithNullDefaults));
+        assertNotSame(AvroSchemaResolver.parse(disabledSchemaTextCache, schemaWithNullDefaults),
+                AvroSchemaResolver.parse(disabledSchemaTextCache, schemaWithNullDefaults));
+    }
+
+    @Test
+    public void testSharedSchemaTextCacheIsUsed() throws Exception {
+        SchemaTextCache schemaTextCache = new SchemaTextCache(10);
+        AvroSchemaProvider avroSchemaProvider = new AvroSchemaProvider();
+        avroSchemaProvider.init(Collections.singletonMap(SchemaProvider.SCHEMA_TEXT_CACHE_CONFIG, schemaTextCache));
+
+        avroSchemaProvider.generateFields(schemaWithNullDefaults);
+
+        assertSame(schemaTextCache, avroSchemaProvider.getSchemaTextCache());
+        assertTrue(schemaTextCache.size() > 0);
+    }
+
+    @Test
+    public void testIncludedLatestVersionIsResolvedAgain() throws Exception {
+        AtomicReference<String> latestUtilsSchema = new AtomicReference<>(utilsSchema("value"));
+        SchemaVersionRetriever schemaVersionRetriever = new SchemaVersionRetriever() {
+            @Override
+            public SchemaVersionInfo retrieveSchemaVersion(SchemaVersionKey key) {
+                return new SchemaVersionInfo(1L, key.getSchemaName(), 1, latestUtilsSchema.get(), 0L, null);
+            }
+
+            @Override
+            public SchemaVersionInfo retrieveSchemaVersion(SchemaIdVersion key) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Map<String, Object> config = new HashMap<>();
+        config.put(SchemaProvider.SCHEMA_VERSION_RETRIEVER_CONFIG, schemaVersionRetriever);
+        AvroSchemaProvider avroSchemaProvider = new AvroSchemaProvider();
+        avroSchemaProvider.init(config);
+        String accountSchema = "{\"name\": \"account\", \"namespace\": \"com.hortonworks.types\", " +
+                "\"includeSchemas\": [{\"name\": \"utils\"}], \"type\": \"record\", " +
+                "\"fields\": [{\"name\": \"id\", \"type\": \"com.hortonworks.datatypes.uuid\"}]}";
+
+        String resolvedSchema = avroSchemaProvider.getResultantSchema(accountSchema);
+        latestUtilsSchema.set(utilsSchema("label"));
+        String resolvedSchemaOfNewVersion = avroSchemaProvider.getResultantSchema(accountSchema);
+
+        assertTrue(resolvedSchema.contains("\"value\""));
+        assertTrue(resolvedSchemaOfNewVersion.contains("\"label\""));
+    }
+
+    private static String utilsSchema(String fieldName) {
+        return "{\"name\": \"uuid\", \"type\": \"record\", \"namespace\": \"com.hortonworks.datatypes\", " +
+                "\"fields\": [{\"name\": \"" + fieldName + "\", \"type\": \"string\"}]}";
+    }
+
     private static String bytesToHex(byte[] hash) {
         StringBuilder hexString = new StringBuilder();
         for (byte b : hash) {
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.hortonworks.registries.schemaregistry.CompatibilityResult;
+import com.hortonworks.registries.schemaregistry.SchemaCompatibility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaTextCacheTest {
+
+    private static final String TYPE = "avro";
+    private static final String NEW_SCHEMA = "{\"type\":\"record\",\"name\":\"r\",\"fields\":[]}";
+    private static final String OLD_SCHEMA = "{\"type\":\"record\",\"name\":\"r\",\"fields\":[{\"name\":\"f\",\"type\":\"int\"}]}";
+
+    private SchemaTextCache underTest;
+    private AtomicInteger checks;
+    private AtomicInteger parses;
+
+    @BeforeEach
+    public void setup() {
+        underTest = new SchemaTextCache(100);
+        checks = new AtomicInteger();
+        parses = new AtomicInteger();
+    }
+
+    @Test
+    public void testSameTextIsParsedOnce() {
+        Object first = underTest.get(NEW_SCHEMA).parse(Object.class, this::parse);
+        Object second = underTest.get(NEW_SCHEMA).parse(Object.class, this::parse);
+
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+        assertEquals(1, underTest.size());
+    }
+
+    @Test
+    public void testFailedParsesAreNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.get(NEW_SCHEMA).parse(Object.class, text -> {
+            throw new IllegalArgumentException("invalid schema");
+        }));
+
+        underTest.get(NEW_SCHEMA).parse(Object.class, this::parse);
+
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    public void testFingerprintsAreKeptByType() {
+        underTest.get(NEW_SCHEMA).putFingerprint(TYPE, "fingerprint");
+
+        assertEquals("fingerprint", underTest.get(NEW_SCHEMA).getFingerprint(TYPE));
+        assertNull(underTest.get(NEW_SCHEMA).getFingerprint("json"));
+        assertNull(underTest.get(OLD_SCHEMA).getFingerprint(TYPE));
+    }
+
+    @Test
+    public void testSameSchemasAreCheckedOnce() {
+        CompatibilityResult first = check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+        CompatibilityResult second = check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+
+        assertSame(first, second);
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    public void testDifferentInputsAreCheckedAgain() {
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+        check(TYPE, SchemaCompatibility.FORWARD, NEW_SCHEMA, OLD_SCHEMA);
+        check(TYPE, SchemaCompatibility.BACKWARD, OLD_SCHEMA, NEW_SCHEMA);
+        check("json", SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+        // whitespace is kept in the result, so the texts are not normalized
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA + " ", OLD_SCHEMA);
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA + " ");
+
+        assertEquals(6, checks.get());
+    }
+
+    @Test
+    public void testFailedChecksAreNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> underTest.get(NEW_SCHEMA).checkCompatibility(TYPE,
+                SchemaCompatibility.BACKWARD, underTest.get(OLD_SCHEMA), () -> {
+                    throw new IllegalArgumentException("invalid schema");
+                }));
+
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        underTest = new SchemaTextCache(0);
+
+        Object first = underTest.get(NEW_SCHEMA).parse(Object.class, this::parse);
+        Object second = underTest.get(NEW_SCHEMA).parse(Object.class, this::parse);
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+        check(TYPE, SchemaCompatibility.BACKWARD, NEW_SCHEMA, OLD_SCHEMA);
+
+        assertNotSame(first, second);
+        assertEquals(2, parses.get());
+        assertEquals(2, checks.get());
+        assertEquals(0, underTest.size());
+    }
+
+    private CompatibilityResult check(String type, SchemaCompatibility compatibility, String toSchema, String existingSchema) {
+        return underTest.get(toSchema).checkCompatibility(type, compatibility, underTest.get(existingSchema), () -> {
+            checks.incrementAndGet();
+            return CompatibilityResult.createIncompatibleResult("missing field f", "/fields", toSchema);
+        });
+    }
+
+    private Object parse(String schemaText) {
+        parses.incrementAndGet();
+        return new Object();
+    }
+}
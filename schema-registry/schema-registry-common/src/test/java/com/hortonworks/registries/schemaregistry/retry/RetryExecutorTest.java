@@ -25,6 +25,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -81,6 +86,72 @@ public class RetryExecutorTest {
         }));
     }
 
+    @ParameterizedTest
+    @MethodSource("profiles")
+    public void testAsyncRetries(RetryPolicyType profile) throws Exception {
+        beforeParam(profile);
+        AtomicInteger attempt = new AtomicInteger(0);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            CompletableFuture<Integer> result = createRetryExecutor(100, 3, 100000).executeAsync(() -> {
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                if (attempt.incrementAndGet() < 2) {
+                    future.completeExceptionally(new RuntimeException());
+                } else {
+                    future.complete(attempt.get());
+                }
+                return future;
+            }, scheduler);
+
+            Assertions.assertEquals(2, result.get(10, TimeUnit.SECONDS).intValue());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("profiles")
+    public void testAsyncExceptionOnExceedingMaxAttempts(RetryPolicyType profile) throws Exception {
+        beforeParam(profile);
+        AtomicInteger attempt = new AtomicInteger(0);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            CompletableFuture<Object> result = createRetryExecutor(100, 2, 60_000).executeAsync(() -> {
+                attempt.incrementAndGet();
+                throw new RuntimeException();
+            }, scheduler);
+
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(RuntimeException.class, exception.getCause().getClass());
+            Assertions.assertEquals(2, attempt.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("profiles")
+    public void testAsyncRetriesSubclassesOfRetriedException(RetryPolicyType profile) throws Exception {
+        beforeParam(profile);
+        AtomicInteger attempt = new AtomicInteger(0);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            CompletableFuture<Integer> result = createRetryExecutor(100, 3, 100000).executeAsync(() -> {
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                if (attempt.incrementAndGet() < 2) {
+                    future.completeExceptionally(new IllegalStateException());
+                } else {
+                    future.complete(attempt.get());
+                }
+                return future;
+            }, scheduler);
+
+            Assertions.assertEquals(2, result.get(10, TimeUnit.SECONDS).intValue());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
     private RetryExecutor createRetryExecutor(long sleepTimeMs, int maxAttempts, long timeoutMs) {
         BackoffPolicy backoffPolicy;
         Map<String, Object> props = new HashMap<>();
@@ -26,12 +26,28 @@ import com.hortonworks.registries.schemaregistry.SchemaValidationLevel;
  */
 public class CompatibilityConfig {
 
+    public static final int DEFAULT_SCHEMA_TEXT_CACHE_SIZE = 10000;
+    public static final int DEFAULT_CHECK_THREADS = 4;
+    public static final int DEFAULT_CHECK_QUEUE_SIZE = 1000;
+
     @JsonProperty
     private String avroCompatibility = SchemaCompatibility.DEFAULT_COMPATIBILITY.name();
     @JsonProperty
     private String jsonCompatibility = SchemaCompatibility.NONE.name();
     @JsonProperty
     private String validationLevel = SchemaValidationLevel.DEFAULT_VALIDATION_LEVEL.name();
+    /**
+     * Number of schema texts kept in memory with their parsed schemas, fingerprints and compatibility check results,
+     * 0 disables the cache.
+     */
+    @JsonProperty
+    private int schemaTextCacheSize = DEFAULT_SCHEMA_TEXT_CACHE_SIZE;
+    /** Number of threads checking a schema against the versions of a schema in parallel, 0 checks them on the request thread. */
+    @JsonProperty
+    private int checkThreads = DEFAULT_CHECK_THREADS;
+    /** Number of checks waiting for a thread, the request thread runs the checks which do not fit. */
+    @JsonProperty
+    private int checkQueueSize = DEFAULT_CHECK_QUEUE_SIZE;
 
     public CompatibilityConfig() { }
 
@@ -58,4 +74,28 @@ public class CompatibilityConfig {
     public void setValidationLevel(String validationLevel) {
         this.validationLevel = validationLevel;
     }
+
+    public int getSchemaTextCacheSize() {
+        return schemaTextCacheSize;
+    }
+
+    public void setSchemaTextCacheSize(int schemaTextCacheSize) {
+        this.schemaTextCacheSize = schemaTextCacheSize;
+    }
+
+    public int getCheckThreads() {
+        return checkThreads;
+    }
+
+    public void setCheckThreads(int checkThreads) {
+        this.checkThreads = checkThreads;
+    }
+
+    public int getCheckQueueSize() {
+        return checkQueueSize;
+    }
+
+    public void setCheckQueueSize(int checkQueueSize) {
+        this.checkQueueSize = checkQueueSize;
+    }
 }
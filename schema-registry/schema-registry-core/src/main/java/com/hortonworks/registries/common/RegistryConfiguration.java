@@ -59,6 +59,9 @@ public class RegistryConfiguration extends Configuration {
     @JsonProperty
     private CompatibilityConfig compatibility = new CompatibilityConfig();
 
+    @JsonProperty
+    private ServerCacheConfig serverCache = new ServerCacheConfig();
+
     private String httpProxyUrl;
     private String httpProxyUsername;
     private String httpProxyPassword;
@@ -179,6 +182,14 @@ public class RegistryConfiguration extends Configuration {
         this.compatibility = compatibility;
     }
 
+    public ServerCacheConfig getServerCache() {
+        return serverCache;
+    }
+
+    public void setServerCache(ServerCacheConfig serverCache) {
+        this.serverCache = serverCache;
+    }
+
     public String getFileServiceImplementation() {
         return fileServiceImplementation;
     }
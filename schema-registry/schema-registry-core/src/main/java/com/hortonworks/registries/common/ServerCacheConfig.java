@@ -0,0 +1,83 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Settings of the server side cache which keeps schema metadata and schema versions
+ * in memory so that repeated lookups do not have to hit the database.
+ */
+public class ServerCacheConfig {
+
+    public static final int DEFAULT_SIZE = 10000;
+    public static final long DEFAULT_EXPIRY_IN_SECS = 300L;
+    public static final long DEFAULT_CHANGE_LOG_POLL_INTERVAL_MS = 1000L;
+    public static final long DEFAULT_CHANGE_LOG_RETENTION_IN_SECS = 3600L;
+
+    @JsonProperty
+    private boolean enabled = true;
+    @JsonProperty
+    private int size = DEFAULT_SIZE;
+    @JsonProperty
+    private long expiryInSecs = DEFAULT_EXPIRY_IN_SECS;
+    @JsonProperty
+    private long changeLogPollIntervalMs = DEFAULT_CHANGE_LOG_POLL_INTERVAL_MS;
+    @JsonProperty
+    private long changeLogRetentionInSecs = DEFAULT_CHANGE_LOG_RETENTION_IN_SECS;
+
+    public ServerCacheConfig() { }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getExpiryInSecs() {
+        return expiryInSecs;
+    }
+
+    public void setExpiryInSecs(long expiryInSecs) {
+        this.expiryInSecs = expiryInSecs;
+    }
+
+    public long getChangeLogPollIntervalMs() {
+        return changeLogPollIntervalMs;
+    }
+
+    public void setChangeLogPollIntervalMs(long changeLogPollIntervalMs) {
+        this.changeLogPollIntervalMs = changeLogPollIntervalMs;
+    }
+
+    public long getChangeLogRetentionInSecs() {
+        return changeLogRetentionInSecs;
+    }
+
+    public void setChangeLogRetentionInSecs(long changeLogRetentionInSecs) {
+        this.changeLogRetentionInSecs = changeLogRetentionInSecs;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.schemaregistry;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the compatibility checks of a schema against several schema versions on a bounded thread pool, so that a
+ * schema with a long history is not checked against each version one after the other while the schema is locked.
+ * <p>
+ * The checks which do not fit in the queue of the pool are run by the calling thread. The reported incompatibility
+ * is always the first one in the order of the checked versions, as it is when they are checked sequentially.
+ * The pool is shut down when the executor is closed with the registry.
+ */
+public class CompatibilityCheckExecutor implements AutoCloseable {
+
+    private final ExecutorService threadPool;
+
+    /**
+     * @param threads   number of threads of the pool, the checks are run on the calling thread if it is 0
+     * @param queueSize number of checks waiting for a thread
+     */
+    public CompatibilityCheckExecutor(int threads, int queueSize) {
+        if (threads > 0) {
+            threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(queueSize, 1)),
+                    new ThreadFactoryBuilder().setDaemon(true)
+                            .setNameFormat("compatibility-check-%d")
+                            .build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        } else {
+            threadPool = null;
+        }
+    }
+
+    /**
+     * Checks all the given versions until one of them is found to be incompatible. The checks of the versions after
+     * an incompatible one are cancelled.
+     *
+     * @return the first incompatible version with its result, the last version with its result if all the versions
+     * are compatible or {@code null} if there are no versions
+     */
+    public <T> Pair<T, CompatibilityResult> check(List<T> versions, Function<T, CompatibilityResult> check) {
+        Pair<T, CompatibilityResult> last = null;
+        if (threadPool == null || versions.size() < 2) {
+            for (T version : versions) {
+                last = Pair.of(version, check.apply(version));
+                if (!last.getRight().isCompatible()) {
+                    return last;
+                }
+            }
+            return last;
+        }
+
+        List<Future<CompatibilityResult>> results = new ArrayList<>(versions.size());
+        // index of the first incompatible version found so far, the versions after it are not checked anymore
+        AtomicInteger firstIncompatible = new AtomicInteger(Integer.MAX_VALUE);
+        try {
+            for (int i = 0; i < versions.size(); i++) {
+                int index = i;
+                T version = versions.get(i);
+                results.add(threadPool.submit(() -> {
+                    if (index > firstIncompatible.get()) {
+                        return null;
+                    }
+                    CompatibilityResult result = check.apply(version);
+                    if (!result.isCompatible()) {
+                        firstIncompatible.accumulateAndGet(index, Math::min);
+                    }
+                    return result;
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                last = Pair.of(versions.get(i), results.get(i).get());
+                if (!last.getRight().isCompatible()) {
+                    return last;
+                }
+            }
+            return last;
+        } catch (ExecutionException e) {
+            // the schema providers report invalid schemas with runtime exceptions, those are thrown as they are
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking the compatibility of the schema", e);
+        } finally {
+            for (Future<CompatibilityResult> result : results) {
+                result.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (threadPool == null) {
+            return;
+        }
+        threadPool.shutdown();
+        try {
+            threadPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,7 +19,11 @@ import com.google.common.collect.ImmutableList;
 import com.hortonworks.registries.common.CompatibilityConfig;
 import com.hortonworks.registries.common.QueryParam;
 import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.common.util.FileStorage;
+import com.hortonworks.registries.schemaregistry.cache.RegistryChangeLog;
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
+import com.hortonworks.registries.schemaregistry.cache.SchemaTextCache;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaBranchDeletionException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
@@ -46,9 +50,14 @@ import com.hortonworks.registries.storage.StorableKey;
 import com.hortonworks.registries.storage.StorageManager;
 import com.hortonworks.registries.storage.catalog.AbstractStorable;
 import com.hortonworks.registries.storage.impl.jdbc.sequences.NamespaceSequenceStorable;
+import com.hortonworks.registries.storage.search.KeysetCursor;
 import com.hortonworks.registries.storage.search.OrderBy;
+import com.hortonworks.registries.storage.search.Page;
 import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.SubQuery;
 import com.hortonworks.registries.storage.search.WhereClause;
+import com.hortonworks.registries.storage.search.WhereClauseCombiner;
+import com.hortonworks.registries.storage.util.StorageUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -65,10 +74,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -82,7 +92,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 /**
  * Default implementation for schema registry.
  */
-public class DefaultSchemaRegistry implements ISchemaRegistry {
+public class DefaultSchemaRegistry implements ISchemaRegistry, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultSchemaRegistry.class);
 
     public static final String ORDER_BY_FIELDS_PARAM_NAME = "_orderByFields";
@@ -97,15 +107,30 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
     private final SchemaLockManager schemaLockManager;
     private final CompatibilityConfig compatibilityConfig;
     private final BulkUploadService bulkUploadService;
+    private final SchemaRegistryServerCache serverCache;
+    private final RegistryChangeLog changeLog;
 
-    @Inject
     public DefaultSchemaRegistry(RegistryConfiguration configuration,
                                  StorageManager storageManager,
                                  FileStorage fileStorage,
                                  Collection<Map<String, Object>> schemaProvidersConfig,
                                  SchemaLockManager schemaLockManager,
                                  CompatibilityConfig compatibilityConfig) {
+        this(configuration, storageManager, fileStorage, schemaProvidersConfig, schemaLockManager, compatibilityConfig,
+                new SchemaRegistryServerCache(configuration.getServerCache()));
+    }
+
+    @Inject
+    public DefaultSchemaRegistry(RegistryConfiguration configuration,
+                                 StorageManager storageManager,
+                                 FileStorage fileStorage,
+                                 Collection<Map<String, Object>> schemaProvidersConfig,
+                                 SchemaLockManager schemaLockManager,
+                                 CompatibilityConfig compatibilityConfig,
+                                 SchemaRegistryServerCache serverCache) {
         this.storageManager = storageManager;
+        this.serverCache = serverCache;
+        this.changeLog = new RegistryChangeLog(storageManager, serverCache);
         this.fileStorage = fileStorage;
         this.schemaLockManager = schemaLockManager;
         this.compatibilityConfig = compatibilityConfig;
@@ -123,14 +148,16 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
                         SchemaBranchStorable.class,
                         SchemaBranchVersionMapping.class,
                         SchemaLockStorable.class,
-                        AtlasEventStorable.class
+                        AtlasEventStorable.class,
+                        RegistryChangeLogStorable.class
                 ));
 
         SchemaMetadataFetcher schemaMetadataFetcher = createSchemaMetadataFetcher();
         this.schemaVersionLifecycleManager = new DefaultSchemaVersionLifecycleManager(storageManager,
-                configuration, schemaMetadataFetcher, this::getSchemaBranch, this::getSchemaBranch);
+                configuration, schemaMetadataFetcher, this::getSchemaBranch, this::getSchemaBranch, serverCache, changeLog);
 
-        Collection<SchemaProvider> schemaProviders = initSchemaProviders(schemaProvidersConfig, schemaVersionLifecycleManager.getSchemaVersionRetriever());
+        Collection<SchemaProvider> schemaProviders = initSchemaProviders(schemaProvidersConfig, schemaVersionLifecycleManager.getSchemaVersionRetriever(),
+                schemaVersionLifecycleManager.getSchemaTextCache());
 
         this.schemaTypeWithProviders = schemaProviders.stream().collect(Collectors.toMap(SchemaProvider::getType, Function.identity()));
 
@@ -142,6 +169,11 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
                         .collect(Collectors.toList()));
     }
 
+    @Override
+    public void close() {
+        schemaVersionLifecycleManager.close();
+    }
+
     private SchemaMetadataFetcher createSchemaMetadataFetcher() {
         return new SchemaMetadataFetcher() {
 
@@ -173,7 +205,8 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
     }
 
     private Collection<SchemaProvider> initSchemaProviders(final Collection<Map<String, Object>> schemaProvidersConfig,
-                                                                     final SchemaVersionRetriever schemaVersionRetriever) {
+                                                                     final SchemaVersionRetriever schemaVersionRetriever,
+                                                                     final SchemaTextCache schemaTextCache) {
         if (schemaProvidersConfig == null || schemaProvidersConfig.isEmpty()) {
             throw new IllegalArgumentException("No [" + SCHEMA_PROVIDERS + "] property is configured in schema registry configuration file.");
         }
@@ -189,6 +222,7 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
                 SchemaProvider schemaProvider = (SchemaProvider) Class.forName(className, true, Thread.currentThread().getContextClassLoader()).newInstance();
                 HashMap<String, Object> config = new HashMap<>(schemaProviderConfig);
                 config.put(SchemaProvider.SCHEMA_VERSION_RETRIEVER_CONFIG, schemaVersionRetriever);
+                config.put(SchemaProvider.SCHEMA_TEXT_CACHE_CONFIG, schemaTextCache);
                 schemaProvider.init(Collections.unmodifiableMap(config));
 
                 result.add(schemaProvider);
@@ -282,12 +316,17 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
         givenSchemaMetadataStorable.setId(nextId);
         givenSchemaMetadataStorable.setTimestamp(System.currentTimeMillis());
         storageManager.add(givenSchemaMetadataStorable);
+        changeLog.schemaMetadataChanged(givenSchemaMetadataStorable.getName());
 
         return Pair.of(givenSchemaMetadataStorable, true);
     }
 
     @Override
     public SchemaMetadataInfo getSchemaMetadataInfo(Long schemaMetadataId) {
+        return serverCache.getSchemaMetadataInfo(schemaMetadataId, () -> fetchSchemaMetadataInfo(schemaMetadataId));
+    }
+
+    private SchemaMetadataInfo fetchSchemaMetadataInfo(Long schemaMetadataId) {
         SchemaMetadataStorable givenSchemaMetadataStorable = new SchemaMetadataStorable();
         givenSchemaMetadataStorable.setId(schemaMetadataId);
 
@@ -308,29 +347,20 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
     @Override
     public void deleteSchema(String schemaName) throws SchemaNotFoundException {
         Collection<SchemaVersionInfo> schemaVersionInfos = getAllVersions(schemaName);
-        Long schemaMetadataId = null;
         // Remove all the schema version state entities for this schema name, invalidate relevant caches and notify all HA servers
-        if (schemaVersionInfos != null) {
-            for (SchemaVersionInfo schemaVersionInfo: schemaVersionInfos) {
-                schemaMetadataId = schemaVersionInfo.getSchemaMetadataId();
-                List<QueryParam> queryParams = new ArrayList<>();
-                queryParams.add(new QueryParam(SchemaVersionStateStorable.SCHEMA_VERSION_ID, schemaVersionInfo.getId().toString()));
-                Collection<SchemaVersionStateStorable> schemaVersionStateStorables = storageManager.find(SchemaVersionStateStorable.NAME_SPACE, queryParams);
-                if (schemaVersionStateStorables != null) {
-                    for (SchemaVersionStateStorable schemaVersionStateStorable : schemaVersionStateStorables) {
-                        storageManager.remove(schemaVersionStateStorable.getStorableKey());
-                    }
-                }
-            }
+        if (schemaVersionInfos != null && !schemaVersionInfos.isEmpty()) {
+            List<Long> schemaVersionIds = schemaVersionInfos.stream().map(SchemaVersionInfo::getId).collect(Collectors.toList());
+            SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStateStorable.NAME_SPACE)
+                    .where(WhereClause.begin().in(SchemaVersionStateStorable.SCHEMA_VERSION_ID, schemaVersionIds).combine());
+            Collection<SchemaVersionStateStorable> schemaVersionStateStorables = storageManager.search(searchQuery);
+            storageManager.removeAll(getStorableKeys(schemaVersionStateStorables));
         }
         // Remove all serdes mappings for this schema name
         SchemaMetadataInfo schemaMetadataInfo = checkNotNull(getSchemaMetadataInfo(schemaName),
                 "Could not find schema meta \"%s\"", schemaName);
         Collection<SchemaSerDesMapping> schemaSerDesMappings = getSchemaSerDesMappings(schemaMetadataInfo.getId());
         if (schemaSerDesMappings != null) {
-            for (SchemaSerDesMapping schemaSerDesMapping: schemaSerDesMappings) {
-                storageManager.remove(schemaSerDesMapping.getStorableKey());
-            }
+            storageManager.removeAll(getStorableKeys(schemaSerDesMappings));
         }
         // Finally remove the schema metadata entry that will remove other related entries on cascade at DB level
         SchemaMetadataStorable schemaMetadataStorable = new SchemaMetadataStorable();
@@ -339,10 +369,20 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
 
         SchemaLockStorable schemaLockStorable = new SchemaLockStorable(SchemaMetadataStorable.NAME_SPACE, schemaName);
         storageManager.remove(schemaLockStorable.getStorableKey());
+
+        changeLog.schemaDeleted(schemaName);
+    }
+
+    private List<StorableKey> getStorableKeys(Collection<? extends Storable> storables) {
+        return storables.stream().map(Storable::getStorableKey).collect(Collectors.toList());
     }
 
     @Override
     public SchemaMetadataInfo getSchemaMetadataInfo(String schemaName) {
+        return serverCache.getSchemaMetadataInfo(schemaName, () -> fetchSchemaMetadataInfo(schemaName));
+    }
+
+    private SchemaMetadataInfo fetchSchemaMetadataInfo(String schemaName) {
         SchemaMetadataStorable givenSchemaMetadataStorable = new SchemaMetadataStorable();
         givenSchemaMetadataStorable.setName(schemaName);
 
@@ -354,16 +394,23 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
     public Collection<AggregatedSchemaMetadataInfo> findAggregatedSchemaMetadata(Map<String, String> props)
             throws SchemaBranchNotFoundException, SchemaNotFoundException {
 
-        return findSchemaMetadata(props)
-                .stream()
-                .map(schemaMetadataInfo -> {
-                    try {
-                        return buildAggregatedSchemaMetadataInfo(schemaMetadataInfo);
-                    } catch (SchemaNotFoundException | SchemaBranchNotFoundException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .collect(Collectors.toList());
+        return buildAggregatedSchemaMetadataInfos(findSchemaMetadata(props));
+    }
+
+    @Override
+    public Page<AggregatedSchemaMetadataInfo> findAggregatedSchemaMetadata(Map<String, String> props, int limit, String cursor)
+            throws SchemaNotFoundException, SchemaBranchNotFoundException {
+        Page<SchemaMetadataInfo> page = findSchemaMetadata(props, limit, cursor);
+        return new Page<>(buildAggregatedSchemaMetadataInfos(page.getItems()), page.getNextCursor());
+    }
+
+    private List<AggregatedSchemaMetadataInfo> buildAggregatedSchemaMetadataInfos(Collection<SchemaMetadataInfo> schemaMetadataInfos)
+            throws SchemaNotFoundException, SchemaBranchNotFoundException {
+        List<AggregatedSchemaMetadataInfo> aggregatedSchemaMetadataInfos = new ArrayList<>(schemaMetadataInfos.size());
+        for (SchemaMetadataInfo schemaMetadataInfo : schemaMetadataInfos) {
+            aggregatedSchemaMetadataInfos.add(buildAggregatedSchemaMetadataInfo(schemaMetadataInfo));
+        }
+        return aggregatedSchemaMetadataInfos;
     }
 
     @Override
@@ -379,6 +426,7 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
             schemaMetadataStorable = schemaMetadataStorable.updateSchemaMetadata(schemaMetadata);
             schemaMetadataStorable = ensureJsonCompatibility(schemaMetadataStorable);
             storageManager.update(schemaMetadataStorable);
+            changeLog.schemaMetadataChanged(schemaName);
             return schemaMetadataStorable.toSchemaMetadataInfo();
         } else {
             return null;
@@ -425,6 +473,107 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
         return result;
     }
 
+    @Override
+    public Page<SchemaMetadataInfo> findSchemaMetadata(Map<String, String> props, int limit, String cursor) {
+        Pair<WhereClause, List<OrderBy>> criteria = getSchemaMetadataCriteria(props);
+        return searchSchemaPage(criteria.getLeft(), criteria.getRight(), limit, cursor,
+                null, SchemaMetadataStorable::toSchemaMetadataInfo);
+    }
+
+    @Override
+    public Collection<SchemaMetadataInfo> findSchemaMetadataSummaries(Map<String, String> props) {
+        Pair<WhereClause, List<OrderBy>> criteria = getSchemaMetadataCriteria(props);
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaMetadataStorable.NAME_SPACE)
+                                             .select(SchemaMetadataStorable.SUMMARY_FIELDS.toArray(new String[0]));
+        if (criteria.getLeft() != null) {
+            searchQuery.where(criteria.getLeft());
+        }
+        if (!criteria.getRight().isEmpty()) {
+            searchQuery.orderBy(criteria.getRight().toArray(new OrderBy[0]));
+        }
+
+        Collection<SchemaMetadataStorable> storables = storageManager.search(searchQuery);
+        return storables.stream().map(SchemaMetadataStorable::toSchemaMetadataSummary).collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<SchemaMetadataInfo> findSchemaMetadataSummaries(Map<String, String> props, int limit, String cursor) {
+        Pair<WhereClause, List<OrderBy>> criteria = getSchemaMetadataCriteria(props);
+        return searchSchemaPage(criteria.getLeft(), criteria.getRight(), limit, cursor,
+                SchemaMetadataStorable.SUMMARY_FIELDS, SchemaMetadataStorable::toSchemaMetadataSummary);
+    }
+
+    // the props are matched as equal fields, except the _orderByFields prop which gives the order of the schemas
+    private Pair<WhereClause, List<OrderBy>> getSchemaMetadataCriteria(Map<String, String> props) {
+        Schema schema = new SchemaMetadataStorable().getSchema();
+        List<OrderBy> orderByFields = Collections.emptyList();
+        WhereClause.Builder builder = WhereClause.begin();
+        WhereClauseCombiner combiner = null;
+        if (props != null) {
+            for (Map.Entry<String, String> entry : props.entrySet()) {
+                if (ORDER_BY_FIELDS_PARAM_NAME.equals(entry.getKey())) {
+                    orderByFields = getOrderByFields(entry.getValue());
+                    continue;
+                }
+                Schema.Field field = schema.getField(entry.getKey());
+                if (field == null) {
+                    LOG.warn("Query parameter [{}] does not exist for schema metadata. Query parameter ignored.", entry.getKey());
+                    continue;
+                }
+                if (combiner != null) {
+                    builder = combiner.and();
+                }
+                combiner = builder.eq(field.getName(), parseQueryParam(field, entry.getValue()));
+            }
+        }
+
+        return Pair.of(combiner != null ? combiner.combine() : null, orderByFields);
+    }
+
+    private static Object parseQueryParam(Schema.Field field, String value) {
+        try {
+            return StorageUtils.parseValue(field.getType(), value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value [" + value + "] of query parameter " + field.getName(), e);
+        }
+    }
+
+    // the schemas are finally ordered by id so that each of them has a distinct position to continue the next page from,
+    // the order by fields are read along with the selected fields as the cursor is made of them
+    private Page<SchemaMetadataInfo> searchSchemaPage(WhereClause whereClause, List<OrderBy> orderByFields, int limit, String cursor,
+                                                      @Nullable List<String> selectedFields,
+                                                      Function<SchemaMetadataStorable, SchemaMetadataInfo> converter) {
+        List<OrderBy> pageOrderByFields = new ArrayList<>(orderByFields);
+        for (OrderBy orderBy : orderByFields) {
+            if (SchemaMetadataStorable.DESCRIPTION.equals(orderBy.getFieldName())) {
+                throw new IllegalArgumentException("Schemas can not be paged in the order of the optional field " + orderBy.getFieldName());
+            }
+        }
+        boolean unique = orderByFields.stream().anyMatch(orderBy -> SchemaMetadataStorable.ID.equals(orderBy.getFieldName())
+                || SchemaMetadataStorable.NAME.equals(orderBy.getFieldName()));
+        if (!unique) {
+            pageOrderByFields.add(OrderBy.asc(SchemaMetadataStorable.ID));
+        }
+
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaMetadataStorable.NAME_SPACE)
+                                             .orderBy(pageOrderByFields.toArray(new OrderBy[0]))
+                                             .limit(limit);
+        if (whereClause != null) {
+            searchQuery.where(whereClause);
+        }
+        if (cursor != null) {
+            searchQuery.after(KeysetCursor.decode(cursor));
+        }
+        if (selectedFields != null) {
+            Set<String> fields = new LinkedHashSet<>(selectedFields);
+            pageOrderByFields.forEach(orderBy -> fields.add(orderBy.getFieldName()));
+            searchQuery.select(fields.toArray(new String[0]));
+        }
+
+        Page<SchemaMetadataStorable> page = storageManager.searchPage(searchQuery);
+        return page.map(converter);
+    }
+
     private List<OrderByField> getOrderByFields(List<QueryParam> queryParams) {
         if (queryParams == null || queryParams.isEmpty()) {
             return Collections.emptyList();
@@ -459,43 +608,40 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
 
     @Override
     public Collection<SchemaVersionKey> findSchemasByFields(SchemaFieldQuery schemaFieldQuery) {
-        List<QueryParam> queryParams = buildQueryParam(schemaFieldQuery);
-
-        Collection<SchemaFieldInfoStorable> fieldInfos = storageManager.find(SchemaFieldInfoStorable.STORABLE_NAME_SPACE, queryParams);
-        Collection<SchemaVersionKey> schemaVersionKeys;
-        if (fieldInfos != null && !fieldInfos.isEmpty()) {
-            List<Long> schemaIds = new ArrayList<>();
-            for (SchemaFieldInfoStorable fieldInfo : fieldInfos) {
-                schemaIds.add(fieldInfo.getSchemaInstanceId());
-            }
+        return findSchemasByFields(schemaFieldQuery, null);
+    }
 
-            // todo get only few selected columns instead of getting the whole row.
-            // add OR query to find items from store
-            schemaVersionKeys = new ArrayList<>();
-            for (Long schemaId : schemaIds) {
-                SchemaVersionKey schemaVersionKey = getSchemaKey(schemaId);
-                if (schemaVersionKey != null) {
-                    schemaVersionKeys.add(schemaVersionKey);
-                }
-            }
-        } else {
-            schemaVersionKeys = Collections.emptyList();
+    @Override
+    public Collection<SchemaVersionKey> findSchemasByFields(SchemaFieldQuery schemaFieldQuery, Integer limit) {
+        // the matching fields are resolved to their schema versions by a sub query, so the database returns
+        // every version only once and can stop at the limit, only the keys are read instead of the schema texts
+        SubQuery matchingSchemaVersionIds = SubQuery.select(SchemaFieldInfo.SCHEMA_INSTANCE_ID,
+                SchemaFieldInfoStorable.STORABLE_NAME_SPACE, buildWhereClause(schemaFieldQuery));
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                .where(WhereClause.begin().in(SchemaVersionStorable.ID, matchingSchemaVersionIds).combine())
+                .orderBy(OrderBy.asc(SchemaVersionStorable.NAME), OrderBy.asc(SchemaVersionStorable.VERSION))
+                .select(SchemaVersionStorable.NAME, SchemaVersionStorable.VERSION);
+        if (limit != null) {
+            searchQuery.limit(limit);
         }
 
-        return schemaVersionKeys;
+        Collection<SchemaVersionStorable> versionedSchemas = storageManager.search(searchQuery);
+        return versionedSchemas.stream()
+                .map(storable -> new SchemaVersionKey(storable.getName(), storable.getVersion()))
+                .collect(Collectors.toList());
     }
 
-    private SchemaVersionKey getSchemaKey(Long schemaId) {
-        SchemaVersionKey schemaVersionKey = null;
-
-        List<QueryParam> queryParams = Collections.singletonList(new QueryParam(SchemaVersionStorable.ID, schemaId.toString()));
-        Collection<SchemaVersionStorable> versionedSchemas = storageManager.find(SchemaVersionStorable.NAME_SPACE, queryParams);
-        if (versionedSchemas != null && !versionedSchemas.isEmpty()) {
-            SchemaVersionStorable storable = versionedSchemas.iterator().next();
-            schemaVersionKey = new SchemaVersionKey(storable.getName(), storable.getVersion());
+    private WhereClause buildWhereClause(SchemaFieldQuery schemaFieldQuery) {
+        WhereClause.Builder builder = WhereClause.begin();
+        WhereClauseCombiner combiner = null;
+        for (QueryParam queryParam : buildQueryParam(schemaFieldQuery)) {
+            if (combiner != null) {
+                builder = combiner.and();
+            }
+            combiner = builder.eq(queryParam.getName(), queryParam.getValue());
         }
 
-        return schemaVersionKey;
+        return combiner != null ? combiner.combine() : null;
     }
 
     private List<QueryParam> buildQueryParam(SchemaFieldQuery schemaFieldQuery) {
@@ -624,6 +770,11 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
         return schemaVersionLifecycleManager.getSchemaVersionInfo(schemaIdVersion);
     }
 
+    @Override
+    public Collection<SchemaVersionInfo> getSchemaVersionInfos(Collection<Long> schemaVersionIds) {
+        return schemaVersionLifecycleManager.fetchSchemaVersionInfos(schemaVersionIds);
+    }
+
     @Override
     public SchemaVersionInfo getSchemaVersionInfo(SchemaVersionKey schemaVersionKey) throws SchemaNotFoundException {
         return schemaVersionLifecycleManager.getSchemaVersionInfo(schemaVersionKey);
@@ -677,7 +828,7 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
         Collection<AggregatedSchemaBranch> aggregatedSchemaBranches = new ArrayList<>();
         for (SchemaBranch schemaBranch : getSchemaBranches(schemaName)) {
             Long rootVersion = schemaBranch.getName().equals(SchemaBranch.MASTER_BRANCH) ? null :
-                    schemaVersionLifecycleManager.getRootVersion(schemaBranch).getId();
+                    schemaVersionLifecycleManager.getRootVersionId(schemaBranch);
             Collection<SchemaVersionInfo> schemaVersionInfos = getAllVersions(schemaBranch.getName(), schemaName);
             schemaVersionInfos.stream().forEach(schemaVersionInfo -> {
                 SchemaVersionLifecycleContext context = null;
@@ -833,18 +984,20 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
             throw new RuntimeException("Schema branch is invalid state, its not associated with any schema versions");
         }
 
-        // Ignore the first version as it used in the 'MASTER' branch
-        Iterator<SchemaBranchVersionMapping> schemaBranchVersionMappingIterator = schemaBranchVersionMappings.iterator();
-        SchemaBranchVersionMapping rootVersionMapping = schemaBranchVersionMappingIterator.next();
-        storageManager.remove(rootVersionMapping.getStorableKey());
+        // Ignore the first version as it used in the 'MASTER' branch. It has the lowest version number of the branch,
+        // the ids of the versions are not in the order of their registration when several nodes reserve blocks of ids.
+        Long rootVersionId = schemaVersionLifecycleManager.getFirstSchemaVersionId(schemaBranchId);
 
         // Validate if the schema versions in the branch to be deleted are the root versions for other branches
         Map<Integer, List<String>> schemaVersionTiedToOtherBranch = new HashMap<>();
         List<Long> schemaVersionsToBeDeleted = new ArrayList<>();
 
-        while (schemaBranchVersionMappingIterator.hasNext()) {
-            SchemaBranchVersionMapping schemaBranchVersionMapping = schemaBranchVersionMappingIterator.next();
+        for (SchemaBranchVersionMapping schemaBranchVersionMapping : schemaBranchVersionMappings) {
             Long schemaVersionId = schemaBranchVersionMapping.getSchemaVersionInfoId();
+            if (schemaVersionId.equals(rootVersionId)) {
+                storageManager.remove(schemaBranchVersionMapping.getStorableKey());
+                continue;
+            }
             try {
                 List<QueryParam> schemaVersionCountParam = new ArrayList<>();
                 schemaVersionCountParam.add(new QueryParam(
@@ -1031,6 +1184,14 @@ public class DefaultSchemaRegistry implements ISchemaRegistry {
         return searchSchemas(whereClause, orderByFields);
     }
 
+    @Override
+    public Page<SchemaMetadataInfo> searchSchemas(MultivaluedMap<String, String> queryParameters, Optional<String> orderBy,
+                                                  int limit, String cursor) {
+        WhereClause whereClause = getWhereClause(queryParameters);
+        List<OrderBy> orderByFields = orderBy.map(value -> getOrderByFields(value)).orElse(Collections.emptyList());
+        return searchSchemaPage(whereClause, orderByFields, limit, cursor, null, SchemaMetadataStorable::toSchemaMetadataInfo);
+    }
+
     @VisibleForTesting
     WhereClause getWhereClause(MultivaluedMap<String, String> queryParameters) {
         String name = queryParameters.getFirst(SchemaMetadataStorable.NAME);
@@ -20,6 +20,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.hortonworks.registries.common.QueryParam;
 import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.schemaregistry.cache.RegistryChangeLog;
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaBranchVersionMapping;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
@@ -41,6 +43,10 @@ import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.Storable;
 import com.hortonworks.registries.storage.StorableKey;
 import com.hortonworks.registries.storage.StorageManager;
+import com.hortonworks.registries.storage.search.OrderBy;
+import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.WhereClause;
+import com.hortonworks.registries.storage.search.WhereClauseCombiner;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -67,19 +73,27 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
     private static final Logger LOG = LoggerFactory.getLogger(DefaultSchemaVersionLifecycleManager.class);
 
     private static final List<SchemaVersionLifecycleStateTransitionListener> DEFAULT_LISTENERS = new ArrayList<>();
+    // Oracle does not accept more than 1000 values in an IN list
+    private static final int MAX_IDS_PER_QUERY = 1000;
 
     private StorageManager storageManager;
     private DefaultSchemaRegistry.SchemaMetadataFetcher schemaMetadataFetcher;
+    private final SchemaRegistryServerCache serverCache;
+    private final RegistryChangeLog changeLog;
 
     public DefaultSchemaVersionLifecycleManager(StorageManager storageManager,
                                          RegistryConfiguration configuration,
                                          DefaultSchemaRegistry.SchemaMetadataFetcher schemaMetadataFetcher,
                                          Function<SchemaBranchKey, SchemaBranch> getSchemaBranch,
-                                         Function<Long, SchemaBranch> getSchemaBranchId) {
+                                         Function<Long, SchemaBranch> getSchemaBranchId,
+                                         SchemaRegistryServerCache serverCache,
+                                         RegistryChangeLog changeLog) {
         super(configuration, getSchemaBranch, getSchemaBranchId);
 
         this.storageManager = storageManager;
         this.schemaMetadataFetcher = schemaMetadataFetcher;
+        this.serverCache = serverCache;
+        this.changeLog = changeLog;
     }
 
     @Override @Nonnull
@@ -142,6 +156,7 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         }
 
         storageManager.add(schemaVersionStorable);
+        changeLog.schemaVersionAdded(schemaName, schemaVersionStorable.getId());
         updateSchemaVersionState(schemaVersionStorable.getId(), 1, initialState, schemaVersion.getStateDetails());
 
         // fetching this as the ID may have been set by storage manager.
@@ -152,13 +167,17 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
 
         String storableNamespace = new SchemaFieldInfoStorable().getNameSpace();
         List<SchemaFieldInfo> schemaFieldInfos = getSchemaProvider(type).generateFields(schemaVersionStorable.getSchemaText());
-        for (SchemaFieldInfo schemaFieldInfo : schemaFieldInfos) {
-            final Long fieldInstanceId = storageManager.nextId(storableNamespace);
-            SchemaFieldInfoStorable schemaFieldInfoStorable = SchemaFieldInfoStorable.fromSchemaFieldInfo(schemaFieldInfo, fieldInstanceId);
+        List<SchemaFieldInfoStorable> schemaFieldInfoStorables = new ArrayList<>(schemaFieldInfos.size());
+        List<Long> fieldInstanceIds = storageManager.nextIds(storableNamespace, schemaFieldInfos.size());
+        for (int i = 0; i < schemaFieldInfos.size(); i++) {
+            SchemaFieldInfoStorable schemaFieldInfoStorable =
+                    SchemaFieldInfoStorable.fromSchemaFieldInfo(schemaFieldInfos.get(i), fieldInstanceIds.get(i));
             schemaFieldInfoStorable.setSchemaInstanceId(schemaInstanceId);
             schemaFieldInfoStorable.setTimestamp(System.currentTimeMillis());
-            storageManager.add(schemaFieldInfoStorable);
+            schemaFieldInfoStorables.add(schemaFieldInfoStorable);
         }
+        // wide records have hundreds of fields, they are inserted with a single batch
+        storageManager.addAll(schemaFieldInfoStorables);
 
         return schemaVersionStorable.toSchemaVersionInfo();
     }
@@ -204,8 +223,73 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         return schemaMetadataFetcher.getSchemaMetadataInfo(schemaMetadataId);
     }
 
+    @Override
+    public SchemaVersionInfo getLatestSchemaVersionInfo(String schemaName) throws SchemaNotFoundException {
+        return serverCache.getSchemaVersionInfo(new SchemaVersionKey(schemaName, SchemaVersionKey.LATEST_VERSION),
+                () -> super.getLatestSchemaVersionInfo(schemaName));
+    }
+
+    @Override
+    public SchemaVersionInfo getLatestSchemaVersionInfo(String schemaName, Byte stateId) throws SchemaNotFoundException {
+        Preconditions.checkNotNull(schemaName, "schemaName can't be null");
+
+        if (getSchemaMetadataInfo(schemaName) == null) {
+            throw new SchemaNotFoundException("Schema not found with name " + schemaName, schemaName);
+        }
+
+        WhereClauseCombiner whereClause = WhereClause.begin().eq(SchemaVersionStorable.NAME, schemaName);
+        if (stateId != null) {
+            whereClause = whereClause.and().eq(SchemaVersionStorable.STATE, stateId);
+        }
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                .where(whereClause.combine())
+                .orderBy(OrderBy.desc(SchemaVersionStorable.VERSION))
+                .limit(1);
+
+        return findFirstSchemaVersionInfo(searchQuery);
+    }
+
+    @Override
+    public SchemaVersionInfo getLatestSchemaVersionInfo(String schemaBranchName,
+                                                        String schemaName,
+                                                        Byte stateId) throws SchemaNotFoundException, SchemaBranchNotFoundException {
+        Preconditions.checkNotNull(schemaBranchName, "Schema branch name can't be null");
+        Preconditions.checkNotNull(schemaName, "schemaName can't be null");
+
+        SchemaBranch schemaBranch = getSchemaBranch.apply(new SchemaBranchKey(schemaBranchName, schemaName));
+        Set<Long> schemaVersionIds = getSchemaVersionIds(schemaBranch.getId());
+        if (schemaVersionIds.isEmpty()) {
+            return null;
+        }
+
+        // versions of a branch are ordered by their version numbers, the root version of a branch comes from its
+        // parent branch. The ids are not in insertion order when several nodes reserve blocks of ids.
+        WhereClauseCombiner whereClause = WhereClause.begin().in(SchemaVersionStorable.ID, schemaVersionIds);
+        if (stateId != null) {
+            whereClause = whereClause.and().eq(SchemaVersionStorable.STATE, stateId);
+        }
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                .where(whereClause.combine())
+                .orderBy(OrderBy.desc(SchemaVersionStorable.VERSION))
+                .limit(1);
+
+        return findFirstSchemaVersionInfo(searchQuery);
+    }
+
+    private SchemaVersionInfo findFirstSchemaVersionInfo(SearchQuery searchQuery) {
+        Collection<SchemaVersionStorable> storables = storageManager.search(searchQuery);
+        if (storables == null || storables.isEmpty()) {
+            return null;
+        }
+        return storables.iterator().next().toSchemaVersionInfo();
+    }
+
     @Override
     public SchemaVersionInfo fetchSchemaVersionInfo(Long id) throws SchemaNotFoundException {
+        return serverCache.getSchemaVersionInfo(id, () -> retrieveSchemaVersionInfo(id));
+    }
+
+    private SchemaVersionInfo retrieveSchemaVersionInfo(Long id) throws SchemaNotFoundException {
         StorableKey storableKey = new StorableKey(SchemaVersionStorable.NAME_SPACE, SchemaVersionStorable.getPrimaryKey(id));
 
         SchemaVersionStorable versionedSchema = storageManager.get(storableKey);
@@ -215,6 +299,24 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         return versionedSchema.toSchemaVersionInfo();
     }
 
+    @Override
+    public Collection<SchemaVersionInfo> fetchSchemaVersionInfos(Collection<Long> ids) {
+        return serverCache.getSchemaVersionInfos(ids, this::retrieveSchemaVersionInfos);
+    }
+
+    private Collection<SchemaVersionInfo> retrieveSchemaVersionInfos(Collection<Long> ids) {
+        // the versions are loaded with one query per chunk of ids, as some databases limit the size of an IN list
+        List<SchemaVersionInfo> schemaVersionInfos = new ArrayList<>(ids.size());
+        for (List<Long> chunk : Lists.partition(new ArrayList<>(ids), MAX_IDS_PER_QUERY)) {
+            SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                    .where(WhereClause.begin().in(SchemaVersionStorable.ID, chunk).combine())
+                    .orderBy(OrderBy.asc(SchemaVersionStorable.ID));
+            Collection<SchemaVersionStorable> schemaVersionStorables = storageManager.search(searchQuery);
+            schemaVersionStorables.forEach(storable -> schemaVersionInfos.add(storable.toSchemaVersionInfo()));
+        }
+        return schemaVersionInfos;
+    }
+
     protected SchemaVersionInfo findSchemaVersion(String schemaBranchName,
                                                 String type,
                                                 String schemaText,
@@ -262,6 +364,10 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
 
     @Override
     public SchemaVersionInfo findSchemaVersionInfoByFingerprint(final String fingerprint) throws SchemaNotFoundException {
+        return serverCache.getSchemaVersionInfoByFingerprint(fingerprint, () -> retrieveSchemaVersionInfoByFingerprint(fingerprint));
+    }
+
+    private SchemaVersionInfo retrieveSchemaVersionInfoByFingerprint(final String fingerprint) throws SchemaNotFoundException {
         final List<QueryParam> queryParams = Collections.singletonList(new QueryParam(SchemaVersionStorable.FINGERPRINT, fingerprint));
         final List<OrderByField> orderParams = Collections.singletonList(OrderByField.of(SchemaVersionStorable.TIMESTAMP, true));
 
@@ -286,6 +392,7 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         SchemaVersionInfo schemaVersionInfo = getSchemaVersionRetriever().retrieveSchemaVersion(schemaVersionKey);
         storageManager.remove(createSchemaVersionStorableKey(schemaVersionInfo.getId()));
         deleteSchemaVersionBranchMapping(schemaVersionInfo.getId());
+        changeLog.schemaVersionChanged(schemaVersionInfo.getName(), schemaVersionInfo.getId());
     }
 
     @Override
@@ -299,7 +406,7 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
 
             Set<SchemaBranch> schemaBranches = getSchemaBranches(schemaVersionId).stream().filter(schemaBranch -> {
                 try {
-                    return !getRootVersion(schemaBranch).getId().equals(schemaVersionId);
+                    return !getRootVersionId(schemaBranch).equals(schemaVersionId);
                 } catch (SchemaNotFoundException e) {
                     throw new RuntimeException(e);
                 }
@@ -319,8 +426,8 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
                 SchemaVersionInfo latestSchemaVersion = getLatestEnabledSchemaVersionInfo(SchemaBranch.MASTER_BRANCH,
                                                                                           schemaMetadataInfo.getSchemaMetadata()
                                                                                                             .getName());
-                SchemaVersionInfo rootSchemaVersion = getRootVersion(schemaBranch);
-                if (!latestSchemaVersion.getId().equals(rootSchemaVersion.getId())) {
+                Long rootSchemaVersionId = getRootVersionId(schemaBranch);
+                if (!latestSchemaVersion.getId().equals(rootSchemaVersionId)) {
                     throw new SchemaVersionMergeException(String.format(
                             "The latest version of '%s' is different from the root version of the branch : '%s'",
                                                                         SchemaBranch.MASTER_BRANCH, schemaMetadataInfo.getSchemaMetadata()
@@ -479,6 +586,7 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         versionedSchema.setState(state.getId());
         LOG.debug("New state for version {}: {}", versionedSchema.getVersion(), state.getName());
         storageManager.update(versionedSchema);
+        changeLog.schemaVersionChanged(versionedSchema.getName(), schemaVersionId);
     }
 
     @Override
@@ -495,8 +603,9 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
     }
 
     protected void doDeleteSchemaVersion(Long schemaVersionId) throws SchemaNotFoundException, SchemaLifecycleException {
-        storageManager.remove(createSchemaVersionStorableKey(schemaVersionId));
+        SchemaVersionStorable removed = storageManager.remove(createSchemaVersionStorableKey(schemaVersionId));
         deleteSchemaVersionBranchMapping(schemaVersionId);
+        changeLog.schemaVersionChanged(removed != null ? removed.getName() : null, schemaVersionId);
     }
 
     private StorableKey createSchemaVersionStorableKey(Long id) {
@@ -590,24 +699,28 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
         if (SchemaVersionKey.LATEST_VERSION.equals(version)) {
             schemaVersionInfo = getLatestSchemaVersionInfo(schemaName);
         } else {
-            List<QueryParam> queryParams = Lists.newArrayList(
-                    new QueryParam(SchemaVersionStorable.NAME, schemaName),
-                    new QueryParam(SchemaVersionStorable.VERSION, version.toString()));
-
-            Collection<SchemaVersionStorable> versionedSchemas = storageManager.find(SchemaVersionStorable.NAME_SPACE, queryParams);
-            if (versionedSchemas != null && !versionedSchemas.isEmpty()) {
-                if (versionedSchemas.size() > 1) {
-                    LOG.warn("More than one schema exists with name: [{}] and version [{}]", schemaName, version);
-                }
-                schemaVersionInfo = versionedSchemas.iterator().next().toSchemaVersionInfo();
-            } else {
-                throw new SchemaNotFoundException("No Schema version exists with name " + schemaName + " and version " + version, schemaName);
-            }
+            schemaVersionInfo = serverCache.getSchemaVersionInfo(new SchemaVersionKey(schemaName, version),
+                    () -> retrieveSchemaVersionInfo(schemaName, version));
         }
         LOG.info("##### fetched schema version info [{}]", schemaVersionInfo);
         return schemaVersionInfo;
     }
 
+    private SchemaVersionInfo retrieveSchemaVersionInfo(String schemaName, Integer version) throws SchemaNotFoundException {
+        List<QueryParam> queryParams = Lists.newArrayList(
+                new QueryParam(SchemaVersionStorable.NAME, schemaName),
+                new QueryParam(SchemaVersionStorable.VERSION, version.toString()));
+
+        Collection<SchemaVersionStorable> versionedSchemas = storageManager.find(SchemaVersionStorable.NAME_SPACE, queryParams);
+        if (versionedSchemas == null || versionedSchemas.isEmpty()) {
+            throw new SchemaNotFoundException("No Schema version exists with name " + schemaName + " and version " + version, schemaName);
+        }
+        if (versionedSchemas.size() > 1) {
+            LOG.warn("More than one schema exists with name: [{}] and version [{}]", schemaName, version);
+        }
+        return versionedSchemas.iterator().next().toSchemaVersionInfo();
+    }
+
     @Override
     public Set<SchemaBranch> getSchemaBranches(Long schemaVersionId) throws SchemaBranchNotFoundException {
         List<QueryParam> schemaVersionMappingStorableQueryParams = new ArrayList<>();
@@ -624,30 +737,69 @@ public class DefaultSchemaVersionLifecycleManager extends SchemaVersionLifecycle
 
     @Override
     protected List<SchemaVersionInfo> getSortedSchemaVersions(Long schemaBranchId) throws SchemaNotFoundException, SchemaBranchNotFoundException {
+        Set<Long> schemaVersionIds = getSchemaVersionIds(schemaBranchId);
+        if (schemaVersionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // load all the versions of the branch with a single query instead of one query per version
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                .where(WhereClause.begin().in(SchemaVersionStorable.ID, schemaVersionIds).combine())
+                .orderBy(OrderBy.asc(SchemaVersionStorable.VERSION));
+        Collection<SchemaVersionStorable> schemaVersionStorables = storageManager.search(searchQuery);
+
+        if (schemaVersionStorables.size() != schemaVersionIds.size()) {
+            schemaVersionStorables.forEach(schemaVersionStorable -> schemaVersionIds.remove(schemaVersionStorable.getId()));
+            Long missingId = schemaVersionIds.iterator().next();
+            throw new SchemaNotFoundException("No Schema version exists with id " + missingId, String.valueOf(missingId));
+        }
+
+        return schemaVersionStorables.stream()
+                .map(SchemaVersionStorable::toSchemaVersionInfo)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected Long getFirstSchemaVersionId(Long schemaBranchId) {
+        Set<Long> schemaVersionIds = getSchemaVersionIds(schemaBranchId);
+        if (schemaVersionIds.isEmpty()) {
+            return null;
+        }
+
+        // only the id is read, the schema text of the version is not needed
+        SearchQuery searchQuery = SearchQuery.searchFrom(SchemaVersionStorable.NAME_SPACE)
+                .select(SchemaVersionStorable.ID)
+                .where(WhereClause.begin().in(SchemaVersionStorable.ID, schemaVersionIds).combine())
+                .orderBy(OrderBy.asc(SchemaVersionStorable.VERSION))
+                .limit(1);
+        Collection<SchemaVersionStorable> schemaVersionStorables = storageManager.search(searchQuery);
+
+        return schemaVersionStorables.isEmpty() ? null : schemaVersionStorables.iterator().next().getId();
+    }
+
+    /**
+     * @return ids of the schema versions which are attached to the given branch, it is empty only for a master
+     *         branch without versions
+     */
+    private Set<Long> getSchemaVersionIds(Long schemaBranchId) {
         List<QueryParam> schemaVersionMappingStorableQueryParams = Lists.newArrayList();
         schemaVersionMappingStorableQueryParams.add(new QueryParam(SchemaBranchVersionMapping.SCHEMA_BRANCH_ID, schemaBranchId
                 .toString()));
-        List<OrderByField> orderByFields = new ArrayList<>();
-        orderByFields.add(OrderByField.of(SchemaBranchVersionMapping.SCHEMA_VERSION_INFO_ID, false));
-        List<SchemaVersionInfo> schemaVersionInfos = new ArrayList<>();
 
-        Collection<SchemaBranchVersionMapping> storables = storageManager.find(SchemaBranchVersionMapping.NAMESPACE, 
-                schemaVersionMappingStorableQueryParams, orderByFields);
+        Collection<SchemaBranchVersionMapping> storables = storageManager.find(SchemaBranchVersionMapping.NAMESPACE,
+                schemaVersionMappingStorableQueryParams);
         if (storables == null || storables.size() == 0) {
             if (getSchemaBranchId.apply(schemaBranchId).getName().equals(SchemaBranch.MASTER_BRANCH)) {
-                return Collections.emptyList();
+                return new HashSet<>();
             } else {
                 throw new InvalidSchemaBranchVersionMapping(String.format("No schema versions are attached to the schema branch id : '%s'",
                         schemaBranchId));
             }
         }
 
-        for (SchemaBranchVersionMapping storable : storables) {
-            SchemaIdVersion schemaIdVersion = new SchemaIdVersion(storable.getSchemaVersionInfoId());
-            schemaVersionInfos.add(getSchemaVersionRetriever().retrieveSchemaVersion(schemaIdVersion));
-        }
-
-        return schemaVersionInfos;
+        return storables.stream()
+                .map(SchemaBranchVersionMapping::getSchemaVersionInfoId)
+                .collect(Collectors.toSet());
     }
 
 }
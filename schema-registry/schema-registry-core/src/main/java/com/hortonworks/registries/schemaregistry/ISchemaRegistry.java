@@ -21,6 +21,7 @@ import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 import com.hortonworks.registries.schemaregistry.exportimport.AddSchemaWithId;
 import com.hortonworks.registries.schemaregistry.exportimport.BulkUploadInputFormat;
 import com.hortonworks.registries.schemaregistry.exportimport.UploadResult;
+import com.hortonworks.registries.storage.search.Page;
 
 import javax.ws.rs.core.MultivaluedMap;
 import java.io.IOException;
@@ -138,6 +139,40 @@ public interface ISchemaRegistry extends ISchemaRegistryService, AddSchemaWithId
      */
     Collection<SchemaMetadataInfo> findSchemaMetadata(Map<String, String> props);
 
+    /**
+     * Returns a page of the schemas having the given properties, like {@link #findSchemaMetadata(Map)}. The schemas
+     * are ordered by the fields given in the {@code _orderByFields} property and then by id.
+     *
+     * @param props properties
+     * @param limit maximum number of schemas to return
+     * @param cursor cursor returned with the previous page, or {@code null} to return the first page
+     *
+     * @return schemas of the page and the cursor of the next page
+     */
+    Page<SchemaMetadataInfo> findSchemaMetadata(Map<String, String> props, int limit, String cursor);
+
+    /**
+     * Returns the schemas having the given properties like {@link #findSchemaMetadata(Map)}, but only their id, name,
+     * type, group and timestamp are read. The other fields of the returned schema metadata are not set.
+     *
+     * @param props properties
+     *
+     * @return schemas with the given properties
+     */
+    Collection<SchemaMetadataInfo> findSchemaMetadataSummaries(Map<String, String> props);
+
+    /**
+     * Returns a page of the schemas having the given properties like {@link #findSchemaMetadata(Map, int, String)},
+     * with only the fields of {@link #findSchemaMetadataSummaries(Map)} set.
+     */
+    Page<SchemaMetadataInfo> findSchemaMetadataSummaries(Map<String, String> props, int limit, String cursor);
+
+    /**
+     * Returns a page of the aggregated schemas having the given properties, see {@link #findSchemaMetadata(Map, int, String)}.
+     */
+    Page<AggregatedSchemaMetadataInfo> findAggregatedSchemaMetadata(Map<String, String> props, int limit, String cursor)
+            throws SchemaNotFoundException, SchemaBranchNotFoundException;
+
     /**
      * @param serDesId id
      *
@@ -152,6 +187,30 @@ public interface ISchemaRegistry extends ISchemaRegistryService, AddSchemaWithId
      */
     Collection<SchemaMetadataInfo> searchSchemas(MultivaluedMap<String, String> queryParameters, Optional<String> orderBy);
 
+    /**
+     * Returns a page of the schemas found by {@link #searchSchemas(MultivaluedMap, Optional)}, ordered by the given
+     * fields and then by id.
+     *
+     * @param limit maximum number of schemas to return
+     * @param cursor cursor returned with the previous page, or {@code null} to return the first page
+     *
+     * @return schemas of the page and the cursor of the next page
+     */
+    Page<SchemaMetadataInfo> searchSchemas(MultivaluedMap<String, String> queryParameters, Optional<String> orderBy,
+                                           int limit, String cursor);
+
+    /**
+     * Finds the schema versions which have fields matching the given query, like
+     * {@link #findSchemasByFields(SchemaFieldQuery)}, with the number of results limited by the database.
+     *
+     * @param schemaFieldQuery {@link SchemaFieldQuery} instance to be run
+     * @param limit maximum number of schema versions to return, or {@code null} to return all of them
+     *
+     * @return schema versions matching the fields specified in the query ordered by schema name and version,
+     *         each of them only once
+     */
+    Collection<SchemaVersionKey> findSchemasByFields(SchemaFieldQuery schemaFieldQuery, Integer limit);
+
     /**
      *  Merges a given schema version to 'MASTER' branch with a merge strategy
      * @param schemaVersionId             id of the schema version to be merged
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry;
+
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.PrimaryKey;
+import com.hortonworks.registries.storage.catalog.AbstractStorable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An entry of the change log which is read by every registry node in order to evict the entries of its
+ * server side cache which were modified by another node.
+ */
+public class RegistryChangeLogStorable extends AbstractStorable {
+
+    public enum ChangeType {
+        /** Schema metadata was created or updated. */
+        SCHEMA_METADATA(1),
+        /** Schema was deleted together with all of its versions. */
+        SCHEMA_DELETED(2),
+        /** A new version was added to the schema, so its latest version changed. */
+        SCHEMA_VERSION_ADDED(3),
+        /** State of an existing schema version changed or the version was deleted. */
+        SCHEMA_VERSION_CHANGED(4);
+
+        final int numValue;
+
+        ChangeType(int numValue) {
+            this.numValue = numValue;
+        }
+
+        public int getNumValue() {
+            return numValue;
+        }
+
+        @Nonnull
+        public static ChangeType forNumValue(int value) {
+            for (ChangeType ct : ChangeType.values()) {
+                if (ct.getNumValue() == value) {
+                    return ct;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported numeric value for change type: " + value);
+        }
+    }
+
+    public static final String NAME_SPACE = "registry_change_log";
+
+    public static final String ID = "id";
+    public static final String TYPE = "type";
+    public static final String SCHEMA_NAME = "schemaName";
+    public static final String SCHEMA_VERSION_ID = "schemaVersionId";
+    public static final String TIMESTAMP = "timestamp";
+
+    private Long id;
+    private Integer type;
+    private String schemaName;
+    private Long schemaVersionId;
+    private Long timestamp;
+
+    public RegistryChangeLogStorable() { }
+
+    public RegistryChangeLogStorable(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getNameSpace() {
+        return NAME_SPACE;
+    }
+
+    @Override
+    public PrimaryKey getPrimaryKey() {
+        Map<Schema.Field, Object> values = new HashMap<>();
+        values.put(new Schema.Field(ID, Schema.Type.LONG), id);
+        return new PrimaryKey(values);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getType() {
+        return type;
+    }
+
+    public void setType(Integer type) {
+        this.type = type;
+    }
+
+    public void setType(@Nullable ChangeType ct) {
+        if (ct == null) {
+            this.type = null;
+        } else {
+            this.type = ct.getNumValue();
+        }
+    }
+
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    public void setSchemaName(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    public Long getSchemaVersionId() {
+        return schemaVersionId;
+    }
+
+    public void setSchemaVersionId(Long schemaVersionId) {
+        this.schemaVersionId = schemaVersionId;
+    }
+
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public boolean isIdAutoIncremented() {
+        return false;
+    }
+
+    /**
+     * The nodes read the entries in the order of their ids, so an entry must not become visible after an entry with a
+     * higher id.
+     */
+    @Override
+    public boolean isIdOrderedByCommit() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RegistryChangeLogStorable{" +
+                "id=" + id +
+                ", type=" + type +
+                ", schemaName='" + schemaName + '\'' +
+                ", schemaVersionId=" + schemaVersionId +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RegistryChangeLogStorable that = (RegistryChangeLogStorable) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(schemaName, that.schemaName) &&
+                Objects.equals(schemaVersionId, that.schemaVersionId) &&
+                Objects.equals(timestamp, that.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, schemaName, schemaVersionId, timestamp);
+    }
+}
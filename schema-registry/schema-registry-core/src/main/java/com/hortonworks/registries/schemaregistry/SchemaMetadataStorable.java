@@ -21,7 +21,9 @@ import com.hortonworks.registries.storage.PrimaryKey;
 import com.hortonworks.registries.storage.Storable;
 import com.hortonworks.registries.storage.catalog.AbstractStorable;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,9 @@ public class SchemaMetadataStorable extends AbstractStorable {
     public static final Schema.Field SCHEMA_GROUP_FIELD = Schema.Field.of(SCHEMA_GROUP, Schema.Type.STRING);
     public static final Schema.Field TYPE_FIELD = Schema.Field.of(TYPE, Schema.Type.STRING);
 
+    /** Fields which are enough to list the schemas and to authorize the access to them, see {@link #toSchemaMetadataSummary()}. */
+    public static final List<String> SUMMARY_FIELDS = Collections.unmodifiableList(Arrays.asList(ID, NAME, TYPE, SCHEMA_GROUP, TIMESTAMP));
+
     /**
      * Unique ID generated for this component.
      */
@@ -145,11 +150,16 @@ public class SchemaMetadataStorable extends AbstractStorable {
 
     @Override
     public Storable fromMap(Map<String, Object> map) {
+        // the enum columns are missing when only some of the fields are selected
         String compatibilityName = (String) map.remove(COMPATIBILITY);
-        compatibility = SchemaCompatibility.valueOf(compatibilityName);
+        if (compatibilityName != null) {
+            compatibility = SchemaCompatibility.valueOf(compatibilityName);
+        }
 
         String validationLevelName = (String) map.remove(VALIDATION_LEVEL);
-        validationLevel = SchemaValidationLevel.valueOf(validationLevelName);
+        if (validationLevelName != null) {
+            validationLevel = SchemaValidationLevel.valueOf(validationLevelName);
+        }
 
         super.fromMap(map);
 
@@ -254,6 +264,18 @@ public class SchemaMetadataStorable extends AbstractStorable {
         return new SchemaMetadataInfo(schemaMetadata, getId(), getTimestamp());
     }
 
+    /**
+     * @return schema metadata info with only the {@link #SUMMARY_FIELDS} set, for storables read with only those fields
+     */
+    public SchemaMetadataInfo toSchemaMetadataSummary() {
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder(getName())
+                .type(getType())
+                .schemaGroup(getSchemaGroup())
+                .build();
+
+        return new SchemaMetadataInfo(schemaMetadata, getId(), getTimestamp());
+    }
+
     public SchemaMetadata toSchemaMetadata() {
         return new SchemaMetadata.Builder(getName())
                 .type(getType())
@@ -17,7 +17,9 @@ package com.hortonworks.registries.schemaregistry;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.hortonworks.registries.common.CompatibilityConfig;
 import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.schemaregistry.cache.SchemaTextCache;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaBranchNotFoundException;
@@ -31,6 +33,7 @@ import com.hortonworks.registries.schemaregistry.state.SchemaVersionLifecycleSta
 import com.hortonworks.registries.schemaregistry.state.SchemaVersionLifecycleStates;
 import com.hortonworks.registries.schemaregistry.state.SchemaVersionService;
 import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +49,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public abstract class SchemaVersionLifecycleManager {
+public abstract class SchemaVersionLifecycleManager implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(SchemaVersionLifecycleManager.class);
 
@@ -58,11 +61,18 @@ public abstract class SchemaVersionLifecycleManager {
     protected final CustomSchemaStateExecutor customSchemaStateExecutor;
     protected final Function<SchemaBranchKey, SchemaBranch> getSchemaBranch;
     protected final Function<Long, SchemaBranch> getSchemaBranchId;
+    private final SchemaTextCache schemaTextCache;
+    private final CompatibilityCheckExecutor compatibilityCheckExecutor;
 
     public SchemaVersionLifecycleManager(RegistryConfiguration configuration, Function<SchemaBranchKey, SchemaBranch> getSchemaBranch, Function<Long, SchemaBranch> getSchemaBranchId) {
         this.getSchemaBranch = getSchemaBranch;
         this.getSchemaBranchId = getSchemaBranchId;
         schemaVersionRetriever = createSchemaVersionRetriever();
+        CompatibilityConfig compatibilityConfig = configuration.getCompatibility() != null
+                ? configuration.getCompatibility() : new CompatibilityConfig();
+        schemaTextCache = new SchemaTextCache(compatibilityConfig.getSchemaTextCacheSize());
+        compatibilityCheckExecutor = new CompatibilityCheckExecutor(compatibilityConfig.getCheckThreads(),
+                compatibilityConfig.getCheckQueueSize());
 
         SchemaVersionLifecycleStateMachine.Builder builder = SchemaVersionLifecycleStateMachine.newBuilder();
         customSchemaStateExecutor = createSchemaReviewExecutor(configuration.getSchemaReviewExecConfig(), builder);
@@ -78,6 +88,21 @@ public abstract class SchemaVersionLifecycleManager {
         return schemaVersionRetriever;
     }
 
+    /**
+     * @return cache of the schema texts, shared with the schema providers
+     */
+    public SchemaTextCache getSchemaTextCache() {
+        return schemaTextCache;
+    }
+
+    /**
+     * Stops the threads checking the compatibility of new schema versions.
+     */
+    @Override
+    public void close() {
+        compatibilityCheckExecutor.close();
+    }
+
     public SchemaIdVersion addSchemaVersion(String schemaBranchName,
                                             SchemaMetadata schemaMetadata,
                                             SchemaVersion schemaVersion,
@@ -414,18 +439,19 @@ public abstract class SchemaVersionLifecycleManager {
                 }
                 break;
             case ALL:
-                Collection<SchemaVersionInfo> schemaVersionInfos = getAllVersions(schemaBranchName, schemaName);
-                for (SchemaVersionInfo schemaVersionInfo : schemaVersionInfos) {
-                    if (SchemaVersionLifecycleStates.ENABLED.getId().equals(schemaVersionInfo.getStateId())) {
-                        compatibilityResult = checkCompatibility(schemaMetadata.getType(),
-                                                                 toSchema,
-                                                                 schemaVersionInfo.getSchemaText(),
-                                                                 schemaMetadata.getCompatibility());
-                        if (!compatibilityResult.isCompatible()) {
-                            LOG.info("Received schema is not compatible with one of the schema versions [{}] with schema name [{}]",
-                                     schemaVersionInfo.getVersion(), schemaName);
-                            break;
-                        }
+                List<SchemaVersionInfo> enabledSchemaVersionInfos = getAllVersions(schemaBranchName, schemaName).stream()
+                        .filter(schemaVersionInfo -> SchemaVersionLifecycleStates.ENABLED.getId().equals(schemaVersionInfo.getStateId()))
+                        .collect(Collectors.toList());
+                Pair<SchemaVersionInfo, CompatibilityResult> checked = compatibilityCheckExecutor.check(enabledSchemaVersionInfos,
+                        schemaVersionInfo -> checkCompatibility(schemaMetadata.getType(),
+                                                                toSchema,
+                                                                schemaVersionInfo.getSchemaText(),
+                                                                schemaMetadata.getCompatibility()));
+                if (checked != null) {
+                    compatibilityResult = checked.getRight();
+                    if (!compatibilityResult.isCompatible()) {
+                        LOG.info("Received schema is not compatible with one of the schema versions [{}] with schema name [{}]",
+                                 checked.getLeft().getVersion(), schemaName);
                     }
                 }
                 break;
@@ -444,7 +470,9 @@ public abstract class SchemaVersionLifecycleManager {
             throw new IllegalStateException("No SchemaProvider registered for type: " + type);
         }
 
-        return schemaProvider.checkCompatibility(toSchema, existingSchema, compatibility);
+        // the same pair of schemas is checked again by every registration and compatibility request
+        return schemaTextCache.get(toSchema).checkCompatibility(type, compatibility, schemaTextCache.get(existingSchema),
+                () -> schemaProvider.checkCompatibility(toSchema, existingSchema, compatibility));
     }
 
     protected abstract SchemaProvider getSchemaProvider(String type);
@@ -529,9 +557,23 @@ public abstract class SchemaVersionLifecycleManager {
 
     public abstract SchemaVersionInfo findSchemaVersionInfoByFingerprint(String fingerprint) throws SchemaNotFoundException;
 
+    /**
+     * Returns the fingerprint of the given schema text. The schema is only parsed the first time a text which does not
+     * refer to other schemas is seen.
+     */
     protected String getFingerprint(String type, String schemaText) throws InvalidSchemaException, SchemaNotFoundException {
         SchemaProvider schemaProvider = getSchemaProvider(type);
-        return Hex.encodeHexString(schemaProvider.getFingerprint(schemaText));
+        if (schemaProvider.dependsOnOtherSchemas(schemaText)) {
+            return Hex.encodeHexString(schemaProvider.getFingerprint(schemaText));
+        }
+
+        SchemaTextCache.SchemaText cachedSchemaText = schemaTextCache.get(schemaText);
+        String fingerprint = cachedSchemaText.getFingerprint(type);
+        if (fingerprint == null) {
+            fingerprint = Hex.encodeHexString(schemaProvider.getFingerprint(schemaText));
+            cachedSchemaText.putFingerprint(type, fingerprint);
+        }
+        return fingerprint;
     }
 
     public abstract void deleteSchemaVersion(SchemaVersionKey schemaVersionKey) throws SchemaNotFoundException, SchemaLifecycleException;
@@ -591,6 +633,36 @@ public abstract class SchemaVersionLifecycleManager {
         return sortedVersionInfo.iterator().next();
     }
 
+    /**
+     * @return id of the root version of the given branch, like {@link #getRootVersion(SchemaBranch)} without reading
+     *         the schema versions of the branch
+     */
+    public Long getRootVersionId(SchemaBranch schemaBranch) throws SchemaNotFoundException {
+
+        if (schemaBranch.getName().equals(SchemaBranch.MASTER_BRANCH)) {
+            throw new SchemaNotFoundException(String.format("There is no root schema version attached to the schema branch '%s'",
+                    schemaBranch.getName()), schemaBranch.getName());
+        }
+
+        Long rootVersionId;
+        try {
+            rootVersionId = getFirstSchemaVersionId(schemaBranch.getId());
+        } catch (SchemaBranchNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+
+        if (rootVersionId == null) {
+            throw new SchemaNotFoundException(String.format("There were no schema versions attached to schema branch '%s'",
+                    schemaBranch.getName()), schemaBranch.getName());
+        }
+        return rootVersionId;
+    }
+
+    /**
+     * @return id of the first schema version of the given branch or {@code null} if it has no versions
+     */
+    protected abstract Long getFirstSchemaVersionId(Long schemaBranchId) throws SchemaBranchNotFoundException;
+
     @SuppressWarnings("unchecked")
     protected CustomSchemaStateExecutor createSchemaReviewExecutor(Map<String, Object> schemaReviewExecProps,
                                                                  SchemaVersionLifecycleStateMachine.Builder builder) {
@@ -660,6 +732,11 @@ public abstract class SchemaVersionLifecycleManager {
 
     public abstract SchemaVersionInfo fetchSchemaVersionInfo(Long id) throws SchemaNotFoundException;
 
+    /**
+     * @return the versions with the given ids, the ids of versions which do not exist are left out
+     */
+    public abstract Collection<SchemaVersionInfo> fetchSchemaVersionInfos(Collection<Long> ids);
+
     protected abstract SchemaVersionInfo fetchSchemaVersionInfo(String schemaName, Integer version) throws SchemaNotFoundException;
 
     protected abstract SchemaMetadataInfo getSchemaMetadataInfo(Long schemaMetadataId);
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.hortonworks.registries.schemaregistry.RegistryChangeLogStorable;
+import com.hortonworks.registries.schemaregistry.RegistryChangeLogStorable.ChangeType;
+import com.hortonworks.registries.storage.StorageManager;
+
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Records the changes which make entries of the {@link SchemaRegistryServerCache} stale. The local cache is
+ * evicted right away and the change is appended to the change log table, in the transaction of the caller, so
+ * that the {@link RegistryChangeLogProcessor} of the other registry nodes can evict their own entries.
+ */
+public class RegistryChangeLog {
+
+    private final StorageManager storageManager;
+    private final SchemaRegistryServerCache serverCache;
+
+    public RegistryChangeLog(StorageManager storageManager, SchemaRegistryServerCache serverCache) {
+        this.storageManager = checkNotNull(storageManager, "storageManager");
+        this.serverCache = checkNotNull(serverCache, "serverCache");
+    }
+
+    public void schemaMetadataChanged(String schemaName) {
+        serverCache.invalidateSchemaMetadata(schemaName);
+        append(ChangeType.SCHEMA_METADATA, schemaName, null);
+    }
+
+    public void schemaDeleted(String schemaName) {
+        serverCache.invalidateSchema(schemaName);
+        append(ChangeType.SCHEMA_DELETED, schemaName, null);
+    }
+
+    public void schemaVersionAdded(String schemaName, Long schemaVersionId) {
+        serverCache.invalidateLatestSchemaVersion(schemaName);
+        append(ChangeType.SCHEMA_VERSION_ADDED, schemaName, schemaVersionId);
+    }
+
+    public void schemaVersionChanged(@Nullable String schemaName, Long schemaVersionId) {
+        serverCache.invalidateSchemaVersion(schemaVersionId);
+        if (schemaName != null) {
+            serverCache.invalidateLatestSchemaVersion(schemaName);
+        }
+        append(ChangeType.SCHEMA_VERSION_CHANGED, schemaName, schemaVersionId);
+    }
+
+    /**
+     * Evicts the entries of the local cache which were changed by another node.
+     */
+    void apply(RegistryChangeLogStorable change) {
+        checkNotNull(change.getType(), "Change type is null.");
+
+        String schemaName = change.getSchemaName();
+        switch (ChangeType.forNumValue(change.getType())) {
+            case SCHEMA_METADATA:
+                serverCache.invalidateSchemaMetadata(schemaName);
+                break;
+            case SCHEMA_DELETED:
+                serverCache.invalidateSchema(schemaName);
+                break;
+            case SCHEMA_VERSION_ADDED:
+                serverCache.invalidateLatestSchemaVersion(schemaName);
+                break;
+            case SCHEMA_VERSION_CHANGED:
+                serverCache.invalidateSchemaVersion(change.getSchemaVersionId());
+                if (schemaName != null) {
+                    serverCache.invalidateLatestSchemaVersion(schemaName);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported change type: " + change);
+        }
+    }
+
+    private void append(ChangeType changeType, @Nullable String schemaName, @Nullable Long schemaVersionId) {
+        // nobody reads the log when the caches are turned off
+        if (!serverCache.isEnabled()) {
+            return;
+        }
+
+        RegistryChangeLogStorable change = new RegistryChangeLogStorable();
+        change.setId(storageManager.nextId(RegistryChangeLogStorable.NAME_SPACE));
+        change.setType(changeType);
+        change.setSchemaName(schemaName);
+        change.setSchemaVersionId(schemaVersionId);
+        change.setTimestamp(System.currentTimeMillis());
+        storageManager.add(change);
+    }
+}
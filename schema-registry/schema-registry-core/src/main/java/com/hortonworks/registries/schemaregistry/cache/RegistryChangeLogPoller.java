@@ -0,0 +1,64 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.common.ServerCacheConfig;
+import com.hortonworks.registries.storage.StorageManager;
+import com.hortonworks.registries.storage.TransactionManager;
+
+import javax.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link RegistryChangeLogProcessor} of this node in a background thread while the server cache is enabled.
+ */
+public class RegistryChangeLogPoller implements AutoCloseable {
+
+    private final ExecutorService threadPool = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true)
+                    .setNameFormat("change-log-processor-%d")
+                    .build()
+    );
+    private RegistryChangeLogProcessor changeLogProcessor;
+
+    @Inject
+    public RegistryChangeLogPoller(RegistryConfiguration configuration, SchemaRegistryServerCache serverCache,
+                                   StorageManager storageManager, TransactionManager transactionManager) {
+        ServerCacheConfig cacheConfig = configuration.getServerCache();
+        if (serverCache.isEnabled()) {
+            changeLogProcessor = new RegistryChangeLogProcessor(new RegistryChangeLog(storageManager, serverCache),
+                    storageManager, transactionManager, cacheConfig.getChangeLogPollIntervalMs(),
+                    TimeUnit.SECONDS.toMillis(cacheConfig.getChangeLogRetentionInSecs()));
+            threadPool.submit(changeLogProcessor);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (changeLogProcessor != null) {
+            changeLogProcessor.stopProcessing();
+        }
+        threadPool.shutdown();
+        try {
+            threadPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.schemaregistry.RegistryChangeLogStorable;
+import com.hortonworks.registries.storage.PrimaryKey;
+import com.hortonworks.registries.storage.StorableKey;
+import com.hortonworks.registries.storage.StorageManager;
+import com.hortonworks.registries.storage.TransactionManager;
+import com.hortonworks.registries.storage.search.OrderBy;
+import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.WhereClause;
+import com.hortonworks.registries.storage.transaction.ManagedTransaction;
+import com.hortonworks.registries.storage.transaction.functional.ManagedTransactionFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.hortonworks.registries.storage.transaction.TransactionIsolation.READ_COMMITTED;
+
+/**
+ * The processor should be run in its own thread. It tails the change log table and evicts the entries of the
+ * local server cache which were changed by any of the registry nodes.
+ * <p>
+ * The ids of the change log are reserved in the transaction which writes the entry and the sequence stays locked
+ * until that transaction ends, so the entries become visible in the order of their ids. Every poll reads the entries
+ * after the highest id it has processed, the timestamps of the entries, which were taken by the clocks of the writing
+ * nodes, are not used to find the new entries. The first poll reads every entry which is still in the table.
+ * <p>
+ * Entries older than the retention period are removed from the table by every node.
+ */
+public class RegistryChangeLogProcessor implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RegistryChangeLogProcessor.class);
+
+    private static final long CLEANUP_INTERVAL_MS = 60_000L;
+
+    private final RegistryChangeLog changeLog;
+    private final StorageManager storageManager;
+    private final long waitBetweenProcessing;
+    private final long retentionMs;
+    private final ManagedTransaction managedTransaction;
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+    private long lastChangeId = 0L;
+    private long lastCleanup = 0L;
+
+    public RegistryChangeLogProcessor(RegistryChangeLog changeLog, StorageManager storageManager,
+                                      TransactionManager transactionManager, long waitBetweenProcessing, long retentionMs) {
+        this.changeLog = checkNotNull(changeLog, "changeLog");
+        this.storageManager = checkNotNull(storageManager, "storageManager");
+        checkNotNull(transactionManager, "transactionManager");
+        this.waitBetweenProcessing = waitBetweenProcessing;
+        checkState(waitBetweenProcessing > 0L, "Wait period must be greater than 0");
+        this.retentionMs = retentionMs;
+        this.managedTransaction = new ManagedTransaction(transactionManager, READ_COMMITTED);
+    }
+
+    @Override
+    public synchronized void run() {
+        LOG.debug("Starting registry change log processor.");
+        while (!isShutdown.get() && !Thread.interrupted()) {
+            try {
+                processChangeLog();
+                if (System.currentTimeMillis() - lastCleanup >= CLEANUP_INTERVAL_MS) {
+                    cleanupChangeLog();
+                }
+                if (!isShutdown.get()) {
+                    wait(waitBetweenProcessing);
+                }
+            } catch (InterruptedException iex) {
+                LOG.info("Registry change log processor was interrupted.", iex);
+                return;
+            } catch (Exception ex) {
+                LOG.error("An error occurred while processing the registry change log.", ex);
+                try {
+                    wait(waitBetweenProcessing);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void processChangeLog() throws Exception {
+        long since = lastChangeId;
+        managedTransaction.executeFunction((ManagedTransactionFunction.Arg0<Object>) () -> {
+            SearchQuery query = SearchQuery.searchFrom(RegistryChangeLogStorable.NAME_SPACE)
+                    .where(WhereClause.begin()
+                            .gt(RegistryChangeLogStorable.ID, since)
+                            .combine())
+                    .orderBy(OrderBy.asc(RegistryChangeLogStorable.ID));
+
+            Collection<RegistryChangeLogStorable> changes = storageManager.search(query);
+            if (changes == null || changes.isEmpty()) {
+                return false;
+            }
+
+            // not every storage manager applies the where clause and the ordering of the query
+            List<RegistryChangeLogStorable> newChanges = changes.stream()
+                    .filter(change -> change.getId() > since)
+                    .sorted(Comparator.comparing(RegistryChangeLogStorable::getId))
+                    .collect(Collectors.toList());
+
+            LOG.debug("Processing {} registry change log entries.", newChanges.size());
+            for (RegistryChangeLogStorable change : newChanges) {
+                try {
+                    changeLog.apply(change);
+                } catch (Exception ex) {
+                    LOG.error("Could not process registry change log entry: {}", change, ex);
+                }
+                lastChangeId = change.getId();
+            }
+
+            return true;
+        });
+    }
+
+    @VisibleForTesting
+    void cleanupChangeLog() throws Exception {
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        managedTransaction.executeFunction((ManagedTransactionFunction.Arg0<Object>) () -> {
+            storageManager.removeAllBelow(new StorableKey(RegistryChangeLogStorable.NAME_SPACE,
+                    new PrimaryKey(Collections.singletonMap(
+                            new Schema.Field(RegistryChangeLogStorable.TIMESTAMP, Schema.Type.LONG), cutoff))));
+            LOG.debug("Removed the registry change log entries older than {}.", cutoff);
+            return true;
+        });
+        lastCleanup = System.currentTimeMillis();
+    }
+
+    @VisibleForTesting
+    long getLastChangeId() {
+        return lastChangeId;
+    }
+
+    public void stopProcessing() {
+        isShutdown.set(true);
+    }
+}
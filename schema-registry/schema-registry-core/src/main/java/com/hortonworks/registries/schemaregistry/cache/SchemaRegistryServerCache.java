@@ -0,0 +1,365 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.hortonworks.registries.common.ServerCacheConfig;
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache used by the server to avoid a database round-trip for every schema metadata and
+ * schema version lookup. Schema versions are cached by id, by name and version and by fingerprint.
+ * <p>
+ * The cache is only populated by reads. Every write path is responsible for evicting the entries it touches,
+ * changes made by other registry nodes are evicted by the {@link RegistryChangeLogProcessor}. Entries are also
+ * dropped after the configured expiry time, which bounds the staleness if the change log can not be read.
+ * <p>
+ * Reads made inside a write transaction are not cached, as they may see changes which are rolled back later. The
+ * evictions made inside a write transaction are repeated after it is committed, so that entries which were loaded by
+ * other threads before the changes became visible are dropped as well. The transaction boundaries are reported by
+ * {@link ServerCacheTransactionManager}.
+ * <p>
+ * A value which was loaded outside of a transaction is not cached if an eviction ran while it was loaded, as it may
+ * have been read before a change was committed. The cached values are copied when they are put and returned, so that
+ * a caller which modifies a returned value does not change the value of the other callers.
+ */
+public class SchemaRegistryServerCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaRegistryServerCache.class);
+
+    private final boolean enabled;
+    private final Cache<String, SchemaMetadataInfo> metadataByName;
+    private final Cache<Long, SchemaMetadataInfo> metadataById;
+    private final Cache<Long, SchemaVersionInfo> versionById;
+    private final Cache<SchemaVersionKey, SchemaVersionInfo> versionByKey;
+    private final Cache<String, SchemaVersionInfo> versionByFingerprint;
+    private final Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+    private final ThreadLocal<WriteTransaction> writeTransaction = new ThreadLocal<>();
+    // incremented by every eviction, a value is not cached if it changed while the value was loaded
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SchemaRegistryServerCache(ServerCacheConfig config) {
+        this.enabled = config.isEnabled();
+        this.metadataByName = createCache(config);
+        this.metadataById = createCache(config);
+        this.versionById = createCache(config);
+        this.versionByKey = createCache(config);
+        this.versionByFingerprint = createCache(config);
+        caches.put("metadataByName", metadataByName);
+        caches.put("metadataById", metadataById);
+        caches.put("versionById", versionById);
+        caches.put("versionByKey", versionByKey);
+        caches.put("versionByFingerprint", versionByFingerprint);
+        LOG.info("Server cache is {}, size: {}, expiry: {} secs", enabled ? "enabled" : "disabled",
+                config.getSize(), config.getExpiryInSecs());
+    }
+
+    private static <K, V> Cache<K, V> createCache(ServerCacheConfig config) {
+        return CacheBuilder.newBuilder()
+                           .maximumSize(config.getSize())
+                           .expireAfterWrite(config.getExpiryInSecs(), TimeUnit.SECONDS)
+                           .recordStats()
+                           .build();
+    }
+
+    /**
+     * Loads a value from the underlying storage. Implementations may throw the checked exception of the
+     * lookup they wrap, e.g. {@link com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException}.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    public <E extends Exception> SchemaMetadataInfo getSchemaMetadataInfo(String schemaName,
+                                                                          Loader<SchemaMetadataInfo, E> loader) throws E {
+        return get(metadataByName, schemaName, loader, SchemaRegistryServerCache::copy);
+    }
+
+    public <E extends Exception> SchemaMetadataInfo getSchemaMetadataInfo(Long schemaMetadataId,
+                                                                          Loader<SchemaMetadataInfo, E> loader) throws E {
+        return get(metadataById, schemaMetadataId, loader, SchemaRegistryServerCache::copy);
+    }
+
+    public <E extends Exception> SchemaVersionInfo getSchemaVersionInfo(Long schemaVersionId,
+                                                                        Loader<SchemaVersionInfo, E> loader) throws E {
+        return get(versionById, schemaVersionId, loader, SchemaRegistryServerCache::copy);
+    }
+
+    /**
+     * Looks up several versions by their ids, the versions which are not cached are loaded together by the given loader.
+     *
+     * @return the versions which exist, versions which are not returned by the loader are left out
+     */
+    public Collection<SchemaVersionInfo> getSchemaVersionInfos(Collection<Long> schemaVersionIds,
+                                                               Function<Collection<Long>, Collection<SchemaVersionInfo>> loader) {
+        Set<Long> ids = new LinkedHashSet<>(schemaVersionIds);
+        ids.remove(null);
+        if (!enabled || ids.isEmpty()) {
+            return ids.isEmpty() ? Collections.emptyList() : loader.apply(ids);
+        }
+
+        List<SchemaVersionInfo> result = new ArrayList<>(ids.size());
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            SchemaVersionInfo value = versionById.getIfPresent(id);
+            if (value != null) {
+                result.add(copy(value));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            LOG.trace("Cache miss for {} of {} schema version ids", missingIds.size(), ids.size());
+            long generation = invalidations.get();
+            for (SchemaVersionInfo value : loader.apply(missingIds)) {
+                put(versionById, value.getId(), value, generation, SchemaRegistryServerCache::copy);
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param schemaVersionKey name and version of the schema, {@link SchemaVersionKey#LATEST_VERSION} is cached
+     *                         as a separate entry and evicted whenever a version is added to the schema.
+     */
+    public <E extends Exception> SchemaVersionInfo getSchemaVersionInfo(SchemaVersionKey schemaVersionKey,
+                                                                        Loader<SchemaVersionInfo, E> loader) throws E {
+        return get(versionByKey, schemaVersionKey, loader, SchemaRegistryServerCache::copy);
+    }
+
+    public <E extends Exception> SchemaVersionInfo getSchemaVersionInfoByFingerprint(String fingerprint,
+                                                                                     Loader<SchemaVersionInfo, E> loader) throws E {
+        return get(versionByFingerprint, fingerprint, loader, SchemaRegistryServerCache::copy);
+    }
+
+    private <K, V, E extends Exception> V get(Cache<K, V> cache, K key, Loader<V, E> loader, UnaryOperator<V> copy) throws E {
+        if (!enabled || key == null) {
+            return loader.load();
+        }
+
+        V value = cache.getIfPresent(key);
+        if (value != null) {
+            return copy.apply(value);
+        }
+
+        LOG.trace("Cache miss for key [{}]", key);
+        long generation = invalidations.get();
+        value = loader.load();
+        // missing entries are not cached, they are looked up again in the storage
+        if (value != null) {
+            put(cache, key, value, generation, copy);
+        }
+        return value;
+    }
+
+    /**
+     * Caches a copy of the given value unless it was loaded inside a write transaction or an eviction ran since the
+     * given generation. An eviction which runs concurrently with the put either sees the cached value or is seen by
+     * the check after the put, which drops the value again.
+     */
+    private <K, V> void put(Cache<K, V> cache, K key, V value, long generation, UnaryOperator<V> copy) {
+        if (writeTransaction.get() != null || invalidations.get() != generation) {
+            return;
+        }
+        V cached = copy.apply(value);
+        cache.put(key, cached);
+        if (invalidations.get() != generation) {
+            cache.asMap().remove(key, cached);
+        }
+    }
+
+    private static SchemaVersionInfo copy(SchemaVersionInfo info) {
+        SchemaVersionInfo copy = new SchemaVersionInfo(info.getId(), info.getName(), info.getVersion(), info.getSchemaMetadataId(),
+                info.getSchemaText(), info.getTimestamp(), info.getDescription(), info.getStateId());
+        copy.setMergeInfo(info.getMergeInfo());
+        return copy;
+    }
+
+    private static SchemaMetadataInfo copy(SchemaMetadataInfo info) {
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder(info.getSchemaMetadata()).build();
+        return new SchemaMetadataInfo(schemaMetadata, info.getId(), info.getTimestamp());
+    }
+
+    /** Evicts the schema metadata and all the versions which belong to the given schema. */
+    public void invalidateSchema(String schemaName) {
+        if (!enabled) {
+            return;
+        }
+        LOG.debug("Invalidating cache entries of schema [{}]", schemaName);
+        invalidate(() -> {
+            removeSchemaMetadata(schemaName);
+            versionByKey.asMap().keySet().removeIf(key -> schemaName.equals(key.getSchemaName()));
+            versionById.asMap().values().removeIf(info -> schemaName.equals(info.getName()));
+            versionByFingerprint.asMap().values().removeIf(info -> schemaName.equals(info.getName()));
+        });
+    }
+
+    public void invalidateSchemaMetadata(String schemaName) {
+        if (!enabled) {
+            return;
+        }
+        invalidate(() -> removeSchemaMetadata(schemaName));
+    }
+
+    private void removeSchemaMetadata(String schemaName) {
+        metadataByName.invalidate(schemaName);
+        metadataById.asMap().values().removeIf(info -> schemaName.equals(info.getSchemaMetadata().getName()));
+    }
+
+    /** Evicts the latest version of the schema, it has to be called whenever a new version is added. */
+    public void invalidateLatestSchemaVersion(String schemaName) {
+        if (!enabled) {
+            return;
+        }
+        invalidate(() -> versionByKey.invalidate(new SchemaVersionKey(schemaName, SchemaVersionKey.LATEST_VERSION)));
+    }
+
+    /** Evicts every entry which points to the schema version with the given id, e.g. after a state change. */
+    public void invalidateSchemaVersion(Long schemaVersionId) {
+        if (!enabled) {
+            return;
+        }
+        LOG.debug("Invalidating cache entries of schema version [{}]", schemaVersionId);
+        invalidate(() -> {
+            versionById.invalidate(schemaVersionId);
+            versionByKey.asMap().values().removeIf(info -> schemaVersionId.equals(info.getId()));
+            versionByFingerprint.asMap().values().removeIf(info -> schemaVersionId.equals(info.getId()));
+        });
+    }
+
+    public void invalidateAll() {
+        LOG.debug("Invalidating all the server cache entries");
+        invalidate(() -> caches.values().forEach(Cache::invalidateAll));
+    }
+
+    private void invalidate(Runnable invalidation) {
+        runInvalidation(invalidation);
+        WriteTransaction transaction = writeTransaction.get();
+        if (transaction != null) {
+            transaction.invalidations.add(invalidation);
+        }
+    }
+
+    private void runInvalidation(Runnable invalidation) {
+        // the generation is changed before the entries are evicted, see put
+        invalidations.incrementAndGet();
+        invalidation.run();
+    }
+
+    /**
+     * Marks the start of a write transaction on the current thread, nested transactions are part of the outer one.
+     */
+    public void beginWriteTransaction() {
+        WriteTransaction transaction = writeTransaction.get();
+        if (transaction == null) {
+            writeTransaction.set(new WriteTransaction());
+        } else {
+            transaction.nestingLevel++;
+        }
+    }
+
+    /**
+     * Marks the commit of the write transaction of the current thread. Once the outermost transaction is committed,
+     * the evictions made inside it are run again.
+     */
+    public void commitWriteTransaction() {
+        WriteTransaction transaction = endWriteTransaction();
+        if (transaction != null) {
+            transaction.invalidations.forEach(this::runInvalidation);
+        }
+    }
+
+    /**
+     * Marks the rollback of the write transaction of the current thread, nothing has to be evicted as the
+     * changes are discarded.
+     */
+    public void rollbackWriteTransaction() {
+        endWriteTransaction();
+    }
+
+    /** @return the ended transaction if it was the outermost one, otherwise null */
+    private WriteTransaction endWriteTransaction() {
+        WriteTransaction transaction = writeTransaction.get();
+        if (transaction == null) {
+            return null;
+        }
+        if (transaction.nestingLevel > 0) {
+            transaction.nestingLevel--;
+            return null;
+        }
+        writeTransaction.remove();
+        return transaction;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return statistics of the caches, keyed by the name under which they are reported as metrics.
+     */
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>();
+        caches.forEach((cacheName, cache) -> result.put(cacheName, cache.stats()));
+        return result;
+    }
+
+    /**
+     * Registers hit, miss, hit rate and eviction gauges of every cache in the given registry.
+     */
+    public void registerMetrics(MetricRegistry metricRegistry) {
+        caches.forEach((cacheName, cache) -> {
+            metricRegistry.register(MetricRegistry.name(SchemaRegistryServerCache.class, cacheName, "hits"),
+                    (Gauge<Long>) () -> cache.stats().hitCount());
+            metricRegistry.register(MetricRegistry.name(SchemaRegistryServerCache.class, cacheName, "misses"),
+                    (Gauge<Long>) () -> cache.stats().missCount());
+            metricRegistry.register(MetricRegistry.name(SchemaRegistryServerCache.class, cacheName, "hitRate"),
+                    (Gauge<Double>) () -> cache.stats().hitRate());
+            metricRegistry.register(MetricRegistry.name(SchemaRegistryServerCache.class, cacheName, "evictions"),
+                    (Gauge<Long>) () -> cache.stats().evictionCount());
+            metricRegistry.register(MetricRegistry.name(SchemaRegistryServerCache.class, cacheName, "size"),
+                    (Gauge<Long>) cache::size);
+        });
+    }
+
+    private static class WriteTransaction {
+        private final List<Runnable> invalidations = new ArrayList<>();
+        private int nestingLevel;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.hortonworks.registries.storage.StorableKey;
+import com.hortonworks.registries.storage.TransactionManager;
+import com.hortonworks.registries.storage.transaction.TransactionIsolation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the boundaries of the transactions of the given transaction manager to the server cache, so that the cache
+ * is not populated inside write transactions and evicts the entries they change once more after their commit.
+ */
+public class ServerCacheTransactionManager implements TransactionManager {
+
+    private final TransactionManager transactionManager;
+    private final SchemaRegistryServerCache serverCache;
+
+    public ServerCacheTransactionManager(TransactionManager transactionManager, SchemaRegistryServerCache serverCache) {
+        this.transactionManager = transactionManager;
+        this.serverCache = serverCache;
+    }
+
+    @Override
+    public void beginTransaction(TransactionIsolation transactionIsolationLevel) {
+        transactionManager.beginTransaction(transactionIsolationLevel);
+        serverCache.beginWriteTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        try {
+            transactionManager.rollbackTransaction();
+        } finally {
+            serverCache.rollbackWriteTransaction();
+        }
+    }
+
+    @Override
+    public void commitTransaction() {
+        try {
+            transactionManager.commitTransaction();
+        } finally {
+            // evicting is also safe if the commit failed, the entries are loaded again from the storage
+            serverCache.commitWriteTransaction();
+        }
+    }
+
+    @Override
+    public boolean readLock(StorableKey key, Long time, TimeUnit timeUnit) {
+        return transactionManager.readLock(key, time, timeUnit);
+    }
+
+    @Override
+    public boolean writeLock(StorableKey key, Long time, TimeUnit timeUnit) {
+        return transactionManager.writeLock(key, time, timeUnit);
+    }
+}
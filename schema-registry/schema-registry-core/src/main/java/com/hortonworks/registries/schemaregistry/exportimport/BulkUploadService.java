@@ -119,7 +119,7 @@ public class BulkUploadService {
         if (existingBranch != null && existingBranch.getSchemaMetadataName().equals(info.getSchemaMetadata().getName())) {
             SchemaBranch finalExistingBranch = existingBranch;
             branch.getSchemaVersionInfos().stream()
-                .sorted(Comparator.comparingLong(SchemaVersionInfo::getId))
+                .sorted(Comparator.comparingInt(SchemaVersionInfo::getVersion))
                 .forEach(schemaVersionInfo -> {
                     try {
                         handleAlreadyExistingSchemaVersion(schemaVersionInfo, failedIds);
@@ -70,6 +70,11 @@ public class StreamsSchemaProvider extends AbstractSchemaProvider {
         }
     }
 
+    @Override
+    public boolean dependsOnOtherSchemas(String schemaText) {
+        return false;
+    }
+
     @Override
     public List<SchemaFieldInfo> generateFields(String schemaText) {
         // schema should be in json form.
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.schemaregistry;
+
+import com.hortonworks.registries.schemaregistry.avro.AvroSchemaProvider;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompatibilityCheckExecutorTest {
+
+    private static final int VERSIONS = 500;
+
+    private final AvroSchemaProvider schemaProvider = new AvroSchemaProvider();
+    private List<String> versions;
+    private AtomicInteger checks;
+
+    @BeforeEach
+    public void setup() {
+        // version i has the int fields f0 to fi
+        versions = new ArrayList<>(VERSIONS);
+        for (int i = 0; i < VERSIONS; i++) {
+            versions.add(schema(i + 1, -1, false));
+        }
+        checks = new AtomicInteger();
+    }
+
+    @Test
+    public void testCompatibleWithAllVersions() {
+        String toSchema = schema(VERSIONS + 1, -1, true);
+
+        Pair<String, CompatibilityResult> parallel;
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(4, 10)) {
+            parallel = executor.check(versions, check(toSchema));
+        }
+        Pair<String, CompatibilityResult> sequential = new CompatibilityCheckExecutor(0, 0).check(versions, check(toSchema));
+
+        assertTrue(parallel.getRight().isCompatible());
+        assertSame(versions.get(VERSIONS - 1), parallel.getLeft());
+        assertEquals(sequential.getRight().getSchema(), parallel.getRight().getSchema());
+        assertEquals(2 * VERSIONS, checks.get());
+    }
+
+    @Test
+    public void testFirstIncompatibleVersionIsReported() {
+        // f100 is a string in versions 250 and 400, it can not be read as an int by the new schema
+        versions.set(250, schema(251, 100, false));
+        versions.set(400, schema(401, 100, false));
+        String toSchema = schema(VERSIONS + 1, -1, true);
+
+        Pair<String, CompatibilityResult> sequential = new CompatibilityCheckExecutor(0, 0).check(versions, check(toSchema));
+        int sequentialChecks = checks.getAndSet(0);
+        Pair<String, CompatibilityResult> parallel;
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(4, 10)) {
+            parallel = executor.check(versions, check(toSchema));
+        }
+
+        assertFalse(parallel.getRight().isCompatible());
+        assertSame(versions.get(250), parallel.getLeft());
+        assertEquals(sequential.getRight().getErrorMessage(), parallel.getRight().getErrorMessage());
+        assertEquals(sequential.getRight().getErrorLocation(), parallel.getRight().getErrorLocation());
+        assertEquals(251, sequentialChecks);
+    }
+
+    @Test
+    public void testVersionsAreCheckedInParallel() {
+        // the first version is checked until the second version has been checked by another thread
+        CountDownLatch secondVersionChecked = new CountDownLatch(1);
+        String toSchema = schema(VERSIONS + 1, -1, true);
+        Function<String, CompatibilityResult> check = check(toSchema);
+
+        Pair<String, CompatibilityResult> result;
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(2, VERSIONS)) {
+            result = executor.check(versions, version -> {
+                CompatibilityResult compatibilityResult = check.apply(version);
+                if (version.equals(versions.get(0))) {
+                    await(secondVersionChecked);
+                } else if (version.equals(versions.get(1))) {
+                    secondVersionChecked.countDown();
+                }
+                return compatibilityResult;
+            });
+        }
+
+        assertTrue(result.getRight().isCompatible());
+        assertSame(versions.get(VERSIONS - 1), result.getLeft());
+        assertEquals(VERSIONS, checks.get());
+    }
+
+    @Test
+    public void testChecksAfterIncompatibleVersionAreSkipped() {
+        // f0 is a string in the first version, it can not be read as an int by the new schema
+        versions.set(0, schema(1, 0, false));
+        String toSchema = schema(VERSIONS + 1, -1, true);
+
+        Pair<String, CompatibilityResult> result;
+        // a single thread takes the queued checks after the first one has been completed
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(1, VERSIONS)) {
+            result = executor.check(versions, check(toSchema));
+        }
+
+        assertFalse(result.getRight().isCompatible());
+        assertSame(versions.get(0), result.getLeft());
+        assertEquals(1, checks.get());
+    }
+
+    @Test
+    public void testNoVersions() {
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(4, 10)) {
+            assertNull(executor.check(Collections.<String>emptyList(), check("")));
+        }
+    }
+
+    @Test
+    public void testCheckFailureIsThrown() {
+        versions.set(10, "not a schema");
+        String toSchema = schema(VERSIONS + 1, -1, true);
+
+        try (CompatibilityCheckExecutor executor = new CompatibilityCheckExecutor(4, 10)) {
+            assertThrows(RuntimeException.class, () -> executor.check(versions, check(toSchema)));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Function<String, CompatibilityResult> check(String toSchema) {
+        return existingSchema -> {
+            checks.incrementAndGet();
+            return schemaProvider.checkCompatibility(toSchema, existingSchema, SchemaCompatibility.BACKWARD);
+        };
+    }
+
+    private static String schema(int fields, int stringField, boolean defaults) {
+        StringBuilder schema = new StringBuilder("{\"type\":\"record\",\"name\":\"trucks\",\"fields\":[");
+        for (int i = 0; i < fields; i++) {
+            if (i > 0) {
+                schema.append(',');
+            }
+            schema.append("{\"name\":\"f").append(i).append("\",\"type\":\"")
+                    .append(i == stringField ? "string" : "int").append('"');
+            if (defaults) {
+                schema.append(",\"default\":0");
+            }
+            schema.append('}');
+        }
+        return schema.append("]}").toString();
+    }
+}
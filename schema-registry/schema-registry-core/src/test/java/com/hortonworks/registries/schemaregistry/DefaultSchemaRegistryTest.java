@@ -16,9 +16,11 @@
 package com.hortonworks.registries.schemaregistry;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.hortonworks.registries.common.CompatibilityConfig;
 import com.hortonworks.registries.common.QueryParam;
 import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.common.ServerCacheConfig;
 import com.hortonworks.registries.schemaregistry.avro.AvroSchemaProvider;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 import com.hortonworks.registries.schemaregistry.json.JsonSchemaProvider;
@@ -37,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -44,8 +47,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -337,6 +344,158 @@ public class DefaultSchemaRegistryTest {
         assertEquals(actual, expected);
     }
 
+    @Test
+    public void getAllVersionsDoesNotQueryEachVersion() throws Exception {
+        //given
+        StorageManager storageManager = spy(new InMemoryStorageManager());
+        setupWithoutServerCache(storageManager);
+        String schemaName = "versions";
+        addAvroSchemaMetadata(schemaName);
+        underTest.addSchemaVersion(schemaName, new SchemaVersion(createAvroSchema(0), "version 0"), false);
+
+        //when
+        int queriesWithOneVersion = countStorageQueries(storageManager, () -> underTest.getAllVersions(schemaName));
+        for (int i = 1; i < 20; i++) {
+            underTest.addSchemaVersion(schemaName, new SchemaVersion(createAvroSchema(i), "version " + i), false);
+        }
+        Collection<SchemaVersionInfo> allVersions = underTest.getAllVersions(schemaName);
+        int queriesWithManyVersions = countStorageQueries(storageManager, () -> underTest.getAllVersions(schemaName));
+
+        //then
+        assertEquals(20, allVersions.size());
+        assertEquals(queriesWithOneVersion, queriesWithManyVersions);
+    }
+
+    @Test
+    public void getLatestSchemaVersionInfo() throws Exception {
+        //given
+        setupWithoutServerCache(new InMemoryStorageManager());
+        String schemaName = "latest";
+        addAvroSchemaMetadata(schemaName);
+        List<SchemaIdVersion> schemaIdVersions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            schemaIdVersions.add(underTest.addSchemaVersion(schemaName, new SchemaVersion(createAvroSchema(i), "version " + i), false));
+        }
+        underTest.disableSchemaVersion(schemaIdVersions.get(2).getSchemaVersionId());
+
+        //when
+        SchemaVersionInfo latest = underTest.getLatestSchemaVersionInfo(schemaName);
+        SchemaVersionInfo latestOnMaster = underTest.getLatestSchemaVersionInfo(SchemaBranch.MASTER_BRANCH, schemaName);
+        SchemaVersionInfo latestEnabled = underTest.getLatestEnabledSchemaVersionInfo(SchemaBranch.MASTER_BRANCH, schemaName);
+
+        //then
+        assertEquals(schemaIdVersions.get(2).getSchemaVersionId(), latest.getId());
+        assertEquals(schemaIdVersions.get(2).getSchemaVersionId(), latestOnMaster.getId());
+        assertEquals(schemaIdVersions.get(1).getSchemaVersionId(), latestEnabled.getId());
+        assertThrows(SchemaNotFoundException.class, () -> underTest.getLatestSchemaVersionInfo("not-existing"));
+    }
+
+    @Test
+    public void addSchemaVersionAddsFieldsWithOneBatch() throws Exception {
+        //given
+        StorageManager storageManager = spy(new InMemoryStorageManager());
+        setupWithoutServerCache(storageManager);
+        String schemaName = "wide";
+        addAvroSchemaMetadata(schemaName);
+
+        //when
+        underTest.addSchemaVersion(schemaName, new SchemaVersion(createAvroSchema(299), "wide record"), false);
+
+        //then
+        verify(storageManager, never()).add(any(SchemaFieldInfoStorable.class));
+        verify(storageManager, times(1)).addAll(anyCollection());
+        assertEquals(300, storageManager.list(SchemaFieldInfoStorable.STORABLE_NAME_SPACE).size());
+    }
+
+    @Test
+    public void addSchemaVersionWithSameTextReturnsExistingVersion() throws Exception {
+        //given
+        StorageManager storageManager = new InMemoryStorageManager();
+        setupWithoutServerCache(storageManager);
+        String schemaName = "restarted";
+        addAvroSchemaMetadata(schemaName);
+        String schemaText = createAvroSchema(3);
+        SchemaIdVersion added = underTest.addSchemaVersion(schemaName, new SchemaVersion(schemaText, "version 0"), false);
+
+        //when
+        // a new registry has no fingerprint in memory, it fingerprints the text again
+        setupWithoutServerCache(storageManager);
+        SchemaIdVersion addedAgain = underTest.addSchemaVersion(schemaName, new SchemaVersion(schemaText, "version 0"), false);
+        SchemaIdVersion addedWithOtherFormat = underTest.addSchemaVersion(schemaName,
+                new SchemaVersion(schemaText.replace(", ", ",\n  "), "version 0"), false);
+
+        //then
+        assertEquals(added.getSchemaVersionId(), addedAgain.getSchemaVersionId());
+        assertEquals(added.getSchemaVersionId(), addedWithOtherFormat.getSchemaVersionId());
+        Collection<SchemaVersionStorable> versions = storageManager.list(SchemaVersionStorable.NAME_SPACE);
+        assertEquals(1, versions.size());
+    }
+
+    @Test
+    public void deleteSchemaRemovesStatesWithOneBatch() throws Exception {
+        //given
+        StorageManager storageManager = spy(new InMemoryStorageManager());
+        setupWithoutServerCache(storageManager);
+        String schemaName = "deleted";
+        addAvroSchemaMetadata(schemaName);
+        for (int i = 0; i < 5; i++) {
+            underTest.addSchemaVersion(schemaName, new SchemaVersion(createAvroSchema(i), "version " + i), false);
+        }
+
+        //when
+        underTest.deleteSchema(schemaName);
+
+        //then
+        // one batch for the version states and one for the serdes mappings
+        verify(storageManager, times(2)).removeAll(anyCollection());
+        assertEquals(0, storageManager.list(SchemaVersionStateStorable.NAME_SPACE).size());
+        assertNull(underTest.getSchemaMetadataInfo(schemaName));
+    }
+
+    private void setupWithoutServerCache(StorageManager storageManager) {
+        ServerCacheConfig serverCacheConfig = new ServerCacheConfig();
+        serverCacheConfig.setEnabled(false);
+        RegistryConfiguration configuration = new RegistryConfiguration();
+        configuration.setServerCache(serverCacheConfig);
+        Collection<Map<String, Object>> schemaProvidersConfig =
+                Collections.singletonList(Collections.singletonMap("providerClass", AvroSchemaProvider.class.getName()));
+        underTest = new DefaultSchemaRegistry(configuration, storageManager, null, schemaProvidersConfig,
+                new SchemaLockManager(new NOOPTransactionManager()), new CompatibilityConfig());
+    }
+
+    private void addAvroSchemaMetadata(String schemaName) {
+        underTest.addSchemaMetadata(new SchemaMetadata.Builder(schemaName)
+                .type(AvroSchemaProvider.TYPE)
+                .schemaGroup("kafka")
+                .compatibility(SchemaCompatibility.NONE)
+                .build());
+    }
+
+    private int countStorageQueries(StorageManager storageManager, ThrowingRunnable runnable) throws Exception {
+        Set<String> queryMethods = ImmutableSet.of("get", "find", "list", "search");
+        long before = mockingDetails(storageManager).getInvocations().stream()
+                .filter(invocation -> queryMethods.contains(invocation.getMethod().getName()))
+                .count();
+        runnable.run();
+        long after = mockingDetails(storageManager).getInvocations().stream()
+                .filter(invocation -> queryMethods.contains(invocation.getMethod().getName()))
+                .count();
+        return (int) (after - before);
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private String createAvroSchema(int fieldCount) {
+        StringBuilder fields = new StringBuilder("{\"name\": \"f0\", \"type\": \"string\"}");
+        for (int i = 1; i <= fieldCount; i++) {
+            fields.append(", {\"name\": \"f").append(i).append("\", \"type\": \"string\"}");
+        }
+        return "{\"type\": \"record\", \"name\": \"Versions\", \"namespace\": \"com.example\", \"fields\": ["
+                + fields + "]}";
+    }
+
     private SchemaMetadataStorable createSchemaMetadataStorable(String schemaName) {
         SchemaMetadataStorable storable = new SchemaMetadataStorable();
         storable.setId(1L);
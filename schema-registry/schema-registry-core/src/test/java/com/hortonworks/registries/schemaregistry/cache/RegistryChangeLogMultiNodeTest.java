@@ -0,0 +1,172 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.hortonworks.registries.common.ServerCacheConfig;
+import com.hortonworks.registries.schemaregistry.RegistryChangeLogStorable;
+import com.hortonworks.registries.storage.impl.jdbc.JdbcStorageManager;
+import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.config.HikariBasicConfig;
+import com.hortonworks.registries.storage.impl.jdbc.connection.HikariCPConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory.MySqlExecutor;
+import com.hortonworks.registries.storage.transaction.TransactionIsolation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Two registry nodes share an H2 database and read the change log written by each other.
+ */
+public class RegistryChangeLogMultiNodeTest {
+
+    private HikariCPConnectionBuilder firstConnectionBuilder;
+    private HikariCPConnectionBuilder secondConnectionBuilder;
+    private JdbcStorageManager firstNode;
+    private JdbcStorageManager secondNode;
+    private RegistryChangeLog firstNodeChangeLog;
+    private RegistryChangeLog secondNodeChangeLog;
+    private RegistryChangeLogProcessor secondNodeProcessor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        firstConnectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        secondConnectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        execute("CREATE TABLE IF NOT EXISTS namespace_sequence (namespace VARCHAR(100) NOT NULL, " +
+                "nextId BIGINT NOT NULL, PRIMARY KEY (namespace))");
+        execute("CREATE TABLE IF NOT EXISTS registry_change_log (id BIGINT NOT NULL, type INT NOT NULL, " +
+                "schemaName VARCHAR(255), schemaVersionId BIGINT, timestamp BIGINT NOT NULL, PRIMARY KEY (id))");
+
+        firstNode = createNode(firstConnectionBuilder);
+        secondNode = createNode(secondConnectionBuilder);
+        firstNodeChangeLog = new RegistryChangeLog(firstNode, new SchemaRegistryServerCache(new ServerCacheConfig()));
+        secondNodeChangeLog = spy(new RegistryChangeLog(secondNode,
+                new SchemaRegistryServerCache(new ServerCacheConfig())));
+        secondNodeProcessor = new RegistryChangeLogProcessor(secondNodeChangeLog, secondNode, secondNode,
+                1000L, 3600_000L);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        execute("DROP TABLE registry_change_log");
+        execute("DROP TABLE namespace_sequence");
+        firstNode.cleanup();
+        secondNode.cleanup();
+    }
+
+    @Test
+    public void testChangesOfOtherNodeAreProcessedOnce() throws Exception {
+        inTransaction(firstNode, () -> firstNodeChangeLog.schemaMetadataChanged("first"));
+        inTransaction(firstNode, () -> firstNodeChangeLog.schemaVersionAdded("second", 2L));
+
+        secondNodeProcessor.processChangeLog();
+        secondNodeProcessor.processChangeLog();
+
+        assertEquals(Arrays.asList("first", "second"), appliedSchemaNames(2));
+    }
+
+    @Test
+    public void testChangeCommittedAfterPollIsNotSkipped() throws Exception {
+        ExecutorService secondNodeWriter = Executors.newSingleThreadExecutor();
+        try {
+            firstNode.beginTransaction(TransactionIsolation.READ_COMMITTED);
+            firstNodeChangeLog.schemaMetadataChanged("first");
+
+            // the id sequence stays locked until the first node commits, the second node can not get an id before
+            Future<?> secondChange = secondNodeWriter.submit(() ->
+                    inTransaction(secondNode, () -> secondNodeChangeLog.schemaMetadataChanged("second")));
+            Thread.sleep(200L);
+            assertFalse(secondChange.isDone());
+
+            secondNodeProcessor.processChangeLog();
+            assertEquals(0L, secondNodeProcessor.getLastChangeId());
+
+            firstNode.commitTransaction();
+            secondChange.get(10, SECONDS);
+
+            secondNodeProcessor.processChangeLog();
+            assertEquals(Arrays.asList("first", "second"), appliedSchemaNames(2));
+        } finally {
+            secondNodeWriter.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOldChangesAreRemoved() throws Exception {
+        inTransaction(firstNode, () -> firstNodeChangeLog.schemaMetadataChanged("first"));
+        inTransaction(firstNode, () -> firstNodeChangeLog.schemaMetadataChanged("second"));
+        RegistryChangeLogProcessor processor = new RegistryChangeLogProcessor(secondNodeChangeLog, secondNode,
+                secondNode, 1000L, -1000L);
+
+        processor.cleanupChangeLog();
+
+        assertTrue(secondNode.list(RegistryChangeLogStorable.NAME_SPACE).isEmpty());
+    }
+
+    private List<String> appliedSchemaNames(int count) {
+        ArgumentCaptor<RegistryChangeLogStorable> changes = ArgumentCaptor.forClass(RegistryChangeLogStorable.class);
+        verify(secondNodeChangeLog, times(count)).apply(changes.capture());
+        return changes.getAllValues().stream()
+                .map(RegistryChangeLogStorable::getSchemaName)
+                .collect(Collectors.toList());
+    }
+
+    private static void inTransaction(JdbcStorageManager node, Runnable action) {
+        node.beginTransaction(TransactionIsolation.READ_COMMITTED);
+        boolean committed = false;
+        try {
+            action.run();
+            node.commitTransaction();
+            committed = true;
+        } finally {
+            if (!committed) {
+                node.rollbackTransaction();
+            }
+        }
+    }
+
+    private JdbcStorageManager createNode(HikariCPConnectionBuilder connectionBuilder) {
+        JdbcStorageManager node = new JdbcStorageManager(new MySqlExecutor(new ExecutionConfig(-1), connectionBuilder));
+        node.registerStorables(Collections.singleton(RegistryChangeLogStorable.class));
+        return node;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = firstConnectionBuilder.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
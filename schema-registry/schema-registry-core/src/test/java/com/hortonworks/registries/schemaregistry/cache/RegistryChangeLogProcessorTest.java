@@ -0,0 +1,139 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.hortonworks.registries.common.CompatibilityConfig;
+import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.common.ServerCacheConfig;
+import com.hortonworks.registries.schemaregistry.DefaultSchemaRegistry;
+import com.hortonworks.registries.schemaregistry.RegistryChangeLogStorable;
+import com.hortonworks.registries.schemaregistry.SchemaCompatibility;
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaValidationLevel;
+import com.hortonworks.registries.schemaregistry.avro.AvroSchemaProvider;
+import com.hortonworks.registries.schemaregistry.locks.SchemaLockManager;
+import com.hortonworks.registries.storage.NOOPTransactionManager;
+import com.hortonworks.registries.storage.StorageManager;
+import com.hortonworks.registries.storage.impl.memory.InMemoryStorageManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Two registry nodes share the same storage but have their own server cache.
+ */
+public class RegistryChangeLogProcessorTest {
+
+    private static final String SCHEMA_NAME = "change-log-test";
+
+    private StorageManager storageManager;
+    private DefaultSchemaRegistry firstNode;
+    private DefaultSchemaRegistry secondNode;
+    private RegistryChangeLog secondNodeChangeLog;
+    private RegistryChangeLogProcessor secondNodeProcessor;
+
+    @BeforeEach
+    public void setup() {
+        storageManager = new InMemoryStorageManager();
+        firstNode = createRegistry(new SchemaRegistryServerCache(new ServerCacheConfig()));
+        SchemaRegistryServerCache secondNodeCache = new SchemaRegistryServerCache(new ServerCacheConfig());
+        secondNode = createRegistry(secondNodeCache);
+        secondNodeChangeLog = spy(new RegistryChangeLog(storageManager, secondNodeCache));
+        secondNodeProcessor = new RegistryChangeLogProcessor(secondNodeChangeLog,
+                storageManager, new NOOPTransactionManager(), 1000L, 3600_000L);
+    }
+
+    @Test
+    public void testUpdateOnOtherNodeIsEvicted() throws Exception {
+        firstNode.addSchemaMetadata(createSchemaMetadata("first"));
+        assertEquals("first", secondNode.getSchemaMetadataInfo(SCHEMA_NAME).getSchemaMetadata().getDescription());
+
+        firstNode.updateSchemaMetadata(SCHEMA_NAME, createSchemaMetadata("second"));
+        // the second node still serves its cached entry until it reads the change log
+        assertEquals("first", secondNode.getSchemaMetadataInfo(SCHEMA_NAME).getSchemaMetadata().getDescription());
+
+        secondNodeProcessor.processChangeLog();
+
+        assertEquals("second", secondNode.getSchemaMetadataInfo(SCHEMA_NAME).getSchemaMetadata().getDescription());
+    }
+
+    @Test
+    public void testDeleteOnOtherNodeIsEvicted() throws Exception {
+        firstNode.addSchemaMetadata(createSchemaMetadata("first"));
+        secondNode.getSchemaMetadataInfo(SCHEMA_NAME);
+
+        firstNode.deleteSchema(SCHEMA_NAME);
+        secondNodeProcessor.processChangeLog();
+
+        assertNull(secondNode.getSchemaMetadataInfo(SCHEMA_NAME));
+    }
+
+    @Test
+    public void testChangesAreProcessedOnce() throws Exception {
+        firstNode.addSchemaMetadata(createSchemaMetadata("first"));
+        firstNode.updateSchemaMetadata(SCHEMA_NAME, createSchemaMetadata("second"));
+        Collection<RegistryChangeLogStorable> changes = storageManager.list(RegistryChangeLogStorable.NAME_SPACE);
+        long lastId = changes.stream().mapToLong(RegistryChangeLogStorable::getId).max().getAsLong();
+
+        secondNodeProcessor.processChangeLog();
+        assertEquals(lastId, secondNodeProcessor.getLastChangeId());
+
+        secondNodeProcessor.processChangeLog();
+        assertEquals(lastId, secondNodeProcessor.getLastChangeId());
+        verify(secondNodeChangeLog, times(changes.size())).apply(any(RegistryChangeLogStorable.class));
+    }
+
+    @Test
+    public void testOldChangesAreRemoved() throws Exception {
+        firstNode.addSchemaMetadata(createSchemaMetadata("first"));
+        RegistryChangeLogProcessor processor = new RegistryChangeLogProcessor(secondNodeChangeLog,
+                storageManager, new NOOPTransactionManager(), 1000L, -1000L);
+
+        processor.cleanupChangeLog();
+
+        assertTrue(storageManager.list(RegistryChangeLogStorable.NAME_SPACE).isEmpty());
+    }
+
+    private DefaultSchemaRegistry createRegistry(SchemaRegistryServerCache serverCache) {
+        Collection<Map<String, Object>> schemaProvidersConfig =
+                ImmutableList.of(Collections.singletonMap("providerClass", AvroSchemaProvider.class.getName()));
+        return new DefaultSchemaRegistry(new RegistryConfiguration(), storageManager, null, schemaProvidersConfig,
+                new SchemaLockManager(new NOOPTransactionManager()), new CompatibilityConfig(), serverCache);
+    }
+
+    private SchemaMetadata createSchemaMetadata(String description) {
+        return new SchemaMetadata.Builder(SCHEMA_NAME)
+                .type(AvroSchemaProvider.TYPE)
+                .description(description)
+                .evolve(true)
+                .compatibility(SchemaCompatibility.BACKWARD)
+                .validationLevel(SchemaValidationLevel.DEFAULT_VALIDATION_LEVEL)
+                .schemaGroup("kafka")
+                .build();
+    }
+}
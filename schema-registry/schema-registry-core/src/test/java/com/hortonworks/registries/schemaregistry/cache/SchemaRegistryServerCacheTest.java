@@ -0,0 +1,207 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.cache;
+
+import com.hortonworks.registries.common.ServerCacheConfig;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.SchemaVersionKey;
+import com.hortonworks.registries.schemaregistry.state.details.MergeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class SchemaRegistryServerCacheTest {
+
+    private static final String SCHEMA_NAME = "test-schema";
+
+    private SchemaRegistryServerCache underTest;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup() {
+        underTest = new SchemaRegistryServerCache(new ServerCacheConfig());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void testReadThrough() {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+
+        SchemaVersionInfo first = underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        SchemaVersionInfo second = underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+
+        assertEquals(versionInfo, first);
+        assertEquals(versionInfo, second);
+        assertEquals(1, loads.get());
+        assertEquals(1L, underTest.stats().get("versionById").hitCount());
+        assertEquals(1L, underTest.stats().get("versionById").missCount());
+    }
+
+    @Test
+    public void testBulkReadLoadsOnlyMissingVersions() {
+        SchemaVersionInfo first = createSchemaVersionInfo(1L, 1);
+        SchemaVersionInfo second = createSchemaVersionInfo(2L, 2);
+        underTest.getSchemaVersionInfo(1L, () -> load(first));
+        List<Collection<Long>> loadedIds = new ArrayList<>();
+
+        Collection<SchemaVersionInfo> result = underTest.getSchemaVersionInfos(Arrays.asList(1L, 2L, 3L, 2L), ids -> {
+            loadedIds.add(new ArrayList<>(ids));
+            return Collections.singletonList(second);
+        });
+
+        assertEquals(Arrays.asList(first, second), new ArrayList<>(result));
+        assertEquals(Collections.singletonList(Arrays.asList(2L, 3L)), loadedIds);
+        assertEquals(second, underTest.getSchemaVersionInfo(2L, () -> load(null)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testMissingEntriesAreNotCached() {
+        assertNull(underTest.getSchemaMetadataInfo(SCHEMA_NAME, () -> load(null)));
+        assertNull(underTest.getSchemaMetadataInfo(SCHEMA_NAME, () -> load(null)));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testReadsInsideWriteTransactionAreNotCached() {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+
+        underTest.beginWriteTransaction();
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        underTest.getSchemaVersionInfos(Collections.singletonList(1L), ids -> Collections.singletonList(load(versionInfo)));
+        underTest.rollbackWriteTransaction();
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testInvalidationIsRepeatedAfterCommit() throws Exception {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+
+        underTest.beginWriteTransaction();
+        underTest.beginWriteTransaction();
+        underTest.invalidateSchemaVersion(1L);
+        // another request loads the version before the change is committed
+        Thread reader = new Thread(() -> underTest.getSchemaVersionInfo(1L, () -> load(versionInfo)));
+        reader.start();
+        reader.join();
+        underTest.commitWriteTransaction();
+        assertEquals(versionInfo, underTest.getSchemaVersionInfo(1L, () -> load(null)));
+
+        underTest.commitWriteTransaction();
+        assertNull(underTest.getSchemaVersionInfo(1L, () -> load(null)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testValueLoadedDuringInvalidationIsNotCached() {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+
+        // a writer commits and evicts the version while a reader is loading the old one
+        underTest.getSchemaVersionInfo(1L, () -> {
+            underTest.invalidateSchemaVersion(1L);
+            return load(versionInfo);
+        });
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCachedValuesAreNotShared() {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+
+        SchemaVersionInfo first = underTest.getSchemaVersionInfo(1L, () -> load(null));
+        first.setMergeInfo(new MergeInfo("branch", 2L));
+        SchemaVersionInfo second = underTest.getSchemaVersionInfo(1L, () -> load(null));
+
+        assertNotSame(first, second);
+        assertNull(second.getMergeInfo());
+        assertFalse(underTest.getSchemaVersionInfos(Collections.singletonList(1L), ids -> Collections.emptyList())
+                .contains(first));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testInvalidateSchemaVersion() {
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+        SchemaVersionKey latestKey = new SchemaVersionKey(SCHEMA_NAME, SchemaVersionKey.LATEST_VERSION);
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        underTest.getSchemaVersionInfo(latestKey, () -> load(versionInfo));
+        underTest.getSchemaVersionInfoByFingerprint("fingerprint", () -> load(versionInfo));
+
+        underTest.invalidateSchemaVersion(1L);
+
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        underTest.getSchemaVersionInfo(latestKey, () -> load(versionInfo));
+        underTest.getSchemaVersionInfoByFingerprint("fingerprint", () -> load(versionInfo));
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    public void testInvalidateLatestSchemaVersion() {
+        SchemaVersionInfo first = createSchemaVersionInfo(1L, 1);
+        SchemaVersionInfo second = createSchemaVersionInfo(2L, 2);
+        SchemaVersionKey latestKey = new SchemaVersionKey(SCHEMA_NAME, SchemaVersionKey.LATEST_VERSION);
+        SchemaVersionKey firstKey = new SchemaVersionKey(SCHEMA_NAME, 1);
+        underTest.getSchemaVersionInfo(latestKey, () -> load(first));
+        underTest.getSchemaVersionInfo(firstKey, () -> load(first));
+
+        underTest.invalidateLatestSchemaVersion(SCHEMA_NAME);
+
+        assertEquals(second, underTest.getSchemaVersionInfo(latestKey, () -> load(second)));
+        assertEquals(first, underTest.getSchemaVersionInfo(firstKey, () -> load(first)));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysLoads() {
+        ServerCacheConfig config = new ServerCacheConfig();
+        config.setEnabled(false);
+        underTest = new SchemaRegistryServerCache(config);
+        SchemaVersionInfo versionInfo = createSchemaVersionInfo(1L, 1);
+
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+        underTest.getSchemaVersionInfo(1L, () -> load(versionInfo));
+
+        assertEquals(2, loads.get());
+    }
+
+    private <T> T load(T value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private SchemaVersionInfo createSchemaVersionInfo(Long id, Integer version) {
+        return new SchemaVersionInfo(id, SCHEMA_NAME, version, 1L, "{\"type\":\"string\"}",
+                System.currentTimeMillis(), "description", null);
+    }
+}
@@ -14,16 +14,23 @@
  **/
 package com.hortonworks.registries.schemaregistry.serde;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
 import com.hortonworks.registries.schemaregistry.SchemaMetadata;
 import com.hortonworks.registries.schemaregistry.SchemaVersion;
 import com.hortonworks.registries.schemaregistry.client.ISchemaRegistryClient;
+import com.hortonworks.registries.schemaregistry.client.SchemaRegistryClient;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaBranchNotFoundException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 import com.hortonworks.registries.schemaregistry.exceptions.RegistryException;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This class implements {@link SnapshotSerializer} and internally creates schema registry client to connect to the
  * target schema registry.
@@ -33,9 +40,17 @@ import com.hortonworks.registries.schemaregistry.exceptions.RegistryException;
  *    <li>{@link #doSerialize(Object, SchemaIdVersion)}</li>
  *    <li>{@link #getSchemaText(Object)}</li>
  * </ul>
+ *
+ * Extensions can also override {@link #getSchemaIdentity(Object)} so that the schema of a payload is registered only
+ * once for equal schema identities.
  */
 public abstract class AbstractSnapshotSerializer<I, O> extends AbstractSerDes implements SnapshotSerializer<I, O, SchemaMetadata> {
 
+    // schema identity -> schema name -> registered version
+    private Cache<Object, Map<String, SchemaIdVersion>> schemaVersionCache =
+            createSchemaVersionCache(SchemaRegistryClient.Configuration.DEFAULT_SCHEMA_CACHE_SIZE,
+                                     SchemaRegistryClient.Configuration.DEFAULT_SCHEMA_CACHE_EXPIRY_INTERVAL_SECS);
+
     public AbstractSnapshotSerializer() {
     }
 
@@ -43,24 +58,84 @@ public abstract class AbstractSnapshotSerializer<I, O> extends AbstractSerDes im
         super(schemaRegistryClient);
     }
 
+    /**
+     * Sizes the cache of the registered versions like the schema text cache of the client, with
+     * {@link SchemaRegistryClient.Configuration#SCHEMA_TEXT_CACHE_SIZE} and
+     * {@link SchemaRegistryClient.Configuration#SCHEMA_TEXT_CACHE_EXPIRY_INTERVAL_SECS}. Extensions which override
+     * this method should call it.
+     */
+    @Override
+    protected void doInit(Map<String, ?> config) {
+        SchemaRegistryClient.Configuration configuration = new SchemaRegistryClient.Configuration(config);
+        long cacheSize = ((Number) configuration.getValue(SchemaRegistryClient.Configuration.SCHEMA_TEXT_CACHE_SIZE.name())).longValue();
+        long expiryInSecs =
+                ((Number) configuration.getValue(SchemaRegistryClient.Configuration.SCHEMA_TEXT_CACHE_EXPIRY_INTERVAL_SECS.name())).longValue();
+        schemaVersionCache = createSchemaVersionCache(cacheSize, expiryInSecs);
+    }
+
+    private static Cache<Object, Map<String, SchemaIdVersion>> createSchemaVersionCache(long cacheSize, long expiryInSecs) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(expiryInSecs, TimeUnit.SECONDS)
+                .build();
+    }
+
     @Override
     public final O serialize(I input, SchemaMetadata schemaMetadata) throws SerDesException {
         ensureInitialized();
 
+        Object schemaIdentity = getSchemaIdentity(input);
+        Map<String, SchemaIdVersion> schemaVersions = null;
+        SchemaIdVersion schemaIdVersion = null;
+        if (schemaIdentity != null) {
+            schemaVersions = schemaVersionCache.getIfPresent(schemaIdentity);
+            if (schemaVersions != null) {
+                schemaIdVersion = schemaVersions.get(schemaMetadata.getName());
+            }
+        }
+
+        if (schemaIdVersion == null) {
+            schemaIdVersion = registerSchemaVersion(input, schemaMetadata);
+            if (schemaIdentity != null) {
+                if (schemaVersions == null) {
+                    schemaVersions = new ConcurrentHashMap<>();
+                    Map<String, SchemaIdVersion> existing = schemaVersionCache.asMap().putIfAbsent(schemaIdentity, schemaVersions);
+                    if (existing != null) {
+                        schemaVersions = existing;
+                    }
+                }
+                schemaVersions.put(schemaMetadata.getName(), schemaIdVersion);
+            }
+        }
+
+        // write the version and given object to the output
+        return doSerialize(input, schemaIdVersion);
+    }
+
+    private SchemaIdVersion registerSchemaVersion(I input, SchemaMetadata schemaMetadata) {
         // compute schema based on input object
         String schema = getSchemaText(input);
 
         // register that schema and get the version
         try {
-            SchemaIdVersion schemaIdVersion = schemaRegistryClient.addSchemaVersion(schemaMetadata, 
+            return schemaRegistryClient.addSchemaVersion(schemaMetadata,
                     new SchemaVersion(schema, "Schema registered by serializer:" + this.getClass()));
-            // write the version and given object to the output
-            return doSerialize(input, schemaIdVersion);
         } catch (SchemaNotFoundException | IncompatibleSchemaException | InvalidSchemaException | SchemaBranchNotFoundException e) {
             throw new RegistryException(e);
         }
     }
 
+    /**
+     * Returns the object which determines the schema of the given {@code input} payload, e.g. the Avro schema of a
+     * record. Payloads with equal schema identities are registered only once and later payloads reuse the registered
+     * version. Returns {@code null} by default, which disables the cache.
+     *
+     * @param input input payload
+     */
+    protected Object getSchemaIdentity(I input) {
+        return null;
+    }
+
     /**
      * Returns textual representation of the schema for the given {@code input} payload.
      * @param input input payload
@@ -93,6 +93,7 @@ public abstract class AbstractAvroSnapshotSerializer<O> extends AbstractSnapshot
 
     @Override
     public void doInit(Map<String, ?> config) {
+        super.doInit(config);
 
         long protocolVersion = SerDesProtocolHandlerRegistry.CURRENT_PROTOCOL;
 
@@ -135,6 +136,15 @@ public abstract class AbstractAvroSnapshotSerializer<O> extends AbstractSnapshot
         return schema.toString();
     }
 
+    /**
+     * @param input avro object
+     * @return schema object of the given {@code input}, records of generated classes share the same instance
+     */
+    @Override
+    protected Object getSchemaIdentity(Object input) {
+        return AvroUtils.computeSchema(input);
+    }
+
     protected void serializeSchemaVersion(OutputStream os, SchemaIdVersion schemaIdVersion) throws SerDesException {
         serDesProtocolHandler.handleSchemaVersionSerialization(os, schemaIdVersion);
     }
@@ -17,9 +17,14 @@ package com.hortonworks.registries.schemaregistry.serdes.avro;
 
 import com.hortonworks.registries.schemaregistry.serdes.avro.exceptions.AvroException;
 import com.hortonworks.registries.schemaregistry.serdes.avro.exceptions.AvroRetryableException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
@@ -30,18 +35,47 @@ import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificDatumWriter;
 import org.apache.avro.specific.SpecificRecord;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Default implementation of serializing and deserializing avro payloads.
+ * <p>
+ * Datum writers and readers are created once per schema and shared between threads, at most {@code cacheSize} of
+ * each are kept. Binary encoders and decoders are reused by the calling thread, they are pointed to an empty stream
+ * after every message so that the streams of the callers are not kept reachable from the thread.
  */
 public class DefaultAvroSerDesHandler implements AvroSerDesHandler {
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final ThreadLocal<BinaryEncoder> ENCODER = new ThreadLocal<>();
+    private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+    private static final byte[] EMPTY = new byte[0];
+
     private final Map<String, Schema> readerSchemaCache = new ConcurrentHashMap<>();
+    private final Cache<Schema, DatumWriter<Object>> specificDatumWriters;
+    private final Cache<Schema, DatumWriter<Object>> genericDatumWriters;
+    private final Cache<DatumReaderKey, DatumReader<Object>> specificDatumReaders;
+    private final Cache<DatumReaderKey, DatumReader<Object>> genericDatumReaders;
+
+    public DefaultAvroSerDesHandler() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public DefaultAvroSerDesHandler(int cacheSize) {
+        specificDatumWriters = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        genericDatumWriters = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        specificDatumReaders = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        genericDatumReaders = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
 
     @Override
     public void handlePayloadSerialization(OutputStream outputStream, Object input) {
@@ -56,17 +90,21 @@ public class DefaultAvroSerDesHandler implements AvroSerDesHandler {
                 // get UTF-8 bytes and directly send those over instead of using avro.
                 outputStream.write(input.toString().getBytes("UTF-8"));
             } else {
-                BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
-                DatumWriter<Object> writer;
-                boolean isSpecificRecord = input instanceof SpecificRecord;
-                if (isSpecificRecord) {
-                    writer = new SpecificDatumWriter<>(schema);
-                } else {
-                    writer = new GenericDatumWriter<>(schema);
+                DatumWriter<Object> writer = getDatumWriter(schema, input instanceof SpecificRecord);
+                BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, ENCODER.get());
+                boolean flushed = false;
+                try {
+                    writer.write(input, encoder);
+                    encoder.flush();
+                    flushed = true;
+                } finally {
+                    if (flushed) {
+                        ENCODER.set(EncoderFactory.get().binaryEncoder(NullOutputStream.NULL_OUTPUT_STREAM, encoder));
+                    } else {
+                        // a failed write may leave data in the buffer which must not be flushed to the next stream
+                        ENCODER.remove();
+                    }
                 }
-
-                writer.write(input, encoder);
-                encoder.flush();
             }
         } catch (IOException e) {
             throw new AvroRetryableException(e);
@@ -90,8 +128,13 @@ public class DefaultAvroSerDesHandler implements AvroSerDesHandler {
                 // generate UTF-8 string object from the received bytes.
                 deserializedObj = new String(IOUtils.toByteArray(payloadInputStream), AvroUtils.UTF_8);
             } else {
-                DatumReader datumReader = getDatumReader(writerSchema, readerSchema, useSpecificAvroReader);
-                deserializedObj = datumReader.read(null, DecoderFactory.get().binaryDecoder(payloadInputStream, null));
+                DatumReader<Object> datumReader = getDatumReader(writerSchema, readerSchema, useSpecificAvroReader);
+                BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payloadInputStream, DECODER.get());
+                try {
+                    deserializedObj = datumReader.read(null, decoder);
+                } finally {
+                    DECODER.set(DecoderFactory.get().binaryDecoder(EMPTY, decoder));
+                }
             }
         } catch (IOException e) {
             throw new AvroRetryableException(e);
@@ -101,16 +144,42 @@ public class DefaultAvroSerDesHandler implements AvroSerDesHandler {
         return deserializedObj;
     }
 
-    private DatumReader getDatumReader(Schema writerSchema, Schema readerSchema, boolean useSpecificAvroReader) {
-        if (useSpecificAvroReader) {
-            if (readerSchema == null) {
-                readerSchema = this.getReaderSchema(writerSchema);
-            }
+    private DatumWriter<Object> getDatumWriter(Schema schema, boolean isSpecificRecord) {
+        Cache<Schema, DatumWriter<Object>> datumWriters = isSpecificRecord ? specificDatumWriters : genericDatumWriters;
+        return get(datumWriters, schema, () -> isSpecificRecord
+                ? new SpecificDatumWriter<>(schema)
+                : new GenericDatumWriter<>(schema));
+    }
 
-            return new SpecificDatumReader(writerSchema, readerSchema);
-        } else {
-            return readerSchema == null ? new GenericDatumReader(writerSchema) : new GenericDatumReader(writerSchema, readerSchema);
+    private DatumReader<Object> getDatumReader(Schema writerSchema, Schema readerSchema, boolean useSpecificAvroReader) {
+        if (readerSchema == null) {
+            // generic readers without a reader schema resolve the payload against the writer schema
+            readerSchema = useSpecificAvroReader ? this.getReaderSchema(writerSchema) : writerSchema;
         }
+
+        Schema resolvedReaderSchema = readerSchema;
+        Cache<DatumReaderKey, DatumReader<Object>> datumReaders = useSpecificAvroReader ? specificDatumReaders : genericDatumReaders;
+        return get(datumReaders, new DatumReaderKey(writerSchema, resolvedReaderSchema), () -> useSpecificAvroReader
+                ? new SpecificDatumReader<>(writerSchema, resolvedReaderSchema)
+                : new GenericDatumReader<>(writerSchema, resolvedReaderSchema));
+    }
+
+    private static <K, V> V get(Cache<K, V> cache, K key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new AvroException(e.getCause());
+        }
+    }
+
+    @VisibleForTesting
+    long getDatumWriterCount() {
+        return specificDatumWriters.size() + genericDatumWriters.size();
+    }
+
+    @VisibleForTesting
+    long getDatumReaderCount() {
+        return specificDatumReaders.size() + genericDatumReaders.size();
     }
 
     private Schema getReaderSchema(Schema writerSchema) {
@@ -136,4 +205,31 @@ public class DefaultAvroSerDesHandler implements AvroSerDesHandler {
 
         return readerSchema;
     }
+
+    private static final class DatumReaderKey {
+        private final Schema writerSchema;
+        private final Schema readerSchema;
+
+        private DatumReaderKey(Schema writerSchema, Schema readerSchema) {
+            this.writerSchema = writerSchema;
+            this.readerSchema = readerSchema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DatumReaderKey that = (DatumReaderKey) o;
+            return writerSchema.equals(that.writerSchema) && readerSchema.equals(that.readerSchema);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(writerSchema, readerSchema);
+        }
+    }
 }
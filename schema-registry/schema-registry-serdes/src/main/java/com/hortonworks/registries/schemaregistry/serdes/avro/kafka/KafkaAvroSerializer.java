@@ -27,6 +27,7 @@ import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * KafkaAvroSerializer serializes the input data using Avro and registers the corresponding schema in the
@@ -97,6 +98,9 @@ public class KafkaAvroSerializer implements Serializer<Object> {
     private String schemaNameKeySuffix;
     private String schemaNameValueSuffix;
 
+    // schema metadata only depends on the topic and the configuration, it is built once per topic
+    private final Map<String, SchemaMetadata> schemaMetadataCache = new ConcurrentHashMap<>();
+
     public KafkaAvroSerializer() {
         avroSnapshotSerializer = new AvroSnapshotSerializer();
         messageAndMetadataAvroSerializer = new MessageAndMetadataAvroSerializer();
@@ -133,6 +137,7 @@ public class KafkaAvroSerializer implements Serializer<Object> {
 
         useRecordHeader = Boolean.valueOf(Utils.getOrDefaultAsString(configs, 
                 STORE_SCHEMA_VERSION_ID_IN_HEADER, DEFAULT_STORE_SCHEMA_VERSION_ID_IN_HEADER));
+        schemaMetadataCache.clear();
 
         avroSnapshotSerializer.init(configs);
         messageAndMetadataAvroSerializer.init(configs);
@@ -155,6 +160,15 @@ public class KafkaAvroSerializer implements Serializer<Object> {
     }
 
     private SchemaMetadata createSchemaMetadata(String topic) {
+        SchemaMetadata schemaMetadata = schemaMetadataCache.get(topic);
+        if (schemaMetadata == null) {
+            schemaMetadata = buildSchemaMetadata(topic);
+            schemaMetadataCache.put(topic, schemaMetadata);
+        }
+        return schemaMetadata;
+    }
+
+    private SchemaMetadata buildSchemaMetadata(String topic) {
         SchemaMetadata schemaMetadata = getSchemaKey(topic, isKey);
         String description = "Schema registered by KafkaAvroSerializer for topic: [" + topic + "] iskey: [" + isKey + "]";
         SchemaMetadata.Builder builder = new SchemaMetadata.Builder(schemaMetadata).description(description);
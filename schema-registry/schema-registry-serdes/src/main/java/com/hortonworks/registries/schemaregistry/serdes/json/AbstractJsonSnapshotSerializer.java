@@ -57,6 +57,23 @@ public abstract class AbstractJsonSnapshotSerializer<O> extends AbstractSnapshot
     }
   }
 
+  /**
+   * The generated json schema text identifies the schema by default. Subclasses whose payload classes always generate
+   * the same schema can key the cache by class with {@link #isSchemaIdentifiedByClass()}, which skips the schema
+   * generation for every payload.
+   */
+  @Override
+  protected Object getSchemaIdentity(Object input) {
+    return isSchemaIdentifiedByClass() ? input.getClass() : getSchemaText(input);
+  }
+
+  /**
+   * @return true if the class of a payload identifies its json schema, false by default
+   */
+  protected boolean isSchemaIdentifiedByClass() {
+    return false;
+  }
+
   protected void serializeSchemaVersion(OutputStream os, SchemaIdVersion schemaIdVersion) throws SerDesException {
     protocolHandler.handleSchemaVersionSerialization(os, schemaIdVersion);
   }
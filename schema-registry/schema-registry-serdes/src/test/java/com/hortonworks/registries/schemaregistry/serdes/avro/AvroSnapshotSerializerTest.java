@@ -16,7 +16,14 @@
 package com.hortonworks.registries.schemaregistry.serdes.avro;
 
 import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaVersion;
+import com.hortonworks.registries.schemaregistry.avro.AvroSchemaProvider;
+import com.hortonworks.registries.schemaregistry.client.ISchemaRegistryClient;
+import com.hortonworks.registries.schemaregistry.client.SchemaRegistryClient;
 import com.hortonworks.registries.schemaregistry.serdes.SerDesProtocolHandler;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -36,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -81,6 +89,44 @@ class AvroSnapshotSerializerTest {
         verify(protocolHandler).handlePayloadSerialization(any(OutputStream.class), refEq(object));
     }
 
+    @Test
+    public void schemaIsRegisteredOncePerSchemaInstance() throws Exception {
+        ISchemaRegistryClient schemaRegistryClient = Mockito.mock(ISchemaRegistryClient.class);
+        when(schemaRegistryClient.addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class)))
+                .thenReturn(new SchemaIdVersion(1L, 1, 1L));
+        AvroSnapshotSerializer serializer = new AvroSnapshotSerializer(schemaRegistryClient);
+        serializer.init(Collections.emptyMap());
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder("test").type(AvroSchemaProvider.TYPE).schemaGroup("kafka").build();
+        SchemaMetadata otherSchemaMetadata = new SchemaMetadata.Builder("other").type(AvroSchemaProvider.TYPE).schemaGroup("kafka").build();
+
+        serializer.serialize(new TestRecord("a", "b"), schemaMetadata);
+        serializer.serialize(new TestRecord("c", "d"), schemaMetadata);
+        verify(schemaRegistryClient, times(1)).addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class));
+
+        serializer.serialize(new TestRecord("e", "f"), otherSchemaMetadata);
+        verify(schemaRegistryClient, times(2)).addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class));
+    }
+
+    @Test
+    public void registeredVersionCacheIsBounded() throws Exception {
+        ISchemaRegistryClient schemaRegistryClient = Mockito.mock(ISchemaRegistryClient.class);
+        when(schemaRegistryClient.addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class)))
+                .thenReturn(new SchemaIdVersion(1L, 1, 1L));
+        AvroSnapshotSerializer serializer = new AvroSnapshotSerializer(schemaRegistryClient);
+        serializer.init(Collections.singletonMap(SchemaRegistryClient.Configuration.SCHEMA_TEXT_CACHE_SIZE.name(), 1));
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder("test").type(AvroSchemaProvider.TYPE).schemaGroup("kafka").build();
+        Schema otherSchema = new Schema.Parser().parse(
+                "{\"type\":\"record\",\"name\":\"Other\",\"fields\":[{\"name\":\"field\",\"type\":\"string\"}]}");
+        GenericData.Record otherRecord = new GenericData.Record(otherSchema);
+        otherRecord.put("field", "value");
+
+        serializer.serialize(new TestRecord("a", "b"), schemaMetadata);
+        serializer.serialize(otherRecord, schemaMetadata);
+        serializer.serialize(new TestRecord("c", "d"), schemaMetadata);
+
+        verify(schemaRegistryClient, times(3)).addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class));
+    }
+
     @ArgumentsSource(ZeroProtocolVersionProvider.class)
     @ParameterizedTest
     public void serdesProtocolVersionShouldBeAccepted(Object protocolVersion) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.schemaregistry.serdes.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultAvroSerDesHandlerTest {
+
+    private final DefaultAvroSerDesHandler handler = new DefaultAvroSerDesHandler();
+
+    @Test
+    public void datumWritersAndReadersAreReused() {
+        Schema schema = TestRecord.getClassSchema();
+        for (int i = 0; i < 10; i++) {
+            GenericRecord input = new GenericData.Record(schema);
+            input.put("field1", "value-" + i);
+            input.put("field2", "other-" + i);
+
+            byte[] payload = serialize(input);
+            Object deserialized = handler.handlePayloadDeserialization(new ByteArrayInputStream(payload), schema, null, false);
+
+            assertEquals(input, deserialized);
+        }
+
+        assertEquals(1, handler.getDatumWriterCount());
+        assertEquals(1, handler.getDatumReaderCount());
+    }
+
+    @Test
+    public void specificAndGenericReadersAreCachedSeparately() {
+        TestRecord input = new TestRecord("me", "you");
+        byte[] payload = serialize(input);
+
+        Object specific = handler.handlePayloadDeserialization(new ByteArrayInputStream(payload), input.getSchema(), null, true);
+        Object generic = handler.handlePayloadDeserialization(new ByteArrayInputStream(payload), input.getSchema(), null, false);
+        Object specificAgain = handler.handlePayloadDeserialization(new ByteArrayInputStream(payload), input.getSchema(), null, true);
+
+        assertEquals(input, specific);
+        assertEquals(input, specificAgain);
+        assertEquals("me", ((GenericRecord) generic).get("field1").toString());
+        assertEquals(2, handler.getDatumReaderCount());
+    }
+
+    @Test
+    public void datumWritersAndReadersAreBounded() {
+        DefaultAvroSerDesHandler boundedHandler = new DefaultAvroSerDesHandler(1);
+        for (int i = 0; i < 5; i++) {
+            Schema schema = SchemaBuilder.record("record" + i).fields().requiredString("field").endRecord();
+            GenericRecord input = new GenericData.Record(schema);
+            input.put("field", "value-" + i);
+
+            byte[] payload = serialize(boundedHandler, input);
+            Object deserialized = boundedHandler.handlePayloadDeserialization(new ByteArrayInputStream(payload), schema, null, false);
+
+            assertEquals(input, deserialized);
+        }
+
+        assertTrue(boundedHandler.getDatumWriterCount() <= 1);
+        assertTrue(boundedHandler.getDatumReaderCount() <= 1);
+    }
+
+    private byte[] serialize(Object input) {
+        return serialize(handler, input);
+    }
+
+    private static byte[] serialize(DefaultAvroSerDesHandler handler, Object input) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        handler.handlePayloadSerialization(outputStream, input);
+        return outputStream.toByteArray();
+    }
+}
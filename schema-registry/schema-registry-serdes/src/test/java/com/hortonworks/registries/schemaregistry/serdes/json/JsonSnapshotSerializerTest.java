@@ -15,14 +15,24 @@
  */
 package com.hortonworks.registries.schemaregistry.serdes.json;
 
+import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
 import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaVersion;
+import com.hortonworks.registries.schemaregistry.client.ISchemaRegistryClient;
 import com.hortonworks.registries.shaded.com.fasterxml.jackson.databind.JsonNode;
 import com.hortonworks.registries.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class JsonSnapshotSerializerTest {
   private final AbstractJsonSnapshotSerializer<byte[]> underTest = new JsonSnapshotSerializer();
@@ -47,4 +57,46 @@ class JsonSnapshotSerializerTest {
     assertEquals(expectedTree, actualTree);
   }
 
-}
\ No newline at end of file
+  @Test
+  void schemaIsRegisteredOncePerSchemaText() throws Exception {
+    ISchemaRegistryClient schemaRegistryClient = Mockito.mock(ISchemaRegistryClient.class);
+    when(schemaRegistryClient.addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class)))
+        .thenReturn(new SchemaIdVersion(1L, 1, 1L));
+    JsonSnapshotSerializer serializer = new JsonSnapshotSerializer(schemaRegistryClient);
+    serializer.init(Collections.emptyMap());
+    SchemaMetadata schemaMetadata = new SchemaMetadata.Builder("test").type("json").schemaGroup("kafka").build();
+
+    serializer.serialize(new SchemaMetadata.Builder("a").schemaGroup("kafka").type("json").build(), schemaMetadata);
+    serializer.serialize(new SchemaMetadata.Builder("b").schemaGroup("kafka").type("json").build(), schemaMetadata);
+
+    verify(schemaRegistryClient, times(1)).addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class));
+  }
+
+  @Test
+  void schemaIsNotGeneratedPerPayloadWhenIdentifiedByClass() throws Exception {
+    ISchemaRegistryClient schemaRegistryClient = Mockito.mock(ISchemaRegistryClient.class);
+    when(schemaRegistryClient.addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class)))
+        .thenReturn(new SchemaIdVersion(1L, 1, 1L));
+    AtomicInteger generatedSchemas = new AtomicInteger();
+    JsonSnapshotSerializer serializer = new JsonSnapshotSerializer(schemaRegistryClient) {
+      @Override
+      protected boolean isSchemaIdentifiedByClass() {
+        return true;
+      }
+
+      @Override
+      protected String getSchemaText(Object input) {
+        generatedSchemas.incrementAndGet();
+        return super.getSchemaText(input);
+      }
+    };
+    serializer.init(Collections.emptyMap());
+    SchemaMetadata schemaMetadata = new SchemaMetadata.Builder("test").type("json").schemaGroup("kafka").build();
+
+    serializer.serialize(new SchemaMetadata.Builder("a").schemaGroup("kafka").type("json").build(), schemaMetadata);
+    serializer.serialize(new SchemaMetadata.Builder("b").schemaGroup("kafka").type("json").build(), schemaMetadata);
+
+    assertEquals(1, generatedSchemas.get());
+    verify(schemaRegistryClient, times(1)).addSchemaVersion(any(SchemaMetadata.class), any(SchemaVersion.class));
+  }
+}
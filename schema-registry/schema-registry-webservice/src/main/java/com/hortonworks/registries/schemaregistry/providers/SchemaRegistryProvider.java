@@ -19,6 +19,7 @@ import com.hortonworks.registries.common.CompatibilityConfig;
 import com.hortonworks.registries.common.util.FileStorage;
 import com.hortonworks.registries.schemaregistry.DefaultSchemaRegistry;
 import com.hortonworks.registries.schemaregistry.ISchemaRegistry;
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
 import com.hortonworks.registries.schemaregistry.locks.SchemaLockManager;
 import com.hortonworks.registries.storage.StorageManager;
 import com.hortonworks.registries.common.RegistryConfiguration;
@@ -37,17 +38,20 @@ public class SchemaRegistryProvider implements Provider<ISchemaRegistry> {
     private final FileStorage fileStorage;
     private final SchemaLockManager schemaLockManager;
     private final CompatibilityConfig compatibilityConfig;
+    private final SchemaRegistryServerCache serverCache;
 
     @Inject
     public SchemaRegistryProvider(RegistryConfiguration configuration,
                                   StorageManager storageManager,
                                   FileStorage fileStorage,
-                                  SchemaLockManager schemaLockManager) {
+                                  SchemaLockManager schemaLockManager,
+                                  SchemaRegistryServerCache serverCache) {
         this.configuration = configuration;
         this.compatibilityConfig = configuration.getCompatibility();
         this.storageManager = storageManager;
         this.fileStorage = fileStorage;
         this.schemaLockManager = schemaLockManager;
+        this.serverCache = serverCache;
     }
 
     @Override
@@ -60,7 +64,7 @@ public class SchemaRegistryProvider implements Provider<ISchemaRegistry> {
         LOG.info("Configuring {}", DefaultSchemaRegistry.class);
 
         return new DefaultSchemaRegistry(configuration, storageManager, fileStorage,
-                configuration.getSchemaProviders(), schemaLockManager, compatibilityConfig);
+                configuration.getSchemaProviders(), schemaLockManager, compatibilityConfig, serverCache);
     }
 
 
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.providers;
+
+import com.hortonworks.registries.common.RegistryConfiguration;
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
+import io.dropwizard.setup.Environment;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+public class ServerCacheProvider implements Provider<SchemaRegistryServerCache> {
+
+    private final RegistryConfiguration configuration;
+    private final Environment environment;
+
+    @Inject
+    public ServerCacheProvider(RegistryConfiguration configuration, Environment environment) {
+        this.configuration = configuration;
+        this.environment = environment;
+    }
+
+    @Override
+    public SchemaRegistryServerCache get() {
+        SchemaRegistryServerCache serverCache = new SchemaRegistryServerCache(configuration.getServerCache());
+        serverCache.registerMetrics(environment.metrics());
+        return serverCache;
+    }
+}
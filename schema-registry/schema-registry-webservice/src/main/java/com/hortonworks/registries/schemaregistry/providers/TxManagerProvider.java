@@ -15,6 +15,8 @@
  **/
 package com.hortonworks.registries.schemaregistry.providers;
 
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
+import com.hortonworks.registries.schemaregistry.cache.ServerCacheTransactionManager;
 import com.hortonworks.registries.storage.NOOPTransactionManager;
 import com.hortonworks.registries.storage.StorageManager;
 import com.hortonworks.registries.storage.TransactionManager;
@@ -25,18 +27,22 @@ import javax.inject.Provider;
 public class TxManagerProvider implements Provider<TransactionManager> {
 
     private final StorageManager storageManager;
+    private final SchemaRegistryServerCache serverCache;
 
     @Inject
-    public TxManagerProvider(StorageManager storageManager) {
+    public TxManagerProvider(StorageManager storageManager, SchemaRegistryServerCache serverCache) {
         this.storageManager = storageManager;
+        this.serverCache = serverCache;
     }
 
     @Override
     public TransactionManager get() {
+        TransactionManager transactionManager;
         if (storageManager instanceof TransactionManager) {
-            return (TransactionManager) storageManager;
+            transactionManager = (TransactionManager) storageManager;
         } else {
-            return new NOOPTransactionManager();
+            transactionManager = new NOOPTransactionManager();
         }
+        return new ServerCacheTransactionManager(transactionManager, serverCache);
     }
 }
@@ -16,6 +16,16 @@ package com.hortonworks.registries.schemaregistry.webservice;
 
 import com.google.common.base.Preconditions;
 import com.hortonworks.registries.schemaregistry.ISchemaRegistry;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.storage.search.Page;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 abstract class BaseRegistryResource {
 
@@ -28,6 +38,9 @@ abstract class BaseRegistryResource {
     static final String OPERATION_GROUP_OTHER = "4. Other";
     static final String OPERATION_GROUP_ATLAS = "6. Atlas";
 
+    // version ids are not reused and the text of a version never changes, it can be kept for as long as a year
+    static final String CACHE_CONTROL_IMMUTABLE = "private, max-age=31536000, immutable";
+    static final String CACHE_CONTROL_REVALIDATE = "no-cache";
 
     BaseRegistryResource(ISchemaRegistry schemaRegistry) {
         Preconditions.checkNotNull(schemaRegistry, "SchemaRegistry can not be null");
@@ -43,5 +56,76 @@ abstract class BaseRegistryResource {
             throw new IllegalArgumentException("Parameter " + name + " is empty");
         }
     }
-    
+
+    /**
+     * A cursor continues a paged listing, so it is only accepted together with a limit.
+     */
+    static void checkPageParams(Integer limit, String cursor) throws IllegalArgumentException {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Parameter limit should be a positive number");
+        }
+        if (limit == null && cursor != null) {
+            throw new IllegalArgumentException("Parameter cursor can only be given together with limit");
+        }
+    }
+
+    /**
+     * Reads pages until {@code limit} of their items are authorized or there are no more pages. The limit and the
+     * cursor are applied by the database before the items are authorized, so a single page can come back short or
+     * empty even though there are more items the user can see. Every read asks for the missing number of items only,
+     * so the cursor of the last read page continues right after the returned items.
+     */
+    static <T> Page<T> readAuthorizedPage(int limit, String cursor, PageReader<T> reader,
+                                          PageAuthorizer<T> authorizer) throws Exception {
+        List<T> items = new ArrayList<>();
+        String nextCursor = cursor;
+        do {
+            Page<T> page = reader.read(limit - items.size(), nextCursor);
+            items.addAll(authorizer.authorize(page.getItems()));
+            nextCursor = page.getNextCursor();
+        } while (items.size() < limit && nextCursor != null);
+        return new Page<>(items, nextCursor);
+    }
+
+    /**
+     * @return entity tag of the representations which only contain the text of the version with the given id
+     */
+    static EntityTag schemaTextTag(Long schemaVersionId) {
+        return new EntityTag(String.valueOf(schemaVersionId));
+    }
+
+    /**
+     * @return 304 response if the request already has the representation with the given entity tag, otherwise null
+     */
+    static Response notModified(Request request, EntityTag entityTag, String cacheControl) {
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        return notModified != null ? notModified.tag(entityTag).header(HttpHeaders.CACHE_CONTROL, cacheControl).build() : null;
+    }
+
+    /**
+     * Responds with the given version unless the request already has it. The state of a version is part of its entity
+     * tag, as it is the only property of a version which changes, so the clients have to revalidate their copy.
+     */
+    static Response respondSchemaVersion(Request request, SchemaVersionInfo schemaVersionInfo) {
+        EntityTag entityTag = new EntityTag(schemaVersionInfo.getId() + "-" + schemaVersionInfo.getStateId());
+        Response notModified = notModified(request, entityTag, CACHE_CONTROL_REVALIDATE);
+        if (notModified != null) {
+            return notModified;
+        }
+        return Response.ok(schemaVersionInfo)
+                .tag(entityTag)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_REVALIDATE)
+                .build();
+    }
+
+    @FunctionalInterface
+    interface PageReader<T> {
+        Page<T> read(int limit, String cursor) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface PageAuthorizer<T> {
+        Collection<T> authorize(Collection<T> items) throws Exception;
+    }
+
 }
@@ -24,12 +24,14 @@ import com.hortonworks.registries.common.catalog.CatalogResponse;
 import com.hortonworks.registries.common.exception.ErrorCallback;
 import com.hortonworks.registries.common.util.WSUtils;
 import com.hortonworks.registries.schemaregistry.CompatibilityResult;
+import com.hortonworks.registries.schemaregistry.DefaultSchemaRegistry;
 import com.hortonworks.registries.schemaregistry.ISchemaRegistry;
 import com.hortonworks.registries.schemaregistry.SchemaBranch;
 import com.hortonworks.registries.schemaregistry.SchemaCompatibility;
 import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
 import com.hortonworks.registries.schemaregistry.SchemaMetadata;
 import com.hortonworks.registries.schemaregistry.SchemaMetadataInfo;
+import com.hortonworks.registries.schemaregistry.SchemaMetadataStorable;
 import com.hortonworks.registries.schemaregistry.SchemaValidationLevel;
 import com.hortonworks.registries.schemaregistry.SchemaVersion;
 import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
@@ -44,6 +46,7 @@ import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaExcept
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.SchemaNotFoundException;
 import com.hortonworks.registries.schemaregistry.errors.UnsupportedSchemaTypeException;
+import com.hortonworks.registries.storage.search.Page;
 import com.hortonworks.registries.storage.transaction.UnitOfWork;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -58,8 +61,12 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
@@ -105,10 +112,19 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
     @ApiOperation(value = "Get schema version by id",
             response = Schema.class, tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaById(@ApiParam(value = "schema version id", required = true) @PathParam("id") Long id,
+                                  @Context Request request,
                                   @Context SecurityContext securityContext) {
         return wrapper(() -> {
+            // the text of a version never changes, so a client which already has it only needs to be authorized
+            EntityTag entityTag = schemaTextTag(id);
+            if (request.evaluatePreconditions(entityTag) != null) {
+                authorizationAgent.authorizeSchemaVersion(authenticationUtils.getUserAndGroups(securityContext), schemaRegistry,
+                        new SchemaIdVersion(id), Authorizer.AccessType.READ);
+                return notModified(request, entityTag, CACHE_CONTROL_IMMUTABLE);
+            }
+
             SchemaVersionInfo schemaVersionInfo = schemaRegistry.getSchemaVersionInfo(new SchemaIdVersion(id));
             if (schemaVersionInfo == null) {
                 return schemaNotFoundError();
@@ -118,20 +134,49 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
 
             SchemaString schema = new SchemaString();
             schema.setSchema(schemaVersionInfo.getSchemaText());
-            return WSUtils.respondEntity(schema, Response.Status.OK);
+            return Response.ok(schema)
+                    .tag(entityTag)
+                    .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_IMMUTABLE)
+                    .build();
         });
     }
 
     @GET
     @Path("/subjects")
     @ApiOperation(value = "Get all registered subjects",
+            notes = "If a limit is given, the subjects are returned in the order of their names and the response has a Link " +
+                    "header with rel=\"next\" pointing to the next page, unless it is the last page.",
             response = String.class, responseContainer = "List", tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
-    public Response getSubjects(@Context SecurityContext securityContext) {
+    @UnitOfWork(transactional = false)
+    public Response getSubjects(@ApiParam(value = "Maximum number of subjects to return") @QueryParam("limit") Integer limit,
+                                @ApiParam(value = "Cursor of the next page, taken from the Link header of the previous page")
+                                @QueryParam("cursor") String cursor,
+                                @Context UriInfo uriInfo,
+                                @Context SecurityContext securityContext) {
         return wrapper(() -> {
+            checkPageParams(limit, cursor);
+            if (limit != null) {
+                Authorizer.UserAndGroups auth = authenticationUtils.getUserAndGroups(securityContext);
+                Page<SchemaMetadataInfo> page = readAuthorizedPage(limit, cursor,
+                        (pageLimit, pageCursor) -> schemaRegistry.findSchemaMetadataSummaries(
+                                Collections.singletonMap(DefaultSchemaRegistry.ORDER_BY_FIELDS_PARAM_NAME, SchemaMetadataStorable.NAME + ",a"),
+                                pageLimit, pageCursor),
+                        schemas -> authorizationAgent.authorizeFindSchemas(auth, schemas));
+                List<String> subjects = page.getItems()
+                        .stream()
+                        .map(x -> x.getSchemaMetadata().getName())
+                        .collect(Collectors.toList());
+
+                Response.ResponseBuilder response = Response.ok(subjects);
+                if (page.getNextCursor() != null) {
+                    response.link(uriInfo.getRequestUriBuilder().replaceQueryParam("cursor", page.getNextCursor()).build(), "next");
+                }
+                return response.build();
+            }
+
             List<String> registeredSubjects = authorizationAgent.authorizeFindSchemas(authenticationUtils.getUserAndGroups(securityContext),
-                    schemaRegistry.findSchemaMetadata(Collections.emptyMap()))
+                    schemaRegistry.findSchemaMetadataSummaries(Collections.emptyMap()))
                     .stream()
                     .map(x -> x.getSchemaMetadata().getName())
                     .collect(Collectors.toList());
@@ -200,7 +245,7 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
     @ApiOperation(value = "Get the number of all schema versions of given subject",
             response = Integer.class, responseContainer = "List", tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getAllVersions(@ApiParam(value = "subject", required = true)
                                    @PathParam("subject")
                                            String subject,
@@ -238,6 +283,8 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
             return subjectNotFoundError();
         } else if (e instanceof RangerException) {
             return WSUtils.confluentRespond(Response.Status.BAD_GATEWAY, CatalogResponse.ResponseMessage.EXTERNAL_ERROR, e.getMessage());
+        } else if (e instanceof IllegalArgumentException) {
+            return WSUtils.confluentRespond(Response.Status.BAD_REQUEST, CatalogResponse.ResponseMessage.BAD_REQUEST_WITH_MESSAGE, e.getMessage());
         } else {
             LOG.error("Encountered error while retrieving all subjects", e);
             return serverError();
@@ -250,7 +297,7 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
     @ApiOperation(value = "Get the schema information for given subject and versionId",
             response = Integer.class, responseContainer = "List", tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaVersion(@ApiParam(value = "subject", required = true)
                                      @PathParam("subject")
                                              String subject,
@@ -311,7 +358,7 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
             response = Schema.class, 
             tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response lookupSubjectVersion(@ApiParam(value = "Schema subject", required = true) @PathParam("subject") String subject,
                                          @ApiParam(value = "Confluent Schema Registry compatible schema text in one line", required = true) 
                                                  String schema,
@@ -385,7 +432,7 @@ public class ConfluentSchemaRegistryCompatibleResource extends BaseRegistryResou
                 "(\"latest\" or versionID) version of the schema identified by the name",
             response = ConfluentCompatibilityResult.class, tags = OPERATION_GROUP_CONFLUENT_SR)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response checkCompatibilityWithSchema(@PathParam("schema") @NotNull String subject,
                                                  @PathParam("version") @NotNull String versionId,
                                                  @ApiParam(value = "schema text to be checked for compatibility", required = true) String schemaText,
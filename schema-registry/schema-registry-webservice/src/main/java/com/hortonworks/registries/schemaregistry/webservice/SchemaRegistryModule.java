@@ -26,9 +26,12 @@ import com.hortonworks.registries.schemaregistry.authorizer.agent.AuthorizationA
 import com.hortonworks.registries.schemaregistry.authorizer.agent.AuthorizationAgentFactory;
 import com.hortonworks.registries.schemaregistry.authorizer.core.RangerAuthenticator;
 import com.hortonworks.registries.schemaregistry.authorizer.core.util.RangerKerberosAuthenticator;
+import com.hortonworks.registries.schemaregistry.cache.RegistryChangeLogPoller;
+import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryServerCache;
 import com.hortonworks.registries.schemaregistry.locks.SchemaLockManager;
 import com.hortonworks.registries.schemaregistry.providers.CompatibilityConfigurationProvider;
 import com.hortonworks.registries.schemaregistry.providers.SchemaRegistryProvider;
+import com.hortonworks.registries.schemaregistry.providers.ServerCacheProvider;
 import com.hortonworks.registries.schemaregistry.validator.SchemaMetadataTypeValidator;
 import com.hortonworks.registries.schemaregistry.webservice.auth.RangerCompositeAuthenticator;
 import org.slf4j.Logger;
@@ -55,6 +58,8 @@ public class SchemaRegistryModule extends DropwizardAwareModule<RegistryConfigur
         bind(AuthorizationAgent.class).toProvider(AuthorizationAgentFactory.class).in(Singleton.class);
         configureAuthenticator();
 
+        bind(SchemaRegistryServerCache.class).toProvider(ServerCacheProvider.class).in(Singleton.class);
+        bind(RegistryChangeLogPoller.class).in(Singleton.class);
         bind(ISchemaRegistry.class).toProvider(SchemaRegistryProvider.class).in(Singleton.class);
         bind(CompatibilityConfig.class).toProvider(CompatibilityConfigurationProvider.class).in(Singleton.class);
 
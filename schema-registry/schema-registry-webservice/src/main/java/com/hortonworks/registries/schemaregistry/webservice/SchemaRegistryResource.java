@@ -44,6 +44,7 @@ import com.hortonworks.registries.schemaregistry.authorizer.agent.AuthorizationA
 import com.hortonworks.registries.schemaregistry.authorizer.core.Authorizer;
 import com.hortonworks.registries.schemaregistry.authorizer.core.RangerAuthenticator;
 import com.hortonworks.registries.schemaregistry.authorizer.exception.AuthorizationException;
+import com.hortonworks.registries.schemaregistry.authorizer.exception.RangerException;
 import com.hortonworks.registries.schemaregistry.cache.SchemaRegistryCacheType;
 import com.hortonworks.registries.schemaregistry.errors.IncompatibleSchemaException;
 import com.hortonworks.registries.schemaregistry.errors.InvalidSchemaBranchDeletionException;
@@ -56,6 +57,7 @@ import com.hortonworks.registries.schemaregistry.state.SchemaVersionLifecycleSta
 import com.hortonworks.registries.schemaregistry.validator.SchemaMetadataTypeValidator;
 import com.hortonworks.registries.schemaregistry.webservice.validator.JarInputStreamValidator;
 import com.hortonworks.registries.schemaregistry.webservice.validator.exception.InvalidJarFileException;
+import com.hortonworks.registries.storage.search.Page;
 import com.hortonworks.registries.storage.transaction.UnitOfWork;
 import io.dropwizard.server.AbstractServerFactory;
 import io.swagger.annotations.Api;
@@ -86,6 +88,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.StreamingOutput;
@@ -101,6 +104,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.hortonworks.registries.common.catalog.CatalogResponse.ResponseMessage.SUCCESS;
 import static com.hortonworks.registries.schemaregistry.DefaultSchemaRegistry.ORDER_BY_FIELDS_PARAM_NAME;
@@ -119,6 +123,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
 
     // reserved as schema related paths use these strings
     private static final String[] RESERVED_NAMES = {"aggregate", "versions", "compatibility"};
+    private static final int MAX_SCHEMA_VERSION_IDS = 10000;
     private final SchemaRegistryVersion schemaRegistryVersion;
     private final AuthorizationAgent authorizationAgent;
     private final JarInputStreamValidator jarInputStreamValidator;
@@ -180,7 +185,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get list of schemas by filtering with the given query parameters",
             response = AggregatedSchemaMetadataInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response listAggregatedSchemas(@QueryParam("name") String schemaName,
                                           @QueryParam("description") String schemaDescription,
                                           @ApiParam(value = "_orderByFields=[<field-name>,<a/d>,]*\na = ascending, d = descending\n" +
@@ -193,11 +198,21 @@ public class SchemaRegistryResource extends BaseRegistryResource {
                                           @QueryParam("validationLevel") String validationLevel,
                                           @QueryParam("compatibility") String compatibility,
                                           @QueryParam("evolve") String evolve,
+                                          @ApiParam(value = "Maximum number of schemas to return, the response then contains the cursor of the next page") @QueryParam("limit") Integer limit,
+                                          @ApiParam(value = "Cursor of the next page, returned by the previous request with the same parameters") @QueryParam("cursor") String cursor,
                                           @Context SecurityContext securityContext) throws Exception {
+            checkPageParams(limit, cursor);
             Map<String, String> filters = createFilterForSchema(Optional.ofNullable(schemaName), 
                     Optional.ofNullable(schemaDescription), Optional.ofNullable(orderByFields), Optional.ofNullable(id), 
                     Optional.ofNullable(type), Optional.ofNullable(schemaGroup), Optional.ofNullable(validationLevel), 
                     Optional.ofNullable(compatibility), Optional.ofNullable(evolve));
+            if (limit != null) {
+                Authorizer.UserAndGroups auth = authenticationUtils.getUserAndGroups(securityContext);
+                Page<AggregatedSchemaMetadataInfo> page = readAuthorizedPage(limit, cursor,
+                        (pageLimit, pageCursor) -> schemaRegistry.findAggregatedSchemaMetadata(filters, pageLimit, pageCursor),
+                        schemas -> authorizationAgent.authorizeGetAggregatedSchemaList(auth, schemas));
+                return WSUtils.respondEntities(page.getItems(), page.getNextCursor(), Response.Status.OK);
+            }
             Collection<AggregatedSchemaMetadataInfo> schemaMetadatas = authorizationAgent
                     .authorizeGetAggregatedSchemaList(authenticationUtils.getUserAndGroups(securityContext),
                             schemaRegistry.findAggregatedSchemaMetadata(filters));
@@ -222,7 +237,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get aggregated schema information for the given schema name",
             response = SchemaMetadataInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getAggregatedSchemaInfo(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                             @Context SecurityContext securityContext) throws Exception {
         AggregatedSchemaMetadataInfo schemaMetadataInfo = schemaRegistry.getAggregatedSchemaMetadataInfo(schemaName);
@@ -241,7 +256,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get list of schema metadata by filtering with the given query parameters",
             response = SchemaMetadataInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response listSchemas(@QueryParam("name") String schemaName,
                                 @QueryParam("description") String schemaDescription,
                                 @ApiParam(value = "_orderByFields=[<field-name>,<a/d>,]*\na = ascending, d = descending\n" +
@@ -253,11 +268,21 @@ public class SchemaRegistryResource extends BaseRegistryResource {
                                 @QueryParam("validationLevel") String validationLevel,
                                 @QueryParam("compatibility") String compatibility,
                                 @QueryParam("evolve") String evolve,
+                                @ApiParam(value = "Maximum number of schemas to return, the response then contains the cursor of the next page") @QueryParam("limit") Integer limit,
+                                @ApiParam(value = "Cursor of the next page, returned by the previous request with the same parameters") @QueryParam("cursor") String cursor,
                                 @Context SecurityContext securityContext) throws Exception {
+            checkPageParams(limit, cursor);
             Map<String, String> filters = createFilterForSchema(Optional.ofNullable(schemaName), 
                     Optional.ofNullable(schemaDescription), Optional.ofNullable(orderByFields), Optional.ofNullable(id), 
                     Optional.ofNullable(type), Optional.ofNullable(schemaGroup), Optional.ofNullable(validationLevel), 
                     Optional.ofNullable(compatibility), Optional.ofNullable(evolve));
+            if (limit != null) {
+                Authorizer.UserAndGroups auth = authenticationUtils.getUserAndGroups(securityContext);
+                Page<SchemaMetadataInfo> page = readAuthorizedPage(limit, cursor,
+                        (pageLimit, pageCursor) -> schemaRegistry.findSchemaMetadata(filters, pageLimit, pageCursor),
+                        schemas -> authorizationAgent.authorizeFindSchemas(auth, schemas));
+                return WSUtils.respondEntities(page.getItems(), page.getNextCursor(), Response.Status.OK);
+            }
 
             Collection<SchemaMetadataInfo> schemaMetadatas = authorizationAgent
                     .authorizeFindSchemas(authenticationUtils.getUserAndGroups(securityContext), schemaRegistry.findSchemaMetadata(filters));
@@ -271,21 +296,30 @@ public class SchemaRegistryResource extends BaseRegistryResource {
             notes = "Search the schema metadata for given name and description, return a list of schema metadata that contain the field.",
             response = SchemaMetadataInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response findSchemas(@ApiParam(required = true) @QueryParam("name") String schemaName,
                                 @QueryParam("description") String schemaDescription,
                                 @ApiParam(value = "_orderByFields=[<field-name>,<a/d>,]*\na = ascending, d = descending\n" +
                                         "Ordering can be by id, type, schemaGroup, name, compatibility, validationLevel, timestamp, description," +
                                         "evolve\nRecommended value is: timestamp,d", required = true) 
                                 @QueryParam("_orderByFields") String orderByFields,
+                                @ApiParam(value = "Maximum number of schemas to return, the response then contains the cursor of the next page") @QueryParam("limit") Integer limit,
+                                @ApiParam(value = "Cursor of the next page, returned by the previous request with the same parameters") @QueryParam("cursor") String cursor,
                                 @Context SecurityContext securityContext) throws Exception {
-        
+        checkPageParams(limit, cursor);
         MultivaluedMap<String, String> queryParameters = new MultivaluedHashMap<>();
         for (Map.Entry<String, String> entry : createFilterForSchema(Optional.ofNullable(schemaName), 
                 Optional.ofNullable(schemaDescription), Optional.ofNullable(orderByFields), Optional.empty(),
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
                 Optional.empty()).entrySet()) {
             queryParameters.add(entry.getKey(), entry.getValue());
+        }
+        if (limit != null) {
+            Authorizer.UserAndGroups auth = authenticationUtils.getUserAndGroups(securityContext);
+            Page<SchemaMetadataInfo> page = readAuthorizedPage(limit, cursor,
+                    (pageLimit, pageCursor) -> findSchemaMetadataInfos(queryParameters, pageLimit, pageCursor),
+                    schemas -> authorizationAgent.authorizeFindSchemas(auth, schemas));
+            return WSUtils.respondEntities(page.getItems(), page.getNextCursor(), Response.Status.OK);
         }
             Collection<SchemaMetadataInfo> schemaMetadataInfos = authorizationAgent
                     .authorizeFindSchemas(authenticationUtils.getUserAndGroups(securityContext), findSchemaMetadataInfos(queryParameters));
@@ -298,7 +332,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
             notes = "Search the schemas for given name and description, return a list of schemas that contain the field.",
             response = AggregatedSchemaMetadataInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response findAggregatedSchemas(
             @ApiParam(value = "name of the schema", required = true) @QueryParam("name") String schemaName,
             @QueryParam("description") String schemaDescription,
@@ -334,27 +368,53 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @GET
     @Path("/search/schemas/fields")
     @ApiOperation(value = "Search for schemas containing the given field names",
-            notes = "Search the schemas for given field names and return a list of schemas that contain the field.\n" +
-                    "If no parameter added, returns all schemas as many times as they have fields.",
+            notes = "Search the schemas for given field names and return a list of schema versions that contain the field.\n" +
+                    "Every schema version is returned once, ordered by schema name and version. " +
+                    "If no parameter added, returns all schema versions which have fields.",
             response = SchemaVersionKey.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response findSchemasByFields(@QueryParam("name") String name,
                                         @QueryParam("fieldNamespace") String nameSpace,
                                         @QueryParam("type") String type,
+                                        @ApiParam(value = "Maximum number of schema versions to return")
+                                        @QueryParam("limit") Integer limit,
                                         @Context SecurityContext securityContext) throws Exception {
+        if (limit != null && limit <= 0) {
+            return WSUtils.respond(Response.Status.BAD_REQUEST, CatalogResponse.ResponseMessage.BAD_REQUEST_WITH_MESSAGE,
+                    "limit should be a positive number");
+        }
         MultivaluedMap<String, String> queryParameters = new MultivaluedHashMap<>();
         for (Map.Entry<String, String> entry : createFilterForNamespace(Optional.ofNullable(name), 
                 Optional.ofNullable(nameSpace), Optional.ofNullable(type)).entrySet()) {
             queryParameters.add(entry.getKey(), entry.getValue());
         }
-            Collection<SchemaVersionKey> schemaVersionKeys = authorizationAgent
-                    .authorizeFindSchemasByFields(authenticationUtils.getUserAndGroups(securityContext), schemaRegistry,
-                            schemaRegistry.findSchemasByFields(buildSchemaFieldQuery(queryParameters)));
+            Authorizer.UserAndGroups auth = authenticationUtils.getUserAndGroups(securityContext);
+            SchemaFieldQuery schemaFieldQuery = buildSchemaFieldQuery(queryParameters);
+            Collection<SchemaVersionKey> schemaVersionKeys = limit != null
+                    ? findAuthorizedSchemasByFields(auth, schemaFieldQuery, limit)
+                    : authorizationAgent.authorizeFindSchemasByFields(auth, schemaRegistry, schemaRegistry.findSchemasByFields(schemaFieldQuery, null));
 
             return WSUtils.respondEntities(schemaVersionKeys, Response.Status.OK);
     }
 
+    /**
+     * The limit is applied by the database before the versions are authorized, so while the authorized versions do not
+     * fill the limit and there are more versions, a twice as long prefix of the ordered versions is read again.
+     */
+    private Collection<SchemaVersionKey> findAuthorizedSchemasByFields(Authorizer.UserAndGroups auth, SchemaFieldQuery schemaFieldQuery,
+                                                                       int limit) throws SchemaNotFoundException, RangerException {
+        int readLimit = limit;
+        while (true) {
+            Collection<SchemaVersionKey> versions = schemaRegistry.findSchemasByFields(schemaFieldQuery, readLimit);
+            Collection<SchemaVersionKey> authorized = authorizationAgent.authorizeFindSchemasByFields(auth, schemaRegistry, versions);
+            if (authorized.size() >= limit || versions.size() < readLimit || readLimit == Integer.MAX_VALUE) {
+                return authorized.stream().limit(limit).collect(Collectors.toList());
+            }
+            readLimit = (int) Math.min(2L * readLimit, Integer.MAX_VALUE);
+        }
+    }
+
     @POST
     @Path("/schemas")
     @ApiOperation(value = "Create a schema metadata if it does not already exist",
@@ -429,7 +489,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get schema information for the given schema name",
             response = SchemaMetadataInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaInfo(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                   @Context SecurityContext securityContext) throws Exception {
             SchemaMetadataInfo schemaMetadataInfo = schemaRegistry.getSchemaMetadataInfo(schemaName);
@@ -447,7 +507,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get schema information for a given schema identifier",
             response = SchemaMetadataInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaInfo(@ApiParam(value = "Schema identifier", required = true) @PathParam("schemaId") Long schemaId,
                                   @Context SecurityContext securityContext) throws Exception {
             SchemaMetadataInfo schemaMetadataInfo = schemaRegistry.getSchemaMetadataInfo(schemaId);
@@ -541,7 +601,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get the latest version of the schema for the given schema name",
             response = SchemaVersionInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getLatestSchemaVersion(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                            @QueryParam("branch") @DefaultValue(MASTER_BRANCH) String schemaBranchName,
                                            @Context SecurityContext securityContext) throws Exception {
@@ -564,7 +624,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get the schema text property of the latest version of the given schema name",
             response = String.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-        @UnitOfWork
+        @UnitOfWork(transactional = false)
         public Response getLatestSchemaVersionText(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                 @QueryParam("branch") @DefaultValue(MASTER_BRANCH) String schemaBranchName,
                 @Context SecurityContext securityContext) throws Exception {
@@ -591,7 +651,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get all the versions of the schema for the given schema name)",
             response = SchemaVersionInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getAllSchemaVersions(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                          @QueryParam("branch") @DefaultValue(MASTER_BRANCH) String schemaBranchName,
                                          @QueryParam("states") List<Byte> stateIds,
@@ -615,16 +675,17 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get a version of the schema identified by the schema name",
             response = SchemaVersionInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaVersion(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaMetadata,
                                      @ApiParam(value = "version of the schema", required = true) @PathParam("version") Integer versionNumber,
+                                     @Context Request request,
                                      @Context SecurityContext securityContext) throws Exception {
         SchemaVersionKey schemaVersionKey = new SchemaVersionKey(schemaMetadata, versionNumber);
         SchemaVersionInfo schemaVersionInfo = schemaRegistry.getSchemaVersionInfo(schemaVersionKey);
         authorizationAgent.authorizeSchemaVersion(authenticationUtils.getUserAndGroups(securityContext), schemaRegistry,
                 schemaVersionInfo, Authorizer.AccessType.READ);
 
-        return WSUtils.respondEntity(schemaVersionInfo, Response.Status.OK);
+        return respondSchemaVersion(request, schemaVersionInfo);
     }
 
     @GET
@@ -632,7 +693,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get the schema text property of the schema identified by name and version",
             response = String.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaVersionText(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaMetadata,
                                      @ApiParam(value = "version of the schema", required = true) @PathParam("version") Integer versionNumber,
                                      @Context SecurityContext securityContext) throws Exception {
@@ -652,14 +713,34 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get a version of the schema identified by the given version id",
             response = SchemaVersionInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaVersionById(@ApiParam(value = "version identifier of the schema", required = true) @PathParam("id") Long versionId,
+                                         @Context Request request,
                                          @Context SecurityContext securityContext) throws Exception {
         SchemaIdVersion schemaIdVersion = new SchemaIdVersion(versionId);
             SchemaVersionInfo schemaVersionInfo = schemaRegistry.getSchemaVersionInfo(schemaIdVersion);
             authorizationAgent.authorizeSchemaVersion(authenticationUtils.getUserAndGroups(securityContext), schemaRegistry,
                     schemaIdVersion, Authorizer.AccessType.READ);
-            return WSUtils.respondEntity(schemaVersionInfo, Response.Status.OK);
+            return respondSchemaVersion(request, schemaVersionInfo);
+    }
+
+    @POST
+    @Path("/schemas/versionsById/batch")
+    @ApiOperation(value = "Get the versions of schemas identified by the given version ids",
+            notes = "Versions which do not exist or which the user is not authorized to read are left out of the result.",
+            response = SchemaVersionInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SCHEMA)
+    @Timed
+    @UnitOfWork(transactional = false)
+    public Response getSchemaVersionsByIds(@ApiParam(value = "version identifiers of the schemas", required = true) List<Long> versionIds,
+                                           @Context SecurityContext securityContext) throws Exception {
+        if (versionIds == null || versionIds.size() > MAX_SCHEMA_VERSION_IDS) {
+            return WSUtils.respond(Response.Status.BAD_REQUEST, CatalogResponse.ResponseMessage.BAD_REQUEST_WITH_MESSAGE,
+                    "between 0 and " + MAX_SCHEMA_VERSION_IDS + " version ids should be given");
+        }
+        Collection<SchemaVersionInfo> schemaVersionInfos = schemaRegistry.getSchemaVersionInfos(versionIds);
+        schemaVersionInfos = authorizationAgent.authorizeGetAllVersions(authenticationUtils.getUserAndGroups(securityContext),
+                schemaRegistry, schemaVersionInfos);
+        return WSUtils.respondEntities(schemaVersionInfos, Response.Status.OK);
     }
 
     @GET
@@ -667,7 +748,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get the schema text property of the schema identified by the given version id",
             response = String.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaTextVersionById(@ApiParam(value = "version identifier of the schema", required = true) @PathParam("id") Long versionId,
                                          @Context SecurityContext securityContext) throws Exception {
         SchemaIdVersion schemaIdVersion = new SchemaIdVersion(versionId);
@@ -686,7 +767,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get a version of the schema with the given fingerprint",
             response = SchemaVersionInfo.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSchemaVersionByFingerprint(@ApiParam(value = "fingerprint of the schema text", required = true) 
                                                       @PathParam("fingerprint") String fingerprint,
                                                   @Context SecurityContext securityContext) throws Exception {
@@ -811,7 +892,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Checks if the given schema text is compatible with all the versions of the schema identified by the name",
             response = CompatibilityResult.class, tags = OPERATION_GROUP_SCHEMA)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response checkCompatibilityWithSchema(@QueryParam("branch") @DefaultValue(MASTER_BRANCH) String schemaBranchName,
                                                  @ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                                  @ApiParam(value = "schema text to be checked for compatibility", required = true) String schemaText,
@@ -829,7 +910,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @ApiOperation(value = "Get list of Serializers registered for the given schema name",
             response = SerDesInfo.class, responseContainer = "List", tags = OPERATION_GROUP_SERDE)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSerializers(@ApiParam(value = "Schema name", required = true) @PathParam("name") String schemaName,
                                    @Context SecurityContext securityContext) {
             SchemaMetadataInfo schemaMetadataInfo = schemaRegistry.getSchemaMetadataInfo(schemaName);
@@ -891,7 +972,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
     @Path("/serdes/{id}")
     @ApiOperation(value = "Get a Serializer for the given serializer id", response = SerDesInfo.class, tags = OPERATION_GROUP_SERDE)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getSerDes(@ApiParam(value = "Serializer identifier", required = true) @PathParam("id") Long serializerId,
                               @Context SecurityContext securityContext) {
             authorizationAgent.authorizeSerDes(authenticationUtils.getUserAndGroups(securityContext), Authorizer.AccessType.READ);
@@ -947,7 +1028,7 @@ public class SchemaRegistryResource extends BaseRegistryResource {
             response = SchemaBranch.class, responseContainer = "List",
             tags = OPERATION_GROUP_OTHER)
     @Timed
-    @UnitOfWork
+    @UnitOfWork(transactional = false)
     public Response getAllBranches(@ApiParam(value = "Details about schema name", required = true) @PathParam("name") String schemaName,
                                    @Context UriInfo uriInfo,
                                    @Context SecurityContext securityContext) throws SchemaNotFoundException {
@@ -1124,6 +1205,16 @@ public class SchemaRegistryResource extends BaseRegistryResource {
         return schemaMetadataInfos;
     }
 
+    private Page<SchemaMetadataInfo> findSchemaMetadataInfos(MultivaluedMap<String, String> queryParameters, int limit, String cursor) {
+        if (queryParameters.containsKey(SchemaMetadataStorable.NAME)
+                || queryParameters.containsKey(SchemaMetadataStorable.DESCRIPTION)) {
+            String orderByFieldStr = queryParameters.getFirst(ORDER_BY_FIELDS_PARAM_NAME);
+            return schemaRegistry.searchSchemas(queryParameters, Optional.ofNullable(orderByFieldStr), limit, cursor);
+        } else {
+            return new Page<>(Collections.emptyList(), null);
+        }
+    }
+
     @VisibleForTesting
     SchemaFieldQuery buildSchemaFieldQuery(MultivaluedMap<String, String> queryParameters) {
         SchemaFieldQuery.Builder builder = new SchemaFieldQuery.Builder();
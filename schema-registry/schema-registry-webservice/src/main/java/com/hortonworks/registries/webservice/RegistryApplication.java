@@ -23,6 +23,8 @@ import com.hortonworks.registries.common.RegistryConfiguration;
 import com.hortonworks.registries.common.SchemaRegistryServiceInfo;
 import com.hortonworks.registries.common.SchemaRegistryVersion;
 import com.hortonworks.registries.common.ServletFilterConfiguration;
+import com.hortonworks.registries.schemaregistry.ISchemaRegistry;
+import com.hortonworks.registries.schemaregistry.cache.RegistryChangeLogPoller;
 import com.hortonworks.registries.schemaregistry.webservice.CoreModule;
 import com.hortonworks.registries.schemaregistry.webservice.SchemaRegistryModule;
 import io.dropwizard.Application;
@@ -69,6 +71,8 @@ public class RegistryApplication extends Application<RegistryConfiguration> {
         environment.healthChecks().register("dummyHealthCheck", new DummyHealthCheck());
 
         manageAtlasEventLogger(environment);
+        manageRegistryChangeLogPoller(environment);
+        manageSchemaRegistry(environment);
 
         if (registryConfiguration.isEnableCors()) {
             enableCORS(environment);
@@ -197,6 +201,18 @@ public class RegistryApplication extends Application<RegistryConfiguration> {
         environment.lifecycle().manage(new AutoCloseableManager(managed));
     }
 
+    private void manageRegistryChangeLogPoller(Environment environment) {
+        AutoCloseable managed = new InjectorProvider(this).get().getInstance(RegistryChangeLogPoller.class);
+        environment.lifecycle().manage(new AutoCloseableManager(managed));
+    }
+
+    private void manageSchemaRegistry(Environment environment) {
+        ISchemaRegistry schemaRegistry = new InjectorProvider(this).get().getInstance(ISchemaRegistry.class);
+        if (schemaRegistry instanceof AutoCloseable) {
+            environment.lifecycle().manage(new AutoCloseableManager((AutoCloseable) schemaRegistry));
+        }
+    }
+
     public static void main(String[] args) throws Exception {
         RegistryApplication registryApplication = new RegistryApplication();
         registryApplication.run(args);
@@ -37,12 +37,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Tag("IntegrationTest")
@@ -155,5 +162,66 @@ public class BasicSchemaRegistryClientOpsTest {
         Assertions.assertEquals(v1.getSchemaVersionId(), latestSchemaVersion.getId());
     }
 
+    @Test
+    public void testGetSchemaVersionsByIds() throws Exception {
+        beforeParam(SchemaRegistryTestProfileType.DEFAULT);
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder(testName + "-schema")
+                .type(AvroSchemaProvider.TYPE)
+                .schemaGroup(testName + "-group")
+                .compatibility(SchemaCompatibility.NONE)
+                .build();
+        schemaRegistryClient.registerSchemaMetadata(schemaMetadata);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String schemaText = "{\"type\":\"record\",\"name\":\"r\",\"fields\":[{\"name\":\"f" + i + "\",\"type\":\"int\"}]}";
+            ids.add(schemaRegistryClient.addSchemaVersion(schemaMetadata, new SchemaVersion(schemaText, "version " + i)).getSchemaVersionId());
+        }
+        long missingId = Collections.max(ids) + 1;
+        List<Long> requestedIds = new ArrayList<>(ids);
+        requestedIds.add(missingId);
+
+        Collection<SchemaVersionInfo> schemaVersionInfos = schemaRegistryClient.getSchemaVersionInfos(requestedIds);
+
+        Assertions.assertEquals(new HashSet<>(ids), schemaVersionInfos.stream().map(SchemaVersionInfo::getId).collect(Collectors.toSet()));
+        for (SchemaVersionInfo schemaVersionInfo : schemaVersionInfos) {
+            Assertions.assertEquals(schemaVersionInfo, schemaRegistryClient.getSchemaVersionInfo(new SchemaIdVersion(schemaVersionInfo.getId())));
+        }
+        Assertions.assertThrows(SchemaNotFoundException.class,
+                () -> schemaRegistryClient.getSchemaVersionInfo(new SchemaIdVersion(missingId)));
+    }
+
+    @Test
+    public void testAsyncLookups() throws Exception {
+        beforeParam(SchemaRegistryTestProfileType.DEFAULT);
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder(testName + "-schema")
+                .type(AvroSchemaProvider.TYPE)
+                .schemaGroup(testName + "-group")
+                .compatibility(SchemaCompatibility.NONE)
+                .build();
+        schemaRegistryClient.registerSchemaMetadata(schemaMetadata);
+        String schemaText = "{\"type\":\"record\",\"name\":\"r\",\"fields\":[{\"name\":\"f\",\"type\":\"int\"}]}";
+        SchemaIdVersion schemaIdVersion = schemaRegistryClient.addSchemaVersion(schemaMetadata, new SchemaVersion(schemaText, "first"));
+        SchemaVersionKey schemaVersionKey = new SchemaVersionKey(schemaMetadata.getName(), schemaIdVersion.getVersion());
+
+        SchemaVersionInfo byId = schemaRegistryClient.getSchemaVersionInfoAsync(schemaIdVersion).get();
+        SchemaVersionInfo byKey = schemaRegistryClient.getSchemaVersionInfoAsync(schemaVersionKey).get();
+        SchemaVersionInfo latest = schemaRegistryClient.getLatestSchemaVersionInfoAsync(schemaMetadata.getName()).get();
+        SchemaVersionInfo byMetadataId = schemaRegistryClient.getSchemaVersionInfoAsync(
+                new SchemaIdVersion(byId.getSchemaMetadataId(), byId.getVersion())).get();
+
+        Assertions.assertEquals(schemaIdVersion.getSchemaVersionId(), byId.getId());
+        Assertions.assertEquals(byId, byKey);
+        Assertions.assertEquals(byId, latest);
+        Assertions.assertEquals(byId, byMetadataId);
+        Assertions.assertEquals(schemaMetadata.getName(),
+                schemaRegistryClient.getSchemaMetadataInfoAsync(schemaMetadata.getName()).get().getSchemaMetadata().getName());
+        Assertions.assertNull(schemaRegistryClient.getSchemaMetadataInfoAsync(testName + "-missing").get());
+
+        ExecutionException missingVersion = Assertions.assertThrows(ExecutionException.class,
+                () -> schemaRegistryClient.getSchemaVersionInfoAsync(new SchemaVersionKey(schemaMetadata.getName(), 42)).get());
+        Assertions.assertTrue(missingVersion.getCause() instanceof SchemaNotFoundException);
+    }
+
 
 }
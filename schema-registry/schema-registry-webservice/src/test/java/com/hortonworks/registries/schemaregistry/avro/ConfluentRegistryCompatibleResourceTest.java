@@ -43,6 +43,8 @@ import com.hortonworks.registries.shaded.javax.ws.rs.client.Client;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.ClientBuilder;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.Entity;
 import com.hortonworks.registries.shaded.javax.ws.rs.client.WebTarget;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.EntityTag;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.HttpHeaders;
 import com.hortonworks.registries.shaded.javax.ws.rs.core.MediaType;
 import com.hortonworks.registries.shaded.javax.ws.rs.core.Response;
 import java.io.File;
@@ -260,6 +262,24 @@ public class ConfluentRegistryCompatibleResourceTest {
 
     }
 
+    @Test
+    public void testSchemaByIdIsNotSentAgain() throws Exception {
+        String response = postSubjectSchema(displayName, fetchSchema("/device.avsc")).readEntity(String.class);
+        long id = new ObjectMapper().readValue(response, Id.class).getId();
+
+        WebTarget schemaTarget = rootTarget.path("/schemas/ids/" + id);
+        Response schemaResponse = schemaTarget.request(MediaType.APPLICATION_JSON_TYPE).get();
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), schemaResponse.getStatus());
+        EntityTag entityTag = schemaResponse.getEntityTag();
+        Assertions.assertNotNull(entityTag);
+
+        Response notModifiedResponse = schemaTarget.request(MediaType.APPLICATION_JSON_TYPE)
+                                                   .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                                                   .get();
+        Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModifiedResponse.getStatus());
+        Assertions.assertEquals(entityTag, notModifiedResponse.getEntityTag());
+    }
+
     @Test
     public void testInValidSchemas() throws Exception {
         // add invalid schema
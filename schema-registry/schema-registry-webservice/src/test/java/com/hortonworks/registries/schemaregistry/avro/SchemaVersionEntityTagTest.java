@@ -0,0 +1,123 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.schemaregistry.avro;
+
+import com.google.common.io.Resources;
+import com.hortonworks.registries.schemaregistry.SchemaIdVersion;
+import com.hortonworks.registries.schemaregistry.SchemaMetadata;
+import com.hortonworks.registries.schemaregistry.SchemaVersion;
+import com.hortonworks.registries.schemaregistry.SchemaVersionInfo;
+import com.hortonworks.registries.schemaregistry.client.SchemaRegistryClient;
+import com.hortonworks.registries.schemaregistry.webservice.LocalSchemaRegistryServer;
+import com.hortonworks.registries.shaded.javax.ws.rs.client.ClientBuilder;
+import com.hortonworks.registries.shaded.javax.ws.rs.client.WebTarget;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.EntityTag;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.HttpHeaders;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.MediaType;
+import com.hortonworks.registries.shaded.javax.ws.rs.core.Response;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Tests the entity tags of the schema versions which are fetched by id and by name and version.
+ */
+public class SchemaVersionEntityTagTest {
+
+    private static final String SCHEMA_NAME = "entity-tag-test";
+
+    private LocalSchemaRegistryServer localSchemaRegistryServer;
+    private SchemaRegistryClient schemaRegistryClient;
+    private WebTarget rootTarget;
+    private Long schemaVersionId;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        String configPath = new File(Resources.getResource("schema-registry.yaml").toURI()).getAbsolutePath();
+        localSchemaRegistryServer = new LocalSchemaRegistryServer(configPath);
+        localSchemaRegistryServer.start();
+        String rootUrl = String.format("http://localhost:%d/api/v1", localSchemaRegistryServer.getLocalPort());
+        schemaRegistryClient = new SchemaRegistryClient(
+                Collections.singletonMap(SchemaRegistryClient.Configuration.SCHEMA_REGISTRY_URL.name(), rootUrl));
+        rootTarget = ClientBuilder.newClient().target(rootUrl + "/schemaregistry");
+
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder(SCHEMA_NAME)
+                .type(AvroSchemaProvider.TYPE)
+                .schemaGroup("group")
+                .build();
+        String schemaText = IOUtils.toString(getClass().getResourceAsStream("/device.avsc"), StandardCharsets.UTF_8);
+        SchemaIdVersion schemaIdVersion = schemaRegistryClient.addSchemaVersion(schemaMetadata, new SchemaVersion(schemaText, "first"));
+        schemaVersionId = schemaIdVersion.getSchemaVersionId();
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        if (schemaRegistryClient != null) {
+            schemaRegistryClient.close();
+        }
+        if (localSchemaRegistryServer != null) {
+            localSchemaRegistryServer.stop();
+        }
+    }
+
+    @Test
+    public void testVersionsAreTaggedWithIdAndState() throws Exception {
+        SchemaVersionInfo schemaVersionInfo = schemaRegistryClient.getSchemaVersionInfo(new SchemaIdVersion(schemaVersionId));
+        EntityTag expectedTag = new EntityTag(schemaVersionId + "-" + schemaVersionInfo.getStateId());
+
+        for (WebTarget target : new WebTarget[] {byIdTarget(), byVersionTarget(schemaVersionInfo.getVersion())}) {
+            Response response = target.request(MediaType.APPLICATION_JSON_TYPE).get();
+            Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+            Assertions.assertEquals(expectedTag, response.getEntityTag());
+            Assertions.assertEquals("no-cache", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+
+            Response notModified = get(target, expectedTag);
+            Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+            Assertions.assertEquals(expectedTag, notModified.getEntityTag());
+        }
+    }
+
+    @Test
+    public void testTagChangesWithState() throws Exception {
+        EntityTag enabledTag = byIdTarget().request(MediaType.APPLICATION_JSON_TYPE).get().getEntityTag();
+
+        schemaRegistryClient.disableSchemaVersion(schemaVersionId);
+
+        Response response = get(byIdTarget(), enabledTag);
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        Assertions.assertNotEquals(enabledTag, response.getEntityTag());
+    }
+
+    private WebTarget byIdTarget() {
+        return rootTarget.path("schemas/versionsById/" + schemaVersionId);
+    }
+
+    private WebTarget byVersionTarget(Integer version) {
+        return rootTarget.path("schemas/" + SCHEMA_NAME + "/versions/" + version);
+    }
+
+    private static Response get(WebTarget target, EntityTag entityTag) {
+        return target.request(MediaType.APPLICATION_JSON_TYPE)
+                     .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                     .get();
+    }
+}
@@ -265,13 +265,13 @@ public class SchemaRegistryResourceTest {
                 return schemaFieldQuery;
             }
         };
-        when(schemaRegistryMock.findSchemasByFields(ArgumentMatchers.any())).thenReturn(schemaversions);
+        when(schemaRegistryMock.findSchemasByFields(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(schemaversions);
         
         //when
-        Response actual = underTest.findSchemasByFields(name, namespace, type, securityContext);
+        Response actual = underTest.findSchemasByFields(name, namespace, type, null, securityContext);
         
         //then
-        verify(schemaRegistryMock).findSchemasByFields(schemaFieldQuery);
+        verify(schemaRegistryMock).findSchemasByFields(schemaFieldQuery, null);
         verify(authorizationAgentMock).authorizeFindSchemasByFields(null, schemaRegistryMock, schemaversions);
         CollectionResponse expectedEntity = CollectionResponse.newResponse().entities(schemaversions).build();
         assertEquals(200, actual.getStatus());
@@ -109,7 +109,7 @@ public class ConfluentSchemaRegistryCompatibleResourceIT {
                 //given
                 SchemaMetadata schemaMetadata = createSchemaMetadata("name");
                 Collection<SchemaMetadataInfo> schemaMetadataInfos = createSchemaMetadataInfo(schemaMetadata, 1L);
-                when(schemaRegistryMock.findSchemaMetadata(any())).thenReturn(schemaMetadataInfos);
+                when(schemaRegistryMock.findSchemaMetadataSummaries(any())).thenReturn(schemaMetadataInfos);
                 when(authorizationAgentMock.authorizeFindSchemas(any(), any())).thenReturn(schemaMetadataInfos);
 
                 //when
@@ -119,7 +119,7 @@ public class ConfluentSchemaRegistryCompatibleResourceIT {
                         .get();
 
                 //then
-                verify(schemaRegistryMock).findSchemaMetadata(any());
+                verify(schemaRegistryMock).findSchemaMetadataSummaries(any());
                 verify(authorizationAgentMock).authorizeFindSchemas(any(), any());
                 String actual = response.readEntity(String.class);
                 String expectedString = new StringBuilder().append("[\"").append(schemaMetadata.getName()).append("\"]").toString();
@@ -34,6 +34,7 @@ import com.hortonworks.registries.schemaregistry.errors.UnsupportedSchemaTypeExc
 import com.hortonworks.registries.schemaregistry.validator.SchemaMetadataTypeValidator;
 import com.hortonworks.registries.schemaregistry.webservice.SchemaRegistryResource;
 import com.hortonworks.registries.storage.exception.OffsetRangeReachedException;
+import com.hortonworks.registries.storage.search.Page;
 import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
 import io.dropwizard.testing.junit5.ResourceExtension;
 import org.glassfish.jersey.media.multipart.MultiPart;
@@ -53,6 +54,7 @@ import javax.ws.rs.core.Response;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -69,6 +71,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -114,7 +117,7 @@ public class SchemaRegistryResourceIT {
         Collection<SchemaVersionKey> schemaversions = new ArrayList<>();
         schemaversions.add(new SchemaVersionKey("apple", 1));
         SchemaFieldQuery query = new SchemaFieldQuery("apple", "pear", null);
-        when(schemaRegistryMock.findSchemasByFields(query)).thenReturn(schemaversions);
+        when(schemaRegistryMock.findSchemasByFields(query, null)).thenReturn(schemaversions);
         when(authorizationAgentMock.authorizeFindSchemasByFields(any(), any(), eq(schemaversions))).thenReturn(schemaversions);
 
         //when
@@ -127,7 +130,7 @@ public class SchemaRegistryResourceIT {
 
         //then
         SchemaFieldQuery expectedQuery = new SchemaFieldQuery("apple", "pear", null);
-        verify(schemaRegistryMock).findSchemasByFields(expectedQuery);
+        verify(schemaRegistryMock).findSchemasByFields(expectedQuery, null);
         verify(authorizationAgentMock).authorizeFindSchemasByFields(null, schemaRegistryMock, schemaversions);
         TestResponseForSchemaVersionKey actual = response.readEntity(TestResponseForSchemaVersionKey.class);
         assertEquals(schemaversions, actual.getEntities());
@@ -139,7 +142,7 @@ public class SchemaRegistryResourceIT {
         //given
         Collection<SchemaVersionKey> schemaversions = new ArrayList<>();
         schemaversions.add(new SchemaVersionKey("test", 1));
-        when(schemaRegistryMock.findSchemasByFields(any())).thenReturn(schemaversions);
+        when(schemaRegistryMock.findSchemasByFields(any(), any())).thenReturn(schemaversions);
         when(authorizationAgentMock.authorizeFindSchemasByFields(any(), any(), any())).thenReturn(schemaversions);
 
         //when
@@ -150,12 +153,76 @@ public class SchemaRegistryResourceIT {
 
         //then
         SchemaFieldQuery expectedQuery = new SchemaFieldQuery(null, null, null);
-        verify(schemaRegistryMock).findSchemasByFields(expectedQuery);
+        verify(schemaRegistryMock).findSchemasByFields(expectedQuery, null);
         verify(authorizationAgentMock).authorizeFindSchemasByFields(null, schemaRegistryMock, schemaversions);
         TestResponseForSchemaVersionKey actual = response.readEntity(TestResponseForSchemaVersionKey.class);
         assertEquals(schemaversions, actual.getEntities());
         assertEquals(200, response.getStatus());
     }
+
+    @Test
+    public void findSchemasByFieldsWithLimit() throws Exception {
+        //given
+        Collection<SchemaVersionKey> schemaversions = new ArrayList<>();
+        schemaversions.add(new SchemaVersionKey("apple", 1));
+        SchemaFieldQuery query = new SchemaFieldQuery("apple", null, null);
+        when(schemaRegistryMock.findSchemasByFields(query, 10)).thenReturn(schemaversions);
+        when(authorizationAgentMock.authorizeFindSchemasByFields(any(), any(), eq(schemaversions))).thenReturn(schemaversions);
+
+        //when
+        Response response = testClient.target(
+                String.format("/api/v1/schemaregistry/search/schemas/fields"))
+                .queryParam("name", "apple")
+                .queryParam("limit", 10)
+                .request()
+                .get();
+
+        //then
+        verify(schemaRegistryMock).findSchemasByFields(query, 10);
+        TestResponseForSchemaVersionKey actual = response.readEntity(TestResponseForSchemaVersionKey.class);
+        assertEquals(schemaversions, actual.getEntities());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    public void findSchemasByFieldsWithLimitReadsMoreVersionsWhenVersionsAreNotAuthorized() throws Exception {
+        //given
+        List<SchemaVersionKey> versions = Arrays.asList(new SchemaVersionKey("hidden", 1), new SchemaVersionKey("pear", 1));
+        List<SchemaVersionKey> moreVersions = Arrays.asList(new SchemaVersionKey("hidden", 1), new SchemaVersionKey("pear", 1),
+                new SchemaVersionKey("pear", 2), new SchemaVersionKey("plum", 1));
+        SchemaFieldQuery query = new SchemaFieldQuery("pear", null, null);
+        when(schemaRegistryMock.findSchemasByFields(query, 2)).thenReturn(versions);
+        when(schemaRegistryMock.findSchemasByFields(query, 4)).thenReturn(moreVersions);
+        when(authorizationAgentMock.authorizeFindSchemasByFields(any(), any(), eq(versions))).thenReturn(versions.subList(1, 2));
+        when(authorizationAgentMock.authorizeFindSchemasByFields(any(), any(), eq(moreVersions))).thenReturn(moreVersions.subList(1, 4));
+
+        //when
+        Response response = testClient.target("/api/v1/schemaregistry/search/schemas/fields")
+                .queryParam("name", "pear")
+                .queryParam("limit", 2)
+                .request()
+                .get();
+
+        //then
+        TestResponseForSchemaVersionKey actual = response.readEntity(TestResponseForSchemaVersionKey.class);
+        assertEquals(200, response.getStatus());
+        assertEquals(moreVersions.subList(1, 3), new ArrayList<>(actual.getEntities()));
+    }
+
+    @Test
+    public void findSchemasByFieldsWithInvalidLimit() throws Exception {
+        //when
+        Response response = testClient.target(
+                String.format("/api/v1/schemaregistry/search/schemas/fields"))
+                .queryParam("name", "apple")
+                .queryParam("limit", 0)
+                .request()
+                .get();
+
+        //then
+        assertEquals(400, response.getStatus());
+        verify(schemaRegistryMock, never()).findSchemasByFields(any(), any());
+    }
     
     @Test
     public void findSchemasCanDelegate() throws Exception {
@@ -182,6 +249,68 @@ public class SchemaRegistryResourceIT {
         assertEquals(200, response.getStatus());
     }
 
+    @Test
+    public void listSchemasWithLimitReturnsNextCursor() throws Exception {
+        //given
+        SchemaMetadata schemaMetadata = new SchemaMetadata.Builder("magnesium").type("avro").schemaGroup("eyebrow").compatibility(SchemaCompatibility.BACKWARD).validationLevel(SchemaValidationLevel.LATEST).description("b6").build();
+        Collection<SchemaMetadataInfo> schemas = new ArrayList<>();
+        schemas.add(new SchemaMetadataInfo(schemaMetadata));
+        when(schemaRegistryMock.findSchemaMetadata(any(), eq(1), eq("previous"))).thenReturn(new Page<>(schemas, "next"));
+        when(authorizationAgentMock.authorizeFindSchemas(any(), eq(schemas))).thenReturn(schemas);
+
+        //when
+        Response response = testClient.target("/api/v1/schemaregistry/schemas")
+                .queryParam("limit", 1)
+                .queryParam("cursor", "previous")
+                .request()
+                .get();
+
+        //then
+        verify(schemaRegistryMock).findSchemaMetadata(any(), eq(1), eq("previous"));
+        TestResponseForSchemaMetadataInfo actual = response.readEntity(TestResponseForSchemaMetadataInfo.class);
+        assertEquals(200, response.getStatus());
+        assertEquals(schemas, actual.getEntities());
+        assertEquals("next", actual.getNextCursor());
+    }
+
+    @Test
+    public void listSchemasWithLimitReadsMorePagesWhenSchemasAreNotAuthorized() throws Exception {
+        //given
+        List<SchemaMetadataInfo> firstPage = new ArrayList<>();
+        firstPage.add(new SchemaMetadataInfo(new SchemaMetadata.Builder("sodium").type("avro").schemaGroup("eyebrow").build()));
+        firstPage.add(new SchemaMetadataInfo(new SchemaMetadata.Builder("hidden").type("avro").schemaGroup("eyebrow").build()));
+        List<SchemaMetadataInfo> secondPage = new ArrayList<>();
+        secondPage.add(new SchemaMetadataInfo(new SchemaMetadata.Builder("lithium").type("avro").schemaGroup("eyebrow").build()));
+        when(schemaRegistryMock.findSchemaMetadata(any(), eq(2), eq(null))).thenReturn(new Page<>(firstPage, "first"));
+        when(schemaRegistryMock.findSchemaMetadata(any(), eq(1), eq("first"))).thenReturn(new Page<>(secondPage, "second"));
+        when(authorizationAgentMock.authorizeFindSchemas(any(), eq(firstPage))).thenReturn(firstPage.subList(0, 1));
+        when(authorizationAgentMock.authorizeFindSchemas(any(), eq(secondPage))).thenReturn(secondPage);
+
+        //when
+        Response response = testClient.target("/api/v1/schemaregistry/schemas")
+                .queryParam("limit", 2)
+                .request()
+                .get();
+
+        //then
+        TestResponseForSchemaMetadataInfo actual = response.readEntity(TestResponseForSchemaMetadataInfo.class);
+        assertEquals(200, response.getStatus());
+        assertEquals(Arrays.asList(firstPage.get(0), secondPage.get(0)), new ArrayList<>(actual.getEntities()));
+        assertEquals("second", actual.getNextCursor());
+    }
+
+    @Test
+    public void listSchemasWithCursorWithoutLimitResultingBadRequest() {
+        //when
+        Response response = testClient.target("/api/v1/schemaregistry/schemas")
+                .queryParam("cursor", "previous")
+                .request()
+                .get();
+
+        //then
+        assertEquals(400, response.getStatus());
+    }
+
     @Test
     public void findSchemasWithoutNameAndDescResultingBadRequest() {
         //given
@@ -466,6 +595,7 @@ public class SchemaRegistryResourceIT {
 abstract class TestResponse<T> {
     private List<T> entities;
     private List<String> errors;
+    private String nextCursor;
 
     public List<T> getEntities() {
         return entities;
@@ -482,6 +612,14 @@ abstract class TestResponse<T> {
     public void setErrors(List<String> errors) {
         this.errors = errors;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
 class TestResponseForSerDesInfo extends TestResponse<SerDesInfo> { }
 
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+package com.hortonworks.registries.storage.transaction;
+
+import com.hortonworks.registries.storage.TransactionManager;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionEventListenerTest {
+
+    private TransactionManager transactionManager;
+    private TransactionEventListener underTest;
+
+    @BeforeEach
+    public void setup() {
+        transactionManager = mock(TransactionManager.class);
+        underTest = new TransactionEventListener(transactionManager);
+    }
+
+    @Test
+    public void testTransactionIsCommitted() {
+        handleRequest("write", 200);
+
+        verify(transactionManager).beginTransaction(TransactionIsolation.READ_COMMITTED);
+        verify(transactionManager).commitTransaction();
+    }
+
+    @Test
+    public void testTransactionIsRolledBackOnError() {
+        handleRequest("write", 500);
+
+        verify(transactionManager).beginTransaction(TransactionIsolation.READ_COMMITTED);
+        verify(transactionManager).rollbackTransaction();
+        verify(transactionManager, never()).commitTransaction();
+    }
+
+    @Test
+    public void testNonTransactionalMethodRunsWithoutTransaction() {
+        handleRequest("read", 200);
+
+        verify(transactionManager, never()).beginTransaction(any());
+        verify(transactionManager, never()).commitTransaction();
+        verify(transactionManager, never()).rollbackTransaction();
+    }
+
+    private void handleRequest(String methodName, int status) {
+        ExtendedUriInfo uriInfo = mock(ExtendedUriInfo.class);
+        when(uriInfo.getMatchedResourceMethod()).thenReturn(resourceMethod(methodName));
+        ContainerResponse response = mock(ContainerResponse.class);
+        when(response.getStatus()).thenReturn(status);
+
+        RequestEventListener listener = underTest.onRequest(event(RequestEvent.Type.START, uriInfo, response));
+        listener.onEvent(event(RequestEvent.Type.RESOURCE_METHOD_START, uriInfo, response));
+        listener.onEvent(event(RequestEvent.Type.RESP_FILTERS_START, uriInfo, response));
+    }
+
+    private static RequestEvent event(RequestEvent.Type type, ExtendedUriInfo uriInfo, ContainerResponse response) {
+        RequestEvent event = mock(RequestEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getUriInfo()).thenReturn(uriInfo);
+        when(event.getContainerResponse()).thenReturn(response);
+        return event;
+    }
+
+    private static ResourceMethod resourceMethod(String methodName) {
+        return Resource.from(TestResource.class).getResourceMethods().stream()
+                .filter(method -> method.getInvocable().getDefinitionMethod().getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @GET
+        @UnitOfWork(transactional = false)
+        public String read() {
+            return "read";
+        }
+
+        @POST
+        @UnitOfWork
+        public String write() {
+            return "write";
+        }
+    }
+}
@@ -110,4 +110,14 @@ public interface Storable {
     default boolean isIdAutoIncremented() {
         return true;
     }
+
+    /**
+     * @return whether the ids of the sequence have to be in the order in which the storables are committed, e.g. so
+     * that the storables can be read in that order. Such ids are reserved one by one in the transaction of the caller,
+     * which keeps the sequence locked until it commits, even if the storage manager reserves ids in blocks.
+     */
+    @JsonIgnore
+    default boolean isIdOrderedByCommit() {
+        return false;
+    }
 }
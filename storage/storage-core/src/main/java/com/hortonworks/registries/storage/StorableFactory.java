@@ -15,6 +15,7 @@
  **/
 package com.hortonworks.registries.storage;
 
+import com.hortonworks.registries.storage.catalog.StorableAccessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,38 +29,32 @@ import java.util.Map;
 public class StorableFactory {
     private static final Logger LOG = LoggerFactory.getLogger(StorableFactory.class);
 
-    private final Map<String, Class<? extends Storable>> nameSpaceWithClass = new HashMap<>();
+    private final Map<String, StorableAccessor> nameSpaceWithAccessor = new HashMap<>();
 
     public StorableFactory() {
     }
 
     public void addStorableClasses(Collection<Class<? extends Storable>> storableClasses) {
         for (Class<? extends Storable> clazz : storableClasses) {
-            try {
-                String nameSpace = clazz.newInstance().getNameSpace();
+            StorableAccessor accessor = StorableAccessor.of(clazz);
+            String nameSpace = accessor.<Storable>newInstance().getNameSpace();
 
-                LOG.info("Storable class [{}] is getting registered with namespace [{}]", clazz, nameSpace);
+            LOG.info("Storable class [{}] is getting registered with namespace [{}]", clazz, nameSpace);
 
-                if (nameSpaceWithClass.containsKey(nameSpace)) {
-                    throw new IllegalArgumentException("NameSpace [" + nameSpace + "] is already registered");
-                }
-
-                nameSpaceWithClass.put(nameSpace, clazz);
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException(e);
+            if (nameSpaceWithAccessor.containsKey(nameSpace)) {
+                throw new IllegalArgumentException("NameSpace [" + nameSpace + "] is already registered");
             }
+
+            nameSpaceWithAccessor.put(nameSpace, accessor);
         }
     }
 
     public Storable create(String nameSpace) {
-        if (!nameSpaceWithClass.containsKey(nameSpace)) {
+        StorableAccessor accessor = nameSpaceWithAccessor.get(nameSpace);
+        if (accessor == null) {
             throw new IllegalArgumentException("No factory supported with the given namespace: " + nameSpace);
         }
 
-        try {
-            return nameSpaceWithClass.get(nameSpace).newInstance();
-        } catch (InstantiationException  | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return accessor.newInstance();
     }
 }
@@ -16,11 +16,16 @@
 package com.hortonworks.registries.storage;
 
 import com.hortonworks.registries.common.QueryParam;
+import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.exception.StorageException;
+import com.hortonworks.registries.storage.search.KeysetCursor;
+import com.hortonworks.registries.storage.search.Page;
 import com.hortonworks.registries.storage.search.SearchQuery;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * TODO: All the methods are very restrictive and needs heavy synchronization to get right but my assumption is that
@@ -75,6 +80,73 @@ public interface StorageManager {
      */
     void update(Storable storable);
 
+    /**
+     * Adds all the given storables to the storage layer. Implementations may send them in a single round trip,
+     * the default implementation adds them one by one with {@link #add(Storable)}.
+     *
+     * @param storables the storables
+     * @throws StorageException
+     */
+    default void addAll(Collection<? extends Storable> storables) throws StorageException {
+        for (Storable storable : storables) {
+            add(storable);
+        }
+    }
+
+    /**
+     * Updates all the given existing storables. Implementations may send them in a single round trip,
+     * the default implementation updates them one by one with {@link #update(Storable)}.
+     *
+     * @param storables the storables
+     */
+    default void updateAll(Collection<? extends Storable> storables) {
+        for (Storable storable : storables) {
+            update(storable);
+        }
+    }
+
+    /**
+     * Removes the {@link Storable} objects identified by the given keys. Unlike {@link #remove(StorableKey)} the removed
+     * objects are not returned, so that implementations do not have to read them before removing them.
+     * Keys which do not exist are ignored.
+     *
+     * @param keys of the {@link Storable} objects to remove
+     * @throws StorageException
+     */
+    default void removeAll(Collection<StorableKey> keys) throws StorageException {
+        for (StorableKey key : keys) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Removes the {@link Storable} objects of the namespace of the given key whose value of the field of the key is
+     * lower than the value of the key, e.g. the entries of a log which are older than a given timestamp.
+     * Implementations may remove them with a single statement, the default implementation lists the namespace and
+     * removes the matching objects with {@link #removeAll(Collection)}.
+     *
+     * @param upperBound key with a single field and the exclusive upper bound of its values
+     * @throws StorageException
+     */
+    default void removeAllBelow(StorableKey upperBound) throws StorageException {
+        Map<Schema.Field, Object> fieldsToVal = upperBound.getPrimaryKey().getFieldsToVal();
+        if (fieldsToVal.size() != 1) {
+            throw new IllegalArgumentException("Upper bound should have a single field " + upperBound);
+        }
+        Map.Entry<Schema.Field, Object> bound = fieldsToVal.entrySet().iterator().next();
+        @SuppressWarnings("unchecked")
+        Comparable<Object> boundValue = (Comparable<Object>) bound.getValue();
+
+        List<StorableKey> keys = new ArrayList<>();
+        for (Storable storable : this.<Storable>list(upperBound.getNameSpace())) {
+            Object value = storable.toMap().get(bound.getKey().getName());
+            if (value != null && boundValue.compareTo(value) > 0) {
+                keys.add(storable.getStorableKey());
+            }
+        }
+        removeAll(keys);
+    }
+
     /**
      * Gets the storable entity by using {@code Storable.getPrimaryKey()} as lookup key, return null if no storable entity with
      * the supplied key is found.
@@ -133,6 +205,34 @@ public interface StorageManager {
      */
     <T extends Storable> Collection<T> search(SearchQuery searchQuery);
 
+    /**
+     * Returns a page of the storables matching the given {@code searchQuery}, which should have a limit and an order
+     * whose last field is unique. The next page is fetched with the same query continued
+     * {@link SearchQuery#after(KeysetCursor) after} the returned cursor. If the query
+     * {@link SearchQuery#select(String...) selects} fields, the order by fields should be selected too.
+     *
+     * @param searchQuery the search query
+     * @param <T> the type
+     * @return the storables and the cursor of the next page, which is null if there are no more storables
+     */
+    default <T extends Storable> Page<T> searchPage(SearchQuery searchQuery) {
+        Integer limit = searchQuery.getLimit();
+        if (limit == null || searchQuery.getOrderByFields() == null || searchQuery.getOrderByFields().isEmpty()) {
+            throw new IllegalArgumentException("Paged search query should have a limit and order by fields " + searchQuery);
+        }
+        List<String> selectedFields = searchQuery.getSelectedFields();
+        if (selectedFields != null && searchQuery.getOrderByFields().stream().anyMatch(x -> !selectedFields.contains(x.getFieldName()))) {
+            throw new IllegalArgumentException("Paged search query should select its order by fields " + searchQuery);
+        }
+
+        List<T> storables = new ArrayList<>(this.<T>search(searchQuery));
+        String nextCursor = null;
+        if (storables.size() == limit) {
+            nextCursor = KeysetCursor.after(storables.get(storables.size() - 1), searchQuery.getOrderByFields()).encode();
+        }
+        return new Page<>(storables, nextCursor);
+    }
+
     /**
      * Lists all {@link Storable} objects existing in the given namespace. If no entity is found, and empty list will be returned.
      * @param namespace the namespace
@@ -155,6 +255,23 @@ public interface StorageManager {
      */
     Long nextId(String namespace) throws StorageException;
 
+    /**
+     * Same as {@link #nextId(String)} for {@code count} new rows. Implementations may reserve the ids at once,
+     * the default implementation calls {@link #nextId(String)} for every id.
+     *
+     * @param namespace
+     * @param count number of ids
+     * @return next id values for inserting new rows into the corresponding table
+     * @throws StorageException
+     */
+    default List<Long> nextIds(String namespace, int count) throws StorageException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId(namespace));
+        }
+        return ids;
+    }
+
     /**
      * Registers a Collection of {@link Storable}} classes to be used in {@link StorableFactory} for creating instances
      * of a given namespace.
@@ -22,6 +22,8 @@ public class StorageProviderProperties {
     private Integer queryTimeoutInSecs;
     private DbProperties properties;
     private OffsetProperties offsetRange;
+    private Integer idBlockSize;
+    private Long statementCacheSize;
 
     @JsonProperty("db.type")
     public String getDbtype() {
@@ -62,4 +64,31 @@ public class StorageProviderProperties {
     public void setOffsetRange(OffsetProperties offsetRange) {
         this.offsetRange = offsetRange;
     }
+
+    /**
+     * @return number of ids reserved at once from the namespace sequences, 1 or null reserves every id separately
+     */
+    @JsonProperty
+    public Integer getIdBlockSize() {
+        return idBlockSize;
+    }
+
+    @JsonProperty
+    public void setIdBlockSize(Integer idBlockSize) {
+        this.idBlockSize = idBlockSize;
+    }
+
+    /**
+     * @return maximum number of prepared statements cached by the JDBC driver for every connection, 0 keeps the
+     *         defaults of the driver
+     */
+    @JsonProperty
+    public Long getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    @JsonProperty
+    public void setStatementCacheSize(Long statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
 }
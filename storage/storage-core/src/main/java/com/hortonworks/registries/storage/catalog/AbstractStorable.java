@@ -19,22 +19,17 @@ package com.hortonworks.registries.storage.catalog;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.common.exception.ParserException;
-import com.hortonworks.registries.common.util.ReflectionHelper;
 import com.hortonworks.registries.storage.Storable;
 import com.hortonworks.registries.storage.StorableKey;
-import com.hortonworks.registries.storage.annotation.SchemaIgnore;
 import com.hortonworks.registries.storage.exception.StorageException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Default implementations go here
@@ -58,17 +53,13 @@ public abstract class AbstractStorable implements Storable {
      * @return the map
      */
     public Map<String, Object> toMap() {
-        Set<String> instanceVariableNames = ReflectionHelper.getFieldNamesToTypes(this.getClass()).keySet();
+        StorableAccessor accessor = StorableAccessor.of(this.getClass());
         Map<String, Object> fieldToVal = new HashMap<>();
-        for (String fieldName : instanceVariableNames) {
-            try {
-                Object val = ReflectionHelper.invokeGetter(fieldName, this);
-                fieldToVal.put(fieldName, val);
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("toMap: Adding fieldName {} = {} ", fieldName, val);
-                }
-            } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-                throw new StorageException(e);
+        for (String fieldName : accessor.getFieldNamesToTypes().keySet()) {
+            Object val = accessor.get(this, fieldName);
+            fieldToVal.put(fieldName, val);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("toMap: Adding fieldName {} = {} ", fieldName, val);
             }
         }
 
@@ -84,13 +75,10 @@ public abstract class AbstractStorable implements Storable {
      * @return the storable
      */
     public Storable fromMap(Map<String, Object> map) {
+        StorableAccessor accessor = StorableAccessor.of(this.getClass());
         for (Map.Entry<String, Object> entry: map.entrySet()) {
-            try {
-                if (entry.getValue() != null) {
-                    ReflectionHelper.invokeSetter(entry.getKey(), this, entry.getValue());
-                }
-            } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-                throw new StorageException(e);
+            if (entry.getValue() != null) {
+                accessor.set(this, entry.getKey(), entry.getValue());
             }
         }
         return this;
@@ -104,16 +92,16 @@ public abstract class AbstractStorable implements Storable {
      */
     @JsonIgnore
     public Schema getSchema() {
-        Map<String, Class> fieldNamesToTypes = ReflectionHelper.getFieldNamesToTypes(this.getClass());
+        StorableAccessor accessor = StorableAccessor.of(this.getClass());
         List<Schema.Field> fields = new ArrayList<>();
 
-        for (Map.Entry<String, Class> entry : fieldNamesToTypes.entrySet()) {
+        for (Map.Entry<String, Class<?>> entry : accessor.getFieldNamesToTypes().entrySet()) {
             try {
-                getField(entry.getKey(), entry.getValue()).ifPresent(field -> {
+                getField(accessor, entry.getKey(), entry.getValue()).ifPresent(field -> {
                     fields.add(field);
                     LOG.trace("getSchema: Adding {}", field);
                 });
-            } catch (NoSuchFieldException | NoSuchMethodException | InvocationTargetException | IllegalAccessException | ParserException e) {
+            } catch (ParserException e) {
                 throw new StorageException(e);
             }
         }
@@ -121,14 +109,12 @@ public abstract class AbstractStorable implements Storable {
         return Schema.of(fields);
     }
 
-    private Optional<Schema.Field> getField(String name, Class<?> clazz) throws NoSuchFieldException,
-            NoSuchMethodException, IllegalAccessException, InvocationTargetException, ParserException {
-        Field field = this.getClass().getDeclaredField(name);
-        if (field.getAnnotation(SchemaIgnore.class) != null) {
-            LOG.debug("Ignoring field {}", field);
+    private Optional<Schema.Field> getField(StorableAccessor accessor, String name, Class<?> clazz) throws ParserException {
+        if (accessor.isSchemaIgnored(name)) {
+            LOG.debug("Ignoring field {}", name);
             return Optional.empty();
         }
-        Object val = ReflectionHelper.invokeGetter(name, this);
+        Object val = accessor.get(this, name);
         Schema.Type type;
         if (val != null) {
             type = Schema.fromJavaType(val);
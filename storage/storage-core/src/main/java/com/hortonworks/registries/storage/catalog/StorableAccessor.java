@@ -0,0 +1,267 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.catalog;
+
+import com.google.common.primitives.Primitives;
+import com.hortonworks.registries.common.util.ReflectionHelper;
+import com.hortonworks.registries.storage.annotation.SchemaIgnore;
+import com.hortonworks.registries.storage.exception.StorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fields, getters, setters and no-arg constructor of a storable class. They are looked up once per class and the
+ * getters and setters are invoked through {@link MethodHandle}s instead of resolving the bean properties on every call.
+ * <p>
+ * The setter of a property is the one accepting the type of its field, which is also the type of its column. Properties
+ * which can not be accessed through a method handle, and values of another type, are handled by
+ * {@link ReflectionHelper} the same way as before.
+ */
+public final class StorableAccessor {
+    private static final Logger LOG = LoggerFactory.getLogger(StorableAccessor.class);
+
+    private static final ConcurrentHashMap<Class<?>, StorableAccessor> ACCESSORS = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<?> storableClass;
+    private final Map<String, Class<?>> fieldNamesToTypes;
+    private final Set<String> schemaIgnoredFields;
+    private final Map<String, MethodHandle> getters;
+    private final Map<String, Setter> setters;
+    private final MethodHandle constructor;
+
+    private StorableAccessor(Class<?> storableClass) {
+        this.storableClass = storableClass;
+        this.fieldNamesToTypes = Collections.unmodifiableMap(toFieldNamesToTypes(storableClass));
+        this.schemaIgnoredFields = Collections.unmodifiableSet(toSchemaIgnoredFields(storableClass));
+        this.getters = new HashMap<>();
+        this.setters = new HashMap<>();
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(storableClass);
+            for (PropertyDescriptor property : beanInfo.getPropertyDescriptors()) {
+                MethodHandle getter = unreflect(property.getReadMethod());
+                if (getter != null) {
+                    getters.put(property.getName(), getter.asType(GETTER_TYPE));
+                }
+                Method writeMethod = getWriteMethod(storableClass, property, fieldNamesToTypes.get(property.getName()));
+                MethodHandle setter = unreflect(writeMethod);
+                if (setter != null) {
+                    setters.put(property.getName(), new Setter(setter, writeMethod.getParameterTypes()[0]));
+                }
+            }
+        } catch (IntrospectionException e) {
+            LOG.warn("Could not introspect the properties of {}, they are accessed with reflection", storableClass, e);
+        }
+        this.constructor = unreflectConstructor(storableClass);
+    }
+
+    /**
+     * @param storableClass class of the storable
+     * @return the accessor of the given class, created on first use
+     */
+    public static StorableAccessor of(Class<?> storableClass) {
+        StorableAccessor accessor = ACCESSORS.get(storableClass);
+        if (accessor == null) {
+            accessor = ACCESSORS.computeIfAbsent(storableClass, StorableAccessor::new);
+        }
+        return accessor;
+    }
+
+    /**
+     * @return names of all the instance fields of the class and its super classes, mapped to their types
+     */
+    public Map<String, Class<?>> getFieldNamesToTypes() {
+        return fieldNamesToTypes;
+    }
+
+    /**
+     * @return true if the field is annotated with {@link SchemaIgnore}
+     */
+    public boolean isSchemaIgnored(String fieldName) {
+        return schemaIgnoredFields.contains(fieldName);
+    }
+
+    /**
+     * Creates a new instance with the no-arg constructor of the class.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() {
+        if (constructor == null) {
+            throw new StorageException("No accessible no-arg constructor found for " + storableClass.getName());
+        }
+        try {
+            Object storable = constructor.invokeExact();
+            return (T) storable;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new StorageException(e);
+        }
+    }
+
+    /**
+     * @return the value returned by the getter of the given property
+     * @throws StorageException if the property has no getter or the getter fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object storable, String propertyName) {
+        MethodHandle getter = getters.get(propertyName);
+        if (getter == null) {
+            try {
+                return ReflectionHelper.invokeGetter(propertyName, storable);
+            } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+                throw new StorageException(e);
+            }
+        }
+        try {
+            Object value = getter.invokeExact(storable);
+            return (T) value;
+        } catch (Throwable e) {
+            throw new StorageException("Failed to invoke the getter of " + propertyName + " on " + storableClass.getName(), e);
+        }
+    }
+
+    /**
+     * Invokes the setter of the given property with the value.
+     *
+     * @throws StorageException if the property has no setter accepting the value or the setter fails
+     */
+    public void set(Object storable, String propertyName, Object value) {
+        Setter setter = setters.get(propertyName);
+        if (setter != null && setter.accepts(value)) {
+            try {
+                setter.handle.invokeExact(storable, value);
+                return;
+            } catch (Throwable e) {
+                throw new StorageException("Failed to invoke the setter of " + propertyName + " on " + storableClass.getName(), e);
+            }
+        }
+        // a setter accepting the type of the value may still exist
+        try {
+            ReflectionHelper.invokeSetter(propertyName, storable, value);
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private static Map<String, Class<?>> toFieldNamesToTypes(Class<?> clazz) {
+        Map<String, Class<?>> fieldNamesToTypes = new HashMap<>();
+        for (Map.Entry<String, Class> entry : ReflectionHelper.getFieldNamesToTypes(clazz).entrySet()) {
+            fieldNamesToTypes.put(entry.getKey(), entry.getValue());
+        }
+        return fieldNamesToTypes;
+    }
+
+    private static Set<String> toSchemaIgnoredFields(Class<?> clazz) {
+        Set<String> ignored = new HashSet<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getAnnotation(SchemaIgnore.class) != null) {
+                    ignored.add(field.getName());
+                }
+            }
+        }
+        return ignored;
+    }
+
+    // prefers the setter of the field type over the one picked by the introspector when the setter is overloaded
+    private static Method getWriteMethod(Class<?> clazz, PropertyDescriptor property, Class<?> fieldType) {
+        Method writeMethod = property.getWriteMethod();
+        if (writeMethod == null || fieldType == null || writeMethod.getParameterTypes()[0] == fieldType) {
+            return writeMethod;
+        }
+        try {
+            return clazz.getMethod(writeMethod.getName(), fieldType);
+        } catch (NoSuchMethodException e) {
+            return writeMethod;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (RuntimeException | IllegalAccessException ex) {
+                LOG.debug("Method {} is accessed with reflection", method, ex);
+                return null;
+            }
+        }
+    }
+
+    private static MethodHandle unreflectConstructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Class {} can not be instantiated with a no-arg constructor", clazz, e);
+            return null;
+        }
+    }
+
+    private static final class Setter {
+        private final MethodHandle handle;
+        private final Class<?> valueType;
+        private final boolean primitive;
+
+        private Setter(MethodHandle setter, Class<?> parameterType) {
+            // adapted once to the generic type, boxed values are unboxed for primitive parameters
+            this.handle = setter.asType(SETTER_TYPE);
+            this.valueType = Primitives.wrap(parameterType);
+            this.primitive = parameterType.isPrimitive();
+        }
+
+        private boolean accepts(Object value) {
+            return value == null ? !primitive : valueType.isInstance(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StorableAccessor{" +
+                "storableClass=" + storableClass.getName() +
+                ", getters=" + getters.keySet() +
+                ", setters=" + setters.keySet() +
+                '}';
+    }
+}
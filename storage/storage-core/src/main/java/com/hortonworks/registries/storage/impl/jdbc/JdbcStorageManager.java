@@ -16,7 +16,9 @@
 package com.hortonworks.registries.storage.impl.jdbc;
 
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hortonworks.registries.common.QueryParam;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.OrderByField;
@@ -27,6 +29,7 @@ import com.hortonworks.registries.storage.StorableKey;
 import com.hortonworks.registries.storage.StorageManager;
 import com.hortonworks.registries.storage.StorageProviderConfiguration;
 import com.hortonworks.registries.storage.TransactionManager;
+import com.hortonworks.registries.storage.catalog.StorableAccessor;
 import com.hortonworks.registries.storage.common.DatabaseType;
 import com.hortonworks.registries.storage.exception.AlreadyExistsException;
 import com.hortonworks.registries.storage.exception.IllegalQueryParameterException;
@@ -35,15 +38,18 @@ import com.hortonworks.registries.storage.exception.StorageException;
 import com.hortonworks.registries.storage.impl.jdbc.provider.QueryExecutorFactory;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.factory.QueryExecutor;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlSelectQuery;
+import com.hortonworks.registries.storage.impl.jdbc.sequences.IdBlock;
 import com.hortonworks.registries.storage.impl.jdbc.sequences.NamespaceSequenceStorable;
 import com.hortonworks.registries.storage.impl.jdbc.util.Columns;
 import com.hortonworks.registries.storage.search.SearchQuery;
 import com.hortonworks.registries.storage.transaction.TransactionIsolation;
+import com.hortonworks.registries.storage.util.StorageUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,6 +57,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -67,9 +78,15 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
     private static final Logger log = LoggerFactory.getLogger(StorageManager.class);
 
     private final StorableFactory storableFactory;
+    private final Map<String, IdBlock> idBlocks = new ConcurrentHashMap<>();
+    // a new block of a namespace is reserved by one thread, threads of other namespaces are not blocked meanwhile
+    private final Map<String, Object> idBlockLocks = new ConcurrentHashMap<>();
+    private final ExecutorService idBlockReservationExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("id-block-reservation-%d").build());
     private QueryExecutor queryExecutor;
     private Long offsetMin;
     private Long offsetMax;
+    private int idBlockSize = 1;
 
     public JdbcStorageManager() {
         storableFactory = new StorableFactory();
@@ -113,6 +130,29 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
         queryExecutor.update(storable);
     }
 
+    @Override
+    public void addAll(Collection<? extends Storable> storables) throws StorageException {
+        log.debug("Adding [{}] storables", storables.size());
+        queryExecutor.insertAll(storables);
+    }
+
+    @Override
+    public void updateAll(Collection<? extends Storable> storables) {
+        queryExecutor.updateAll(storables);
+    }
+
+    @Override
+    public void removeAll(Collection<StorableKey> keys) throws StorageException {
+        log.debug("Removing storable keys [{}]", keys);
+        queryExecutor.deleteAll(keys);
+    }
+
+    @Override
+    public void removeAllBelow(StorableKey upperBound) throws StorageException {
+        log.debug("Removing storables below [{}]", upperBound);
+        queryExecutor.deleteAllBelow(upperBound);
+    }
+
     @Override
     public <T extends Storable> T get(StorableKey key) throws StorageException {
         log.debug("Searching entry for storable key [{}]", key);
@@ -229,6 +269,7 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
 
     @Override
     public void cleanup() throws StorageException {
+        idBlockReservationExecutor.shutdown();
         queryExecutor.cleanup();
     }
 
@@ -239,14 +280,104 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
     @Override
     public final Long nextId(String namespace) {
         log.debug("Finding nextId for namespace [{}]", namespace);
-        if (storableFactory.create(namespace).isIdAutoIncremented()) {
+        Storable storable = storableFactory.create(namespace);
+        if (storable.isIdAutoIncremented()) {
             log.debug("Storable for namespace {} is auto increment, deferring to the DB to generate the ID", namespace);
             return queryExecutor.nextId(namespace);
         }
 
+        if (idBlockSize > 1 && !storable.isIdOrderedByCommit()) {
+            return nextIdFromBlock(namespace);
+        }
+        return reserveIdBlock(namespace, 1).nextId();
+    }
+
+    /**
+     * Reserves the ids of sequences with a single update of the sequence row, or takes them from the id block of
+     * the namespace. Ids generated by the database are reserved at once where the database supports it.
+     */
+    @Override
+    public List<Long> nextIds(String namespace, int count) {
+        log.debug("Finding [{}] next ids for namespace [{}]", count, namespace);
+        Storable storable = storableFactory.create(namespace);
+        if (storable.isIdAutoIncremented()) {
+            return queryExecutor.nextIds(namespace, count);
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        if (idBlockSize > 1 && !storable.isIdOrderedByCommit()) {
+            while (ids.size() < count) {
+                ids.add(nextIdFromBlock(namespace));
+            }
+            return ids;
+        }
+        while (ids.size() < count) {
+            // the reserved block is smaller than requested when it reaches the max offset
+            IdBlock idBlock = reserveIdBlock(namespace, count - ids.size());
+            for (Long id = idBlock.nextId(); id != null; id = idBlock.nextId()) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private Long nextIdFromBlock(String namespace) {
+        IdBlock idBlock = idBlocks.get(namespace);
+        Long id = idBlock != null ? idBlock.nextId() : null;
+        while (id == null) {
+            synchronized (idBlockLocks.computeIfAbsent(namespace, ns -> new Object())) {
+                // another thread may have already replaced the exhausted block
+                if (idBlocks.get(namespace) == idBlock) {
+                    idBlocks.put(namespace, reserveIdBlockInNewTransaction(namespace));
+                }
+                idBlock = idBlocks.get(namespace);
+            }
+            id = idBlock.nextId();
+        }
+        return id;
+    }
+
+    /**
+     * Reserves a block of ids in a transaction of its own, on a separate thread. If the reservation was part of
+     * the transaction of the caller and the caller rolled back, other nodes would get the ids this node still hands
+     * out. The lock of the sequence row is also released right after the reservation instead of at the end of the
+     * transaction of the caller.
+     */
+    private IdBlock reserveIdBlockInNewTransaction(String namespace) {
+        Future<IdBlock> reservation = idBlockReservationExecutor.submit(() -> {
+            beginTransaction(TransactionIsolation.JDBC_DEFAULT);
+            boolean committed = false;
+            try {
+                IdBlock idBlock = reserveIdBlock(namespace, idBlockSize);
+                commitTransaction();
+                committed = true;
+                return idBlock;
+            } finally {
+                if (!committed) {
+                    rollbackTransaction();
+                }
+            }
+        });
+
+        try {
+            IdBlock idBlock = reservation.get();
+            log.debug("Reserved {}", idBlock);
+            return idBlock;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while reserving ids for namespace " + namespace, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new StorageException("Failed to reserve ids for namespace " + namespace, e.getCause());
+        }
+    }
+
+    private IdBlock reserveIdBlock(String namespace, long size) {
         StorableKey keyForNamespace = new NamespaceSequenceStorable(namespace).getStorableKey();
         Stopwatch stopwatch = Stopwatch.createStarted();
-        // tries to lock the row in the sequence table and updates with the sequence value incremented by 1
+        // tries to lock the row in the sequence table and updates with the sequence value incremented by the block size
         if (writeLock(keyForNamespace, 3L, SECONDS)) {
             log.debug("Locked sequence row for namespace {} in {}ms", namespace, stopwatch.elapsed(MILLISECONDS));
             NamespaceSequenceStorable currentSequence = get(keyForNamespace);
@@ -255,13 +386,15 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
                     log.error(String.format("Sequence for namespace %s cannot go above max offset %s", namespace, offsetMax));
                     throw new OffsetRangeReachedException(String.format("Sequence for namespace %s cannot go above max offset %s", namespace, offsetMax));
                 }
-                NamespaceSequenceStorable incremented = currentSequence.increment();
+                // the last block may be smaller so that no id above the max offset is handed out
+                long reserved = offsetMax != null ? Math.min(size, offsetMax - currentSequence.getNextId() + 1) : size;
+                NamespaceSequenceStorable incremented = currentSequence.increment(reserved);
                 update(incremented);
 
                 if (offsetMax != null && incremented.getNextId() > offsetMax * 0.8) {
                     log.warn("Sequence value {} for namespace {} is getting close to offset max value {}", incremented.getNextId(), namespace, offsetMax);
                 }
-                return currentSequence.getNextId();
+                return new IdBlock(namespace, currentSequence.getNextId(), incremented.getNextId());
             } else {
                 throw new IllegalStateException("Could not get the sequence after being locked: " + keyForNamespace);
             }
@@ -269,9 +402,9 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
             // Error when locking the sequence row is not successful unless it's not initialized yet, then initialize it.
             // (we should not see uninitialized sequences since they are initialized in the #initializeSequences method)
             if (get(keyForNamespace) == null) {
-                add(new NamespaceSequenceStorable(namespace, 2L));
+                add(new NamespaceSequenceStorable(namespace, 1L + size));
                 log.debug("Added new sequence row for namespace {} in {}ms", namespace, stopwatch.elapsed(MILLISECONDS));
-                return 1L;
+                return new IdBlock(namespace, 1L, 1L + size);
             } else {
                 throw new IllegalStateException("Could not lock sequence row for namespace: " + keyForNamespace);
             }
@@ -282,6 +415,18 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
     public void registerStorables(Collection<Class<? extends Storable>> classes) throws StorageException {
         storableFactory.addStorableClasses(classes);
         initializeSequences(classes);
+        loadColumns(classes);
+    }
+
+    // reads the columns of the registered tables upfront so that the first queries do not need to
+    private void loadColumns(Collection<Class<? extends Storable>> classes) {
+        for (Class<? extends Storable> storableClass : classes) {
+            try {
+                queryExecutor.getColumns(StorableAccessor.of(storableClass).<Storable>newInstance().getNameSpace());
+            } catch (Exception e) {
+                log.debug("Could not load the columns for storable {}, they are loaded on first use", storableClass.getSimpleName(), e);
+            }
+        }
     }
 
     private boolean sequenceNeedsToBeOffseted(NamespaceSequenceStorable sequence) {
@@ -312,7 +457,7 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
     private void initializeSequences(Collection<Class<? extends Storable>> classes) {
         for (Class<? extends Storable> storableClass : classes) {
             try {
-                Storable storable = storableClass.newInstance();
+                Storable storable = StorableAccessor.of(storableClass).newInstance();
 
                 if (!needsSequence(storable)) {
                     continue;
@@ -325,7 +470,7 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
                 } else {
                     initializeNewSequence(storable);
                 }
-            } catch (InstantiationException | IllegalAccessException | SQLException e) {
+            } catch (SQLException e) {
                 log.error("Cannot initialize sequence for storable " + storableClass.getSimpleName(), e);
                 throw new StorageException("Cannot initialize sequence for storable " + storableClass.getSimpleName(), e);
             }
@@ -386,8 +531,7 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
                 if (type == null) {
                     log.warn("Query parameter [{}] does not exist for namespace [{}]. Query parameter ignored.", qp.getName(), namespace);
                 } else {
-                    fieldsToVal.put(new Schema.Field(qp.getName(), type),
-                            type.getJavaType().getConstructor(String.class).newInstance(qp.getValue()));
+                    fieldsToVal.put(new Schema.Field(qp.getName(), type), StorageUtils.parseValue(type, qp.getValue()));
                 }
             }
 
@@ -430,6 +574,27 @@ public class JdbcStorageManager implements TransactionManager, StorageManager {
             this.offsetMin = configuration.getProperties().getOffsetRange().getMin();
             this.offsetMax = configuration.getProperties().getOffsetRange().getMax();
         }
+
+        if (configuration.getProperties().getIdBlockSize() != null) {
+            setIdBlockSize(configuration.getProperties().getIdBlockSize());
+        }
+    }
+
+    /**
+     * With blocks larger than 1 every node hands out ids from its own blocks, so the ids of several nodes are not in
+     * the order of the inserts. Storables whose ids have to follow the commit order opt out with
+     * {@link Storable#isIdOrderedByCommit()}.
+     *
+     * @param idBlockSize number of ids of a namespace which are reserved at once and handed out from memory,
+     *                    ids are reserved one by one in the transaction of the caller if it is 1
+     */
+    @VisibleForTesting
+    void setIdBlockSize(int idBlockSize) {
+        if (idBlockSize < 1) {
+            throw new IllegalArgumentException("idBlockSize should be at least 1 but it is " + idBlockSize);
+        }
+        log.info("Ids of sequences are reserved in blocks of [{}]", idBlockSize);
+        this.idBlockSize = idBlockSize;
     }
 
     @Override
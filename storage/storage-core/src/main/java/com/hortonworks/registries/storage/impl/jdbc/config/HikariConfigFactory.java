@@ -34,14 +34,23 @@ public class HikariConfigFactory {
     private HikariConfigFactory() { }
 
     public static HikariConfig get(DatabaseType type, DbProperties dbProperties) {
+        return get(type, dbProperties, 0L);
+    }
+
+    /**
+     * @param statementCacheSize number of prepared statements the JDBC driver caches for every connection, so that
+     *                           statements of the same sql are not parsed again by the database, 0 keeps the
+     *                           defaults of the driver
+     */
+    public static HikariConfig get(DatabaseType type, DbProperties dbProperties, long statementCacheSize) {
 
         switch (type) {
             case MYSQL:
-                return new MySqlConfig(dbProperties);
+                return new MySqlConfig(dbProperties, statementCacheSize);
             case POSTGRESQL:
-                return new PostgresConfig(dbProperties);
+                return new PostgresConfig(dbProperties, statementCacheSize);
             case ORACLE:
-                return new OracleConfig(dbProperties);
+                return new OracleConfig(dbProperties, statementCacheSize);
             default:
                 throw new IllegalArgumentException("Unsupported storage provider type: " + type);
         }
@@ -65,8 +74,17 @@ class MySqlConfig extends HikariConfig {
     // mysql connector v8.0.22
     static final String DRIVER_8 = "com.mysql.cj.jdbc.MysqlDataSource";
 
-    public MySqlConfig(DbProperties dbProperties) {
+    // longest sql kept in the statement cache, the default of the driver is too short for the inserts of wide tables
+    private static final int STATEMENT_CACHE_SQL_LIMIT = 2048;
+
+    public MySqlConfig(DbProperties dbProperties, long statementCacheSize) {
         super(sanitizeConfig(dbProperties));
+        if (statementCacheSize > 0) {
+            this.addDataSourceProperty("cachePrepStmts", true);
+            this.addDataSourceProperty("useServerPrepStmts", true);
+            this.addDataSourceProperty("prepStmtCacheSize", statementCacheSize);
+            this.addDataSourceProperty("prepStmtCacheSqlLimit", STATEMENT_CACHE_SQL_LIMIT);
+        }
     }
 
     private static Properties sanitizeConfig(DbProperties dbProperties) {
@@ -107,8 +125,12 @@ class MySqlConfig extends HikariConfig {
 
 class PostgresConfig extends HikariConfig {
 
-    public PostgresConfig(DbProperties dbProperties) {
+    public PostgresConfig(DbProperties dbProperties, long statementCacheSize) {
         super(sanitizeConfig(dbProperties));
+        if (statementCacheSize > 0) {
+            // the driver prepares a statement on the server once it was executed a few times on the connection
+            this.addDataSourceProperty("preparedStatementCacheQueries", statementCacheSize);
+        }
     }
 
     private static Properties sanitizeConfig(DbProperties dbProperties) {
@@ -121,11 +143,16 @@ class PostgresConfig extends HikariConfig {
 
 class OracleConfig extends HikariConfig {
 
-    public OracleConfig(DbProperties dbProperties) {
+    public OracleConfig(DbProperties dbProperties, long statementCacheSize) {
         super(sanitizeConfig(dbProperties));
+        Properties properties = new Properties();
         if (dbProperties.getConnectionProperties() != null) {
-            Properties properties = new Properties();
             putConnectionProperties(properties, dbProperties.getConnectionProperties());
+        }
+        if (statementCacheSize > 0) {
+            properties.put("oracle.jdbc.implicitStatementCacheSize", String.valueOf(statementCacheSize));
+        }
+        if (!properties.isEmpty()) {
             this.addDataSourceProperty("connectionProperties", properties);
         }
     }
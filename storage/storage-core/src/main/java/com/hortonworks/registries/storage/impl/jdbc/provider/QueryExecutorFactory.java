@@ -39,6 +39,8 @@ public class QueryExecutorFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(QueryExecutorFactory.class);
 
+    private static final long DEFAULT_STATEMENT_CACHE_SIZE = 250L;
+
     private QueryExecutorFactory() {
 
     }
@@ -79,11 +81,24 @@ public class QueryExecutorFactory {
             LOG.debug("dataSource.url is: [{}] ", jdbcUrl);
         }
 
-        HikariConfig hikariConfig = HikariConfigFactory.get(type, dbProperties);
+        HikariConfig hikariConfig = HikariConfigFactory.get(type, dbProperties, getStatementCacheSize(storageConfig));
 
         return new HikariCPConnectionBuilder(hikariConfig);
     }
 
+    private static long getStatementCacheSize(StorageProviderConfiguration storageConfig) {
+        long statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+        if (storageConfig.getProperties().getStatementCacheSize() != null) {
+            statementCacheSize = storageConfig.getProperties().getStatementCacheSize();
+            if (statementCacheSize < 0) {
+                throw new IllegalArgumentException("statementCacheSize property can not be negative");
+            }
+        }
+        LOG.info("Statement cache size: {}", statementCacheSize);
+
+        return statementCacheSize;
+    }
+
     private static ExecutionConfig getExecutionConfig(DatabaseType type, StorageProviderConfiguration storageConfig) {
         int queryTimeOutInSecs = -1;
         if (storageConfig.getProperties().getQueryTimeoutInSecs() != null) {
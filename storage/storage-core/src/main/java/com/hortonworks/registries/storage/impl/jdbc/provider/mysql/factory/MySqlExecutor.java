@@ -15,7 +15,6 @@
 
 package com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory;
 
-import com.google.common.cache.CacheBuilder;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.Storable;
@@ -32,12 +31,12 @@ import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.query.MySqlSe
 import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.query.MysqlUpdateQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.factory.AbstractQueryExecutor;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlQuery;
-import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.PreparedStatementBuilder;
 import com.hortonworks.registries.storage.search.SearchQuery;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * SQL query executor for MySQL DB.
@@ -58,16 +57,6 @@ public class MySqlExecutor extends AbstractQueryExecutor {
         super(config, connectionBuilder);
     }
 
-    /**
-     * @param config Object that contains arbitrary configuration that may be needed for any of the steps of the query execution process
-     * @param connectionBuilder Object that establishes the connection to the database
-     * @param cacheBuilder Guava cache configuration. The maximum number of entries in cache (open connections)
-     *                     must not exceed the maximum number of open database connections allowed
-     */
-    public MySqlExecutor(ExecutionConfig config, ConnectionBuilder connectionBuilder, CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder) {
-        super(config, connectionBuilder, cacheBuilder);
-    }
-
     // ============= Public API methods =============
 
     @Override
@@ -85,6 +74,16 @@ public class MySqlExecutor extends AbstractQueryExecutor {
         return executeUpdate(new MysqlUpdateQuery(storable));
     }
 
+    @Override
+    public void insertAll(Collection<? extends Storable> storables) {
+        insertAll(storables, MySqlInsertQuery::new);
+    }
+
+    @Override
+    public int updateAll(Collection<? extends Storable> storables) {
+        return executeBatch(storables.stream().map(MysqlUpdateQuery::new).collect(Collectors.toList()));
+    }
+
     @Override
     public Long nextId(String namespace) {
         // We intentionally return null. Please refer the class javadoc for more details.
@@ -17,7 +17,6 @@
 package com.hortonworks.registries.storage.impl.jdbc.provider.oracle.factory;
 
 
-import com.google.common.cache.CacheBuilder;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.Storable;
@@ -36,7 +35,6 @@ import com.hortonworks.registries.storage.impl.jdbc.provider.oracle.query.Oracle
 import com.hortonworks.registries.storage.impl.jdbc.provider.oracle.query.OracleUpdateQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.oracle.statement.OracleDataTypeContext;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.factory.AbstractQueryExecutor;
-import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.PreparedStatementBuilder;
 import com.hortonworks.registries.storage.impl.jdbc.util.Columns;
 import com.hortonworks.registries.storage.search.SearchQuery;
@@ -47,6 +45,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 public class OracleExecutor extends AbstractQueryExecutor {
@@ -57,11 +56,6 @@ public class OracleExecutor extends AbstractQueryExecutor {
         super(config, connectionBuilder, ORACLE_DATA_TYPE_CONTEXT);
     }
 
-    public OracleExecutor(ExecutionConfig config, 
-                          ConnectionBuilder connectionBuilder, CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder) {
-        super(config, connectionBuilder, cacheBuilder, ORACLE_DATA_TYPE_CONTEXT);
-    }
-
 
     @Override
     public void insert(Storable storable) {
@@ -82,6 +76,26 @@ public class OracleExecutor extends AbstractQueryExecutor {
         executeUpdate(new OracleDeleteQuery(storableKey));
     }
 
+    @Override
+    public void insertAll(Collection<? extends Storable> storables) {
+        executeBatch(storables.stream().map(OracleInsertQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public int updateAll(Collection<? extends Storable> storables) {
+        return executeBatch(storables.stream().map(OracleUpdateQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteAll(Collection<StorableKey> storableKeys) {
+        executeBatch(storableKeys.stream().map(OracleDeleteQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteAllBelow(StorableKey upperBound) {
+        executeUpdate(new OracleDeleteQuery(upperBound, "<"));
+    }
+
     @Override
     public <T extends Storable> Collection<T> select(SearchQuery searchQuery) {
         return executeQuery(searchQuery.getNameSpace(), new OracleSelectQuery(searchQuery, 
@@ -145,7 +159,24 @@ public class OracleExecutor extends AbstractQueryExecutor {
     }
 
     @Override
-    public Columns getColumns(String namespace) throws SQLException {
+    public List<Long> nextIds(String namespace, int count) {
+        if (count <= 1) {
+            return super.nextIds(namespace, count);
+        }
+        OracleSequenceIdQuery oracleSequenceIdQuery = new OracleSequenceIdQuery(namespace, queryTimeoutSecs, ORACLE_DATA_TYPE_CONTEXT);
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            return oracleSequenceIdQuery.getNextIDs(connection, count);
+        } finally {
+            if (!transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    @Override
+    protected Columns loadColumns(String namespace) throws SQLException {
         Columns columns = new Columns();
         Connection connection = null;
         try {
@@ -21,18 +21,28 @@ import com.hortonworks.registries.storage.StorableKey;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractStorableKeyQuery;
 
 public class OracleDeleteQuery extends AbstractStorableKeyQuery {
+    private final String operator;
 
     public OracleDeleteQuery(String nameSpace) {
         super(nameSpace);
+        this.operator = "=";
     }
 
     public OracleDeleteQuery(StorableKey storableKey) {
+        this(storableKey, "=");
+    }
+
+    /**
+     * @param operator compares the columns with the values of the key, e.g. {@code <} to delete the rows below them
+     */
+    public OracleDeleteQuery(StorableKey storableKey, String operator) {
         super(storableKey);
+        this.operator = operator;
     }
 
     @Override
     protected String createParameterizedSql() {
-        String sql = "DELETE FROM \"" + tableName + "\" WHERE " + join(getColumnNames(columns, "\"%s\" = ?"), " AND ");
+        String sql = "DELETE FROM \"" + tableName + "\" WHERE " + join(getColumnNames(columns, "\"%s\" " + operator + " ?"), " AND ");
         LOG.debug(sql);
         return sql;
     }
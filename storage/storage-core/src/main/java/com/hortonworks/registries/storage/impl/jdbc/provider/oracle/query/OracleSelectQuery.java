@@ -86,6 +86,15 @@ public class OracleSelectQuery extends AbstractSelectQuery {
         return sql;
     }
 
+    /**
+     * Oracle does not support LIMIT, the row limiting clause is available from Oracle 12c.
+     * Note that it can not be combined with FOR UPDATE.
+     */
+    @Override
+    protected String limitClause(int limit) {
+        return "FETCH FIRST " + limit + " ROWS ONLY";
+    }
+
     @Override
     protected String fieldEncloser() {
         return "\"";
@@ -17,11 +17,11 @@
 package com.hortonworks.registries.storage.impl.jdbc.provider.oracle.statement;
 
 import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.ColumnReader;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.DefaultStorageDataTypeContext;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class OracleDataTypeContext extends DefaultStorageDataTypeContext {
@@ -38,13 +38,17 @@ public class OracleDataTypeContext extends DefaultStorageDataTypeContext {
         }
     }
 
-    protected Object getJavaObject(Class columnJavaType, String columnLabel, ResultSet resultSet) throws SQLException {
+    @Override
+    protected ColumnReader.ValueReader getValueReader(Class columnJavaType, String columnLabel) {
         if (columnJavaType.equals(String.class)) {
-            String stringValue = resultSet.getString(columnLabel);
-            if (stringValue != null && stringValue.equals(EMPTY_STRING_PLACEHOLDER)) {
-                return "";
-            }
+            return (resultSet, columnIndex) -> {
+                String stringValue = resultSet.getString(columnIndex);
+                if (stringValue != null && stringValue.equals(EMPTY_STRING_PLACEHOLDER)) {
+                    return "";
+                }
+                return stringValue;
+            };
         }
-        return super.getJavaObject(columnJavaType, columnLabel, resultSet);
+        return super.getValueReader(columnJavaType, columnLabel);
     }
 }
@@ -15,7 +15,6 @@
  */
 package com.hortonworks.registries.storage.impl.jdbc.provider.postgresql.factory;
 
-import com.google.common.cache.CacheBuilder;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.Storable;
@@ -31,7 +30,6 @@ import com.hortonworks.registries.storage.impl.jdbc.provider.postgresql.query.Po
 import com.hortonworks.registries.storage.impl.jdbc.provider.postgresql.query.PostgresqlUpdateQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.factory.AbstractQueryExecutor;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlQuery;
-import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.PreparedStatementBuilder;
 import com.hortonworks.registries.storage.search.SearchQuery;
 import com.hortonworks.registries.storage.transaction.TransactionIsolation;
 
@@ -40,6 +38,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * SQL query executor for PostgreSQL
@@ -59,17 +58,6 @@ public class PostgresqlExecutor extends AbstractQueryExecutor {
         super(config, connectionBuilder);
     }
 
-    /**
-     * @param config            Object that contains arbitrary configuration that may be needed for any of the steps of the query execution process
-     * @param connectionBuilder Object that establishes the connection to the database
-     * @param cacheBuilder      Guava cache configuration. The maximum number of entries in cache (open connections)
-     *                          must not exceed the maximum number of open database connections allowed
-     */
-    public PostgresqlExecutor(ExecutionConfig config, ConnectionBuilder connectionBuilder, 
-                              CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder) {
-        super(config, connectionBuilder, cacheBuilder);
-    }
-
     // ============= Public API methods =============
 
     @Override
@@ -127,6 +115,26 @@ public class PostgresqlExecutor extends AbstractQueryExecutor {
         executeUpdate(new PostgresqlDeleteQuery(storableKey));
     }
 
+    @Override
+    public void insertAll(Collection<? extends Storable> storables) {
+        insertAll(storables, PostgresqlInsertQuery::new);
+    }
+
+    @Override
+    public int updateAll(Collection<? extends Storable> storables) {
+        return executeBatch(storables.stream().map(PostgresqlUpdateQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteAll(Collection<StorableKey> storableKeys) {
+        executeBatch(storableKeys.stream().map(PostgresqlDeleteQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteAllBelow(StorableKey upperBound) {
+        executeUpdate(new PostgresqlDeleteQuery(upperBound, "<"));
+    }
+
     @Override
     public Long nextId(String namespace) {
         // We intentionally return null. Please refer the class javadoc for more details.
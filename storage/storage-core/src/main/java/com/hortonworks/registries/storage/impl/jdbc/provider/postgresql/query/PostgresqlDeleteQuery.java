@@ -22,18 +22,28 @@ import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractS
  *
  */
 public class PostgresqlDeleteQuery extends AbstractStorableKeyQuery {
+    private final String operator;
 
     public PostgresqlDeleteQuery(String nameSpace) {
         super(nameSpace);
+        this.operator = "=";
     }
 
     public PostgresqlDeleteQuery(StorableKey storableKey) {
+        this(storableKey, "=");
+    }
+
+    /**
+     * @param operator compares the columns with the values of the key, e.g. {@code <} to delete the rows below them
+     */
+    public PostgresqlDeleteQuery(StorableKey storableKey, String operator) {
         super(storableKey);
+        this.operator = operator;
     }
 
     @Override
     protected String createParameterizedSql() {
-        String sql = "DELETE FROM  \"" + tableName + "\" WHERE " + join(getColumnNames(columns, "\"%s\" = ?"), " AND ");
+        String sql = "DELETE FROM  \"" + tableName + "\" WHERE " + join(getColumnNames(columns, "\"%s\" " + operator + " ?"), " AND ");
         LOG.debug(sql);
         return sql;
     }
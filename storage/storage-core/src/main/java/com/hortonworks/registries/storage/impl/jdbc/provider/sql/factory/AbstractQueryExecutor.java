@@ -15,10 +15,7 @@
 
 package com.hortonworks.registries.storage.impl.jdbc.provider.sql.factory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Lists;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractAggregateSqlQuery;
 import com.hortonworks.registries.storage.transaction.TransactionIsolation;
@@ -32,6 +29,7 @@ import com.hortonworks.registries.storage.impl.jdbc.connection.ConnectionBuilder
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlDeleteQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.SqlSelectQuery;
+import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.ColumnReader;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.DefaultStorageDataTypeContext;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.PreparedStatementBuilder;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement.StorageDataTypeContext;
@@ -50,19 +48,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  *
  */
 public abstract class AbstractQueryExecutor implements QueryExecutor {
 
+    /** Maximum number of statements sent to the database with a single {@link PreparedStatement#executeBatch()} */
+    protected static final int MAX_BATCH_SIZE = 1000;
+
     protected final ExecutionConfig config;
     protected final int queryTimeoutSecs;
     protected final ConnectionBuilder connectionBuilder;
@@ -70,29 +73,21 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
     protected final StorageDataTypeContext storageDataTypeContext;
     protected final TransactionBookKeeper transactionBookKeeper = new TransactionBookKeeper();
 
-    private final Cache<SqlQuery, PreparedStatementBuilder> cache;
+    // columns of the tables do not change while the server is running, they are only read once per namespace
+    private final Map<String, Columns> columnsCache = new ConcurrentHashMap<>();
     protected StorableFactory storableFactory;
 
     public AbstractQueryExecutor(ExecutionConfig config, ConnectionBuilder connectionBuilder) {
-        this(config, connectionBuilder, null, new DefaultStorageDataTypeContext());
-    }
-
-    public AbstractQueryExecutor(ExecutionConfig config, 
-                                 ConnectionBuilder connectionBuilder, CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder) {
-        this(config, connectionBuilder, cacheBuilder, new DefaultStorageDataTypeContext());
+        this(config, connectionBuilder, new DefaultStorageDataTypeContext());
     }
 
+    /**
+     * Statements are prepared on the connection of every query, reusing them is left to the statement cache of the
+     * JDBC driver, see {@code statementCacheSize} of the storage provider properties.
+     */
     public AbstractQueryExecutor(ExecutionConfig config, ConnectionBuilder connectionBuilder, StorageDataTypeContext storageDataTypeContext) {
-        this(config, connectionBuilder, null, storageDataTypeContext);
-    }
-
-    public AbstractQueryExecutor(ExecutionConfig config,
-                                 ConnectionBuilder connectionBuilder,
-                                 CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder,
-                                 StorageDataTypeContext storageDataTypeContext) {
         this.connectionBuilder = connectionBuilder;
         this.config = config;
-        cache = cacheBuilder != null ? buildCache(cacheBuilder) : null;
         this.queryTimeoutSecs = config.getQueryTimeoutSecs();
         this.storageDataTypeContext = storageDataTypeContext;
         activeConnections = Collections.synchronizedList(new ArrayList<Connection>());
@@ -103,6 +98,16 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         executeUpdate(new SqlDeleteQuery(storableKey));
     }
 
+    @Override
+    public void deleteAll(Collection<StorableKey> storableKeys) {
+        executeBatch(storableKeys.stream().map(SqlDeleteQuery::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteAllBelow(StorableKey upperBound) {
+        executeUpdate(new SqlDeleteQuery(upperBound, "<"));
+    }
+
     @Override
     public <T extends Storable> Collection<T> select(final String namespace) {
         return executeQuery(namespace, new SqlSelectQuery(namespace));
@@ -152,6 +157,15 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
 
     public abstract Long nextId(String namespace);
 
+    @Override
+    public List<Long> nextIds(String namespace, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId(namespace));
+        }
+        return ids;
+    }
+
     public ExecutionConfig getConfig() {
         return config;
     }
@@ -173,6 +187,24 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
 
     @Override
     public Columns getColumns(String namespace) throws SQLException {
+        Columns columns = columnsCache.get(namespace);
+        if (columns == null) {
+            columns = loadColumns(namespace);
+            columnsCache.put(namespace, columns);
+        }
+        return columns;
+    }
+
+    @Override
+    public void invalidateColumns() {
+        log.debug("Invalidating the cached columns of [{}] namespaces", columnsCache.size());
+        columnsCache.clear();
+    }
+
+    /**
+     * @return the columns of the table of the given namespace as read from the metadata of the database
+     */
+    protected Columns loadColumns(String namespace) throws SQLException {
         Columns columns = new Columns();
         Connection connection = null;
         try {
@@ -215,18 +247,10 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
     }
 
     public void cleanup() {
-        if (isCacheEnabled()) {
-            cache.invalidateAll();
-        } else {
-            closeAllOpenConnections();
-        }
+        invalidateColumns();
+        closeAllOpenConnections();
     }
 
-    private boolean isCacheEnabled() {
-        return cache != null;
-    }
-
-
     private void closeAllOpenConnections() {
         for (Iterator<Connection> iter = activeConnections.iterator(); iter.hasNext(); ) {
             Connection connection = iter.next();
@@ -242,21 +266,6 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         }
     }
 
-    private Cache<SqlQuery, PreparedStatementBuilder> buildCache(CacheBuilder<SqlQuery, PreparedStatementBuilder> cacheBuilder) {
-        return cacheBuilder.removalListener(new RemovalListener<SqlQuery, PreparedStatementBuilder>() {
-            /** Cleanup operation for when the entry is removed from cache */
-            @Override
-            public void onRemoval(RemovalNotification<SqlQuery, PreparedStatementBuilder> notification) {
-                final PreparedStatementBuilder preparedStatementBuilder = notification.getValue();
-                log.debug("Removed entry from cache [key:{}, val: {}]", notification.getKey(), preparedStatementBuilder);
-                log.debug("Cache size: {}", cache.size());
-                if (preparedStatementBuilder != null && !transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
-                    closeConnection(preparedStatementBuilder.getConnection());
-                }
-            }
-        }).build();
-    }
-
     @Override
     public void setStorableFactory(StorableFactory storableFactory) {
         if (this.storableFactory != null) {
@@ -395,6 +404,135 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         return getQueryExecution(sqlQuery).executeUpdate();
     }
 
+    /**
+     * Executes the given update queries with JDBC batches and returns the number of rows updated. Queries sharing the same
+     * parametrized sql are sent in the same batch, in the order they were given.
+     *
+     * @param sqlQueries the sql queries
+     * @return the number of rows updated, rows of statements for which the driver could not tell the count are not included
+     */
+    protected int executeBatch(Collection<? extends SqlQuery> sqlQueries) {
+        if (sqlQueries.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<SqlQuery>> batches = new LinkedHashMap<>();
+        for (SqlQuery sqlQuery : sqlQueries) {
+            batches.computeIfAbsent(sqlQuery.getParametrizedSql(), sql -> new ArrayList<>()).add(sqlQuery);
+        }
+
+        int updated = 0;
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            for (List<SqlQuery> queries : batches.values()) {
+                for (List<SqlQuery> batch : Lists.partition(queries, MAX_BATCH_SIZE)) {
+                    updated += executeBatch(connection, batch);
+                }
+            }
+            return updated;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        } finally {
+            if (!transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    /**
+     * Inserts the given storables with JDBC batches. Storables without an id are inserted with batches returning the
+     * keys generated by the database, which are then set on them.
+     *
+     * @param storables the storables to insert
+     * @param insertQueryFactory creates the dialect specific insert query of a storable
+     */
+    protected void insertAll(Collection<? extends Storable> storables, Function<Storable, SqlQuery> insertQueryFactory) {
+        List<SqlQuery> sqlQueries = new ArrayList<>(storables.size());
+        Map<String, List<Storable>> withGeneratedIds = new LinkedHashMap<>();
+        for (Storable storable : storables) {
+            SqlQuery sqlQuery = insertQueryFactory.apply(storable);
+            if (needsGeneratedId(storable)) {
+                withGeneratedIds.computeIfAbsent(sqlQuery.getParametrizedSql(), sql -> new ArrayList<>()).add(storable);
+            } else {
+                sqlQueries.add(sqlQuery);
+            }
+        }
+        executeBatch(sqlQueries);
+        if (withGeneratedIds.isEmpty()) {
+            return;
+        }
+
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            for (List<Storable> sameShape : withGeneratedIds.values()) {
+                for (List<Storable> batch : Lists.partition(sameShape, MAX_BATCH_SIZE)) {
+                    executeBatchWithGeneratedIds(connection, batch, insertQueryFactory);
+                }
+            }
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        } finally {
+            if (!transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    private boolean needsGeneratedId(Storable storable) {
+        try {
+            return storable.getId() == null;
+        } catch (UnsupportedOperationException e) {
+            // storables without an id column have nothing to be generated
+            return false;
+        }
+    }
+
+    private void executeBatchWithGeneratedIds(Connection connection, List<Storable> batch,
+                                              Function<Storable, SqlQuery> insertQueryFactory) throws SQLException {
+        List<SqlQuery> sqlQueries = batch.stream().map(insertQueryFactory).collect(Collectors.toList());
+        log.debug("Executing batch of {} statements returning generated keys for sql [{}]", batch.size(),
+                sqlQueries.get(0).getParametrizedSql());
+        PreparedStatementBuilder preparedStatementBuilder = PreparedStatementBuilder.supportReturnGeneratedKeys(connection,
+                config, storageDataTypeContext, sqlQueries.get(0));
+        try (PreparedStatement preparedStatement = preparedStatementBuilder.getPreparedStatement(sqlQueries.get(0))) {
+            preparedStatement.addBatch();
+            for (SqlQuery sqlQuery : sqlQueries.subList(1, sqlQueries.size())) {
+                preparedStatementBuilder.getPreparedStatement(sqlQuery).addBatch();
+            }
+            preparedStatement.executeBatch();
+            try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                for (Storable storable : batch) {
+                    if (!generatedKeys.next()) {
+                        throw new StorageException("Database returned fewer generated keys than the " + batch.size() +
+                                " rows inserted into " + storable.getNameSpace());
+                    }
+                    storable.setId(generatedKeys.getLong(1));
+                }
+            }
+        }
+    }
+
+    private int executeBatch(Connection connection, List<SqlQuery> batch) throws SQLException {
+        log.debug("Executing batch of {} statements for sql [{}]", batch.size(), batch.get(0).getParametrizedSql());
+        PreparedStatementBuilder preparedStatementBuilder = PreparedStatementBuilder.of(connection, config, storageDataTypeContext,
+                batch.get(0));
+        try (PreparedStatement preparedStatement = preparedStatementBuilder.getPreparedStatement(batch.get(0))) {
+            preparedStatement.addBatch();
+            for (SqlQuery sqlQuery : batch.subList(1, batch.size())) {
+                preparedStatementBuilder.getPreparedStatement(sqlQuery).addBatch();
+            }
+            int updated = 0;
+            for (int count : preparedStatement.executeBatch()) {
+                if (count > 0) {
+                    updated += count;
+                }
+            }
+            return updated;
+        }
+    }
+
     protected Long executeUpdateWithReturningGeneratedKey(SqlQuery sqlBuilder) {
         return getQueryExecution(sqlBuilder).executeUpdateWithReturningGeneratedKey();
     }
@@ -437,7 +575,7 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
             try (PreparedStatement preparedStatement = getPreparedStatement();
                  ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultExtractFunction.apply(resultSet, namespace);
-            } catch (SQLException | ExecutionException e) {
+            } catch (SQLException e) {
                 throw new StorageException(e);
             } finally {
                 closeConn();
@@ -445,8 +583,8 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         }
 
         void closeConn() {
-            // Close every opened connection if not using cache. If using cache, cache expiry manages connections
-            if (!isCacheEnabled() && !transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
+            // the connection of the current transaction is closed when the transaction ends
+            if (!transactionBookKeeper.hasActiveTransaction(Thread.currentThread().getId())) {
                 closeConnection(connection);
             }
         }
@@ -454,7 +592,7 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         int executeUpdate() {
             try (PreparedStatement preparedStatement = getPreparedStatement()) {
                 return preparedStatement.executeUpdate();
-            } catch (SQLException | ExecutionException e) {
+            } catch (SQLException e) {
                 throw new StorageException(e);
             } finally {
                 closeConn();
@@ -462,8 +600,7 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
         }
 
         Long executeUpdateWithReturningGeneratedKey() {
-            try {
-                PreparedStatement pstmt = getPreparedStatementWithSetReturningGeneratedKey();
+            try (PreparedStatement pstmt = getPreparedStatementWithSetReturningGeneratedKey()) {
                 pstmt.executeUpdate();
                 try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
@@ -472,7 +609,7 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
                         return null;
                     }
                 }
-            } catch (SQLException | ExecutionException e) {
+            } catch (SQLException e) {
                 throw new StorageException(e);
             } finally {
                 closeConn();
@@ -482,71 +619,23 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
 
         // ====== private helper methods ======
 
-        private PreparedStatement getPreparedStatement() throws ExecutionException, SQLException {
-            PreparedStatementBuilder preparedStatementBuilder = null;
-
-            if (isCacheEnabled()) {
-                preparedStatementBuilder = cache.get(sqlBuilder, new PreparedStatementBuilderCallable(sqlBuilder, false));
-            } else {
-                connection = getConnection();
-                log.debug("Got new connection to create PreparedStatement: [{}]", connection);
-                log.debug("sqlBuilder {}", sqlBuilder.toString());
-                preparedStatementBuilder = PreparedStatementBuilder.of(connection, config, storageDataTypeContext, sqlBuilder);
-            }
+        private PreparedStatement getPreparedStatement() throws SQLException {
+            connection = getConnection();
+            log.debug("Got new connection to create PreparedStatement: [{}]", connection);
+            log.debug("sqlBuilder {}", sqlBuilder.toString());
+            PreparedStatementBuilder preparedStatementBuilder =
+                    PreparedStatementBuilder.of(connection, config, storageDataTypeContext, sqlBuilder);
             return preparedStatementBuilder.getPreparedStatement(sqlBuilder);
         }
 
-        private PreparedStatement getPreparedStatementWithSetReturningGeneratedKey() throws ExecutionException, SQLException {
-            PreparedStatementBuilder preparedStatementBuilder = null;
-
-            if (isCacheEnabled()) {
-                preparedStatementBuilder = cache.get(sqlBuilder, new PreparedStatementBuilderCallable(sqlBuilder, true));
-            } else {
-                connection = getConnection();
-                log.debug("Got new connection to create PreparedStatement returning generated key: [{}]", connection);
-                preparedStatementBuilder = PreparedStatementBuilder
-                        .supportReturnGeneratedKeys(connection, config, storageDataTypeContext, sqlBuilder);
-            }
+        private PreparedStatement getPreparedStatementWithSetReturningGeneratedKey() throws SQLException {
+            connection = getConnection();
+            log.debug("Got new connection to create PreparedStatement returning generated key: [{}]", connection);
+            PreparedStatementBuilder preparedStatementBuilder = PreparedStatementBuilder
+                    .supportReturnGeneratedKeys(connection, config, storageDataTypeContext, sqlBuilder);
             return preparedStatementBuilder.getPreparedStatement(sqlBuilder);
         }
 
-        /**
-         * This callable is instantiated and called the first time every key:val entry is inserted into the cache
-         */
-        private class PreparedStatementBuilderCallable implements Callable<PreparedStatementBuilder> {
-            private final SqlQuery sqlBuilder;
-            private final boolean returnGeneratedKeys;
-
-            private PreparedStatementBuilderCallable(SqlQuery sqlBuilder, boolean returnGeneratedKeys) {
-                this.sqlBuilder = sqlBuilder;
-                this.returnGeneratedKeys = returnGeneratedKeys;
-            }
-
-            public PreparedStatementBuilderCallable of(SqlQuery sqlBuilder) {
-                return new PreparedStatementBuilderCallable(sqlBuilder, false);
-            }
-
-            public PreparedStatementBuilderCallable supportReturnGeneratedKeys(SqlQuery sqlBuilder) {
-                return new PreparedStatementBuilderCallable(sqlBuilder, true);
-            }
-
-            @Override
-            public PreparedStatementBuilder call() throws Exception {
-                // opens a new connection which remains open for as long as this entry is in the cache
-                final PreparedStatementBuilder preparedStatementBuilder;
-                Connection connection = getConnection();
-                log.debug("Got new connection to create PreparedStatementBuilder: [{}]", connection);
-                if (returnGeneratedKeys) {
-                    preparedStatementBuilder = PreparedStatementBuilder
-                            .supportReturnGeneratedKeys(connection, config, storageDataTypeContext, sqlBuilder);
-                } else {
-                    preparedStatementBuilder = PreparedStatementBuilder.of(connection, config, storageDataTypeContext, sqlBuilder);
-                }
-                log.debug("Loading cache with [key: {}, val: {}]", sqlBuilder, preparedStatementBuilder);
-                return preparedStatementBuilder;
-            }
-        }
-
         private <T extends Storable> Collection<T> getStorablesFromResultSet(ResultSet resultSet, String nameSpace) {
             final Collection<T> storables = new ArrayList<>();
             // maps contains the data to populate the state of Storable objects
@@ -571,9 +660,10 @@ public abstract class AbstractQueryExecutor implements QueryExecutor {
                 boolean next = resultSet.next();
                 if (next) {
                     maps = new LinkedList<>();
-                    ResultSetMetaData rsMetadata = resultSet.getMetaData();
+                    // the metadata is only looked at once, every row is read with the same column readers
+                    List<ColumnReader> columnReaders = storageDataTypeContext.getColumnReaders(resultSet.getMetaData());
                     do {
-                        Map<String, Object> map = storageDataTypeContext.getMapWithRowContents(resultSet, rsMetadata);
+                        Map<String, Object> map = storageDataTypeContext.getMapWithRowContents(resultSet, columnReaders);
                         maps.add(map);
                     } while (resultSet.next());
                 }
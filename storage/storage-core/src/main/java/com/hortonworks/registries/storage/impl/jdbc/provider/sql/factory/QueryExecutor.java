@@ -62,6 +62,29 @@ public interface QueryExecutor {
      */
     void delete(StorableKey storableKey);
 
+    /**
+     * Inserts the specified {@link Storable}s in storage using JDBC batches
+     */
+    void insertAll(Collection<? extends Storable> storables);
+
+    /**
+     * Updates the specified {@link Storable}s in storage using JDBC batches
+     *
+     * @return the number of rows updated
+     */
+    int updateAll(Collection<? extends Storable> storables);
+
+    /**
+     * Deletes the specified {@link StorableKey}s from storage using JDBC batches
+     */
+    void deleteAll(Collection<StorableKey> storableKeys);
+
+    /**
+     * Deletes the entries of the namespace of the given key whose value of the single field of the key is lower than
+     * the value of the key, with a single statement
+     */
+    void deleteAllBelow(StorableKey upperBound);
+
     /**
      * @return all entries in the given namespace
      */
@@ -93,6 +116,12 @@ public interface QueryExecutor {
      */
     Long nextId(String namespace);
 
+    /**
+     * @return The next {@code count} available ids for the autoincrement column in the specified {@code namespace}
+     * @see #nextId(String)
+     */
+    List<Long> nextIds(String namespace, int count);
+
     /**
      * @return an open connection to the underlying storage
      */
@@ -113,10 +142,15 @@ public interface QueryExecutor {
     <T extends Storable> Collection<T> select(SearchQuery searchQuery);
 
     /**
-     *  @return returns set of columns for a given table
+     *  @return returns set of columns for a given table, they are read from the database once per table
      */
     Columns getColumns(String namespace) throws SQLException;
 
+    /**
+     * Discards the cached columns of all the tables, eg. after the database was migrated to a new version
+     */
+    void invalidateColumns();
+
     /**
      *  Begins the transaction
      */
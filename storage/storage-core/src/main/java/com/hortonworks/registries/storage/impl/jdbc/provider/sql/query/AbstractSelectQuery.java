@@ -21,17 +21,24 @@ package com.hortonworks.registries.storage.impl.jdbc.provider.sql.query;
 
 import com.google.common.collect.Lists;
 import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.common.exception.ParserException;
 import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.PrimaryKey;
 import com.hortonworks.registries.storage.StorableKey;
+import com.hortonworks.registries.storage.search.KeysetCursor;
 import com.hortonworks.registries.storage.search.OrderBy;
 import com.hortonworks.registries.storage.search.Predicate;
 import com.hortonworks.registries.storage.search.PredicateCombinerPair;
 import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.SubQuery;
 import com.hortonworks.registries.storage.search.WhereClause;
 import com.hortonworks.registries.storage.search.WhereClauseCombiner;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,11 +49,16 @@ import java.util.stream.Collectors;
  */
 public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
 
+    /** Number of values in a single IN list, some databases (e.g. Oracle) do not accept longer lists. */
+    static final int MAX_IN_LIST_SIZE = 1000;
+
     protected List<OrderByField> orderByFields;
 
     protected SearchQuery searchQuery;
     protected Schema schema;
     protected boolean lockRows = false;
+    /** Values of the query parameters in the order of their placeholders, only used by search queries. */
+    protected List<Pair<Schema.Field, Object>> bindings;
 
     public AbstractSelectQuery(String nameSpace) {
         this(nameSpace, null);
@@ -81,6 +93,13 @@ public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
         return "FOR UPDATE SKIP LOCKED";
     }
 
+    /**
+     * @return the clause which restricts the number of returned rows, it is appended after the ORDER BY clause
+     */
+    protected String limitClause(int limit) {
+        return "LIMIT " + limit;
+    }
+
     public boolean isLockRows() {
         return lockRows;
     }
@@ -89,6 +108,14 @@ public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
         this.lockRows = lockRows;
     }
 
+    /**
+     * @return values of the query parameters in the order of their placeholders or {@code null} if the
+     *         parameters are bound from the primary key of the query
+     */
+    public List<Pair<Schema.Field, Object>> getBindings() {
+        return bindings;
+    }
+
     @Override
     protected final String createParameterizedSql() {
         if (searchQuery != null) {
@@ -113,35 +140,22 @@ public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
     }
 
     protected String buildSqlWithSearchQuery(SearchQuery searchQuery, Schema schema) {
-        String sql = "SELECT * FROM " + fieldEncloser() + tableName + fieldEncloser();
+        String sql = "SELECT " + generateSelectedColumnsString(searchQuery.getSelectedFields(), schema)
+                + " FROM " + fieldEncloser() + tableName + fieldEncloser();
 
         WhereClause whereClause = searchQuery.getWhereClause();
         Map<Schema.Field, Object> fieldsToValues = new LinkedHashMap<Schema.Field, Object>() { };
-        if (whereClause != null) {
+        List<Pair<Schema.Field, Object>> queryBindings = new ArrayList<>();
+        KeysetCursor after = searchQuery.getAfter();
+        if (whereClause != null && after != null) {
+            sql += " WHERE (" + generateWhereClauseString(whereClause, fieldsToValues, queryBindings, schema).trim() + ") AND";
+            sql += generateSeekClauseString(searchQuery.getOrderByFields(), after, queryBindings, schema);
+        } else if (whereClause != null) {
             sql += " WHERE";
-            StringBuilder clauseString = new StringBuilder();
-            for (PredicateCombinerPair predicateCombinerPair : whereClause.getPredicateCombinerPairs()) {
-                WhereClauseCombiner.Operation combinerOperation = predicateCombinerPair.getCombinerOperation();
-
-                Predicate predicate = predicateCombinerPair.getPredicate();
-                clauseString.append(generateClauseString(predicate, fieldsToValues, schema));
-                if (combinerOperation != null) {
-                    String opStr;
-                    switch (combinerOperation) {
-                        case ENCL_START:
-                            opStr = " ( ";
-                            break;
-                        case ENCL_FINISH:
-                            opStr = " ) ";
-                            break;
-                        default:
-                            opStr = " " + combinerOperation.toString();
-                            break;
-                    }
-                    clauseString.append(opStr);
-                }
-            }
-            sql += clauseString;
+            sql += generateWhereClauseString(whereClause, fieldsToValues, queryBindings, schema);
+        } else if (after != null) {
+            sql += " WHERE";
+            sql += generateSeekClauseString(searchQuery.getOrderByFields(), after, queryBindings, schema);
         }
 
         List<OrderBy> orderByFields = searchQuery.getOrderByFields();
@@ -154,19 +168,104 @@ public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
             );
         }
 
+        if (searchQuery.getLimit() != null) {
+            sql = sql.trim() + " " + limitClause(searchQuery.getLimit());
+        }
+
         primaryKey = new PrimaryKey(fieldsToValues);
         columns = Lists.newArrayList(fieldsToValues.keySet());
+        bindings = queryBindings;
 
         return sql;
     }
 
     protected abstract String fieldEncloser();
 
-    private String generateClauseString(Predicate predicate, Map<Schema.Field, Object> fieldsToValues, Schema schema) {
+    private String generateSelectedColumnsString(List<String> selectedFields, Schema schema) {
+        if (selectedFields == null) {
+            return "*";
+        }
+
+        String fq = fieldEncloser();
+        List<String> columns = new ArrayList<>(selectedFields.size());
+        for (String fieldName : selectedFields) {
+            if (schema.getField(fieldName) == null) {
+                throw new IllegalArgumentException("Can not select unknown field " + fieldName);
+            }
+            columns.add(fq + fieldName + fq);
+        }
+        return join(columns, ", ");
+    }
+
+    private String generateWhereClauseString(WhereClause whereClause, Map<Schema.Field, Object> fieldsToValues,
+                                             List<Pair<Schema.Field, Object>> queryBindings, Schema schema) {
+        StringBuilder clauseString = new StringBuilder();
+        for (PredicateCombinerPair predicateCombinerPair : whereClause.getPredicateCombinerPairs()) {
+            WhereClauseCombiner.Operation combinerOperation = predicateCombinerPair.getCombinerOperation();
+
+            Predicate predicate = predicateCombinerPair.getPredicate();
+            clauseString.append(generateClauseString(predicate, fieldsToValues, queryBindings, schema));
+            if (combinerOperation != null) {
+                String opStr;
+                switch (combinerOperation) {
+                    case ENCL_START:
+                        opStr = " ( ";
+                        break;
+                    case ENCL_FINISH:
+                        opStr = " ) ";
+                        break;
+                    default:
+                        opStr = " " + combinerOperation.toString();
+                        break;
+                }
+                clauseString.append(opStr);
+            }
+        }
+        return clauseString.toString();
+    }
+
+    // rows after the cursor: (f1 > ?) OR (f1 = ? AND f2 > ?) OR ..., with < for the fields in descending order
+    private String generateSeekClauseString(List<OrderBy> orderByFields, KeysetCursor after,
+                                            List<Pair<Schema.Field, Object>> queryBindings, Schema schema) {
+        String fq = fieldEncloser();
+        List<Schema.Field> fields = new ArrayList<>(orderByFields.size());
+        for (OrderBy orderBy : orderByFields) {
+            Schema.Field field = schema.getField(orderBy.getFieldName());
+            if (field == null) {
+                throw new IllegalArgumentException("Can not page by unknown field " + orderBy.getFieldName());
+            }
+            fields.add(field);
+        }
+
+        List<String> ranges = new ArrayList<>(orderByFields.size());
+        for (int i = 0; i < orderByFields.size(); i++) {
+            List<String> conditions = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                conditions.add(fq + fields.get(j).getName() + fq + " = ?");
+                queryBindings.add(Pair.of(fields.get(j), after.getValue(j, fields.get(j).getType())));
+            }
+            conditions.add(fq + fields.get(i).getName() + fq + (orderByFields.get(i).isAsc() ? " > ?" : " < ?"));
+            queryBindings.add(Pair.of(fields.get(i), after.getValue(i, fields.get(i).getType())));
+            ranges.add("(" + join(conditions, " AND ") + ")");
+        }
+
+        return " (" + join(ranges, " OR ") + ") ";
+    }
+
+    private String generateClauseString(Predicate predicate, Map<Schema.Field, Object> fieldsToValues,
+                                        List<Pair<Schema.Field, Object>> queryBindings, Schema schema) {
         if (predicate == null) {
             return "";
         }
 
+        Schema.Field field = schema.getField(predicate.getField());
+        if (predicate.getOperation() == Predicate.Operation.IN) {
+            if (predicate.getValue() instanceof SubQuery) {
+                return generateSubQueryClauseString(predicate, (SubQuery) predicate.getValue(), queryBindings);
+            }
+            return generateInClauseString(predicate, field, queryBindings);
+        }
+
         String result;
         Predicate.Operation operation = predicate.getOperation();
         String fq = fieldEncloser();
@@ -196,12 +295,67 @@ public abstract class AbstractSelectQuery extends AbstractStorableKeyQuery {
                 throw new IllegalArgumentException("Given operation " + operation + " is not supported!");
         }
 
-        Schema.Field field = schema.getField(predicate.getField());
         fieldsToValues.put(field, predicateValue);
+        queryBindings.add(Pair.of(field, predicateValue));
 
         return result;
     }
 
+    private String generateInClauseString(Predicate predicate, Schema.Field field, List<Pair<Schema.Field, Object>> queryBindings) {
+        List<Object> values = new ArrayList<>((Collection<?>) predicate.getValue());
+        if (values.isEmpty()) {
+            return " 1 = 0 ";
+        }
+
+        String fq = fieldEncloser();
+        List<String> inLists = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += MAX_IN_LIST_SIZE) {
+            List<Object> chunk = values.subList(from, Math.min(from + MAX_IN_LIST_SIZE, values.size()));
+            inLists.add(fq + predicate.getField() + fq + " IN (" + join(Collections.nCopies(chunk.size(), "?"), ", ") + ")");
+            for (Object value : chunk) {
+                queryBindings.add(Pair.of(field, value));
+            }
+        }
+
+        return inLists.size() == 1 ? " " + inLists.get(0) + " " : " (" + join(inLists, " OR ") + ") ";
+    }
+
+    private String generateSubQueryClauseString(Predicate predicate, SubQuery subQuery, List<Pair<Schema.Field, Object>> queryBindings) {
+        String fq = fieldEncloser();
+        String sql = fq + predicate.getField() + fq + " IN (SELECT " + fq + subQuery.getField() + fq
+                + " FROM " + fq + subQuery.getNameSpace() + fq;
+
+        WhereClause whereClause = subQuery.getWhereClause();
+        if (whereClause != null && !whereClause.getPredicateCombinerPairs().isEmpty()) {
+            // the values of the sub query are bound after the ones preceding it, they are not part of the columns of this query
+            sql += " WHERE" + generateWhereClauseString(whereClause, new LinkedHashMap<>(), queryBindings, schemaOf(whereClause));
+        }
+
+        return " " + sql.trim() + ") ";
+    }
+
+    // the schema of the namespace of a sub query is not known here, the types of its fields are taken from the values
+    private static Schema schemaOf(WhereClause whereClause) {
+        List<Schema.Field> fields = new ArrayList<>();
+        for (PredicateCombinerPair predicateCombinerPair : whereClause.getPredicateCombinerPairs()) {
+            Predicate predicate = predicateCombinerPair.getPredicate();
+            if (predicate == null || predicate.getValue() instanceof SubQuery) {
+                continue;
+            }
+            Object value = predicate.getValue();
+            if (value instanceof Collection) {
+                Collection<?> values = (Collection<?>) value;
+                value = values.isEmpty() ? null : values.iterator().next();
+            }
+            try {
+                fields.add(new Schema.Field(predicate.getField(), value != null ? Schema.fromJavaType(value) : Schema.Type.STRING));
+            } catch (ParserException e) {
+                throw new IllegalArgumentException("Unsupported value of field " + predicate.getField() + " in the sub query", e);
+            }
+        }
+        return Schema.of(fields);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -21,16 +21,25 @@ import com.hortonworks.registries.storage.StorableKey;
  *
  */
 public class SqlDeleteQuery extends AbstractStorableKeyQuery {
+    private final String operator;
 
     public SqlDeleteQuery(StorableKey storableKey) {
+        this(storableKey, "=");
+    }
+
+    /**
+     * @param operator compares the columns with the values of the key, e.g. {@code <} to delete the rows below them
+     */
+    public SqlDeleteQuery(StorableKey storableKey, String operator) {
         super(storableKey);
+        this.operator = operator;
     }
 
     // "DELETE FROM DB.TABLE WHERE id1 = val1 AND id2 = val2"
     @Override
     protected String createParameterizedSql() {
         String sql = "DELETE FROM  " + tableName + " WHERE "
-                + join(getColumnNames(columns, "%s = ?"), " AND ");
+                + join(getColumnNames(columns, "%s " + operator + " ?"), " AND ");
         LOG.debug(sql);
         return sql;
     }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of a column of the current row of a {@link ResultSet}. The index, label and the Java type of
+ * the column are resolved from the metadata of the result set once, then used for every row.
+ */
+public class ColumnReader {
+
+    /**
+     * Reads the value of the column at the given index with the getter matching the Java type of the column.
+     */
+    @FunctionalInterface
+    public interface ValueReader {
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+
+    private final int columnIndex;
+    private final String columnLabel;
+    private final ValueReader valueReader;
+
+    public ColumnReader(int columnIndex, String columnLabel, ValueReader valueReader) {
+        this.columnIndex = columnIndex;
+        this.columnLabel = columnLabel;
+        this.valueReader = valueReader;
+    }
+
+    public Object read(ResultSet resultSet) throws SQLException {
+        return valueReader.read(resultSet, columnIndex);
+    }
+
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public String getColumnLabel() {
+        return columnLabel;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnReader{" +
+                "columnIndex=" + columnIndex +
+                ", columnLabel='" + columnLabel + '\'' +
+                '}';
+    }
+}
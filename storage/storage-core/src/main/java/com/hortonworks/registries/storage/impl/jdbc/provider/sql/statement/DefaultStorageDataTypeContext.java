@@ -32,7 +32,9 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class DefaultStorageDataTypeContext implements StorageDataTypeContext {
@@ -88,19 +90,29 @@ public class DefaultStorageDataTypeContext implements StorageDataTypeContext {
     }
 
     @Override
-    public Map<String, Object> getMapWithRowContents(ResultSet resultSet, ResultSetMetaData rsMetadata) throws SQLException {
-        final Map<String, Object> map = new HashMap<>();
+    public List<ColumnReader> getColumnReaders(ResultSetMetaData rsMetadata) throws SQLException {
         final int columnCount = rsMetadata.getColumnCount();
+        final List<ColumnReader> columnReaders = new ArrayList<>(columnCount);
 
         for (int i = 1; i <= columnCount; i++) {
             final String columnLabel = rsMetadata.getColumnLabel(i);
             final int columnType = rsMetadata.getColumnType(i);
             final int columnPrecision = rsMetadata.getPrecision(i);
             final Class columnJavaType = Util.getJavaType(columnType, columnPrecision);
-            map.put(columnLabel, getJavaObject(columnJavaType, columnLabel, resultSet));
+            columnReaders.add(new ColumnReader(i, columnLabel, getValueReader(columnJavaType, columnLabel)));
+        }
+        return columnReaders;
+    }
+
+    @Override
+    public Map<String, Object> getMapWithRowContents(ResultSet resultSet, List<ColumnReader> columnReaders) throws SQLException {
+        final Map<String, Object> map = new HashMap<>();
+
+        for (ColumnReader columnReader : columnReaders) {
+            map.put(columnReader.getColumnLabel(), columnReader.read(resultSet));
         }
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Row for ResultSet [{}] with metadata [{}] generated Map [{}]", resultSet, rsMetadata, map);
+            LOG.debug("Row for ResultSet [{}] with columns [{}] generated Map [{}]", resultSet, columnReaders, map);
         }
         return map;
     }
@@ -137,34 +149,36 @@ public class DefaultStorageDataTypeContext implements StorageDataTypeContext {
         }
     }
 
-    protected Object getJavaObject(Class columnJavaType, String columnLabel, ResultSet resultSet) throws SQLException {
+    protected ColumnReader.ValueReader getValueReader(Class columnJavaType, String columnLabel) {
         if (columnJavaType.equals(String.class)) {
-            return resultSet.getString(columnLabel);
+            return ResultSet::getString;
         } else if (columnJavaType.equals(Byte.class)) {
-            return resultSet.getByte(columnLabel);
+            return ResultSet::getByte;
         } else if (columnJavaType.equals(Integer.class)) {
-            return resultSet.getInt(columnLabel);
+            return ResultSet::getInt;
         } else if (columnJavaType.equals(Double.class)) {
-            return resultSet.getDouble(columnLabel);
+            return ResultSet::getDouble;
         } else if (columnJavaType.equals(Float.class)) {
-            return resultSet.getFloat(columnLabel);
+            return ResultSet::getFloat;
         } else if (columnJavaType.equals(Short.class)) {
-            return resultSet.getShort(columnLabel);
+            return ResultSet::getShort;
         } else if (columnJavaType.equals(Boolean.class)) {
-            return resultSet.getBoolean(columnLabel);
+            return ResultSet::getBoolean;
         } else if (columnJavaType.equals(byte[].class)) {
-            return resultSet.getBytes(columnLabel);
+            return ResultSet::getBytes;
         } else if (columnJavaType.equals(Long.class)) {
-            return resultSet.getLong(columnLabel);
+            return ResultSet::getLong;
         } else if (columnJavaType.equals(Date.class)) {
-            return resultSet.getDate(columnLabel);
+            return ResultSet::getDate;
         } else if (columnJavaType.equals(Time.class)) {
-            return resultSet.getTime(columnLabel);
+            return ResultSet::getTime;
         } else if (columnJavaType.equals(Timestamp.class)) {
-            return resultSet.getTimestamp(columnLabel);
+            return ResultSet::getTimestamp;
         } else if (columnJavaType.equals(InputStream.class)) {
-            Blob blob = resultSet.getBlob(columnLabel);
-            return blob != null ? blob.getBinaryStream() : null;
+            return (resultSet, columnIndex) -> {
+                Blob blob = resultSet.getBlob(columnIndex);
+                return blob != null ? blob.getBinaryStream() : null;
+            };
         } else {
             throw new StorageException("type =  [" + columnJavaType + "] for column [" + columnLabel + "] not supported.");
         }
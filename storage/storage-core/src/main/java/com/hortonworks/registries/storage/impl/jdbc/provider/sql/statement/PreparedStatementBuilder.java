@@ -19,6 +19,7 @@ package com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.exception.MalformedQueryException;
 import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractSelectQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractStorableKeyQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractStorableSqlQuery;
 import com.hortonworks.registries.storage.impl.jdbc.provider.sql.query.AbstractStorableUpdateQuery;
@@ -45,12 +46,13 @@ import java.util.regex.Pattern;
  */
 public class PreparedStatementBuilder {
     private static final Logger log = LoggerFactory.getLogger(PreparedStatementBuilder.class);
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("[?]");
     private final Connection connection;
     private PreparedStatement preparedStatement;
     private final SqlQuery sqlBuilder;
     private final StorageDataTypeContext storageDataTypeContext;
     private final ExecutionConfig config;
-    private int numPrepStmtParams;                          // Number of prepared statement parameters
+    private final int numPrepStmtParams;                    // Number of prepared statement parameters
 
     /**
      * Creates a {@link PreparedStatement} for which calls to method {@code getPreparedStatement}
@@ -68,8 +70,8 @@ public class PreparedStatementBuilder {
         this.config = config;
         this.sqlBuilder = sqlBuilder;
         this.storageDataTypeContext = storageDataTypeContext;
+        this.numPrepStmtParams = countParameters(sqlBuilder);
         setPreparedStatement(returnGeneratedKeys);
-        setNumPrepStmtParams();
     }
 
     /**
@@ -122,9 +124,8 @@ public class PreparedStatementBuilder {
         this.preparedStatement = preparedStatement;
     }
 
-    private void setNumPrepStmtParams() {
-        Pattern p = Pattern.compile("[?]");
-        Matcher m = p.matcher(sqlBuilder.getParametrizedSql());
+    private static int countParameters(SqlQuery sqlBuilder) {
+        Matcher m = PARAMETER_PATTERN.matcher(sqlBuilder.getParametrizedSql());
         int groupCount = 0;
         while (m.find()) {
             groupCount++;
@@ -133,16 +134,18 @@ public class PreparedStatementBuilder {
 
         assertIsNumColumnsMultipleOfNumParameters(sqlBuilder, groupCount);
 
-        numPrepStmtParams = groupCount;
+        return groupCount;
     }
 
     // Used to assert that data passed in is valid
-    private void assertIsNumColumnsMultipleOfNumParameters(SqlQuery sqlBuilder, int groupCount) {
+    private static void assertIsNumColumnsMultipleOfNumParameters(SqlQuery sqlBuilder, int groupCount) {
         final List<Schema.Field> columns = sqlBuilder.getColumns();
         boolean isMultiple;
 
         if (sqlBuilder instanceof AbstractStorableUpdateQuery) {
             isMultiple = (groupCount % ((AbstractStorableUpdateQuery) sqlBuilder).getBindings().size()) == 0;
+        } else if (hasSelectBindings(sqlBuilder)) {
+            isMultiple = groupCount == ((AbstractSelectQuery) sqlBuilder).getBindings().size();
         } else if (columns == null || columns.size() == 0) {
             isMultiple = groupCount == 0;
         } else {
@@ -165,6 +168,8 @@ public class PreparedStatementBuilder {
         // If more types become available consider subclassing instead of going with this approach, which was chosen here for simplicity
         if (sqlBuilder instanceof AbstractStorableUpdateQuery) {
             setStorableUpdatePreparedStatement((AbstractStorableUpdateQuery) sqlBuilder);
+        } else if (hasSelectBindings(sqlBuilder)) {
+            setBindings(((AbstractSelectQuery) sqlBuilder).getBindings());
         } else if (sqlBuilder instanceof AbstractStorableKeyQuery) {
             setStorableKeyPreparedStatement(sqlBuilder);
         } else if (sqlBuilder instanceof AbstractStorableSqlQuery) {
@@ -190,7 +195,20 @@ public class PreparedStatementBuilder {
     }
 
     private void setStorableUpdatePreparedStatement(AbstractStorableUpdateQuery updateQuery) throws SQLException {
-        List<Pair<Schema.Field, Object>> bindings = updateQuery.getBindings();
+        setBindings(updateQuery.getBindings());
+    }
+
+    // search queries bind their parameters in order since the same column may be used by several placeholders
+    private static boolean hasSelectBindings(SqlQuery sqlBuilder) {
+        if (sqlBuilder instanceof AbstractSelectQuery) {
+            // the bindings are collected while the sql is generated
+            sqlBuilder.getParametrizedSql();
+            return ((AbstractSelectQuery) sqlBuilder).getBindings() != null;
+        }
+        return false;
+    }
+
+    private void setBindings(List<Pair<Schema.Field, Object>> bindings) throws SQLException {
         for (int i = 0; i < bindings.size(); i++) {
             Pair<Schema.Field, Object> binding = bindings.get(i);
             Schema.Type javaType = binding.getKey().getType();
@@ -22,6 +22,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
 public interface StorageDataTypeContext {
@@ -34,6 +35,18 @@ public interface StorageDataTypeContext {
     /**
      * Given a resultSet extracts the next row and returns it as a Map
      */
+    default Map<String, Object> getMapWithRowContents(ResultSet resultSet, ResultSetMetaData rsMetadata) throws SQLException {
+        return getMapWithRowContents(resultSet, getColumnReaders(rsMetadata));
+    }
 
-    Map<String, Object> getMapWithRowContents(ResultSet resultSet, ResultSetMetaData rsMetadata) throws SQLException;
+    /**
+     * Given the metadata of a resultSet, returns the readers of its columns which are used to extract every row
+     * without looking at the metadata again
+     */
+    List<ColumnReader> getColumnReaders(ResultSetMetaData rsMetadata) throws SQLException;
+
+    /**
+     * Given a resultSet extracts the next row with the readers of its columns and returns it as a Map
+     */
+    Map<String, Object> getMapWithRowContents(ResultSet resultSet, List<ColumnReader> columnReaders) throws SQLException;
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hortonworks.registries.storage.impl.jdbc.sequences;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Range of ids of a namespace which was reserved in the namespace_sequence table by this node.
+ * The ids are handed out from memory until the block is exhausted, other nodes never get ids of this range.
+ */
+public class IdBlock {
+
+    private final String namespace;
+    private final long end;
+    private final AtomicLong next;
+
+    /**
+     * @param namespace namespace of the ids
+     * @param start first id of the block
+     * @param end first id after the block
+     */
+    public IdBlock(String namespace, long start, long end) {
+        this.namespace = namespace;
+        this.end = end;
+        this.next = new AtomicLong(start);
+    }
+
+    /**
+     * @return the next id of the block or null if all the ids of the block were handed out
+     */
+    public Long nextId() {
+        long id = next.getAndIncrement();
+        return id < end ? id : null;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public String toString() {
+        return "IdBlock{" +
+                "namespace='" + namespace + '\'' +
+                ", next=" + next +
+                ", end=" + end +
+                '}';
+    }
+}
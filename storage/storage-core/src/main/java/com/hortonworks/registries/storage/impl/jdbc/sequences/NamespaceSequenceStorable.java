@@ -118,7 +118,14 @@ public class NamespaceSequenceStorable extends AbstractStorable {
      * @return incremented sequence copied over (this.nextId is not changed)
      */
     public NamespaceSequenceStorable increment() {
-        return new NamespaceSequenceStorable(namespace, nextId + 1);
+        return increment(1);
+    }
+
+    /**
+     * @return sequence incremented by the given number of ids copied over (this.nextId is not changed)
+     */
+    public NamespaceSequenceStorable increment(long count) {
+        return new NamespaceSequenceStorable(namespace, nextId + count);
     }
 
     @Override
@@ -18,22 +18,27 @@ package com.hortonworks.registries.storage.impl.memory;
 
 import com.google.common.collect.Lists;
 import com.hortonworks.registries.common.QueryParam;
-import com.hortonworks.registries.common.util.ReflectionHelper;
+import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.OrderByField;
 import com.hortonworks.registries.storage.PrimaryKey;
 import com.hortonworks.registries.storage.Storable;
 import com.hortonworks.registries.storage.StorableKey;
 import com.hortonworks.registries.storage.StorageManager;
 import com.hortonworks.registries.storage.StorageProviderConfiguration;
+import com.hortonworks.registries.storage.catalog.StorableAccessor;
 import com.hortonworks.registries.storage.exception.AlreadyExistsException;
 import com.hortonworks.registries.storage.exception.StorageException;
+import com.hortonworks.registries.storage.search.KeysetCursor;
+import com.hortonworks.registries.storage.search.OrderBy;
 import com.hortonworks.registries.storage.search.Predicate;
 import com.hortonworks.registries.storage.search.PredicateCombinerPair;
 import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.SubQuery;
+import com.hortonworks.registries.storage.search.WhereClause;
+import com.hortonworks.registries.storage.search.WhereClauseCombiner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -42,8 +47,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 //TODO: The synchronization is broken right now, so all the methods don't guarantee the semantics as described in the interface.
 public class InMemoryStorageManager implements StorageManager {
@@ -72,6 +79,20 @@ public class InMemoryStorageManager implements StorageManager {
         }
     }
 
+    @Override
+    public void addAll(Collection<? extends Storable> storables) throws AlreadyExistsException {
+        // fails before anything is added, like a batch insert running in a transaction
+        for (Storable storable : storables) {
+            final Storable existing = get(storable.getStorableKey());
+            if (existing != null && !existing.equals(storable)) {
+                throw new AlreadyExistsException("Another instance with same id = " + storable.getPrimaryKey()
+                        + " exists with different value in namespace " + storable.getNameSpace()
+                        + " Consider using addOrUpdate method if you always want to overwrite.");
+            }
+        }
+        storables.forEach(this::addOrUpdate);
+    }
+
     @Override
     public <T extends Storable> T remove(StorableKey key) throws StorageException {
         if (storageMap.containsKey(key.getNameSpace())) {
@@ -112,19 +133,19 @@ public class InMemoryStorageManager implements StorageManager {
     }
 
     /**
-     * Uses reflection to query the field or the method. Assumes
+     * Uses the accessor of the storable class to query the field. Assumes
      * a public getXXX method is available to get the field value.
      */
-    private boolean matches(Storable val, List<QueryParam> queryParams) {
+    private boolean matches(Storable val, StorableAccessor accessor, List<QueryParam> queryParams) {
         Object fieldValue;
         boolean res = true;
             for (QueryParam qp : queryParams) {
                 try {
-                    fieldValue = ReflectionHelper.invokeGetter(qp.name, val);
+                    fieldValue = accessor.get(val, qp.name);
                     if (!fieldValue.toString().equals(qp.value)) {
                         return false;
                     }
-                } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException e) {
+                } catch (StorageException e) {
                     LOG.error("FAILED to invoke getter for query param {} , is your param name correct?", qp.getName(), e);
                     return false;
                 }
@@ -152,8 +173,9 @@ public class InMemoryStorageManager implements StorageManager {
             if (clazz != null) {
                 Map<PrimaryKey, Storable> storableMap = storageMap.get(namespace);
                 if (storableMap != null) {
+                    StorableAccessor accessor = StorableAccessor.of(clazz);
                     for (Storable val : storableMap.values()) {
-                        if (matches(val, queryParams)) {
+                        if (matches(val, accessor, queryParams)) {
                             storables.add((T) val);
                         }
                     }
@@ -161,27 +183,19 @@ public class InMemoryStorageManager implements StorageManager {
             }
         }
 
+        sort(storables, orderByFields);
+
+        return storables;
+    }
+
+    private <T extends Storable> void sort(List<T> storables, List<OrderByField> orderByFields) {
         if (orderByFields != null && !orderByFields.isEmpty()) {
             storables.sort((storable1, storable2) -> {
                 try {
                     for (OrderByField orderByField : orderByFields) {
-                        Comparable value1 = ReflectionHelper.invokeGetter(orderByField.getFieldName(), storable1);
-                        Comparable value2 = ReflectionHelper.invokeGetter(orderByField.getFieldName(), storable2);
-                        int compareTo;
-                        // same values continue
-                        if (value1 == value2) {
-                            continue;
-                        } else if (value1 == null) {
-                            // value2 is non null
-                            compareTo = -1;
-                        } else if (value2 == null) {
-                            // value1 is non null
-                            compareTo = 1;
-                        } else {
-                            // both value and value2 non null
-                            compareTo = value1.compareTo(value2);
-                        }
-
+                        Comparable value1 = StorableAccessor.of(storable1.getClass()).get(storable1, orderByField.getFieldName());
+                        Comparable value2 = StorableAccessor.of(storable2.getClass()).get(storable2, orderByField.getFieldName());
+                        int compareTo = compareValues(value1, value2);
                         if (compareTo == 0) {
                             continue;
                         }
@@ -195,8 +209,46 @@ public class InMemoryStorageManager implements StorageManager {
                 return 0;
             });
         }
+    }
 
-        return storables;
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Comparable value1, Comparable value2) {
+        // same values continue
+        if (value1 == value2) {
+            return 0;
+        } else if (value1 == null) {
+            // value2 is non null
+            return -1;
+        } else if (value2 == null) {
+            // value1 is non null
+            return 1;
+        } else {
+            // both value and value2 non null
+            return value1.compareTo(value2);
+        }
+    }
+
+    // whether the storable comes after the cursor in the order of the given fields
+    private static boolean isAfter(Storable storable, List<OrderBy> orderByFields, KeysetCursor cursor) {
+        StorableAccessor accessor = StorableAccessor.of(storable.getClass());
+        for (int i = 0; i < orderByFields.size(); i++) {
+            OrderBy orderBy = orderByFields.get(i);
+            Comparable value = accessor.get(storable, orderBy.getFieldName());
+            int compareTo = compareValues(value, toCursorValue(value, cursor, i));
+            if (compareTo != 0) {
+                return orderBy.isAsc() ? compareTo > 0 : compareTo < 0;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable toCursorValue(Object value, KeysetCursor cursor, int index) {
+        if (value instanceof Enum) {
+            return Enum.valueOf(((Enum) value).getDeclaringClass(), cursor.getValues().get(index));
+        }
+        Schema.Type type = value != null ? Schema.Type.fromJavaType(value.getClass()) : Schema.Type.STRING;
+        return (Comparable) cursor.getValue(index, type);
     }
 
     @Override
@@ -209,33 +261,86 @@ public class InMemoryStorageManager implements StorageManager {
         }
 
         Collection<T> result = new HashSet<>(list.size());
-        for (PredicateCombinerPair predicateCombinerPair : searchQuery.getWhereClause().getPredicateCombinerPairs()) {
+        WhereClause whereClause = searchQuery.getWhereClause();
+        if (whereClause == null) {
+            result.addAll(list);
+        } else {
+            // a clause which only consists of AND-ed predicates is evaluated properly, anything else returns
+            // every row which matches at least one of the predicates
+            List<Predicate> predicates = new ArrayList<>();
+            boolean conjunction = true;
+            for (PredicateCombinerPair predicateCombinerPair : whereClause.getPredicateCombinerPairs()) {
+                if (predicateCombinerPair.getPredicate() != null) {
+                    predicates.add(resolveSubQuery(predicateCombinerPair.getPredicate()));
+                }
+                WhereClauseCombiner.Operation combinerOperation = predicateCombinerPair.getCombinerOperation();
+                conjunction &= combinerOperation == null || combinerOperation == WhereClauseCombiner.Operation.AND;
+            }
             for (T storable : list) {
                 Map<String, Object> map = pairs.get(storable);
-                final Predicate.Operation op = predicateCombinerPair.getPredicate().getOperation();
-                switch (op) {
-                    case EQ: case CONTAINS:
-                        if (map.containsKey(predicateCombinerPair.getPredicate().getField())) {
-                            Object value = map.get(predicateCombinerPair.getPredicate().getField());
-                            if (value == null) {
-                                continue;
-                            } else if (op == Predicate.Operation.EQ && Objects.equals(value, predicateCombinerPair.getPredicate().getValue())) {
-                                result.add(storable);
-                            } else if (op == Predicate.Operation.CONTAINS && value.toString().toLowerCase().contains(predicateCombinerPair.getPredicate().getValue().toString().toLowerCase())) {
-                                result.add(storable);
-                            }
-                        }
-                        break;
-                    default:
-                        result.add(storable);
-                        break;
+                boolean matches = conjunction
+                        ? predicates.stream().allMatch(predicate -> matches(predicate, map))
+                        : predicates.stream().anyMatch(predicate -> matches(predicate, map));
+                if (matches) {
+                    result.add(storable);
                 }
             }
         }
 
+        if (searchQuery.getOrderByFields() != null && !searchQuery.getOrderByFields().isEmpty()) {
+            List<T> sorted = new ArrayList<>(result);
+            sort(sorted, searchQuery.getOrderByFields().stream()
+                    .map(orderBy -> OrderByField.of(orderBy.getFieldName(), !orderBy.isAsc()))
+                    .collect(Collectors.toList()));
+            result = sorted;
+        }
+
+        KeysetCursor after = searchQuery.getAfter();
+        if (after != null) {
+            result = result.stream()
+                    .filter(storable -> isAfter(storable, searchQuery.getOrderByFields(), after))
+                    .collect(Collectors.toList());
+        }
+
+        if (searchQuery.getLimit() != null && result.size() > searchQuery.getLimit()) {
+            result = result.stream().limit(searchQuery.getLimit()).collect(Collectors.toList());
+        }
+
         return result;
     }
 
+    // replaces the sub query of an IN predicate with the values it selects
+    private Predicate resolveSubQuery(Predicate predicate) {
+        if (!(predicate.getValue() instanceof SubQuery)) {
+            return predicate;
+        }
+        SubQuery subQuery = (SubQuery) predicate.getValue();
+        SearchQuery searchQuery = SearchQuery.searchFrom(subQuery.getNameSpace());
+        if (subQuery.getWhereClause() != null) {
+            searchQuery.where(subQuery.getWhereClause());
+        }
+        Set<Object> values = new HashSet<>();
+        for (Storable storable : search(searchQuery)) {
+            values.add(storable.toMap().get(subQuery.getField()));
+        }
+        return new Predicate(predicate.getField(), values, Predicate.Operation.IN);
+    }
+
+    private boolean matches(Predicate predicate, Map<String, Object> map) {
+        final Predicate.Operation op = predicate.getOperation();
+        Object value = map.get(predicate.getField());
+        switch (op) {
+            case EQ:
+                return value != null && Objects.equals(value, predicate.getValue());
+            case CONTAINS:
+                return value != null && value.toString().toLowerCase().contains(predicate.getValue().toString().toLowerCase());
+            case IN:
+                return value != null && ((Collection<?>) predicate.getValue()).contains(value);
+            default:
+                return true;
+        }
+    }
+
     @Override
     public <T extends Storable> Collection<T> list(String namespace) throws StorageException {
         return storageMap.containsKey(namespace)
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.search;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.Storable;
+import com.hortonworks.registries.storage.catalog.StorableAccessor;
+import com.hortonworks.registries.storage.util.StorageUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Position of a row in the order of a {@link SearchQuery}, given by the values of its order by fields. The rows
+ * after a cursor are selected with a range predicate on the order by fields, so that a page is fetched with an
+ * index seek instead of skipping all the rows of the previous pages.
+ * <p>
+ * The values are kept as strings, they are converted to the type of their field when the query is run. Cursors
+ * are handed out to clients in their {@link #encode() encoded} form.
+ */
+public final class KeysetCursor implements Serializable {
+    private static final long serialVersionUID = -5172385640179825716L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<String> values;
+
+    @JsonCreator
+    private KeysetCursor(@JsonProperty("values") List<String> values) {
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    /**
+     * @param values values of the order by fields of the last row of the previous page
+     */
+    public static KeysetCursor of(List<?> values) {
+        List<String> stringValues = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Cursor values can not be null " + values);
+            }
+            stringValues.add(value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        }
+        return new KeysetCursor(stringValues);
+    }
+
+    /**
+     * @return cursor pointing after the given row in the given order
+     * @throws IllegalArgumentException if any of the order by fields of the row is null, those rows can not be
+     *                                  used as a position as they are ordered differently by each database
+     */
+    public static KeysetCursor after(Storable storable, List<OrderBy> orderByFields) {
+        StorableAccessor accessor = StorableAccessor.of(storable.getClass());
+        List<Object> values = new ArrayList<>(orderByFields.size());
+        for (OrderBy orderBy : orderByFields) {
+            Object value = accessor.get(storable, orderBy.getFieldName());
+            if (value == null) {
+                throw new IllegalArgumentException("Can not page by field " + orderBy.getFieldName() + " which is null in " + storable);
+            }
+            values.add(value);
+        }
+        return of(values);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given string is not an encoded cursor
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            List<String> values = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<List<String>>() { });
+            if (values == null || values.isEmpty() || values.contains(null)) {
+                throw new IllegalArgumentException("Invalid cursor " + cursor);
+            }
+            return new KeysetCursor(values);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+    /**
+     * @return URL safe form of the cursor
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor " + values, e);
+        }
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * @return the value at the given index converted to the java type of the given field type
+     * @throws IllegalArgumentException if the value can not be converted
+     */
+    public Object getValue(int index, Schema.Type type) {
+        String value = values.get(index);
+        try {
+            return StorageUtils.parseValue(type, value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cursor value " + value + " is not a " + type, e);
+        }
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return values.equals(((KeysetCursor) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+                "values=" + values +
+                '}';
+    }
+}
@@ -37,6 +37,9 @@ public class SearchQuery implements Serializable {
     private List<OrderBy> orderByFields;
     private WhereClause whereClause;
     private boolean lockRows = false;
+    private Integer limit;
+    private KeysetCursor after;
+    private List<String> selectedFields;
 
     private SearchQuery() {
     }
@@ -66,6 +69,53 @@ public class SearchQuery implements Serializable {
         return this;
     }
 
+    /**
+     * Restricts the number of returned rows, it is applied after the rows are ordered. Combined with
+     * {@link #orderBy(OrderBy...)} it can be used to fetch e.g. the latest row without loading all of them.
+     */
+    public SearchQuery limit(int limit) {
+        if (this.limit != null) {
+            throw new IllegalArgumentException("limit is already defined for this search query.");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit should be a positive number but it is " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Restricts the result to the rows which come after the given cursor in the order of the query, see
+     * {@link KeysetCursor}. The order by fields should be defined before and the last of them should be unique,
+     * otherwise the rows which have the same values as the cursor are skipped.
+     */
+    public SearchQuery after(KeysetCursor cursor) {
+        if (this.after != null) {
+            throw new IllegalArgumentException("cursor is already defined for this search query.");
+        }
+        if (orderByFields == null || orderByFields.size() != cursor.size()) {
+            throw new IllegalArgumentException("cursor " + cursor + " does not match the order by fields " + orderByFields);
+        }
+        this.after = cursor;
+        return this;
+    }
+
+    /**
+     * Restricts the fields which are read for the returned rows, the other fields of the returned storables are
+     * left unset. It avoids reading large columns when only a few fields are needed, storage managers which keep
+     * the storables in memory may still return all the fields.
+     */
+    public SearchQuery select(String... fields) {
+        if (this.selectedFields != null) {
+            throw new IllegalArgumentException("selected fields are already defined for this search query.");
+        }
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("at least one field should be selected.");
+        }
+        this.selectedFields = Collections.unmodifiableList(Arrays.asList(fields));
+        return this;
+    }
+
     public SearchQuery forUpdate() {
         lockRows = true;
         return this;
@@ -87,6 +137,27 @@ public class SearchQuery implements Serializable {
         return lockRows;
     }
 
+    /**
+     * @return maximum number of rows to return or {@code null} if all the matching rows are returned
+     */
+    public Integer getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return cursor after which the rows are returned or {@code null} if they are returned from the first one
+     */
+    public KeysetCursor getAfter() {
+        return after;
+    }
+
+    /**
+     * @return fields which are read for the returned rows or {@code null} if all the fields are read
+     */
+    public List<String> getSelectedFields() {
+        return selectedFields;
+    }
+
     @Override
     public String toString() {
         return "SearchQuery{" +
@@ -94,6 +165,9 @@ public class SearchQuery implements Serializable {
                 ", orderByFields=" + orderByFields +
                 ", clause=" + whereClause +
                 ", lockRows=" + lockRows +
+                ", limit=" + limit +
+                ", after=" + after +
+                ", selectedFields=" + selectedFields +
                 '}';
     }
 
@@ -107,11 +181,13 @@ public class SearchQuery implements Serializable {
              return false;
          }
          SearchQuery that = (SearchQuery) o;
-         return lockRows == that.lockRows && nameSpace.equals(that.nameSpace) && Objects.equals(orderByFields, that.orderByFields) && Objects.equals(whereClause, that.whereClause);
+         return lockRows == that.lockRows && nameSpace.equals(that.nameSpace) && Objects.equals(orderByFields, that.orderByFields) && Objects.equals(whereClause, that.whereClause)
+                 && Objects.equals(limit, that.limit) && Objects.equals(after, that.after)
+                 && Objects.equals(selectedFields, that.selectedFields);
      }
 
      @Override
      public int hashCode() {
-         return Objects.hash(nameSpace, orderByFields, whereClause, lockRows);
+         return Objects.hash(nameSpace, orderByFields, whereClause, lockRows, limit, after, selectedFields);
      }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.search;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Selects a single field of the rows of a namespace which match the where clause. It is the value of an
+ * {@link Predicate.Operation#IN} predicate which matches rows of a namespace by the rows of another namespace,
+ * so that both are resolved with a single query.
+ * <pre>{@code
+ * SearchQuery.searchFrom("schema_version_info")
+ *         .where(WhereClause.begin()
+ *                 .in("id", SubQuery.select("schemaInstanceId", "schema_field_info", WhereClause.begin().eq("name", "id").combine()))
+ *                 .combine());
+ * }</pre>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SubQuery implements Serializable {
+    private static final long serialVersionUID = -2381475061838459611L;
+
+    private String field;
+    private String nameSpace;
+    private WhereClause whereClause;
+
+    private SubQuery() {
+    }
+
+    private SubQuery(String field, String nameSpace, WhereClause whereClause) {
+        this.field = field;
+        this.nameSpace = nameSpace;
+        this.whereClause = whereClause;
+    }
+
+    /**
+     * @param field field whose values are selected
+     * @param nameSpace namespace of the selected rows
+     * @param whereClause clause the selected rows match, all the rows are selected if it is {@code null}
+     */
+    public static SubQuery select(String field, String nameSpace, WhereClause whereClause) {
+        return new SubQuery(field, nameSpace, whereClause);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getNameSpace() {
+        return nameSpace;
+    }
+
+    public WhereClause getWhereClause() {
+        return whereClause;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SubQuery subQuery = (SubQuery) o;
+        return Objects.equals(field, subQuery.field) && Objects.equals(nameSpace, subQuery.nameSpace)
+                && Objects.equals(whereClause, subQuery.whereClause);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, nameSpace, whereClause);
+    }
+
+    @Override
+    public String toString() {
+        return "SubQuery{" +
+                "field='" + field + '\'' +
+                ", nameSpace='" + nameSpace + '\'' +
+                ", whereClause=" + whereClause +
+                '}';
+    }
+}
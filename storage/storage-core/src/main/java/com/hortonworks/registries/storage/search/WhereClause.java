@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -117,6 +118,20 @@ public class WhereClause implements Serializable {
             return new WhereClauseCombiner(this, new Predicate(fieldName, value, Predicate.Operation.GT));
         }
 
+        /**
+         * Matches the rows whose field is equal to any of the given values. An empty collection matches no rows.
+         */
+        public WhereClauseCombiner in(String fieldName, Collection<?> values) {
+            return new WhereClauseCombiner(this, new Predicate(fieldName, new ArrayList<>(values), Predicate.Operation.IN));
+        }
+
+        /**
+         * Matches the rows whose field is equal to any of the values selected by the sub query.
+         */
+        public WhereClauseCombiner in(String fieldName, SubQuery subQuery) {
+            return new WhereClauseCombiner(this, new Predicate(fieldName, subQuery, Predicate.Operation.IN));
+        }
+
         public WhereClause build() {
             return new WhereClause(predicateCombinerPairs);
         }
@@ -17,6 +17,7 @@ package com.hortonworks.registries.storage.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hortonworks.registries.common.QueryParam;
+import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.common.exception.DuplicateEntityException;
 import com.hortonworks.registries.common.util.ReflectionHelper;
 import com.hortonworks.registries.storage.Storable;
@@ -56,6 +57,32 @@ public final class StorageUtils {
         return storable != null ? new ObjectMapper().writeValueAsString(storable) : null;
     }
 
+    /**
+     * Converts the string form of a value, e.g. a query parameter, to the java type of the given field type.
+     */
+    public static Object parseValue(Schema.Type type, String value) throws ReflectiveOperationException {
+        switch (type) {
+            case STRING:
+                return value;
+            case LONG:
+                return Long.valueOf(value);
+            case INTEGER:
+                return Integer.valueOf(value);
+            case SHORT:
+                return Short.valueOf(value);
+            case BYTE:
+                return Byte.valueOf(value);
+            case BOOLEAN:
+                return Boolean.valueOf(value);
+            case DOUBLE:
+                return Double.valueOf(value);
+            case FLOAT:
+                return Float.valueOf(value);
+            default:
+                return type.getJavaType().getConstructor(String.class).newInstance(value);
+        }
+    }
+
     public static void ensureUnique(Storable storable,
                                     Function<List<QueryParam>, Collection<? extends Storable>> listFn,
                                     List<QueryParam> queryParams) {
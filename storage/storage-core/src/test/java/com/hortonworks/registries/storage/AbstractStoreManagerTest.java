@@ -33,6 +33,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Disabled
 public abstract class AbstractStoreManagerTest {
@@ -108,6 +109,23 @@ public abstract class AbstractStoreManagerTest {
         }
     }
 
+    @Test
+    public void testAddAllRemoveAllBatchOfStorables() {
+        for (StorableTest test : storableTests) {
+            // the first two storables share the same StorableKey
+            List<Storable> storables = test.getStorableList().subList(1, test.getStorableList().size());
+            getStorageManager().addAll(storables);
+            for (Storable storable : storables) {
+                Assertions.assertEquals(storable, getStorageManager().get(storable.getStorableKey()));
+            }
+
+            getStorageManager().removeAll(storables.stream().map(Storable::getStorableKey).collect(Collectors.toList()));
+            for (Storable storable : storables) {
+                Assertions.assertNull(getStorageManager().get(storable.getStorableKey()));
+            }
+        }
+    }
+
     @Test
     public void testListNonexistentNameSpaceStorageException() {
         Assertions.assertThrows(StorageException.class, () -> Assertions.assertTrue(getStorageManager().list("NONEXISTENT_NAME_SPACE").isEmpty()));
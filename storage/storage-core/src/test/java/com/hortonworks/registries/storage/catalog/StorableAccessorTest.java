@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.catalog;
+
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.PrimaryKey;
+import com.hortonworks.registries.storage.annotation.SchemaIgnore;
+import com.hortonworks.registries.storage.exception.StorageException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class StorableAccessorTest {
+    private static final int ROWS = 1000;
+
+    @Test
+    public void testToMapFromMapRoundTrip() {
+        AccessorTestStorable storable = new AccessorTestStorable();
+        storable.setId(7L);
+        storable.setName("name");
+        storable.setEnabled(true);
+        storable.setCount(3);
+        storable.setTransientValue("ignored");
+
+        Map<String, Object> map = storable.toMap();
+        Assertions.assertEquals(5, map.size());
+        Assertions.assertEquals(7L, map.get("id"));
+        Assertions.assertEquals("name", map.get("name"));
+        Assertions.assertEquals(true, map.get("enabled"));
+        Assertions.assertEquals(3, map.get("count"));
+
+        AccessorTestStorable copy = StorableAccessor.of(AccessorTestStorable.class).newInstance();
+        copy.fromMap(map);
+        Assertions.assertEquals(storable.getId(), copy.getId());
+        Assertions.assertEquals(storable.getName(), copy.getName());
+        Assertions.assertEquals(storable.isEnabled(), copy.isEnabled());
+        Assertions.assertEquals(storable.getCount(), copy.getCount());
+    }
+
+    @Test
+    public void testValueNotMatchingTheSetterFails() {
+        AccessorTestStorable storable = new AccessorTestStorable();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> storable.fromMap(Collections.singletonMap("count", 5L)));
+    }
+
+    @Test
+    public void testUnknownPropertyFails() {
+        AccessorTestStorable storable = new AccessorTestStorable();
+
+        Assertions.assertThrows(StorageException.class, () -> storable.fromMap(Collections.singletonMap("unknown", "value")));
+        Assertions.assertThrows(StorageException.class, () -> StorableAccessor.of(AccessorTestStorable.class).get(storable, "unknown"));
+    }
+
+    @Test
+    public void testSchemaSkipsIgnoredFields() {
+        AccessorTestStorable storable = new AccessorTestStorable();
+        storable.setName("name");
+
+        Schema schema = storable.getSchema();
+
+        Assertions.assertEquals(4, schema.getFields().size());
+        Assertions.assertTrue(schema.getFields().contains(new Schema.Field("name", Schema.Type.STRING)));
+        Assertions.assertTrue(StorableAccessor.of(AccessorTestStorable.class).isSchemaIgnored("transientValue"));
+    }
+
+    @Test
+    public void testAccessorIsCreatedOncePerClass() {
+        Assertions.assertSame(StorableAccessor.of(AccessorTestStorable.class), StorableAccessor.of(AccessorTestStorable.class));
+    }
+
+    @Test
+    public void testMappingRowsSetsEveryValue() {
+        StorableAccessor accessor = StorableAccessor.of(AccessorTestStorable.class);
+        for (int i = 0; i < ROWS; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", (long) i);
+            row.put("name", "name-" + i);
+            row.put("enabled", i % 2 == 0);
+            row.put("count", i);
+
+            AccessorTestStorable storable = accessor.newInstance();
+            storable.fromMap(row);
+
+            Assertions.assertEquals(Long.valueOf(i), storable.getId());
+            Assertions.assertEquals("name-" + i, storable.getName());
+            Assertions.assertEquals(i % 2 == 0, storable.isEnabled());
+            Assertions.assertEquals(Integer.valueOf(i), storable.getCount());
+            Assertions.assertEquals(row, storable.toMap().entrySet().stream()
+                    .filter(entry -> entry.getValue() != null)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        }
+    }
+
+    public static class AccessorTestStorable extends AbstractStorable {
+        private Long id;
+        private String name;
+        private boolean enabled;
+        private Integer count;
+        @SchemaIgnore
+        private String transientValue;
+
+        @Override
+        public String getNameSpace() {
+            return "accessor_test";
+        }
+
+        @Override
+        public PrimaryKey getPrimaryKey() {
+            return new PrimaryKey(Collections.singletonMap(new Schema.Field("id", Schema.Type.LONG), id));
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        public String getTransientValue() {
+            return transientValue;
+        }
+
+        public void setTransientValue(String transientValue) {
+            this.transientValue = transientValue;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc;
+
+import com.hortonworks.registries.storage.impl.jdbc.IdBlockAllocationTest.BlockTestStorable;
+import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.config.HikariBasicConfig;
+import com.hortonworks.registries.storage.impl.jdbc.connection.ConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.connection.HikariCPConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory.MySqlExecutor;
+import com.hortonworks.registries.storage.transaction.TransactionIsolation;
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the statements prepared for batches of new rows, they should not grow with the number of rows.
+ */
+public class BatchInsertStatementCountTest {
+
+    private static final int ROWS = 300;
+
+    private HikariCPConnectionBuilder connectionBuilder;
+    private CountingConnectionBuilder countingConnectionBuilder;
+    private JdbcStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        connectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        execute("CREATE TABLE IF NOT EXISTS namespace_sequence (namespace VARCHAR(255) NOT NULL, " +
+                "nextId BIGINT NOT NULL, PRIMARY KEY (namespace))");
+        execute("CREATE TABLE IF NOT EXISTS " + BlockTestStorable.NAME_SPACE + " (id BIGINT NOT NULL, " +
+                "name VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+        execute("CREATE TABLE IF NOT EXISTS " + GeneratedIdStorable.NAME_SPACE + " (id BIGINT NOT NULL AUTO_INCREMENT, " +
+                "name VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+
+        countingConnectionBuilder = new CountingConnectionBuilder(connectionBuilder);
+        storageManager = new JdbcStorageManager(new MySqlExecutor(new ExecutionConfig(-1), countingConnectionBuilder));
+        storageManager.registerStorables(Arrays.asList(BlockTestStorable.class, GeneratedIdStorable.class));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        execute("DROP TABLE " + GeneratedIdStorable.NAME_SPACE);
+        execute("DROP TABLE " + BlockTestStorable.NAME_SPACE);
+        execute("DROP TABLE namespace_sequence");
+        storageManager.cleanup();
+    }
+
+    @Test
+    public void sequenceIdsAreReservedWithTheStatementsOfASingleId() {
+        storageManager.nextId(BlockTestStorable.NAME_SPACE);
+
+        int statementsOfSingleId = countStatements(() -> storageManager.nextId(BlockTestStorable.NAME_SPACE));
+        List<Long> ids = new ArrayList<>();
+        int statementsOfIds = countStatements(() -> ids.addAll(storageManager.nextIds(BlockTestStorable.NAME_SPACE, ROWS)));
+
+        assertEquals(statementsOfSingleId, statementsOfIds);
+        assertEquals(ROWS, new HashSet<>(ids).size());
+    }
+
+    @Test
+    public void generatedIdsAreInsertedWithOneStatement() {
+        List<GeneratedIdStorable> storables = new ArrayList<>();
+        for (Long id : storageManager.nextIds(GeneratedIdStorable.NAME_SPACE, ROWS)) {
+            storables.add(new GeneratedIdStorable(id, "entity-" + storables.size()));
+        }
+
+        int statements = countStatements(() -> storageManager.addAll(storables));
+
+        assertEquals(1, statements);
+        HashSet<Long> ids = new HashSet<>();
+        for (GeneratedIdStorable storable : storables) {
+            ids.add(storable.getId());
+            GeneratedIdStorable stored = storageManager.get(storable.getStorableKey());
+            assertEquals(storable.getName(), stored.getName());
+        }
+        assertEquals(ROWS, ids.size());
+    }
+
+    private int countStatements(Runnable action) {
+        storageManager.beginTransaction(TransactionIsolation.JDBC_DEFAULT);
+        boolean committed = false;
+        try {
+            int before = countingConnectionBuilder.preparedStatements.get();
+            action.run();
+            int statements = countingConnectionBuilder.preparedStatements.get() - before;
+            storageManager.commitTransaction();
+            committed = true;
+            return statements;
+        } finally {
+            if (!committed) {
+                storageManager.rollbackTransaction();
+            }
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = connectionBuilder.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static class CountingConnectionBuilder implements ConnectionBuilder<HikariConfig> {
+        private final HikariCPConnectionBuilder delegate;
+        private final AtomicInteger preparedStatements = new AtomicInteger();
+
+        CountingConnectionBuilder(HikariCPConnectionBuilder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void prepare() {
+            delegate.prepare();
+        }
+
+        @Override
+        public Connection getConnection() {
+            Connection connection = delegate.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement")) {
+                        preparedStatements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+
+        @Override
+        public HikariConfig getConfig() {
+            return delegate.getConfig();
+        }
+
+        @Override
+        public void cleanup() {
+            delegate.cleanup();
+        }
+    }
+
+    public static class GeneratedIdStorable extends BlockTestStorable {
+        public static final String NAME_SPACE = "generated_id_test";
+
+        public GeneratedIdStorable() {
+        }
+
+        public GeneratedIdStorable(Long id, String name) {
+            super(id, name);
+        }
+
+        @Override
+        public String getNameSpace() {
+            return NAME_SPACE;
+        }
+
+        @Override
+        public boolean isIdAutoIncremented() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc;
+
+import com.google.common.base.Stopwatch;
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.PrimaryKey;
+import com.hortonworks.registries.storage.catalog.AbstractStorable;
+import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.config.HikariBasicConfig;
+import com.hortonworks.registries.storage.impl.jdbc.connection.HikariCPConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory.MySqlExecutor;
+import com.hortonworks.registries.storage.impl.jdbc.sequences.NamespaceSequenceStorable;
+import com.hortonworks.registries.storage.transaction.TransactionIsolation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two registry nodes share an H2 database and reserve ids of the same namespace concurrently.
+ */
+public class IdBlockAllocationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdBlockAllocationTest.class);
+
+    private static final int WRITERS_PER_NODE = 4;
+    private static final int IDS_PER_WRITER = 250;
+
+    private HikariCPConnectionBuilder firstConnectionBuilder;
+    private HikariCPConnectionBuilder secondConnectionBuilder;
+    private JdbcStorageManager firstNode;
+    private JdbcStorageManager secondNode;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        firstConnectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        secondConnectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        execute("CREATE TABLE IF NOT EXISTS namespace_sequence (namespace VARCHAR(255) NOT NULL, " +
+                "nextId BIGINT NOT NULL, PRIMARY KEY (namespace))");
+        execute("CREATE TABLE IF NOT EXISTS " + BlockTestStorable.NAME_SPACE + " (id BIGINT NOT NULL, " +
+                "name VARCHAR(255) NOT NULL, PRIMARY KEY (id))");
+
+        firstNode = createNode(firstConnectionBuilder);
+        secondNode = createNode(secondConnectionBuilder);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        execute("DROP TABLE " + BlockTestStorable.NAME_SPACE);
+        execute("DROP TABLE namespace_sequence");
+        firstNode.cleanup();
+        secondNode.cleanup();
+    }
+
+    @Test
+    public void parallelWritersWithSingleIdReservationsGetUniqueIds() throws Exception {
+        registerInParallel(1);
+    }
+
+    @Test
+    public void parallelWritersWithBlockReservationsGetUniqueIds() throws Exception {
+        registerInParallel(100);
+    }
+
+    @Test
+    public void idsOfRolledBackTransactionAreNotHandedOutByOtherNode() {
+        firstNode.setIdBlockSize(10);
+        secondNode.setIdBlockSize(10);
+
+        firstNode.beginTransaction(TransactionIsolation.JDBC_DEFAULT);
+        Long firstId = firstNode.nextId(BlockTestStorable.NAME_SPACE);
+        firstNode.rollbackTransaction();
+
+        secondNode.beginTransaction(TransactionIsolation.JDBC_DEFAULT);
+        Long secondId = secondNode.nextId(BlockTestStorable.NAME_SPACE);
+        secondNode.commitTransaction();
+
+        assertEquals(firstId + 10, secondId);
+        NamespaceSequenceStorable sequence =
+                firstNode.get(NamespaceSequenceStorable.getStorableKeyForNamespace(BlockTestStorable.NAME_SPACE));
+        assertEquals(firstId + 20, sequence.getNextId());
+    }
+
+    private void registerInParallel(int idBlockSize) throws Exception {
+        firstNode.setIdBlockSize(idBlockSize);
+        secondNode.setIdBlockSize(idBlockSize);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService writers = Executors.newFixedThreadPool(2 * WRITERS_PER_NODE);
+        try {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < WRITERS_PER_NODE; i++) {
+                results.add(writers.submit(() -> register(firstNode, ids)));
+                results.add(writers.submit(() -> register(secondNode, ids)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            long elapsed = Math.max(1L, stopwatch.elapsed(MILLISECONDS));
+
+            int registered = 2 * WRITERS_PER_NODE * IDS_PER_WRITER;
+            LOG.info("Registered {} entities with id block size {} in {}ms, {} registrations/s",
+                    registered, idBlockSize, elapsed, registered * 1000L / elapsed);
+            assertEquals(registered, ids.size());
+            assertEquals(registered, firstNode.list(BlockTestStorable.NAME_SPACE).size());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private void register(JdbcStorageManager node, Set<Long> ids) {
+        for (int i = 0; i < IDS_PER_WRITER; i++) {
+            node.beginTransaction(TransactionIsolation.JDBC_DEFAULT);
+            boolean committed = false;
+            try {
+                Long id = node.nextId(BlockTestStorable.NAME_SPACE);
+                node.add(new BlockTestStorable(id, "entity-" + id));
+                node.commitTransaction();
+                committed = true;
+                ids.add(id);
+            } finally {
+                if (!committed) {
+                    node.rollbackTransaction();
+                }
+            }
+        }
+    }
+
+    private JdbcStorageManager createNode(HikariCPConnectionBuilder connectionBuilder) {
+        JdbcStorageManager node = new JdbcStorageManager(new MySqlExecutor(new ExecutionConfig(-1), connectionBuilder));
+        node.registerStorables(Collections.singleton(BlockTestStorable.class));
+        return node;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = firstConnectionBuilder.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    public static class BlockTestStorable extends AbstractStorable {
+        public static final String NAME_SPACE = "id_block_test";
+        public static final String ID = "id";
+
+        private Long id;
+        private String name;
+
+        public BlockTestStorable() {
+        }
+
+        public BlockTestStorable(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public String getNameSpace() {
+            return NAME_SPACE;
+        }
+
+        @Override
+        public PrimaryKey getPrimaryKey() {
+            return new PrimaryKey(Collections.singletonMap(new Schema.Field(ID, Schema.Type.LONG), id));
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean isIdAutoIncremented() {
+            return false;
+        }
+    }
+}
@@ -180,6 +180,16 @@ public class JdbcStorageManagerTest {
             verify(queryExecutor).insert(eq(new NamespaceSequenceStorable(NAMESPACE, 3L)));
         }
 
+        @Test
+        public void columnsAreLoadedWhenStorablesAreRegistered() throws Exception {
+            doNothing().when(storableFactory).addStorableClasses(anyCollection());
+            when(queryExecutor.select(any(StorableKey.class))).thenReturn(emptyList());
+
+            jdbcStorageManager.registerStorables(singleton(LongIdStorable.class));
+
+            verify(queryExecutor).getColumns(NAMESPACE);
+        }
+
         @Test
         public void sequenceIsNotInitializedForAutoincrementStorables() {
             doNothing().when(storableFactory).addStorableClasses(anyCollection());
@@ -419,6 +429,46 @@ public class JdbcStorageManagerTest {
                 verify(queryExecutor).update(eq(new NamespaceSequenceStorable(NAMESPACE, 6L)));
             }
 
+            @Test
+            public void idsAreHandedOutFromReservedBlock() {
+                when(storableFactory.create(anyString())).thenReturn(new LongIdStorable());
+                NamespaceSequenceStorable sequence = new NamespaceSequenceStorable(NAMESPACE, 5L);
+                when(queryExecutor.selectForUpdate(any(StorableKey.class))).thenReturn(singleton(sequence));
+                when(queryExecutor.select(any(StorableKey.class))).thenReturn(singleton(sequence));
+                jdbcStorageManager.setIdBlockSize(100);
+
+                assertEquals(5L, jdbcStorageManager.nextId(NAMESPACE));
+                assertEquals(6L, jdbcStorageManager.nextId(NAMESPACE));
+                assertEquals(7L, jdbcStorageManager.nextId(NAMESPACE));
+
+                verify(queryExecutor).update(eq(new NamespaceSequenceStorable(NAMESPACE, 105L)));
+                verify(queryExecutor).beginTransaction(any());
+                verify(queryExecutor).commitTransaction();
+            }
+
+            @Test
+            public void newBlockIsReservedWhenBlockIsExhausted() {
+                when(storableFactory.create(anyString())).thenReturn(new LongIdStorable());
+                NamespaceSequenceStorable sequence = new NamespaceSequenceStorable(NAMESPACE, 5L);
+                NamespaceSequenceStorable sequenceOfOtherNode = new NamespaceSequenceStorable(NAMESPACE, 20L);
+                when(queryExecutor.selectForUpdate(any(StorableKey.class))).thenReturn(singleton(sequence));
+                when(queryExecutor.select(any(StorableKey.class)))
+                        .thenReturn(singleton(sequence), singleton(sequenceOfOtherNode));
+                jdbcStorageManager.setIdBlockSize(2);
+
+                assertEquals(5L, jdbcStorageManager.nextId(NAMESPACE));
+                assertEquals(6L, jdbcStorageManager.nextId(NAMESPACE));
+                assertEquals(20L, jdbcStorageManager.nextId(NAMESPACE));
+
+                verify(queryExecutor).update(eq(new NamespaceSequenceStorable(NAMESPACE, 7L)));
+                verify(queryExecutor).update(eq(new NamespaceSequenceStorable(NAMESPACE, 22L)));
+            }
+
+            @Test
+            public void blockSizeMustBePositive() {
+                assertThrows(IllegalArgumentException.class, () -> jdbcStorageManager.setIdBlockSize(0));
+            }
+
             @Test
             public void autoIncrementStoragesDeferToQueryExecutorWhenGeneratingNextId() {
                 AutoIncementStorable autoIncementStorable = new AutoIncementStorable();
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc;
+
+import com.google.common.base.Stopwatch;
+import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.PrimaryKey;
+import com.hortonworks.registries.storage.StorageManager;
+import com.hortonworks.registries.storage.catalog.AbstractStorable;
+import com.hortonworks.registries.storage.impl.jdbc.config.ExecutionConfig;
+import com.hortonworks.registries.storage.impl.jdbc.config.HikariBasicConfig;
+import com.hortonworks.registries.storage.impl.jdbc.connection.HikariCPConnectionBuilder;
+import com.hortonworks.registries.storage.impl.jdbc.provider.mysql.factory.MySqlExecutor;
+import com.hortonworks.registries.storage.impl.memory.InMemoryStorageManager;
+import com.hortonworks.registries.storage.search.KeysetCursor;
+import com.hortonworks.registries.storage.search.OrderBy;
+import com.hortonworks.registries.storage.search.Page;
+import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.WhereClause;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Walks the pages of a search ordered by a non unique field, on H2 and in memory.
+ */
+public class KeysetPaginationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeysetPaginationTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    // rows share their timestamp with 9 others, so the pages are split in the middle of equal timestamps
+    private static final int ROWS_PER_TIMESTAMP = 10;
+
+    private HikariCPConnectionBuilder connectionBuilder;
+    private JdbcStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        connectionBuilder = new HikariCPConnectionBuilder(HikariBasicConfig.getH2HikariConfig());
+        execute("CREATE TABLE IF NOT EXISTS namespace_sequence (namespace VARCHAR(255) NOT NULL, " +
+                "nextId BIGINT NOT NULL, PRIMARY KEY (namespace))");
+        execute("CREATE TABLE IF NOT EXISTS " + ItemStorable.NAME_SPACE + " (id BIGINT NOT NULL, " +
+                "name VARCHAR(255) NOT NULL, created BIGINT NOT NULL, PRIMARY KEY (id))");
+        execute("CREATE INDEX paged_item_created ON " + ItemStorable.NAME_SPACE + "(created, id)");
+
+        storageManager = new JdbcStorageManager(new MySqlExecutor(new ExecutionConfig(-1), connectionBuilder));
+        storageManager.registerStorables(Collections.singleton(ItemStorable.class));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        execute("DROP TABLE " + ItemStorable.NAME_SPACE);
+        execute("DROP TABLE namespace_sequence");
+        storageManager.cleanup();
+    }
+
+    @Test
+    public void testWalkPagesOnDatabase() throws Exception {
+        insertItems();
+
+        List<Long> ids = walkPages(storageManager, null);
+
+        Assertions.assertEquals(expectedIds(null), ids);
+    }
+
+    @Test
+    public void testWalkPagesOfFilteredRowsOnDatabase() throws Exception {
+        insertItems();
+
+        List<Long> ids = walkPages(storageManager, WhereClause.begin().contains(ItemStorable.NAME, "item-1").combine());
+
+        Assertions.assertEquals(expectedIds("item-1"), ids);
+    }
+
+    @Test
+    public void testWalkPagesOfSelectedFieldsOnDatabase() throws Exception {
+        insertItems();
+
+        SearchQuery searchQuery = pageQuery(null).select(ItemStorable.ID, ItemStorable.CREATED);
+        Page<ItemStorable> page = storageManager.searchPage(searchQuery);
+        SearchQuery nextSearchQuery = pageQuery(null).select(ItemStorable.ID, ItemStorable.CREATED)
+                .after(KeysetCursor.decode(page.getNextCursor()));
+        Page<ItemStorable> nextPage = storageManager.searchPage(nextSearchQuery);
+
+        Assertions.assertEquals(expectedIds(null).subList(PAGE_SIZE, 2 * PAGE_SIZE),
+                nextPage.getItems().stream().map(ItemStorable::getId).collect(Collectors.toList()));
+        for (ItemStorable item : nextPage.getItems()) {
+            Assertions.assertNull(item.getName());
+            Assertions.assertEquals(item.getId() / ROWS_PER_TIMESTAMP, (long) item.getCreated());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> storageManager.searchPage(pageQuery(null).select(ItemStorable.ID)));
+    }
+
+    @Test
+    public void testWalkPagesInMemory() {
+        InMemoryStorageManager inMemoryStorageManager = new InMemoryStorageManager();
+        for (long id = 0; id < ROWS / 10; id++) {
+            inMemoryStorageManager.add(item(id));
+        }
+
+        List<Long> ids = walkPages(inMemoryStorageManager, null);
+
+        List<Long> expected = expectedIds(null);
+        expected.removeIf(id -> id >= ROWS / 10);
+        Assertions.assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testLastPageIsFetchedAsFastAsTheFirstOne() throws Exception {
+        insertItems();
+        SearchQuery firstPage = pageQuery(null);
+        // the timestamps are descending, the last page starts after the oldest timestamp but one
+        SearchQuery lastPage = pageQuery(null).after(KeysetCursor.of(Arrays.asList(1L, ROWS - 1L)));
+
+        // warm up
+        for (int i = 0; i < 20; i++) {
+            storageManager.search(firstPage);
+            storageManager.search(lastPage);
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < 20; i++) {
+            storageManager.search(firstPage);
+        }
+        long firstPageMicros = stopwatch.elapsed(MICROSECONDS) / 20;
+
+        stopwatch.reset().start();
+        for (int i = 0; i < 20; i++) {
+            storageManager.search(lastPage);
+        }
+        long lastPageMicros = stopwatch.elapsed(MICROSECONDS) / 20;
+
+        LOG.info("First page took {}us and last page took {}us with {} rows", firstPageMicros, lastPageMicros, ROWS);
+        Assertions.assertTrue(lastPageMicros <= Math.max(10 * firstPageMicros, 5_000L),
+                "Last page took " + lastPageMicros + "us, first page took " + firstPageMicros + "us");
+    }
+
+    @Test
+    public void testInvalidCursorFails() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> pageQuery(null).after(KeysetCursor.of(Collections.singletonList(1L))));
+    }
+
+    private List<Long> walkPages(StorageManager manager, WhereClause whereClause) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            SearchQuery searchQuery = pageQuery(whereClause);
+            if (cursor != null) {
+                searchQuery.after(KeysetCursor.decode(cursor));
+            }
+            Page<ItemStorable> page = manager.searchPage(searchQuery);
+            Assertions.assertTrue(page.getItems().size() <= PAGE_SIZE);
+            page.getItems().forEach(item -> ids.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static SearchQuery pageQuery(WhereClause whereClause) {
+        SearchQuery searchQuery = SearchQuery.searchFrom(ItemStorable.NAME_SPACE)
+                .orderBy(OrderBy.desc(ItemStorable.CREATED), OrderBy.asc(ItemStorable.ID))
+                .limit(PAGE_SIZE);
+        return whereClause != null ? searchQuery.where(whereClause) : searchQuery;
+    }
+
+    // ids in the order of descending timestamp and then ascending id
+    private static List<Long> expectedIds(String namePart) {
+        List<Long> ids = new ArrayList<>();
+        for (long timestamp = ROWS / ROWS_PER_TIMESTAMP - 1; timestamp >= 0; timestamp--) {
+            for (long id = timestamp * ROWS_PER_TIMESTAMP; id < (timestamp + 1) * ROWS_PER_TIMESTAMP; id++) {
+                if (namePart == null || name(id).contains(namePart)) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static ItemStorable item(long id) {
+        ItemStorable item = new ItemStorable();
+        item.setId(id);
+        item.setName(name(id));
+        item.setCreated(id / ROWS_PER_TIMESTAMP);
+        return item;
+    }
+
+    private static String name(long id) {
+        return "item-" + id;
+    }
+
+    private void insertItems() throws SQLException {
+        try (Connection connection = connectionBuilder.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO " + ItemStorable.NAME_SPACE +
+                     " (id, name, created) VALUES (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (long id = 0; id < ROWS; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, name(id));
+                statement.setLong(3, id / ROWS_PER_TIMESTAMP);
+                statement.addBatch();
+                if (id % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = connectionBuilder.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    public static class ItemStorable extends AbstractStorable {
+        public static final String NAME_SPACE = "paged_item";
+        public static final String ID = "id";
+        public static final String NAME = "name";
+        public static final String CREATED = "created";
+
+        private Long id;
+        private String name;
+        private Long created;
+
+        @Override
+        public String getNameSpace() {
+            return NAME_SPACE;
+        }
+
+        @Override
+        public PrimaryKey getPrimaryKey() {
+            return new PrimaryKey(Collections.singletonMap(new Schema.Field(ID, Schema.Type.LONG), id));
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getCreated() {
+            return created;
+        }
+
+        public void setCreated(Long created) {
+            this.created = created;
+        }
+
+        @Override
+        public boolean isIdAutoIncremented() {
+            return false;
+        }
+    }
+}
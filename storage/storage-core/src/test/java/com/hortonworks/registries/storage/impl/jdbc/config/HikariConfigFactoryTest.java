@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc.config;
+
+import com.hortonworks.registries.storage.DbProperties;
+import com.hortonworks.registries.storage.common.DatabaseType;
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class HikariConfigFactoryTest {
+
+    @Test
+    public void statementCacheSizeIsPassedToTheDriver() {
+        HikariConfig hikariConfig = HikariConfigFactory.get(DatabaseType.POSTGRESQL, postgresProperties(), 100L);
+
+        assertEquals(100L, hikariConfig.getDataSourceProperties().get("preparedStatementCacheQueries"));
+    }
+
+    @Test
+    public void driverDefaultsAreKeptWithoutStatementCacheSize() {
+        HikariConfig hikariConfig = HikariConfigFactory.get(DatabaseType.POSTGRESQL, postgresProperties());
+
+        Properties dataSourceProperties = hikariConfig.getDataSourceProperties();
+        assertFalse(dataSourceProperties.containsKey("preparedStatementCacheQueries"));
+        assertEquals("jdbc:postgresql://localhost/schema_registry", dataSourceProperties.get("url"));
+    }
+
+    private DbProperties postgresProperties() {
+        DbProperties dbProperties = new DbProperties();
+        dbProperties.setDataSourceClassName("org.postgresql.ds.PGSimpleDataSource");
+        dbProperties.setDataSourceUrl("jdbc:postgresql://localhost/schema_registry");
+        dbProperties.setDataSourceUser("registry_user");
+        dbProperties.setDataSourcePassword("registry_password");
+        return dbProperties;
+    }
+}
@@ -122,6 +122,37 @@
              String expectedSql = "SELECT * FROM `store` WHERE `name` LIKE ? AND `amount` > ?  ORDER BY `name` ASC , `amount` DESC FOR UPDATE";
              assertEquals(expectedSql, generatedSql);
          }
+
+         @Test
+         void testLimitSearchQuery() {
+             SearchQuery searchQuery = SearchQuery.searchFrom("store")
+                     .where(WhereClause.begin()
+                             .eq("name", "foo")
+                             .combine()
+                     ).orderBy(OrderBy.desc("amount"))
+                     .limit(1);
+
+             String generatedSql = new MySqlSelectQuery(searchQuery, schema).getParametrizedSql();
+             String expectedSql = "SELECT * FROM `store` WHERE `name` = ?  ORDER BY `amount` DESC LIMIT 1";
+             assertEquals(expectedSql, generatedSql);
+         }
+
+         @Test
+         void testInSearchQuery() {
+             SearchQuery searchQuery = SearchQuery.searchFrom("store")
+                     .where(WhereClause.begin()
+                             .in("amount", Arrays.asList(1L, 2L, 3L))
+                             .and()
+                             .eq("name", "foo")
+                             .combine()
+                     );
+
+             MySqlSelectQuery selectQuery = new MySqlSelectQuery(searchQuery, schema);
+             String generatedSql = selectQuery.getParametrizedSql();
+             String expectedSql = "SELECT * FROM `store` WHERE `amount` IN (?, ?, ?)  AND `name` = ? ";
+             assertEquals(expectedSql, generatedSql);
+             assertEquals(4, selectQuery.getBindings().size());
+         }
      }
 
      private StorableKey storableKey() {
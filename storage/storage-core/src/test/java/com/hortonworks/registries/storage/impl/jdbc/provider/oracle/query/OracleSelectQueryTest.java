@@ -23,6 +23,9 @@ import com.google.common.collect.ImmutableMap;
 import com.hortonworks.registries.common.Schema;
 import com.hortonworks.registries.storage.PrimaryKey;
 import com.hortonworks.registries.storage.StorableKey;
+import com.hortonworks.registries.storage.search.OrderBy;
+import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.WhereClause;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
@@ -47,6 +50,18 @@ class OracleSelectQueryTest {
         assertEquals("SELECT * FROM \"topic\" WHERE  \"foo\" = ? FOR SHARE", parametrizedSql);
     }
 
+    @Test
+    public void testLimitSearchQuery() {
+        Schema schema = Schema.of(Schema.Field.of("name", Schema.Type.STRING), Schema.Field.of("amount", Schema.Type.LONG));
+        SearchQuery searchQuery = SearchQuery.searchFrom("store")
+                .where(WhereClause.begin().eq("name", "foo").combine())
+                .orderBy(OrderBy.desc("amount"))
+                .limit(1);
+
+        String parametrizedSql = new OracleSelectQuery(searchQuery, schema).getParametrizedSql();
+        assertEquals("SELECT * FROM \"store\" WHERE \"name\" = ?  ORDER BY \"amount\" DESC FETCH FIRST 1 ROWS ONLY", parametrizedSql);
+    }
+
     private StorableKey storableKey() {
         return new StorableKey(NAME_SPACE, new PrimaryKey(fieldToObjectMap));
     }
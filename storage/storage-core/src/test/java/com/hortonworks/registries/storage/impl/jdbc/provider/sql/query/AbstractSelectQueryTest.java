@@ -16,13 +16,18 @@
 package com.hortonworks.registries.storage.impl.jdbc.provider.sql.query;
 
 import com.hortonworks.registries.common.Schema;
+import com.hortonworks.registries.storage.search.KeysetCursor;
+import com.hortonworks.registries.storage.search.OrderBy;
 import com.hortonworks.registries.storage.search.SearchQuery;
+import com.hortonworks.registries.storage.search.SubQuery;
 import com.hortonworks.registries.storage.search.WhereClause;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class AbstractSelectQueryTest {
     
@@ -45,4 +50,72 @@ public class AbstractSelectQueryTest {
         //then
         Assertions.assertIterableEquals(expected, underTest.getColumns());
     }
+
+    @Test
+    public void buildSqlWithSubQuery() {
+        //given
+        WhereClause fieldClause = WhereClause.begin().eq("name", "id").and().eq("type", "LONG").combine();
+        WhereClause whereClause = WhereClause.begin()
+                .in("id", SubQuery.select("schemaInstanceId", "schema_field_info", fieldClause))
+                .combine();
+        SearchQuery searchQuery = SearchQuery.searchFrom("schema_version_info").where(whereClause);
+        Schema schema = new Schema();
+        schema.setFields(Arrays.asList(Schema.Field.fromString("name='id', type=LONG")));
+        AbstractSelectQuery underTest = new SqlSelectQuery("schema_version_info");
+
+        //when
+        String sql = underTest.buildSqlWithSearchQuery(searchQuery, schema).replaceAll("\\s+", " ").trim();
+
+        //then
+        Assertions.assertEquals("SELECT * FROM schema_version_info WHERE id IN " +
+                "(SELECT schemaInstanceId FROM schema_field_info WHERE name = ? AND type = ?)", sql);
+        Assertions.assertEquals(Arrays.asList("id", "LONG"),
+                underTest.getBindings().stream().map(Pair::getValue).collect(Collectors.toList()));
+        Assertions.assertTrue(underTest.getColumns().isEmpty());
+    }
+
+    @Test
+    public void buildSqlWithKeysetCursor() {
+        //given
+        SearchQuery searchQuery = SearchQuery.searchFrom("schema_metadata_info")
+                .where(WhereClause.begin().contains("name", "topic").combine())
+                .orderBy(OrderBy.desc("timestamp"), OrderBy.asc("id"))
+                .after(KeysetCursor.of(Arrays.asList(100L, 7L)))
+                .limit(10);
+        Schema schema = new Schema();
+        schema.setFields(Arrays.asList(Schema.Field.fromString("name='name', type=STRING"),
+                Schema.Field.fromString("name='timestamp', type=LONG"),
+                Schema.Field.fromString("name='id', type=LONG")));
+        AbstractSelectQuery underTest = new SqlSelectQuery("schema_metadata_info");
+
+        //when
+        String sql = underTest.buildSqlWithSearchQuery(searchQuery, schema).replaceAll("\\s+", " ").trim();
+
+        //then
+        Assertions.assertEquals("SELECT * FROM schema_metadata_info WHERE (name LIKE ?) AND " +
+                "((timestamp < ?) OR (timestamp = ? AND id > ?)) ORDER BY timestamp DESC , id ASC LIMIT 10", sql);
+        Assertions.assertEquals(Arrays.asList("%topic%", 100L, 100L, 7L),
+                underTest.getBindings().stream().map(Pair::getValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void buildSqlWithSelectedFields() {
+        //given
+        SearchQuery searchQuery = SearchQuery.searchFrom("schema_version_info")
+                .select("name", "version")
+                .where(WhereClause.begin().eq("name", "topic").combine());
+        Schema schema = new Schema();
+        schema.setFields(Arrays.asList(Schema.Field.fromString("name='name', type=STRING"),
+                Schema.Field.fromString("name='version', type=INTEGER"),
+                Schema.Field.fromString("name='schemaText', type=STRING")));
+        AbstractSelectQuery underTest = new SqlSelectQuery("schema_version_info");
+
+        //when
+        String sql = underTest.buildSqlWithSearchQuery(searchQuery, schema).replaceAll("\\s+", " ").trim();
+
+        //then
+        Assertions.assertEquals("SELECT name, version FROM schema_version_info WHERE name = ?", sql);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SqlSelectQuery("schema_version_info")
+                .buildSqlWithSearchQuery(SearchQuery.searchFrom("schema_version_info").select("unknown"), schema));
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2022 Cloudera, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hortonworks.registries.storage.impl.jdbc.provider.sql.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultStorageDataTypeContextTest {
+
+    private final DefaultStorageDataTypeContext storageDataTypeContext = new DefaultStorageDataTypeContext();
+
+    @Test
+    public void rowsAreReadByIndexWithoutLookingAtMetadataAgain() throws SQLException {
+        ResultSetMetaData rsMetadata = mock(ResultSetMetaData.class);
+        when(rsMetadata.getColumnCount()).thenReturn(2);
+        when(rsMetadata.getColumnLabel(1)).thenReturn("id");
+        when(rsMetadata.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(rsMetadata.getColumnLabel(2)).thenReturn("name");
+        when(rsMetadata.getColumnType(2)).thenReturn(Types.VARCHAR);
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("first", "second");
+
+        List<ColumnReader> columnReaders = storageDataTypeContext.getColumnReaders(rsMetadata);
+        Map<String, Object> firstRow = storageDataTypeContext.getMapWithRowContents(resultSet, columnReaders);
+        Map<String, Object> secondRow = storageDataTypeContext.getMapWithRowContents(resultSet, columnReaders);
+
+        assertEquals(1L, firstRow.get("id"));
+        assertEquals("first", firstRow.get("name"));
+        assertEquals(2L, secondRow.get("id"));
+        assertEquals("second", secondRow.get("name"));
+        verify(rsMetadata, times(1)).getColumnCount();
+        verify(resultSet, never()).getString("name");
+    }
+
+    @Test
+    public void unsupportedColumnTypeFailsWhenReadersAreCreated() throws SQLException {
+        ResultSetMetaData rsMetadata = mock(ResultSetMetaData.class);
+        when(rsMetadata.getColumnCount()).thenReturn(1);
+        when(rsMetadata.getColumnLabel(1)).thenReturn("array");
+        when(rsMetadata.getColumnType(anyInt())).thenReturn(Types.ARRAY);
+
+        assertThrows(RuntimeException.class, () -> storageDataTypeContext.getColumnReaders(rsMetadata));
+    }
+}